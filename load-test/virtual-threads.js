@@ -0,0 +1,51 @@
+// Compares the platform-thread and virtual-thread execution models under the same load.
+//
+// Run the application twice against the same database, once per mode:
+//   VIRTUAL_THREADS_ENABLED=false ./mvnw spring-boot:run
+//   VIRTUAL_THREADS_ENABLED=true  ./mvnw spring-boot:run
+// and each time:
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=... -e PASSWORD=... load-test/virtual-threads.js
+//
+// Compare per mode: http_req_duration p95/p99 and http_req_failed from k6, and from
+// /actuator/prometheus hikaricp_connections_pending, db_connection_permit_waiting,
+// db_connection_permit_rejected_total, jvm_threads_live_threads and
+// jvm_threads_virtual_pinned_seconds_count. Platform threads are expected to plateau at
+// Tomcat's 200 workers; virtual threads should hold latency until the 15 DB connections
+// saturate, after which the permit limiter, not Hikari, should be where requests wait.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 100 },
+                { duration: '1m', target: 500 },
+                { duration: '1m', target: 1000 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'logged in': (r) => r.status === 200 });
+    const body = res.json();
+    return { token: body.accessToken || (body.data && body.data.accessToken) };
+}
+
+export default function (data) {
+    const res = http.get(`${BASE_URL}/api/v1/events?page=0&size=20`,
+        { headers: { Authorization: `Bearer ${data.token}` } });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -5,8 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.core.Ordered;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.stereotype.Component;
@@ -20,7 +22,8 @@ import java.util.TimeZone;
 @EnableScheduling
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 @EnableAsync
-//@EnableCaching
+// Caching wraps @Transactional: hits never open a transaction, and cache loaders run inside one
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
 @EnableConfigurationProperties
 //
 @Slf4j
@@ -1,14 +1,18 @@
 package com.gucardev.eventsphere.domain.attendee.controller;
 
 import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeResponseDto;
+import com.gucardev.eventsphere.domain.attendee.model.parameter.ExportAttendeesUseCaseParam;
 import com.gucardev.eventsphere.domain.attendee.model.parameter.UpdateAttendeeUseCaseParam;
 import com.gucardev.eventsphere.domain.attendee.model.request.AttendeeFilterRequest;
 import com.gucardev.eventsphere.domain.attendee.model.request.CreateAttendeeRequest;
 import com.gucardev.eventsphere.domain.attendee.model.request.UpdateAttendeeRequest;
 import com.gucardev.eventsphere.domain.attendee.service.usecase.CreateAttendeeUseCase;
+import com.gucardev.eventsphere.domain.attendee.service.usecase.ExportAttendeesUseCase;
 import com.gucardev.eventsphere.domain.attendee.service.usecase.GetAttendeeListUseCase;
 import com.gucardev.eventsphere.domain.attendee.service.usecase.GetAttendeeUseCase;
 import com.gucardev.eventsphere.domain.attendee.service.usecase.UpdateAttendeeUseCase;
+import com.gucardev.eventsphere.infrastructure.export.ExportFormat;
+import com.gucardev.eventsphere.infrastructure.export.ExportResponse;
 import com.gucardev.eventsphere.infrastructure.response.ApiResponseWrapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,6 +22,7 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.UUID;
 
@@ -31,6 +36,7 @@ public class AttendeeController {
     private final UpdateAttendeeUseCase updateAttendeeUseCase;
     private final GetAttendeeUseCase getAttendeeUseCase;
     private final GetAttendeeListUseCase getAttendeeListUseCase;
+    private final ExportAttendeesUseCase exportAttendeesUseCase;
 
     @PostMapping
     @Operation(summary = "Create a new attendee", description = "Creates a new attendee profile for a user.")
@@ -58,4 +64,13 @@ public class AttendeeController {
             @Valid @ParameterObject AttendeeFilterRequest filter) {
         return ResponseEntity.ok(ApiResponseWrapper.success(getAttendeeListUseCase.execute(filter)));
     }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export attendees", description = "Streams all attendees with a ticket for one event (eventId is required) as NDJSON or CSV. Organizer only. Paging parameters are ignored.")
+    public ResponseEntity<StreamingResponseBody> exportAttendees(
+            @Valid @ParameterObject AttendeeFilterRequest filter,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return ExportResponse.attachment("attendees", format,
+                out -> exportAttendeesUseCase.execute(new ExportAttendeesUseCaseParam(filter, format, out)));
+    }
 }
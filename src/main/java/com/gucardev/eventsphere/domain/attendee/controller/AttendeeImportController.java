@@ -0,0 +1,68 @@
+package com.gucardev.eventsphere.domain.attendee.controller;
+
+import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeImportErrorResponseDto;
+import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeImportResponseDto;
+import com.gucardev.eventsphere.domain.attendee.model.parameter.StartAttendeeImportUseCaseParam;
+import com.gucardev.eventsphere.domain.attendee.model.request.AttendeeImportErrorFilterRequest;
+import com.gucardev.eventsphere.domain.attendee.service.usecase.GetAttendeeImportErrorListUseCase;
+import com.gucardev.eventsphere.domain.attendee.service.usecase.GetAttendeeImportUseCase;
+import com.gucardev.eventsphere.domain.attendee.service.usecase.ResumeAttendeeImportUseCase;
+import com.gucardev.eventsphere.domain.attendee.service.usecase.StartAttendeeImportUseCase;
+import com.gucardev.eventsphere.infrastructure.response.ApiResponseWrapper;
+import com.gucardev.eventsphere.infrastructure.response.PageableResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/attendee-imports")
+@RequiredArgsConstructor
+@Tag(name = "Attendee Import", description = "Bulk Attendee and Ticket Import APIs")
+public class AttendeeImportController {
+
+    private final StartAttendeeImportUseCase startAttendeeImportUseCase;
+    private final ResumeAttendeeImportUseCase resumeAttendeeImportUseCase;
+    private final GetAttendeeImportUseCase getAttendeeImportUseCase;
+    private final GetAttendeeImportErrorListUseCase getAttendeeImportErrorListUseCase;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Start an attendee import",
+            description = "Uploads a CSV or XLSX file with columns email, preferences and, when eventId is given, "
+                    + "ticket_code, price, status. The import runs in the background; poll it by ID.")
+    public ResponseEntity<ApiResponseWrapper<AttendeeImportResponseDto>> startImport(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) UUID eventId) {
+        return new ResponseEntity<>(ApiResponseWrapper.success(
+                startAttendeeImportUseCase.execute(new StartAttendeeImportUseCaseParam(file, eventId))), HttpStatus.ACCEPTED);
+    }
+
+    @PostMapping("/{id}/resume")
+    @Operation(summary = "Resume an attendee import", description = "Continues a failed or interrupted import after its last checkpoint.")
+    public ResponseEntity<ApiResponseWrapper<AttendeeImportResponseDto>> resumeImport(@PathVariable UUID id) {
+        return new ResponseEntity<>(ApiResponseWrapper.success(resumeAttendeeImportUseCase.execute(id)), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get attendee import by ID", description = "Retrieves progress and row counts of an import.")
+    public ResponseEntity<ApiResponseWrapper<AttendeeImportResponseDto>> getImport(@PathVariable UUID id) {
+        return ResponseEntity.ok(ApiResponseWrapper.success(getAttendeeImportUseCase.execute(id)));
+    }
+
+    @GetMapping("/{id}/errors")
+    @Operation(summary = "Get rejected rows of an import", description = "Retrieves a paginated list of rejected rows with their reasons.")
+    public ResponseEntity<ApiResponseWrapper<PageableResponse<AttendeeImportErrorResponseDto>>> getImportErrors(
+            @PathVariable UUID id,
+            @Valid @ParameterObject AttendeeImportErrorFilterRequest filter) {
+        filter.setImportId(id);
+        return ResponseEntity.ok(ApiResponseWrapper.success(getAttendeeImportErrorListUseCase.execute(filter)));
+    }
+}
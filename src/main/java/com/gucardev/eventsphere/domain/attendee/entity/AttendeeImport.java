@@ -0,0 +1,73 @@
+package com.gucardev.eventsphere.domain.attendee.entity;
+
+import com.gucardev.eventsphere.domain.shared.entity.BaseEntity;
+import com.gucardev.eventsphere.infrastructure.importing.TabularFormat;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A bulk attendee/ticket import. {@code checkpointRow} is the last data row whose chunk was committed,
+ * a resumed import skips everything up to it. An import runs on the node holding its lease, claimed with a
+ * conditional update, so two nodes never process the same file at once.
+ */
+@Entity
+@Table(name = "attendee_imports", indexes = @Index(name = "idx_attendee_imports_content_hash", columnList = "content_hash"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendeeImport extends BaseEntity {
+
+    @Id
+    @UuidGenerator
+    @JdbcTypeCode(SqlTypes.CHAR)
+    private UUID id;
+
+    // Tenant that started the import, its heavy operation cap applies while the import runs
+    @Column(length = 64)
+    private String tenant;
+
+    // Tickets are only imported when the import targets an event
+    @JdbcTypeCode(SqlTypes.CHAR)
+    private UUID eventId;
+
+    private String fileName;
+
+    private String storedPath;
+
+    // SHA-256 of the file, re-uploading an unfinished import resumes it
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    private TabularFormat format;
+
+    @Enumerated(EnumType.STRING)
+    private AttendeeImportStatus status;
+
+    @Builder.Default
+    private long checkpointRow = 0;
+
+    @Builder.Default
+    private long importedRows = 0;
+
+    @Builder.Default
+    private long failedRows = 0;
+
+    @Column(length = 1000)
+    private String failureReason;
+
+    // The node running the import and until when it holds it, renewed with every committed chunk
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+}
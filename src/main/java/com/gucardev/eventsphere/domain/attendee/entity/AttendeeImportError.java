@@ -0,0 +1,36 @@
+package com.gucardev.eventsphere.domain.attendee.entity;
+
+import com.gucardev.eventsphere.domain.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+/**
+ * A rejected row of an {@link AttendeeImport}; written in JDBC batches by the importer.
+ */
+@Entity
+@Table(name = "attendee_import_errors", indexes = @Index(name = "idx_attendee_import_errors_import", columnList = "import_id, source_row"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendeeImportError extends BaseEntity {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.CHAR)
+    private UUID id;
+
+    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "import_id", nullable = false)
+    private UUID importId;
+
+    @Column(name = "source_row", nullable = false)
+    private long rowNumber;
+
+    @Column(length = 1000)
+    private String message;
+}
@@ -0,0 +1,5 @@
+package com.gucardev.eventsphere.domain.attendee.entity;
+
+public enum AttendeeImportStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
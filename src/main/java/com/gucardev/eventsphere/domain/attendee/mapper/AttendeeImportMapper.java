@@ -0,0 +1,16 @@
+package com.gucardev.eventsphere.domain.attendee.mapper;
+
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImport;
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImportError;
+import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeImportErrorResponseDto;
+import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeImportResponseDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface AttendeeImportMapper {
+
+    AttendeeImportResponseDto toDto(AttendeeImport attendeeImport);
+
+    AttendeeImportErrorResponseDto toDto(AttendeeImportError error);
+}
@@ -0,0 +1,15 @@
+package com.gucardev.eventsphere.domain.attendee.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AttendeeExportRow(
+        UUID id,
+        UUID userId,
+        String email,
+        String name,
+        String surname,
+        String phoneNumber,
+        String preferences,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,15 @@
+package com.gucardev.eventsphere.domain.attendee.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendeeImportErrorResponseDto {
+    private long rowNumber;
+    private String message;
+}
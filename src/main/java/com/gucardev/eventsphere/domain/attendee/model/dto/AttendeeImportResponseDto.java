@@ -0,0 +1,29 @@
+package com.gucardev.eventsphere.domain.attendee.model.dto;
+
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImportStatus;
+import com.gucardev.eventsphere.infrastructure.importing.TabularFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendeeImportResponseDto {
+    private UUID id;
+    private UUID eventId;
+    private String fileName;
+    private TabularFormat format;
+    private AttendeeImportStatus status;
+    private long checkpointRow;
+    private long importedRows;
+    private long failedRows;
+    private String failureReason;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
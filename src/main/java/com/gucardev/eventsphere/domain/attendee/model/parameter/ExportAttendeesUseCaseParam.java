@@ -0,0 +1,9 @@
+package com.gucardev.eventsphere.domain.attendee.model.parameter;
+
+import com.gucardev.eventsphere.domain.attendee.model.request.AttendeeFilterRequest;
+import com.gucardev.eventsphere.infrastructure.export.ExportFormat;
+
+import java.io.OutputStream;
+
+public record ExportAttendeesUseCaseParam(AttendeeFilterRequest filter, ExportFormat format, OutputStream out) {
+}
@@ -0,0 +1,8 @@
+package com.gucardev.eventsphere.domain.attendee.model.parameter;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+public record StartAttendeeImportUseCaseParam(MultipartFile file, UUID eventId) {
+}
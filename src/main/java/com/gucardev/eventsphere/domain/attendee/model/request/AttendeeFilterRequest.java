@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springdoc.core.annotations.ParameterObject;
 
+import java.util.UUID;
+
 @Getter
 @Setter
 @ParameterObject
@@ -12,4 +14,7 @@ public class AttendeeFilterRequest extends BaseFilterRequest {
     // Currently no specific filters for attendees other than pagination?
     // Maybe search by email/username through user join?
     // Keeping it simple for now. 
+
+    // Attendees holding at least one ticket for this event
+    private UUID eventId;
 }
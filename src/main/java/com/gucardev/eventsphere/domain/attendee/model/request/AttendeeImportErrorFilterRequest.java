@@ -0,0 +1,21 @@
+package com.gucardev.eventsphere.domain.attendee.model.request;
+
+import com.gucardev.eventsphere.domain.shared.model.request.BaseFilterRequest;
+import lombok.Getter;
+import lombok.Setter;
+import org.springdoc.core.annotations.ParameterObject;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@ParameterObject
+public class AttendeeImportErrorFilterRequest extends BaseFilterRequest {
+    private UUID importId;
+
+    public AttendeeImportErrorFilterRequest() {
+        // Errors read best in file order
+        setSortBy("rowNumber");
+        setSortDir("asc");
+    }
+}
@@ -0,0 +1,30 @@
+package com.gucardev.eventsphere.domain.attendee.model.request;
+
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of an attendee import file. Columns: email, preferences, ticket_code, price, status;
+ * the ticket columns are optional and only used when the import targets an event.
+ */
+public record AttendeeImportRow(
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email is not valid")
+    String email,
+
+    @Size(max = 255, message = "Preferences must be at most 255 characters")
+    String preferences,
+
+    @Size(max = 255, message = "Ticket code must be at most 255 characters")
+    String ticketCode,
+
+    @DecimalMin(value = "0.0", message = "Price must be non-negative")
+    BigDecimal price,
+
+    TicketStatus status
+) {}
@@ -0,0 +1,11 @@
+package com.gucardev.eventsphere.domain.attendee.repository;
+
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImportError;
+import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface AttendeeImportErrorRepository extends BaseJpaRepository<AttendeeImportError, UUID> {
+}
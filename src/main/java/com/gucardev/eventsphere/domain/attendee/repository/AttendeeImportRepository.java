@@ -0,0 +1,60 @@
+package com.gucardev.eventsphere.domain.attendee.repository;
+
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImport;
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImportStatus;
+import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AttendeeImportRepository extends BaseJpaRepository<AttendeeImport, UUID> {
+
+    Optional<AttendeeImport> findFirstByContentHashAndEventIdAndStatusIn(
+            String contentHash, UUID eventId, Collection<AttendeeImportStatus> statuses);
+
+    /**
+     * Hands the import to {@code owner} unless another node holds an unexpired lease on it.
+     * Returns 0 when the claim was lost.
+     */
+    @Modifying
+    @Query("UPDATE AttendeeImport i SET i.status = :running, i.leaseOwner = :owner, i.leaseUntil = :leaseUntil, " +
+            "i.failureReason = NULL " +
+            "WHERE i.id = :id AND (i.status IN :claimable " +
+            "OR (i.status = :running AND (i.leaseUntil IS NULL OR i.leaseUntil < :now)))")
+    int claim(@Param("id") UUID id,
+              @Param("owner") String owner,
+              @Param("leaseUntil") Instant leaseUntil,
+              @Param("now") Instant now,
+              @Param("running") AttendeeImportStatus running,
+              @Param("claimable") Collection<AttendeeImportStatus> claimable);
+
+    // Runs in the chunk's transaction, so the checkpoint moves only if the chunk's rows were written.
+    // Renews the lease; 0 means another node took the import over and the chunk must roll back.
+    @Modifying
+    @Query("UPDATE AttendeeImport i SET i.checkpointRow = :checkpointRow, " +
+            "i.importedRows = i.importedRows + :imported, i.failedRows = i.failedRows + :failed, " +
+            "i.leaseUntil = :leaseUntil " +
+            "WHERE i.id = :id AND i.leaseOwner = :owner")
+    int advanceCheckpoint(@Param("id") UUID id,
+                          @Param("owner") String owner,
+                          @Param("leaseUntil") Instant leaseUntil,
+                          @Param("checkpointRow") long checkpointRow,
+                          @Param("imported") long imported,
+                          @Param("failed") long failed);
+
+    @Modifying
+    @Query("UPDATE AttendeeImport i SET i.status = :status, i.failureReason = :failureReason, " +
+            "i.leaseOwner = NULL, i.leaseUntil = NULL " +
+            "WHERE i.id = :id AND i.leaseOwner = :owner")
+    int release(@Param("id") UUID id,
+                @Param("owner") String owner,
+                @Param("status") AttendeeImportStatus status,
+                @Param("failureReason") String failureReason);
+}
@@ -1,11 +1,21 @@
 package com.gucardev.eventsphere.domain.attendee.repository;
 
 import com.gucardev.eventsphere.domain.attendee.entity.Attendee;
+import com.gucardev.eventsphere.domain.attendee.repository.projection.AttendeeUserProjection;
 import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface AttendeeRepository extends BaseJpaRepository<Attendee, UUID> {
+
+    // Includes soft-deleted profiles: user_id is unique, so an import reports them instead of inserting a second one
+    @Query("SELECT a.id AS id, a.user.id AS userId, a.createdBy AS createdBy, a.deletedAt AS deletedAt " +
+            "FROM Attendee a WHERE a.user.id IN :userIds")
+    List<AttendeeUserProjection> findIdsByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
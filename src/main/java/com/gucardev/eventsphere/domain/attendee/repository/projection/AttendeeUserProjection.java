@@ -0,0 +1,14 @@
+package com.gucardev.eventsphere.domain.attendee.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface AttendeeUserProjection {
+    UUID getId();
+
+    UUID getUserId();
+
+    String getCreatedBy();
+
+    LocalDateTime getDeletedAt();
+}
@@ -2,11 +2,30 @@ package com.gucardev.eventsphere.domain.attendee.repository.specification;
 
 import com.gucardev.eventsphere.domain.attendee.entity.Attendee;
 import com.gucardev.eventsphere.domain.shared.repository.specification.BaseSpecification;
+import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.UUID;
+
 public class AttendeeSpecification extends BaseSpecification {
 
+    public static Specification<Attendee> withTicketForEvent(UUID eventId) {
+        return (root, query, cb) -> {
+            if (eventId == null) return null;
+            // EXISTS instead of a join, an attendee with several tickets must appear once
+            Subquery<Integer> tickets = query.subquery(Integer.class);
+            Root<Ticket> ticket = tickets.from(Ticket.class);
+            tickets.select(cb.literal(1)).where(
+                    cb.equal(ticket.get("attendee"), root),
+                    cb.equal(ticket.get("event").get("id"), eventId),
+                    cb.isNull(ticket.get("deletedAt")));
+            return cb.exists(tickets);
+        };
+    }
+
     public static Specification<Attendee> fetchUser() {
         return (root, query, cb) -> {
             if (Long.class != query.getResultType()) {
@@ -0,0 +1,547 @@
+package com.gucardev.eventsphere.domain.attendee.service;
+
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImport;
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImportStatus;
+import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeResponseDto;
+import com.gucardev.eventsphere.domain.attendee.model.request.AttendeeImportRow;
+import com.gucardev.eventsphere.domain.attendee.repository.AttendeeImportRepository;
+import com.gucardev.eventsphere.domain.attendee.repository.AttendeeRepository;
+import com.gucardev.eventsphere.domain.attendee.repository.projection.AttendeeUserProjection;
+import com.gucardev.eventsphere.domain.auth.user.repository.UserRepository;
+import com.gucardev.eventsphere.domain.auth.user.repository.projection.UserEmailProjection;
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketResponseDto;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketOwnerProjection;
+import com.gucardev.eventsphere.infrastructure.config.async.AsyncConfiguration;
+import com.gucardev.eventsphere.infrastructure.config.properties.ImportProperties;
+import com.gucardev.eventsphere.infrastructure.config.properties.TenantSchedulingProperties;
+import com.gucardev.eventsphere.infrastructure.config.tenant.TenantFairScheduler;
+import com.gucardev.eventsphere.infrastructure.config.tenant.TenantResolver;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.importing.TabularFileReader;
+import com.gucardev.eventsphere.infrastructure.importing.TabularRow;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Runs attendee imports chunk by chunk: parallel validation, one IN lookup per table for the whole chunk,
+ * then JDBC batches and the checkpoint in a single transaction. Only one chunk of rows is held at a time,
+ * so heap use depends on the batch size rather than on the file size.
+ * <p>
+ * An import first has to be claimed in the database: the node holding its lease is the only one writing
+ * it, and every committed chunk renews the lease. The JDBC batches skip JPA, so the chunk's transaction
+ * also records the outbox events and, for tickets, the sync changes the entity use cases would have.
+ * <p>
+ * Existing attendee profiles are only updated when the import's owner created them, otherwise the row
+ * imports its ticket alone. Soft-deleted attendees and tickets are reported as row errors, never revived.
+ * New tickets count against the event's capacity like single sales do; the ones past it are row errors.
+ * <p>
+ * The run holds one of its tenant's heavy operation permits from claim to finish; the use cases that
+ * queue it return straight away and take none.
+ */
+@Slf4j
+@Component
+public class AttendeeImportProcessor {
+
+    private static final String INSERT_ATTENDEE = "INSERT INTO attendees " +
+            "(id, user_id, preferences, created_at, updated_at, created_by, updated_by, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String UPDATE_ATTENDEE = "UPDATE attendees SET preferences = ?, " +
+            "updated_at = ?, updated_by = ?, version = version + 1 WHERE id = ? AND deleted_at IS NULL";
+    private static final String INSERT_TICKET = "INSERT INTO tickets " +
+            "(id, ticket_code, price, status, attendee_id, event_id, created_at, updated_at, created_by, updated_by, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String UPDATE_TICKET = "UPDATE tickets SET price = ?, status = ?, " +
+            "updated_at = ?, updated_by = ?, version = version + 1 WHERE id = ? AND deleted_at IS NULL";
+    private static final String INSERT_ERROR = "INSERT INTO attendee_import_errors " +
+            "(id, import_id, source_row, message, created_at, updated_at, created_by, updated_by, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final AttendeeImportRepository attendeeImportRepository;
+    private final UserRepository userRepository;
+    private final AttendeeRepository attendeeRepository;
+    private final TicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+    private final TabularFileReader tabularFileReader;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ImportProperties importProperties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor importExecutor;
+    private final OutboxPublisher outboxPublisher;
+    private final SyncChangeLog syncChangeLog;
+    private final TenantFairScheduler tenantFairScheduler;
+    private final TenantSchedulingProperties tenantSchedulingProperties;
+    private final ForkJoinPool validationPool;
+    private final String nodeId = UUID.randomUUID().toString();
+    // Imports queued or running on this node, a second submit of the same import is a no-op
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+
+    public AttendeeImportProcessor(AttendeeImportRepository attendeeImportRepository,
+                                   UserRepository userRepository,
+                                   AttendeeRepository attendeeRepository,
+                                   TicketRepository ticketRepository,
+                                   EventRepository eventRepository,
+                                   TabularFileReader tabularFileReader,
+                                   JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   Validator validator,
+                                   ImportProperties importProperties,
+                                   MeterRegistry meterRegistry,
+                                   OutboxPublisher outboxPublisher,
+                                   SyncChangeLog syncChangeLog,
+                                   TenantFairScheduler tenantFairScheduler,
+                                   TenantSchedulingProperties tenantSchedulingProperties,
+                                   @Qualifier(AsyncConfiguration.IMPORT_EXECUTOR) ThreadPoolTaskExecutor importExecutor) {
+        this.attendeeImportRepository = attendeeImportRepository;
+        this.userRepository = userRepository;
+        this.attendeeRepository = attendeeRepository;
+        this.ticketRepository = ticketRepository;
+        this.eventRepository = eventRepository;
+        this.tabularFileReader = tabularFileReader;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.importProperties = importProperties;
+        this.meterRegistry = meterRegistry;
+        this.outboxPublisher = outboxPublisher;
+        this.syncChangeLog = syncChangeLog;
+        this.tenantFairScheduler = tenantFairScheduler;
+        this.tenantSchedulingProperties = tenantSchedulingProperties;
+        this.importExecutor = importExecutor;
+        this.validationPool = new ForkJoinPool(importProperties.getValidationParallelism());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        validationPool.shutdownNow();
+    }
+
+    /**
+     * Whether the import is running on this node, or on another one whose lease has not expired yet.
+     */
+    public boolean isActive(AttendeeImport attendeeImport) {
+        if (running.contains(attendeeImport.getId())) {
+            return true;
+        }
+        return attendeeImport.getStatus() == AttendeeImportStatus.RUNNING
+                && attendeeImport.getLeaseUntil() != null
+                && attendeeImport.getLeaseUntil().isAfter(Instant.now());
+    }
+
+    /**
+     * Queues the import; a no-op when it is already running on this node. Whether it actually runs is
+     * decided by the claim, another node may hold it.
+     */
+    public void submit(UUID importId) {
+        if (!running.add(importId)) {
+            return;
+        }
+        try {
+            importExecutor.execute(() -> {
+                try {
+                    run(importId);
+                } finally {
+                    running.remove(importId);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            running.remove(importId);
+            throw ExceptionUtil.of(ExceptionType.IMPORT_QUEUE_FULL, importId);
+        }
+    }
+
+    private void run(UUID importId) {
+        AttendeeImport attendeeImport = transactionTemplate.execute(status -> {
+            int claimed = attendeeImportRepository.claim(importId, nodeId, leaseUntil(), Instant.now(),
+                    AttendeeImportStatus.RUNNING, EnumSet.of(AttendeeImportStatus.PENDING, AttendeeImportStatus.FAILED));
+            return claimed == 0 ? null : attendeeImportRepository.findById(importId).orElse(null);
+        });
+        if (attendeeImport == null) {
+            log.info("Attendee import {} is completed or held by another node, not running it here", importId);
+            return;
+        }
+        String tenant = attendeeImport.getTenant() != null ? attendeeImport.getTenant() : TenantResolver.SYSTEM;
+        try {
+            acquireHeavy(tenant);
+        } catch (BusinessException ex) {
+            log.warn("Attendee import {} not started, tenant {} is at its heavy operation limit", importId, tenant);
+            finish(importId, AttendeeImportStatus.FAILED, ex.getMessage());
+            return;
+        }
+        try {
+            process(attendeeImport);
+        } finally {
+            releaseHeavy(tenant);
+        }
+    }
+
+    private void process(AttendeeImport attendeeImport) {
+        UUID importId = attendeeImport.getId();
+        long checkpoint = attendeeImport.getCheckpointRow();
+        log.info("Starting attendee import {} from row {}", importId, checkpoint + 1);
+
+        try {
+            List<TabularRow> chunk = new ArrayList<>(importProperties.getBatchSize());
+            tabularFileReader.read(Path.of(attendeeImport.getStoredPath()), attendeeImport.getFormat(), row -> {
+                if (row.rowNumber() <= checkpoint) {
+                    return;
+                }
+                chunk.add(row);
+                if (chunk.size() >= importProperties.getBatchSize()) {
+                    processChunk(attendeeImport, chunk);
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                processChunk(attendeeImport, chunk);
+            }
+            finish(importId, AttendeeImportStatus.COMPLETED, null);
+            Files.deleteIfExists(Path.of(attendeeImport.getStoredPath()));
+        } catch (Exception ex) {
+            log.error("Attendee import {} failed, it can be resumed from its last checkpoint", importId, ex);
+            finish(importId, AttendeeImportStatus.FAILED, StringUtils.truncate(String.valueOf(ex.getMessage()), 1000));
+        }
+    }
+
+    private void finish(UUID importId, AttendeeImportStatus status, String failureReason) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (attendeeImportRepository.release(importId, nodeId, status, failureReason) == 0) {
+                log.warn("Attendee import {} lost its lease, leaving it to the node that took it over", importId);
+                return;
+            }
+            attendeeImportRepository.findById(importId).ifPresent(current -> log.info(
+                    "Attendee import {} {}: {} imported, {} failed",
+                    importId, status, current.getImportedRows(), current.getFailedRows()));
+        });
+    }
+
+    private void acquireHeavy(String tenant) {
+        if (tenantSchedulingProperties.isEnabled()) {
+            tenantFairScheduler.acquireHeavy(tenant);
+        }
+    }
+
+    private void releaseHeavy(String tenant) {
+        if (tenantSchedulingProperties.isEnabled()) {
+            tenantFairScheduler.releaseHeavy(tenant);
+        }
+    }
+
+    private Instant leaseUntil() {
+        return Instant.now().plus(importProperties.getLeaseDuration());
+    }
+
+    private void processChunk(AttendeeImport attendeeImport, List<TabularRow> rows) {
+        boolean withTickets = attendeeImport.getEventId() != null;
+        List<ParsedRow> parsed = validationPool.submit(() -> rows.parallelStream()
+                .map(row -> parse(row, withTickets))
+                .toList()).join();
+
+        ChunkPlan planned = plan(attendeeImport, parsed);
+        long lastRow = rows.getLast().rowNumber();
+
+        ChunkPlan plan = transactionTemplate.execute(status -> {
+            ChunkPlan written = withinCapacity(attendeeImport, planned);
+            write(attendeeImport, written);
+            record(attendeeImport, written);
+            int advanced = attendeeImportRepository.advanceCheckpoint(attendeeImport.getId(), nodeId, leaseUntil(),
+                    lastRow, written.imported(), written.errors().size());
+            if (advanced == 0) {
+                // Thrown inside the transaction, so the chunk's rows roll back with it
+                throw new IllegalStateException("Attendee import " + attendeeImport.getId() + " was taken over by another node");
+            }
+            return written;
+        });
+
+        meterRegistry.counter("import.rows", "type", "attendee", "result", "imported").increment(plan.imported());
+        meterRegistry.counter("import.rows", "type", "attendee", "result", "failed").increment(plan.errors().size());
+        log.debug("Attendee import {} committed rows up to {}", attendeeImport.getId(), lastRow);
+    }
+
+    private ParsedRow parse(TabularRow row, boolean withTickets) {
+        BigDecimal price;
+        TicketStatus status;
+        try {
+            price = row.get("price") == null ? null : new BigDecimal(row.get("price"));
+        } catch (NumberFormatException ex) {
+            return ParsedRow.rejected(row.rowNumber(), "Price is not a number: " + row.get("price"));
+        }
+        try {
+            status = row.get("status") == null ? null : TicketStatus.valueOf(row.get("status").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return ParsedRow.rejected(row.rowNumber(), "Unknown ticket status: " + row.get("status"));
+        }
+
+        AttendeeImportRow data = new AttendeeImportRow(
+                row.get("email"), row.get("preferences"), row.get("ticket_code"), price, status);
+        Set<ConstraintViolation<AttendeeImportRow>> violations = validator.validate(data);
+        if (!violations.isEmpty()) {
+            return ParsedRow.rejected(row.rowNumber(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        if (data.ticketCode() != null && !withTickets) {
+            return ParsedRow.rejected(row.rowNumber(), "Ticket columns need an import started for an event");
+        }
+        return new ParsedRow(row.rowNumber(), data, null);
+    }
+
+    private ChunkPlan plan(AttendeeImport attendeeImport, List<ParsedRow> rows) {
+        List<ParsedRow> valid = rows.stream().filter(row -> row.error() == null).toList();
+
+        // One IN lookup per table for the whole chunk
+        Map<String, UUID> userIdsByEmail = valid.isEmpty() ? Map.of() : userRepository.findIdsByEmailIn(valid.stream()
+                        .map(row -> normalize(row.data().email()))
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(user -> normalize(user.getEmail()), UserEmailProjection::getId, (a, b) -> a));
+        Map<UUID, AttendeeUserProjection> attendeesByUser = userIdsByEmail.isEmpty() ? Map.of() : attendeeRepository
+                .findIdsByUserIdIn(userIdsByEmail.values()).stream()
+                .collect(Collectors.toMap(AttendeeUserProjection::getUserId, attendee -> attendee));
+        Set<String> ticketCodes = valid.stream()
+                .map(row -> row.data().ticketCode())
+                .filter(code -> code != null)
+                .collect(Collectors.toSet());
+        Map<String, TicketOwnerProjection> ticketsByCode = ticketCodes.isEmpty() ? Map.of() : ticketRepository
+                .findOwnersByTicketCodeIn(ticketCodes).stream()
+                .collect(Collectors.toMap(TicketOwnerProjection::getTicketCode, ticket -> ticket));
+
+        Map<UUID, AttendeeWrite> attendees = new LinkedHashMap<>();
+        Map<String, TicketWrite> tickets = new LinkedHashMap<>();
+        List<ParsedRow> errors = new ArrayList<>(rows.stream().filter(row -> row.error() != null).toList());
+        long imported = 0;
+
+        // Sequential on purpose: later rows for the same user or ticket code see the earlier ones
+        for (ParsedRow row : valid) {
+            AttendeeImportRow data = row.data();
+            UUID userId = userIdsByEmail.get(normalize(data.email()));
+            if (userId == null) {
+                errors.add(ParsedRow.rejected(row.rowNumber(), "No user with email " + data.email()));
+                continue;
+            }
+
+            AttendeeUserProjection existing = attendeesByUser.get(userId);
+            if (existing != null && existing.getDeletedAt() != null) {
+                errors.add(ParsedRow.rejected(row.rowNumber(), "Attendee profile of " + data.email() + " was deleted"));
+                continue;
+            }
+            // Profiles created by someone else keep their preferences, the row can still import a ticket for them
+            boolean attendeeWritable = existing == null
+                    || Objects.equals(existing.getCreatedBy(), attendeeImport.getCreatedBy());
+            if (!attendeeWritable && data.ticketCode() == null) {
+                errors.add(ParsedRow.rejected(row.rowNumber(), "Attendee profile of " + data.email() + " is managed by another account"));
+                continue;
+            }
+
+            AttendeeWrite previous = attendees.get(userId);
+            UUID attendeeId = previous != null ? previous.id()
+                    : existing != null ? existing.getId() : UUID.randomUUID();
+
+            TicketWrite ticket = null;
+            if (data.ticketCode() != null) {
+                if (tickets.containsKey(data.ticketCode())) {
+                    errors.add(ParsedRow.rejected(row.rowNumber(), "Ticket code " + data.ticketCode() + " appears twice in the file"));
+                    continue;
+                }
+                TicketOwnerProjection owner = ticketsByCode.get(data.ticketCode());
+                if (owner != null && owner.getDeletedAt() != null) {
+                    errors.add(ParsedRow.rejected(row.rowNumber(), "Ticket code " + data.ticketCode() + " was deleted"));
+                    continue;
+                }
+                if (owner != null && (!owner.getAttendeeId().equals(attendeeId)
+                        || !owner.getEventId().equals(attendeeImport.getEventId()))) {
+                    errors.add(ParsedRow.rejected(row.rowNumber(), "Ticket code " + data.ticketCode() + " belongs to another attendee or event"));
+                    continue;
+                }
+                ticket = new TicketWrite(row.rowNumber(), owner != null ? owner.getId() : UUID.randomUUID(), data.ticketCode(),
+                        data.price(), data.status() != null ? data.status() : TicketStatus.SOLD, attendeeId, owner != null);
+            }
+
+            if (attendeeWritable) {
+                attendees.put(userId, new AttendeeWrite(attendeeId, userId, data.preferences(), existing != null));
+            }
+            if (ticket != null) {
+                tickets.put(ticket.ticketCode(), ticket);
+            }
+            imported++;
+        }
+        return new ChunkPlan(List.copyOf(attendees.values()), List.copyOf(tickets.values()), errors, imported);
+    }
+
+    /**
+     * Drops the new tickets that do not fit the event's remaining seats. Runs in the chunk's transaction
+     * with the event row locked, the same lock single ticket sales take, so neither can oversell it.
+     */
+    private ChunkPlan withinCapacity(AttendeeImport attendeeImport, ChunkPlan plan) {
+        boolean takesSeats = plan.tickets().stream()
+                .anyMatch(ticket -> !ticket.exists() && ticket.status() != TicketStatus.CANCELLED);
+        if (!takesSeats) {
+            return plan;
+        }
+        Integer capacity = eventRepository.findLockedById(attendeeImport.getEventId())
+                .map(Event::getCapacity)
+                .orElse(null);
+        if (capacity == null) {
+            return plan;
+        }
+        long remaining = capacity - ticketRepository.countSeatsTaken(attendeeImport.getEventId(), TicketStatus.CANCELLED);
+        List<TicketWrite> tickets = new ArrayList<>(plan.tickets().size());
+        List<ParsedRow> errors = new ArrayList<>(plan.errors());
+        for (TicketWrite ticket : plan.tickets()) {
+            if (ticket.exists() || ticket.status() == TicketStatus.CANCELLED) {
+                tickets.add(ticket);
+            } else if (remaining > 0) {
+                tickets.add(ticket);
+                remaining--;
+            } else {
+                errors.add(ParsedRow.rejected(ticket.rowNumber(),
+                        "Event is sold out, ticket code " + ticket.ticketCode() + " was not imported"));
+            }
+        }
+        int rejected = errors.size() - plan.errors().size();
+        return rejected == 0 ? plan
+                : new ChunkPlan(plan.attendees(), List.copyOf(tickets), errors, plan.imported() - rejected);
+    }
+
+    private void write(AttendeeImport attendeeImport, ChunkPlan plan) {
+        LocalDateTime now = LocalDateTime.now();
+        String auditor = attendeeImport.getCreatedBy();
+        String eventId = attendeeImport.getEventId() == null ? null : attendeeImport.getEventId().toString();
+
+        List<Object[]> attendeeInserts = new ArrayList<>();
+        List<Object[]> attendeeUpdates = new ArrayList<>();
+        for (AttendeeWrite attendee : plan.attendees()) {
+            if (attendee.exists()) {
+                attendeeUpdates.add(new Object[]{attendee.preferences(), now, auditor, attendee.id().toString()});
+            } else {
+                attendeeInserts.add(new Object[]{attendee.id().toString(), attendee.userId().toString(),
+                        attendee.preferences(), now, now, auditor, auditor});
+            }
+        }
+
+        List<Object[]> ticketInserts = new ArrayList<>();
+        List<Object[]> ticketUpdates = new ArrayList<>();
+        for (TicketWrite ticket : plan.tickets()) {
+            if (ticket.exists()) {
+                ticketUpdates.add(new Object[]{ticket.price(), ticket.status().name(), now, auditor, ticket.id().toString()});
+            } else {
+                ticketInserts.add(new Object[]{ticket.id().toString(), ticket.ticketCode(), ticket.price(),
+                        ticket.status().name(), ticket.attendeeId().toString(), eventId, now, now, auditor, auditor});
+            }
+        }
+
+        List<Object[]> errorInserts = plan.errors().stream()
+                .map(error -> new Object[]{UUID.randomUUID().toString(), attendeeImport.getId().toString(),
+                        error.rowNumber(), StringUtils.truncate(error.error(), 1000), now, now, auditor, auditor})
+                .toList();
+
+        // Attendees first, tickets reference them
+        batch(INSERT_ATTENDEE, attendeeInserts);
+        batch(UPDATE_ATTENDEE, attendeeUpdates);
+        batch(INSERT_TICKET, ticketInserts);
+        batch(UPDATE_TICKET, ticketUpdates);
+        batch(INSERT_ERROR, errorInserts);
+    }
+
+    // What the entity use cases record for the same writes, in the same transaction
+    private void record(AttendeeImport attendeeImport, ChunkPlan plan) {
+        Map<UUID, AttendeeResponseDto> createdAttendees = new LinkedHashMap<>();
+        Map<UUID, AttendeeResponseDto> updatedAttendees = new LinkedHashMap<>();
+        for (AttendeeWrite attendee : plan.attendees()) {
+            (attendee.exists() ? updatedAttendees : createdAttendees).put(attendee.id(), AttendeeResponseDto.builder()
+                    .id(attendee.id())
+                    .userId(attendee.userId())
+                    .preferences(attendee.preferences())
+                    .build());
+        }
+        outboxPublisher.publishAll(AggregateType.ATTENDEE, "AttendeeCreated", createdAttendees);
+        outboxPublisher.publishAll(AggregateType.ATTENDEE, "AttendeeUpdated", updatedAttendees);
+
+        if (plan.tickets().isEmpty()) {
+            return;
+        }
+        Map<UUID, TicketResponseDto> createdTickets = new LinkedHashMap<>();
+        Map<UUID, TicketResponseDto> updatedTickets = new LinkedHashMap<>();
+        for (TicketWrite ticket : plan.tickets()) {
+            (ticket.exists() ? updatedTickets : createdTickets).put(ticket.id(), TicketResponseDto.builder()
+                    .id(ticket.id())
+                    .ticketCode(ticket.ticketCode())
+                    .price(ticket.price())
+                    .status(ticket.status())
+                    .eventId(attendeeImport.getEventId())
+                    .attendeeId(ticket.attendeeId())
+                    .build());
+        }
+        outboxPublisher.publishAll(AggregateType.TICKET, "TicketCreated", createdTickets);
+        outboxPublisher.publishAll(AggregateType.TICKET, "TicketUpdated", updatedTickets);
+        // Also moves the event's gate manifest sequence, scanners pick the imported tickets up
+        syncChangeLog.recordAll(SyncEntityType.TICKET,
+                plan.tickets().stream().map(TicketWrite::id).toList(), attendeeImport.getEventId());
+    }
+
+    private void batch(String sql, List<Object[]> args) {
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record ParsedRow(long rowNumber, AttendeeImportRow data, String error) {
+        static ParsedRow rejected(long rowNumber, String error) {
+            return new ParsedRow(rowNumber, null, error);
+        }
+    }
+
+    private record AttendeeWrite(UUID id, UUID userId, String preferences, boolean exists) {
+    }
+
+    private record TicketWrite(long rowNumber, UUID id, String ticketCode, BigDecimal price, TicketStatus status,
+                               UUID attendeeId, boolean exists) {
+    }
+
+    private record ChunkPlan(List<AttendeeWrite> attendees, List<TicketWrite> tickets,
+                             List<ParsedRow> errors, long imported) {
+    }
+}
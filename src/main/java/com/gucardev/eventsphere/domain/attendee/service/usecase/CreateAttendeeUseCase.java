@@ -8,6 +8,8 @@ import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeResponseDto;
 import com.gucardev.eventsphere.domain.attendee.model.request.CreateAttendeeRequest;
 import com.gucardev.eventsphere.domain.attendee.repository.AttendeeRepository;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,7 @@ public class CreateAttendeeUseCase implements UseCase<CreateAttendeeRequest, Att
     private final AttendeeRepository attendeeRepository;
     private final UserRepository userRepository;
     private final AttendeeMapper attendeeMapper;
+    private final OutboxPublisher outboxPublisher;
 
     @Override
     @Transactional
@@ -38,6 +41,8 @@ public class CreateAttendeeUseCase implements UseCase<CreateAttendeeRequest, Att
         Attendee savedAttendee = attendeeRepository.save(attendee);
         log.info("Created attendee profile for user: {}", user.getId());
 
-        return attendeeMapper.toDto(savedAttendee);
+        AttendeeResponseDto response = attendeeMapper.toDto(savedAttendee);
+        outboxPublisher.publish(AggregateType.ATTENDEE, savedAttendee.getId(), "AttendeeCreated", response);
+        return response;
     }
 }
@@ -0,0 +1,79 @@
+package com.gucardev.eventsphere.domain.attendee.service.usecase;
+
+import com.gucardev.eventsphere.domain.attendee.entity.Attendee;
+import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeExportRow;
+import com.gucardev.eventsphere.domain.attendee.model.parameter.ExportAttendeesUseCaseParam;
+import com.gucardev.eventsphere.domain.attendee.model.request.AttendeeFilterRequest;
+import com.gucardev.eventsphere.domain.attendee.repository.specification.AttendeeSpecification;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.shared.repository.specification.BaseSpecification;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.export.ExportQuery;
+import com.gucardev.eventsphere.infrastructure.export.StreamingExporter;
+import com.gucardev.eventsphere.infrastructure.usecase.HeavyOperation;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import jakarta.persistence.criteria.Join;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streams every attendee holding a ticket for one event, for the event's organizer; paging and sort
+ * fields of the filter are ignored.
+ */
+@Service
+@HeavyOperation
+@RequiredArgsConstructor
+public class ExportAttendeesUseCase implements UseCase<ExportAttendeesUseCaseParam, Long> {
+
+    private final StreamingExporter streamingExporter;
+    private final EventRepository eventRepository;
+    private final ResourceOwnershipValidator ownershipValidator;
+
+    @Override
+    public Long execute(ExportAttendeesUseCaseParam param) {
+        validateAccess(param.filter().getEventId());
+
+        ExportQuery<Attendee, AttendeeExportRow> query = new ExportQuery<>(
+                Attendee.class,
+                AttendeeExportRow.class,
+                buildSpecification(param.filter()),
+                (root, cb) -> {
+                    Join<Object, Object> user = root.join("user");
+                    return List.of(
+                            root.get("id"),
+                            user.get("id"),
+                            user.get("email"),
+                            user.get("name"),
+                            user.get("surname"),
+                            user.get("phoneNumber"),
+                            root.get("preferences"),
+                            root.get("createdAt"));
+                });
+        return streamingExporter.export(query, param.format(), param.out());
+    }
+
+    // One event at a time and for its organizer only, checked before the cursor is opened
+    private void validateAccess(UUID eventId) {
+        if (eventId == null) {
+            throw ExceptionUtil.of(ExceptionType.VALIDATION_FAILED);
+        }
+        UUID ownerId = eventRepository.findOrganizerUserIdById(eventId)
+                .orElseThrow(() -> ExceptionUtil.notFound("Event", eventId));
+        ownershipValidator.validateOwnership(ownerId);
+    }
+
+    private Specification<Attendee> buildSpecification(AttendeeFilterRequest filter) {
+        Specification<Attendee> spec = BaseSpecification.toSpec(filter);
+
+        if (filter.getEventId() != null) {
+            spec = spec.and(AttendeeSpecification.withTicketForEvent(filter.getEventId()));
+        }
+        return spec;
+    }
+}
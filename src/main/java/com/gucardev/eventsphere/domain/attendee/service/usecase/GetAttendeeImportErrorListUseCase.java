@@ -0,0 +1,31 @@
+package com.gucardev.eventsphere.domain.attendee.service.usecase;
+
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImportError;
+import com.gucardev.eventsphere.domain.attendee.mapper.AttendeeImportMapper;
+import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeImportErrorResponseDto;
+import com.gucardev.eventsphere.domain.attendee.model.request.AttendeeImportErrorFilterRequest;
+import com.gucardev.eventsphere.domain.attendee.repository.AttendeeImportErrorRepository;
+import com.gucardev.eventsphere.domain.shared.repository.specification.BaseSpecification;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class GetAttendeeImportErrorListUseCase implements UseCase<AttendeeImportErrorFilterRequest, Page<AttendeeImportErrorResponseDto>> {
+
+    private final AttendeeImportErrorRepository attendeeImportErrorRepository;
+    private final AttendeeImportMapper attendeeImportMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AttendeeImportErrorResponseDto> execute(AttendeeImportErrorFilterRequest filter) {
+        Specification<AttendeeImportError> spec = BaseSpecification.<AttendeeImportError>toSpec(filter)
+                .and(BaseSpecification.equals("importId", filter.getImportId()));
+
+        return attendeeImportErrorRepository.findAll(spec, filter.toPageable()).map(attendeeImportMapper::toDto);
+    }
+}
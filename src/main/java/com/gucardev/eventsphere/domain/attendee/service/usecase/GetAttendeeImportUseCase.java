@@ -0,0 +1,29 @@
+package com.gucardev.eventsphere.domain.attendee.service.usecase;
+
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImport;
+import com.gucardev.eventsphere.domain.attendee.mapper.AttendeeImportMapper;
+import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeImportResponseDto;
+import com.gucardev.eventsphere.domain.attendee.repository.AttendeeImportRepository;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class GetAttendeeImportUseCase implements UseCase<UUID, AttendeeImportResponseDto> {
+
+    private final AttendeeImportRepository attendeeImportRepository;
+    private final AttendeeImportMapper attendeeImportMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttendeeImportResponseDto execute(UUID id) {
+        AttendeeImport attendeeImport = attendeeImportRepository.findById(id)
+                .orElseThrow(() -> ExceptionUtil.notFound("AttendeeImport", id));
+        return attendeeImportMapper.toDto(attendeeImport);
+    }
+}
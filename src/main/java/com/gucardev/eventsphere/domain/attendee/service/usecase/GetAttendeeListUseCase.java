@@ -27,7 +27,9 @@ public class GetAttendeeListUseCase implements UseCase<AttendeeFilterRequest, Pa
     public Page<AttendeeResponseDto> execute(AttendeeFilterRequest filter) {
         Specification<Attendee> spec = BaseSpecification.toSpec(filter);
         
-        // Add more filters here if needed
+        if (filter.getEventId() != null) {
+            spec = spec.and(AttendeeSpecification.withTicketForEvent(filter.getEventId()));
+        }
 
         // Fetch user to avoid N+1
         spec = spec.and(AttendeeSpecification.fetchUser());
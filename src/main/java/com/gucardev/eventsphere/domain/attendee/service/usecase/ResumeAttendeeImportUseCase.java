@@ -0,0 +1,44 @@
+package com.gucardev.eventsphere.domain.attendee.service.usecase;
+
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImport;
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImportStatus;
+import com.gucardev.eventsphere.domain.attendee.mapper.AttendeeImportMapper;
+import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeImportResponseDto;
+import com.gucardev.eventsphere.domain.attendee.repository.AttendeeImportRepository;
+import com.gucardev.eventsphere.domain.attendee.service.AttendeeImportProcessor;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Continues an import after its last committed checkpoint. RUNNING is accepted once its lease has expired,
+ * which is how an import interrupted by a crash or restart is picked up again, by any node.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeAttendeeImportUseCase implements UseCase<UUID, AttendeeImportResponseDto> {
+
+    private final AttendeeImportRepository attendeeImportRepository;
+    private final AttendeeImportProcessor attendeeImportProcessor;
+    private final AttendeeImportMapper attendeeImportMapper;
+
+    @Override
+    public AttendeeImportResponseDto execute(UUID id) {
+        AttendeeImport attendeeImport = attendeeImportRepository.findById(id)
+                .orElseThrow(() -> ExceptionUtil.notFound("AttendeeImport", id));
+
+        if (attendeeImport.getStatus() == AttendeeImportStatus.COMPLETED || attendeeImportProcessor.isActive(attendeeImport)) {
+            throw ExceptionUtil.of(ExceptionType.IMPORT_NOT_RESUMABLE, id, attendeeImport.getStatus());
+        }
+
+        log.info("Resuming attendee import {} after row {}", id, attendeeImport.getCheckpointRow());
+        attendeeImportProcessor.submit(id);
+        return attendeeImportMapper.toDto(attendeeImport);
+    }
+}
@@ -0,0 +1,129 @@
+package com.gucardev.eventsphere.domain.attendee.service.usecase;
+
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImport;
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImportStatus;
+import com.gucardev.eventsphere.domain.attendee.mapper.AttendeeImportMapper;
+import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeImportResponseDto;
+import com.gucardev.eventsphere.domain.attendee.model.parameter.StartAttendeeImportUseCaseParam;
+import com.gucardev.eventsphere.domain.attendee.repository.AttendeeImportRepository;
+import com.gucardev.eventsphere.domain.attendee.service.AttendeeImportProcessor;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.infrastructure.config.properties.ImportProperties;
+import com.gucardev.eventsphere.infrastructure.config.tenant.TenantResolver;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.importing.TabularFileReader;
+import com.gucardev.eventsphere.infrastructure.importing.TabularFormat;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stores the upload and queues it. Uploading a file identical to an unfinished import of the same event
+ * resumes that import from its checkpoint instead of starting over. Not a heavy operation itself: the
+ * import takes its tenant's heavy permit when it runs, see {@link AttendeeImportProcessor}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StartAttendeeImportUseCase implements UseCase<StartAttendeeImportUseCaseParam, AttendeeImportResponseDto> {
+
+    private final AttendeeImportRepository attendeeImportRepository;
+    private final EventRepository eventRepository;
+    private final AttendeeImportProcessor attendeeImportProcessor;
+    private final TabularFileReader tabularFileReader;
+    private final ImportProperties importProperties;
+    private final AttendeeImportMapper attendeeImportMapper;
+    private final TenantResolver tenantResolver;
+    private final ResourceOwnershipValidator ownershipValidator;
+
+    @Override
+    public AttendeeImportResponseDto execute(StartAttendeeImportUseCaseParam param) {
+        if (param.eventId() != null) {
+            // The import writes tickets for the event, only its organizer may start one
+            UUID ownerId = eventRepository.findOrganizerUserIdById(param.eventId())
+                    .orElseThrow(() -> ExceptionUtil.notFound("Event", param.eventId()));
+            ownershipValidator.validateOwnership(ownerId);
+        }
+
+        String fileName = param.file().getOriginalFilename();
+        Path storedPath = Path.of(importProperties.getDirectory(), UUID.randomUUID() + ".upload");
+        String contentHash = store(param, storedPath);
+
+        // Until the import row exists nothing else will clean the stored file up
+        AttendeeImport attendeeImport;
+        try {
+            TabularFormat format = tabularFileReader.detect(storedPath, fileName);
+
+            Optional<AttendeeImport> unfinished = attendeeImportRepository.findFirstByContentHashAndEventIdAndStatusIn(
+                    contentHash, param.eventId(),
+                    EnumSet.of(AttendeeImportStatus.PENDING, AttendeeImportStatus.RUNNING, AttendeeImportStatus.FAILED));
+            if (unfinished.isPresent()) {
+                deleteQuietly(storedPath);
+                log.info("Upload of {} matches unfinished import {}, resuming it", fileName, unfinished.get().getId());
+                attendeeImportProcessor.submit(unfinished.get().getId());
+                return attendeeImportMapper.toDto(unfinished.get());
+            }
+
+            attendeeImport = attendeeImportRepository.save(AttendeeImport.builder()
+                    .tenant(tenantResolver.currentTenant())
+                    .eventId(param.eventId())
+                    .fileName(fileName)
+                    .storedPath(storedPath.toString())
+                    .contentHash(contentHash)
+                    .format(format)
+                    .status(AttendeeImportStatus.PENDING)
+                    .build());
+        } catch (IOException ex) {
+            deleteQuietly(storedPath);
+            throw new UncheckedIOException(ex);
+        } catch (RuntimeException ex) {
+            deleteQuietly(storedPath);
+            throw ex;
+        }
+
+        log.info("Queued attendee import {} for {} ({})", attendeeImport.getId(), fileName, attendeeImport.getFormat());
+
+        attendeeImportProcessor.submit(attendeeImport.getId());
+        return attendeeImportMapper.toDto(attendeeImport);
+    }
+
+    // Streams the upload to disk while hashing it, the file is never held in memory
+    private String store(StartAttendeeImportUseCaseParam param, Path storedPath) {
+        try {
+            Files.createDirectories(storedPath.getParent());
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(param.file().getInputStream(), digest)) {
+                Files.copy(in, storedPath);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException ex) {
+            deleteQuietly(storedPath);
+            throw new UncheckedIOException(ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("Could not delete import upload {}", path, ex);
+        }
+    }
+}
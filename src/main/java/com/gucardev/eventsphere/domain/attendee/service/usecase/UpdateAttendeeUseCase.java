@@ -7,6 +7,8 @@ import com.gucardev.eventsphere.domain.attendee.model.parameter.UpdateAttendeeUs
 import com.gucardev.eventsphere.domain.attendee.repository.AttendeeRepository;
 import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +23,7 @@ public class UpdateAttendeeUseCase implements UseCase<UpdateAttendeeUseCaseParam
     private final AttendeeRepository attendeeRepository;
     private final AttendeeMapper attendeeMapper;
     private final ResourceOwnershipValidator ownershipValidator;
+    private final OutboxPublisher outboxPublisher;
 
     @Override
     @Transactional
@@ -36,6 +39,8 @@ public class UpdateAttendeeUseCase implements UseCase<UpdateAttendeeUseCaseParam
         Attendee updatedAttendee = attendeeRepository.save(attendee);
         log.info("Updated attendee: {}", updatedAttendee.getId());
 
-        return attendeeMapper.toDto(updatedAttendee);
+        AttendeeResponseDto response = attendeeMapper.toDto(updatedAttendee);
+        outboxPublisher.publish(AggregateType.ATTENDEE, updatedAttendee.getId(), "AttendeeUpdated", response);
+        return response;
     }
 }
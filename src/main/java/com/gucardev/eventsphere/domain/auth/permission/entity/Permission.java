@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
@@ -15,11 +17,15 @@ import java.util.UUID;
 @Table(name = "permissions", uniqueConstraints = {
         @UniqueConstraint(columnNames = { "action", "resource" })
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Permission.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 public class Permission extends BaseEntity {
 
+    public static final String CACHE_REGION = "permissions";
+
     @Id
     @UuidGenerator
     @JdbcTypeCode(SqlTypes.CHAR)
@@ -2,8 +2,13 @@ package com.gucardev.eventsphere.domain.auth.permission.repository;
 
 import com.gucardev.eventsphere.domain.auth.permission.entity.Permission;
 import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -16,4 +21,9 @@ public interface PermissionRepository extends BaseJpaRepository<Permission, UUID
     Optional<Permission> findByActionAndResource(String action, String resource);
 
     boolean existsByActionAndResource(String action, String resource);
+
+    // Result ids come from the query cache, the permissions from the second-level cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT p FROM Permission p")
+    List<Permission> findAllCached();
 }
@@ -144,7 +144,7 @@ public class PermissionService {
         public List<PermissionResponseDto> getAllPermissions() {
                 log.debug("Fetching all permissions");
 
-                List<Permission> permissions = permissionRepository.findAll();
+                List<Permission> permissions = permissionRepository.findAllCached();
 
                 log.info("Retrieved {} permissions", permissions.size());
 
@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
@@ -16,12 +18,16 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "roles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Role.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 public class Role extends BaseEntity {
 
     public static final String ROLE_PREFIX = "ROLE_";
+    public static final String CACHE_REGION = "roles";
+    public static final String PERMISSIONS_CACHE_REGION = "role_permissions";
 
     @Id
     @UuidGenerator
@@ -38,6 +44,7 @@ public class Role extends BaseEntity {
     private String description;
 
     @ManyToMany(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Role.PERMISSIONS_CACHE_REGION)
     @JoinTable(name = "role_permissions", joinColumns = @JoinColumn(name = "role_id"), inverseJoinColumns = @JoinColumn(name = "permission_id"))
     private Set<Permission> permissions = new HashSet<>();
 
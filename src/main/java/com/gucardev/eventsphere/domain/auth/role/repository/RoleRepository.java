@@ -2,10 +2,15 @@ package com.gucardev.eventsphere.domain.auth.role.repository;
 
 import com.gucardev.eventsphere.domain.auth.role.entity.Role;
 import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -23,4 +28,9 @@ public interface RoleRepository extends BaseJpaRepository<Role, UUID> {
     Set<Role> findByIdIn(Set<UUID> ids);
 
     boolean existsByName(String name);
+
+    // Result ids come from the query cache, the roles and their permissions from the second-level cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT r FROM Role r")
+    List<Role> findAllCached();
 }
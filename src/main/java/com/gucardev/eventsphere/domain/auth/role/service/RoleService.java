@@ -11,9 +11,13 @@ import com.gucardev.eventsphere.domain.auth.role.model.request.UpdateRoleRequest
 import com.gucardev.eventsphere.domain.auth.role.repository.RoleRepository;
 import com.gucardev.eventsphere.domain.auth.role.repository.specification.RoleSpecification;
 import com.gucardev.eventsphere.domain.shared.repository.specification.BaseSpecification;
+import com.gucardev.eventsphere.infrastructure.config.cache.CacheNames;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +31,7 @@ import org.springframework.util.StringUtils;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing roles and their permissions.
@@ -46,6 +51,7 @@ public class RoleService {
      * Create a new role with optional permissions.
      */
     @Transactional
+    @CacheEvict(value = CacheNames.CACHE_ALL_ROLES, allEntries = true)
     public RoleResponseDto createRole(CreateRoleRequest request) {
         log.debug("Creating role with name: {}", request.getName());
 
@@ -76,6 +82,10 @@ public class RoleService {
      * Update an existing role.
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheNames.CACHE_ROLE, key = "#roleId"),
+            @CacheEvict(value = CacheNames.CACHE_ALL_ROLES, allEntries = true)
+    })
     public RoleResponseDto updateRole(UUID roleId, UpdateRoleRequest request) {
         log.debug("Updating role with ID: {}", roleId);
 
@@ -119,6 +129,7 @@ public class RoleService {
      * Simple read operation - no @Transactional needed (repository is already
      * transactional)
      */
+    @Cacheable(value = CacheNames.CACHE_ROLE, key = "#roleId", sync = true)
     public RoleResponseDto getRoleById(UUID roleId) {
         log.debug("Fetching role with ID: {}", roleId);
 
@@ -134,16 +145,18 @@ public class RoleService {
      * Get all roles.
      * Simple read operation - no @Transactional needed
      */
+    @Cacheable(value = CacheNames.CACHE_ALL_ROLES, key = "'all'", sync = true)
     public List<RoleResponseDto> getAllRoles() {
         log.debug("Fetching all roles");
 
-        List<Role> roles = roleRepository.findAll();
+        List<Role> roles = roleRepository.findAllCached();
 
         log.info("Retrieved {} roles", roles.size());
 
+        // Mutable list on purpose: the cached value is JSON round-tripped through Redis
         return roles.stream()
                 .map(roleMapper::toDto)
-                .toList();
+                .collect(Collectors.toList());
     }
 
     /**
@@ -176,6 +189,10 @@ public class RoleService {
      * Delete a role by ID.
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheNames.CACHE_ROLE, key = "#roleId"),
+            @CacheEvict(value = CacheNames.CACHE_ALL_ROLES, allEntries = true)
+    })
     public void deleteRole(UUID roleId) {
         log.debug("Deleting role with ID: {}", roleId);
 
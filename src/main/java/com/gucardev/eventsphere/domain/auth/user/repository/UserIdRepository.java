@@ -0,0 +1,17 @@
+package com.gucardev.eventsphere.domain.auth.user.repository;
+
+import com.gucardev.eventsphere.domain.auth.user.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+/**
+ * First phase of the paged user list: pages user ids in SQL, without touching the roles collection.
+ * Collections are then loaded for the page with {@link UserRepository#findAllWithRolesByIdIn}.
+ */
+public interface UserIdRepository {
+
+    Page<UUID> findIds(Specification<User> spec, Pageable pageable);
+}
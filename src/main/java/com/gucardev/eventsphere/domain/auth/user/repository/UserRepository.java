@@ -1,19 +1,23 @@
 package com.gucardev.eventsphere.domain.auth.user.repository;
 
 import com.gucardev.eventsphere.domain.auth.user.entity.User;
+import com.gucardev.eventsphere.domain.auth.user.repository.projection.UserEmailProjection;
 import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends BaseJpaRepository<User, UUID> {
+public interface UserRepository extends BaseJpaRepository<User, UUID>, UserIdRepository {
 
-        @EntityGraph(attributePaths = { "roles", "roles.permissions" })
+        // Permissions are left to the EAGER mapping so they come from the role_permissions L2 collection cache
+        @EntityGraph(attributePaths = { "roles" })
         Optional<User> findByEmail(String email);
 
         @Query("SELECT DISTINCT u FROM User u " +
@@ -24,4 +28,11 @@ public interface UserRepository extends BaseJpaRepository<User, UUID> {
 
         boolean existsByEmail(String email);
 
+        // Second phase of the paged user list, one query for the ids of a single page
+        @EntityGraph(attributePaths = { "roles", "roles.permissions" })
+        List<User> findAllWithRolesByIdIn(Collection<UUID> ids);
+
+        @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.email IN :emails")
+        List<UserEmailProjection> findIdsByEmailIn(@Param("emails") Collection<String> emails);
+
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.gucardev.eventsphere.domain.auth.user.repository.projection;
+
+import java.util.UUID;
+
+public interface UserEmailProjection {
+    UUID getId();
+
+    String getEmail();
+}
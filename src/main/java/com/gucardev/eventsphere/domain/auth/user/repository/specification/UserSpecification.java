@@ -50,13 +50,4 @@ public class UserSpecification extends BaseSpecification {
         };
     }
 
-    public static Specification<User> fetchRoles() {
-        return (root, query, cb) -> {
-            if (Long.class != query.getResultType()) {
-                root.fetch("roles", jakarta.persistence.criteria.JoinType.LEFT)
-                        .fetch("permissions", jakarta.persistence.criteria.JoinType.LEFT);
-            }
-            return null;
-        };
-    }
 }
@@ -7,6 +7,7 @@ import com.gucardev.eventsphere.domain.auth.user.mapper.UserMapper;
 import com.gucardev.eventsphere.domain.auth.user.model.dto.UserResponseDto;
 import com.gucardev.eventsphere.domain.auth.user.model.request.CreateUserRequest;
 import com.gucardev.eventsphere.domain.auth.user.repository.UserRepository;
+import com.gucardev.eventsphere.infrastructure.config.security.protection.LoginAttemptGuard;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ public class CreateUserUseCase implements UseCase<CreateUserRequest, UserRespons
     private final RoleRepository roleRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final LoginAttemptGuard loginAttemptGuard;
 
     @Override
     @Transactional
@@ -54,6 +56,7 @@ public class CreateUserUseCase implements UseCase<CreateUserRequest, UserRespons
         user.setRoles(roles);
 
         User savedUser = userRepository.save(user);
+        loginAttemptGuard.forgetUnknownEmail(savedUser.getEmail());
         log.info("Successfully created user with email: {}", savedUser.getEmail());
 
         return userMapper.toUserResponseDto(savedUser);
@@ -11,11 +11,20 @@ import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -26,6 +35,7 @@ public class GetAllUsersUseCase implements UseCase<UserFilterRequest, Page<UserR
     private final UserMapper userMapper;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserResponseDto> execute(UserFilterRequest filter) {
         log.debug("Fetching users with filter: {}", filter);
 
@@ -38,15 +48,33 @@ public class GetAllUsersUseCase implements UseCase<UserFilterRequest, Page<UserR
         // Build dynamic specification
         Specification<User> spec = buildSpecification(filter);
 
-        // Fetch and map
-        Page<User> usersPage = userRepository.findAll(spec, pageable);
+        // Page ids in SQL first; fetch-joining roles here would make Hibernate page the whole table in memory
+        Page<UUID> idPage = userRepository.findIds(spec, pageable);
+
+        // Then load roles and permissions for this page only, keeping the order of the id page
+        List<UserResponseDto> users = loadWithRoles(idPage.getContent()).stream()
+                .map(userMapper::toUserResponseDto)
+                .toList();
+        Page<UserResponseDto> usersPage = new PageImpl<>(users, pageable, idPage.getTotalElements());
 
         log.info("Retrieved {} users (page {} of {})",
                 usersPage.getNumberOfElements(),
                 usersPage.getNumber() + 1,
                 usersPage.getTotalPages());
 
-        return usersPage.map(userMapper::toUserResponseDto);
+        return usersPage;
+    }
+
+    private List<User> loadWithRoles(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, User> usersById = userRepository.findAllWithRolesByIdIn(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return ids.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     private Specification<User> buildSpecification(UserFilterRequest filter) {
@@ -60,8 +88,7 @@ public class GetAllUsersUseCase implements UseCase<UserFilterRequest, Page<UserR
                 .and(UserSpecification.hasSurnameLike(filter.getSurname()))
                 .and(UserSpecification.hasPhoneNumberLike(filter.getPhoneNumber()))
                 .and(UserSpecification.isActivated(filter.getActivated()))
-                .and(BaseSpecification.createdBetween(filter.getStartDate(), filter.getEndDate()))
-                .and(UserSpecification.fetchRoles());
+                .and(BaseSpecification.createdBetween(filter.getStartDate(), filter.getEndDate()));
 
         return spec;
     }
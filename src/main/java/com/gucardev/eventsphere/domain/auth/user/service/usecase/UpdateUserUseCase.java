@@ -7,6 +7,7 @@ import com.gucardev.eventsphere.domain.auth.user.mapper.UserMapper;
 import com.gucardev.eventsphere.domain.auth.user.model.dto.UserResponseDto;
 import com.gucardev.eventsphere.domain.auth.user.model.parameter.UpdateUserUseCaseParam;
 import com.gucardev.eventsphere.domain.auth.user.repository.UserRepository;
+import com.gucardev.eventsphere.infrastructure.config.security.protection.LoginAttemptGuard;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ public class UpdateUserUseCase implements UseCase<UpdateUserUseCaseParam, UserRe
     private final RoleRepository roleRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final LoginAttemptGuard loginAttemptGuard;
 
     @Override
     @Transactional
@@ -65,6 +67,7 @@ public class UpdateUserUseCase implements UseCase<UpdateUserUseCaseParam, UserRe
                 throw ExceptionUtil.alreadyExists("User", "email", request.getEmail());
             }
             user.setEmail(request.getEmail());
+            loginAttemptGuard.forgetUnknownEmail(request.getEmail());
         }
 
         if (StringUtils.hasText(request.getPassword())) {
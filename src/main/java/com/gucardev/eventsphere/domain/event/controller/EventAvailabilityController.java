@@ -0,0 +1,26 @@
+package com.gucardev.eventsphere.domain.event.controller;
+
+import com.gucardev.eventsphere.domain.event.model.dto.SeatAvailabilityDto;
+import com.gucardev.eventsphere.domain.event.service.SeatAvailabilityBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.UUID;
+
+/**
+ * STOMP over {@code /ws}. Clients subscribe to {@code /app/events/{id}/availability} once for the
+ * current counts, and to {@code /topic/events/{id}/availability} for the pushed changes.
+ */
+@Controller
+@RequiredArgsConstructor
+public class EventAvailabilityController {
+
+    private final SeatAvailabilityBroadcaster seatAvailabilityBroadcaster;
+
+    @SubscribeMapping("/events/{eventId}/availability")
+    public SeatAvailabilityDto availability(@DestinationVariable UUID eventId) {
+        return seatAvailabilityBroadcaster.snapshot(eventId);
+    }
+}
@@ -1,24 +1,44 @@
 package com.gucardev.eventsphere.domain.event.controller;
 
+import com.gucardev.eventsphere.domain.event.model.dto.EventDetailResponseDto;
 import com.gucardev.eventsphere.domain.event.model.dto.EventResponseDto;
+import com.gucardev.eventsphere.domain.event.model.parameter.ExportEventsUseCaseParam;
+import com.gucardev.eventsphere.domain.event.model.parameter.StreamEventChangesUseCaseParam;
 import com.gucardev.eventsphere.domain.event.model.parameter.UpdateEventUseCaseParam;
 import com.gucardev.eventsphere.domain.event.model.request.CreateEventRequest;
 import com.gucardev.eventsphere.domain.event.model.request.EventFilterRequest;
 import com.gucardev.eventsphere.domain.event.model.request.UpdateEventRequest;
 import com.gucardev.eventsphere.domain.event.service.usecase.CreateEventUseCase;
+import com.gucardev.eventsphere.domain.event.service.usecase.ExportEventsUseCase;
+import com.gucardev.eventsphere.domain.event.service.usecase.GetEventDetailUseCase;
 import com.gucardev.eventsphere.domain.event.service.usecase.GetEventListUseCase;
 import com.gucardev.eventsphere.domain.event.service.usecase.GetEventUseCase;
+import com.gucardev.eventsphere.domain.event.service.usecase.StreamEventChangesUseCase;
 import com.gucardev.eventsphere.domain.event.service.usecase.UpdateEventUseCase;
+import com.gucardev.eventsphere.domain.sync.model.dto.EventChangesResponseDto;
+import com.gucardev.eventsphere.domain.sync.model.parameter.GetEventChangesUseCaseParam;
+import com.gucardev.eventsphere.domain.sync.service.usecase.GetEventChangesUseCase;
+import com.gucardev.eventsphere.infrastructure.config.web.HttpCachePolicyResolver;
+import com.gucardev.eventsphere.infrastructure.export.ExportFormat;
+import com.gucardev.eventsphere.infrastructure.export.ExportResponse;
 import com.gucardev.eventsphere.infrastructure.response.ApiResponseWrapper;
+import com.gucardev.eventsphere.infrastructure.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -30,7 +50,12 @@ public class EventController {
     private final CreateEventUseCase createEventUseCase;
     private final UpdateEventUseCase updateEventUseCase;
     private final GetEventUseCase getEventUseCase;
+    private final GetEventDetailUseCase getEventDetailUseCase;
     private final GetEventListUseCase getEventListUseCase;
+    private final ExportEventsUseCase exportEventsUseCase;
+    private final HttpCachePolicyResolver httpCachePolicyResolver;
+    private final StreamEventChangesUseCase streamEventChangesUseCase;
+    private final GetEventChangesUseCase getEventChangesUseCase;
 
     @PostMapping
     @Operation(summary = "Create a new event", description = "Creates a new event for a specific organizer.")
@@ -47,9 +72,43 @@ public class EventController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get event by ID", description = "Retrieves an event by its unique identifier.")
-    public ResponseEntity<ApiResponseWrapper<EventResponseDto>> getEvent(@PathVariable UUID id) {
-        return ResponseEntity.ok(ApiResponseWrapper.success(getEventUseCase.execute(id)));
+    @Operation(summary = "Get event by ID", description = "Retrieves an event by its unique identifier. Supports If-None-Match.")
+    public ResponseEntity<ApiResponseWrapper<EventResponseDto>> getEvent(@PathVariable UUID id, WebRequest webRequest) {
+        // The tag is taken from the versions carried by the body actually served. It may be a stale-while-revalidate
+        // cache entry, so reading the live versions could pair an old body with a new tag. A cache hit keeps 304s cheap.
+        EventResponseDto event = getEventUseCase.execute(id);
+        String eTag = eventETag(event);
+        CacheControl cacheControl = httpCachePolicyResolver.cacheControl(HttpCachePolicyResolver.EVENT);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(ApiResponseWrapper.success(event));
+    }
+
+    // The body is the event, its organizer and its sessions, so all of their versions shape the tag
+    private static String eventETag(EventResponseDto event) {
+        List<Object> parts = new ArrayList<>();
+        parts.add(event.getId());
+        parts.add(event.getVersion());
+        parts.add(event.getOrganizer() == null ? null : event.getOrganizer().getVersion());
+        if (event.getSessions() != null) {
+            event.getSessions().forEach(session -> {
+                parts.add(session.getId());
+                parts.add(session.getVersion());
+            });
+        }
+        return ETagUtil.strong(parts.toArray());
+    }
+
+    @GetMapping("/{id}/detail")
+    @Operation(summary = "Get event page", description = "Event, organizer, sessions, ticket availability and the caller's own tickets in one call. "
+            + "Parts that fail or time out are null and listed in unavailableParts.")
+    public ResponseEntity<ApiResponseWrapper<EventDetailResponseDto>> getEventDetail(@PathVariable UUID id) {
+        return ResponseEntity.ok(ApiResponseWrapper.success(getEventDetailUseCase.execute(id)));
     }
 
     @GetMapping
@@ -58,4 +117,33 @@ public class EventController {
             @Valid @ParameterObject EventFilterRequest filter) {
         return ResponseEntity.ok(ApiResponseWrapper.success(getEventListUseCase.execute(filter)));
     }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export events", description = "Streams all events of the caller's organizer matching the filter as NDJSON or CSV. Paging parameters are ignored.")
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @RequestParam UUID organizerId,
+            @Valid @ParameterObject EventFilterRequest filter,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return ExportResponse.attachment("events", format,
+                out -> exportEventsUseCase.execute(new ExportEventsUseCaseParam(organizerId, filter, format, out)));
+    }
+
+    @GetMapping(value = "/{id}/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream event changes", description = "Server-sent stream of changes to the event and its sessions. "
+            + "Reconnect with Last-Event-ID to resume, a resume may repeat ids already received; a reset event means the gap is too old and the event should be reloaded.")
+    public SseEmitter streamEventChanges(
+            @PathVariable UUID id,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return streamEventChangesUseCase.execute(new StreamEventChangesUseCaseParam(id, lastEventId));
+    }
+
+    @GetMapping("/{id}/sync")
+    @Operation(summary = "Get changes since a watermark", description = "Event, sessions and tickets changed after `since`, paged by change sequence, "
+            + "with deletions as tombstones. Pass nextSince back until hasMore is false; resyncRequired means the full event has to be downloaded again.")
+    public ResponseEntity<ApiResponseWrapper<EventChangesResponseDto>> getEventChanges(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(ApiResponseWrapper.success(getEventChangesUseCase.execute(new GetEventChangesUseCaseParam(id, since, size))));
+    }
 }
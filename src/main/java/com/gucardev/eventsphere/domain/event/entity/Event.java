@@ -16,7 +16,7 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = @Index(name = "idx_events_start_time", columnList = "start_time"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,6 +38,9 @@ public class Event extends BaseEntity {
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private String location;
+
+    // Tickets on sale; null means unlimited, see SeatAvailabilityBroadcaster
+    private Integer capacity;
     
     private Boolean isPublished;
 
@@ -0,0 +1,53 @@
+package com.gucardev.eventsphere.domain.event.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A start time or location change still being emailed to the event's ticket holders, with the
+ * cursor of the last attendee reached, see EventChangeNoticeSender.
+ */
+@Entity
+@Table(name = "event_change_notices", indexes = {
+        @Index(name = "idx_event_change_notices_event", columnList = "event_id, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventChangeNotice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    private LocalDateTime previousStartTime;
+    private LocalDateTime startTime;
+    private String previousLocation;
+    private String location;
+
+    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "last_attendee_id")
+    private UUID lastAttendeeId;
+
+    @Column(nullable = false)
+    private long sent;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // Null while holders are still being emailed
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -0,0 +1,60 @@
+package com.gucardev.eventsphere.domain.event.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One slice of the ticket holders of an event to remind, by attendee id range. The unique key is
+ * what makes a reminder go out once: whichever node plans it first inserts the rows, and the
+ * cursor commits together with the emails of each chunk.
+ */
+@Entity
+@Table(name = "event_reminders",
+        uniqueConstraints = @UniqueConstraint(name = "uk_event_reminders_event_kind_partition",
+                columnNames = {"event_id", "kind", "partition_no"}),
+        indexes = @Index(name = "idx_event_reminders_status_progress", columnList = "status, last_progress_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventReminder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ReminderKind kind;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    @Column(name = "partition_count", nullable = false)
+    private int partitionCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ReminderStatus status;
+
+    // Last attendee id reminded in this partition, null before the first chunk
+    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "last_attendee_id")
+    private UUID lastAttendeeId;
+
+    @Column(nullable = false)
+    private long sent;
+
+    @Column(name = "last_progress_at", nullable = false)
+    private Instant lastProgressAt;
+}
@@ -0,0 +1,16 @@
+package com.gucardev.eventsphere.domain.event.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+// Longest lead first: an event inside a shorter lead only gets that reminder, see EventReminderPlanner
+@Getter
+@RequiredArgsConstructor
+public enum ReminderKind {
+    DAY_BEFORE(Duration.ofHours(24)),
+    HOUR_BEFORE(Duration.ofHours(1));
+
+    private final Duration lead;
+}
@@ -0,0 +1,5 @@
+package com.gucardev.eventsphere.domain.event.entity;
+
+public enum ReminderStatus {
+    PENDING, DONE
+}
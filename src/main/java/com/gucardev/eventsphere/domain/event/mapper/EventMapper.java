@@ -18,6 +18,11 @@ public interface EventMapper {
     @Mapping(target = "sessions", source = "sessions")
     EventResponseDto toDto(Event event);
 
+    // Event columns only, touches no lazy association
+    @Mapping(target = "organizer", ignore = true)
+    @Mapping(target = "sessions", ignore = true)
+    EventResponseDto toSummaryDto(Event event);
+
     Event toEntity(CreateEventRequest request);
 
     void updateEntityFromRequest(UpdateEventRequest request, @MappingTarget Event event);
@@ -0,0 +1,27 @@
+package com.gucardev.eventsphere.domain.event.model.dto;
+
+import com.gucardev.eventsphere.domain.organizer.model.dto.OrganizerResponseDto;
+import com.gucardev.eventsphere.domain.session.model.dto.SessionResponseDto;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketAvailabilityDto;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventDetailResponseDto {
+    // Event fields only, organizer and sessions are the separate parts below
+    private EventResponseDto event;
+    private OrganizerResponseDto organizer;
+    private List<SessionResponseDto> sessions;
+    private TicketAvailabilityDto ticketAvailability;
+    private List<TicketResponseDto> myTickets;
+    // Parts that failed or ran out of time, their fields are null
+    private List<String> unavailableParts;
+}
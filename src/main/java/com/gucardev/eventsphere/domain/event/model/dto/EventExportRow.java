@@ -0,0 +1,16 @@
+package com.gucardev.eventsphere.domain.event.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record EventExportRow(
+        UUID id,
+        String title,
+        String location,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Boolean isPublished,
+        UUID organizerId,
+        String organizationName,
+        LocalDateTime createdAt) {
+}
@@ -22,7 +22,9 @@ public class EventResponseDto {
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private String location;
+    private Integer capacity;
     private Boolean isPublished;
     private OrganizerResponseDto organizer;
     private List<SessionResponseDto> sessions;
+    private Long version;
 }
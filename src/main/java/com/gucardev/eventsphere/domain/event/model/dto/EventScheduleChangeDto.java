@@ -0,0 +1,27 @@
+package com.gucardev.eventsphere.domain.event.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventScheduleChangeDto {
+    private UUID eventId;
+    private String title;
+    // "startTime" and/or "location"
+    private List<String> changedFields;
+    private LocalDateTime previousStartTime;
+    private LocalDateTime startTime;
+    private String previousLocation;
+    private String location;
+    private Instant changedAt;
+}
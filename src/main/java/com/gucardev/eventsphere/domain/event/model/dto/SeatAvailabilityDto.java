@@ -0,0 +1,23 @@
+package com.gucardev.eventsphere.domain.event.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAvailabilityDto {
+    private UUID eventId;
+    // Null when the event has no capacity limit; remaining is then null too and it never sells out
+    private Integer capacity;
+    private long sold;
+    private Integer remaining;
+    private boolean soldOut;
+    private Instant asOf;
+}
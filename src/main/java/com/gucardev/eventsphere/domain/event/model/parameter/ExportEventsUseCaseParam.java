@@ -0,0 +1,10 @@
+package com.gucardev.eventsphere.domain.event.model.parameter;
+
+import com.gucardev.eventsphere.domain.event.model.request.EventFilterRequest;
+import com.gucardev.eventsphere.infrastructure.export.ExportFormat;
+
+import java.io.OutputStream;
+import java.util.UUID;
+
+public record ExportEventsUseCaseParam(UUID organizerId, EventFilterRequest filter, ExportFormat format, OutputStream out) {
+}
@@ -0,0 +1,6 @@
+package com.gucardev.eventsphere.domain.event.model.parameter;
+
+import java.util.UUID;
+
+public record StreamEventChangesUseCaseParam(UUID eventId, Long lastEventId) {
+}
@@ -3,6 +3,7 @@ package com.gucardev.eventsphere.domain.event.model.request;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -23,6 +24,9 @@ public record CreateEventRequest(
     @NotBlank(message = "Location is required")
     String location,
 
+    @Positive(message = "Capacity must be positive")
+    Integer capacity,
+
     @NotNull(message = "Organizer ID is required")
     UUID organizerId
 ) {}
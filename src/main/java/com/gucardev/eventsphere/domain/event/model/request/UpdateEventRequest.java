@@ -1,6 +1,7 @@
 package com.gucardev.eventsphere.domain.event.model.request;
 
 import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Positive;
 import java.time.LocalDateTime;
 
 public record UpdateEventRequest(
@@ -11,5 +12,7 @@ public record UpdateEventRequest(
     @Future(message = "End time must be in the future")
     LocalDateTime endTime,
     String location,
+    @Positive(message = "Capacity must be positive")
+    Integer capacity,
     Boolean isPublished
 ) {}
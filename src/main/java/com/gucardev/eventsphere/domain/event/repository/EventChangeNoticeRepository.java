@@ -0,0 +1,22 @@
+package com.gucardev.eventsphere.domain.event.repository;
+
+import com.gucardev.eventsphere.domain.event.entity.EventChangeNotice;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface EventChangeNoticeRepository extends JpaRepository<EventChangeNotice, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM EventChangeNotice n WHERE n.id = :id")
+    Optional<EventChangeNotice> findLockedById(@Param("id") Long id);
+
+    boolean existsByEventIdAndIdGreaterThan(UUID eventId, Long id);
+}
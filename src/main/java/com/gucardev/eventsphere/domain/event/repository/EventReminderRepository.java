@@ -0,0 +1,34 @@
+package com.gucardev.eventsphere.domain.event.repository;
+
+import com.gucardev.eventsphere.domain.event.entity.EventReminder;
+import com.gucardev.eventsphere.domain.event.entity.ReminderStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface EventReminderRepository extends JpaRepository<EventReminder, Long> {
+
+    // Serializes chunks of one partition, should a recovered job overlap with a slow original
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM EventReminder r WHERE r.id = :id")
+    Optional<EventReminder> findLockedById(@Param("id") Long id);
+
+    @Query("SELECT r FROM EventReminder r WHERE r.status = :status AND r.lastProgressAt < :before ORDER BY r.lastProgressAt")
+    List<EventReminder> findStalled(@Param("status") ReminderStatus status, @Param("before") Instant before, Pageable pageable);
+
+    // A moved event is planned again from its new start time; running fan-outs find their row gone and stop
+    @Modifying
+    @Query("DELETE FROM EventReminder r WHERE r.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") UUID eventId);
+}
@@ -1,11 +1,52 @@
 package com.gucardev.eventsphere.domain.event.repository;
 
 import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.entity.ReminderKind;
+import com.gucardev.eventsphere.domain.event.repository.projection.EventSeatCountProjection;
 import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface EventRepository extends BaseJpaRepository<Event, UUID> {
+
+    // Ticket sales lock the event row before counting its seats, so concurrent sales cannot oversell it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findLockedById(@Param("id") UUID id);
+
+    @Query("SELECT e.organizer.id FROM Event e WHERE e.id = :id")
+    Optional<UUID> findOrganizerIdById(@Param("id") UUID id);
+
+    @Query("SELECT e.organizer.user.id FROM Event e WHERE e.id = :id")
+    Optional<UUID> findOrganizerUserIdById(@Param("id") UUID id);
+
+    boolean existsByIdAndIsPublishedTrue(UUID id);
+
+    // Seat counts of every event that changed during one availability push interval, in one query; soft-deleted tickets free their seat
+    @Query("SELECT e.id AS eventId, e.capacity AS capacity, COUNT(t.id) AS sold " +
+            "FROM Event e LEFT JOIN e.tickets t ON t.status <> :excludedStatus AND t.deletedAt IS NULL " +
+            "WHERE e.id IN :ids GROUP BY e.id, e.capacity")
+    List<EventSeatCountProjection> countSeatsByIdIn(@Param("ids") Collection<UUID> ids,
+                                                    @Param("excludedStatus") TicketStatus excludedStatus);
+
+    // Range scan on idx_events_start_time; planned events drop out through the NOT EXISTS, so callers always read page 0.
+    // A start time change deletes the event's reminder rows, see EventChangeNotifier, so a moved event is planned again
+    @Query("SELECT e.id FROM Event e WHERE e.startTime > :from AND e.startTime <= :to " +
+            "AND e.isPublished = true AND e.deletedAt IS NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM EventReminder r WHERE r.eventId = e.id AND r.kind = :kind) " +
+            "ORDER BY e.startTime")
+    List<UUID> findUnremindedStartingBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                             @Param("kind") ReminderKind kind, Pageable pageable);
 }
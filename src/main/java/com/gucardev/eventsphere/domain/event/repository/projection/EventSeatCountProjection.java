@@ -0,0 +1,11 @@
+package com.gucardev.eventsphere.domain.event.repository.projection;
+
+import java.util.UUID;
+
+public interface EventSeatCountProjection {
+    UUID getEventId();
+
+    Integer getCapacity();
+
+    long getSold();
+}
@@ -5,6 +5,8 @@ import com.gucardev.eventsphere.domain.shared.repository.specification.BaseSpeci
 import jakarta.persistence.criteria.JoinType;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.UUID;
+
 public class EventSpecification extends BaseSpecification {
 
     public static Specification<Event> withTitle(String title) {
@@ -19,6 +21,10 @@ public class EventSpecification extends BaseSpecification {
         return BaseSpecification.equals("isPublished", isPublished);
     }
 
+    public static Specification<Event> withOrganizerId(UUID organizerId) {
+        return (root, query, cb) -> cb.equal(root.get("organizer").get("id"), organizerId);
+    }
+
     public static Specification<Event> fetchOrganizer() {
         return (root, query, cb) -> {
             if (Long.class != query.getResultType()) { // Avoid fetching in count queries
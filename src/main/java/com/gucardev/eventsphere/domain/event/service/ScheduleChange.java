@@ -0,0 +1,10 @@
+package com.gucardev.eventsphere.domain.event.service;
+
+import java.util.UUID;
+
+/**
+ * One event or session change as relayed from the outbox; {@code sequence} is the outbox id,
+ * the same on every node, and doubles as the SSE event id.
+ */
+record ScheduleChange(long sequence, String type, UUID eventId, UUID organizerId, String payload) {
+}
@@ -0,0 +1,58 @@
+package com.gucardev.eventsphere.domain.event.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Fixed-size ring of the most recent schedule changes in arrival order. Not thread-safe, the feed
+ * guards it together with its subscriber registry.
+ * <p>
+ * Resume works by position, not by comparing sequences: changes of different partitions arrive
+ * out of sequence order, so a change with a lower sequence than the client's last one may still
+ * be new to it.
+ */
+final class ScheduleChangeBuffer {
+
+    private final ScheduleChange[] entries;
+    private long appended;
+
+    ScheduleChangeBuffer(int capacity) {
+        this.entries = new ScheduleChange[capacity];
+    }
+
+    void append(ScheduleChange change) {
+        entries[(int) (appended % entries.length)] = change;
+        appended++;
+    }
+
+    /**
+     * The changes that arrived after the one with {@code lastSequence}, preceded by up to
+     * {@code margin} changes that arrived just before it. The margin covers a client that comes
+     * back on another node, where the partitions interleaved differently; it receives some
+     * changes twice and drops them by id.
+     *
+     * @return null when {@code lastSequence} is no longer in the ring, the client must reload
+     */
+    List<ScheduleChange> resumeAfter(long lastSequence, int margin, Predicate<ScheduleChange> filter) {
+        long first = Math.max(0, appended - entries.length);
+        long position = -1;
+        for (long i = appended - 1; i >= first; i--) {
+            if (entries[(int) (i % entries.length)].sequence() == lastSequence) {
+                position = i;
+                break;
+            }
+        }
+        if (position < 0) {
+            return null;
+        }
+        List<ScheduleChange> result = new ArrayList<>();
+        for (long i = Math.max(first, position - margin); i < appended; i++) {
+            ScheduleChange change = entries[(int) (i % entries.length)];
+            if (i != position && filter.test(change)) {
+                result.add(change);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,250 @@
+package com.gucardev.eventsphere.domain.event.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
+import com.gucardev.eventsphere.infrastructure.config.kafka.KafkaConsumerConfiguration;
+import com.gucardev.eventsphere.infrastructure.config.properties.ChangeFeedProperties;
+import com.gucardev.eventsphere.infrastructure.config.web.SseConnection;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.messaging.MessageHeaders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent stream of event and session changes per event or per organizer.
+ * <p>
+ * Changes come from the outbox topics, consumed by every node with its own group, and are kept in
+ * a ring of recent changes in arrival order. The SSE id of a change is its outbox sequence, the
+ * same on every node, so a client can reconnect anywhere with {@code Last-Event-ID}. It gets what
+ * arrived after that change, plus a margin of what arrived just before it, because changes from
+ * different partitions interleave differently on each node; clients must drop ids they have
+ * already seen. Nothing is missed as long as two nodes' arrival orders differ by less than the
+ * margin. When the change is no longer in the ring the client gets a {@code reset} event and
+ * should reload the schedule.
+ * <p>
+ * Streams are async requests: an idle subscriber holds no thread, writes happen on virtual
+ * threads through a bounded per-connection queue.
+ */
+@Slf4j
+@Component
+public class ScheduleChangeFeed {
+
+    private static final String EVENT_KEY = "event:";
+    private static final String ORGANIZER_KEY = "organizer:";
+
+    private final EventRepository eventRepository;
+    private final OrganizerRepository organizerRepository;
+    private final ObjectMapper objectMapper;
+    private final ChangeFeedProperties properties;
+    private final Counter slowDisconnects;
+
+    // Guards the ring and the subscriber registry together, so a resume replay and live changes never interleave
+    private final Object lock = new Object();
+    private final ScheduleChangeBuffer buffer;
+    private final Map<String, Set<SseConnection>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService writer = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-writer-", 0).factory());
+    // Sessions carry only their event id; the organizer of an event does not change
+    private final Cache<UUID, UUID> organizerByEvent = Caffeine.newBuilder().maximumSize(10_000).build();
+
+    public ScheduleChangeFeed(EventRepository eventRepository,
+                              OrganizerRepository organizerRepository,
+                              ObjectMapper objectMapper,
+                              ChangeFeedProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.organizerRepository = organizerRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.buffer = new ScheduleChangeBuffer(properties.getBufferCapacity());
+        this.slowDisconnects = meterRegistry.counter("sse.connections.dropped", "reason", "slow");
+        Gauge.builder("sse.connections", connections, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public SseEmitter subscribeToEvent(UUID eventId, Long lastEventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw ExceptionUtil.notFound("Event", eventId);
+        }
+        return subscribe(EVENT_KEY + eventId, lastEventId);
+    }
+
+    public SseEmitter subscribeToOrganizer(UUID organizerId, Long lastEventId) {
+        if (!organizerRepository.existsById(organizerId)) {
+            throw ExceptionUtil.notFound("Organizer", organizerId);
+        }
+        return subscribe(ORGANIZER_KEY + organizerId, lastEventId);
+    }
+
+    @KafkaListener(
+            topics = {
+                    "${app-specific-configs.outbox.topic-prefix:eventsphere.}event",
+                    "${app-specific-configs.outbox.topic-prefix:eventsphere.}session"
+            },
+            groupId = "schedule-feed-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = KafkaConsumerConfiguration.BATCH_FACTORY,
+            autoStartup = "${app-specific-configs.change-feed.enabled:true}",
+            properties = {
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "auto.offset.reset=latest"
+            })
+    public void onChanges(List<ConsumerRecord<String, String>> records) {
+        for (ConsumerRecord<String, String> record : records) {
+            ScheduleChange change = toChange(record);
+            if (change != null) {
+                publish(change);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app-specific-configs.change-feed.heartbeat-interval:20s}")
+    public void heartbeat() {
+        subscribers.values().forEach(connectionsOfKey -> connectionsOfKey.forEach(connection -> {
+            if (connection.isIdle()) {
+                connection.offer(SseEmitter.event().comment("keepalive"));
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(connectionsOfKey -> connectionsOfKey.forEach(SseConnection::close));
+        writer.shutdown();
+    }
+
+    void publish(ScheduleChange change) {
+        synchronized (lock) {
+            buffer.append(change);
+            deliver(EVENT_KEY + change.eventId(), change);
+            if (change.organizerId() != null) {
+                deliver(ORGANIZER_KEY + change.organizerId(), change);
+            }
+        }
+    }
+
+    private SseEmitter subscribe(String key, Long lastEventId) {
+        // Reserve the slot first, concurrent subscribers cannot all pass the check and overshoot the cap
+        int current;
+        do {
+            current = connections.get();
+            if (current >= properties.getMaxConnections()) {
+                throw ExceptionUtil.of(ExceptionType.OVERLOADED);
+            }
+        } while (!connections.compareAndSet(current, current + 1));
+        SseEmitter emitter = newEmitter();
+        SseConnection connection = new SseConnection(emitter, properties.getMaxPendingPerConnection(), writer);
+        Runnable unregister = () -> {
+            Set<SseConnection> connectionsOfKey = subscribers.get(key);
+            if (connectionsOfKey != null && connectionsOfKey.remove(connection)) {
+                connections.decrementAndGet();
+                subscribers.computeIfPresent(key, (k, set) -> set.isEmpty() ? null : set);
+            }
+        };
+        emitter.onCompletion(unregister);
+        emitter.onTimeout(unregister);
+        emitter.onError(error -> unregister.run());
+
+        connection.offer(SseEmitter.event().reconnectTime(properties.getReconnectDelay().toMillis()).comment("connected"));
+        synchronized (lock) {
+            if (lastEventId != null) {
+                List<ScheduleChange> missed = buffer.resumeAfter(lastEventId, properties.getResumeMargin(),
+                        change -> matches(key, change));
+                if (missed == null) {
+                    connection.offer(SseEmitter.event().name("reset").data("{}", MediaType.APPLICATION_JSON));
+                } else {
+                    missed.forEach(change -> connection.offer(toEvent(change)));
+                }
+            }
+            subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(connection);
+        }
+        return emitter;
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(properties.getConnectionTimeout().toMillis());
+    }
+
+    private void deliver(String key, ScheduleChange change) {
+        Set<SseConnection> connectionsOfKey = subscribers.get(key);
+        if (connectionsOfKey == null) {
+            return;
+        }
+        SseEmitter.SseEventBuilder event = toEvent(change);
+        for (SseConnection connection : connectionsOfKey) {
+            if (!connection.isClosed() && !connection.offer(event)) {
+                slowDisconnects.increment();
+            }
+        }
+    }
+
+    private static boolean matches(String key, ScheduleChange change) {
+        return key.equals(EVENT_KEY + change.eventId())
+                || (change.organizerId() != null && key.equals(ORGANIZER_KEY + change.organizerId()));
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(ScheduleChange change) {
+        return SseEmitter.event()
+                .id(Long.toString(change.sequence()))
+                .name(change.type())
+                .data(change.payload(), MediaType.APPLICATION_JSON);
+    }
+
+    private ScheduleChange toChange(ConsumerRecord<String, String> record) {
+        String sequence = header(record, MessageHeaders.SEQUENCE);
+        String type = header(record, MessageHeaders.EVENT_TYPE);
+        if (sequence == null || type == null || record.value() == null) {
+            return null;
+        }
+        try {
+            JsonNode payload = objectMapper.readTree(record.value());
+            boolean isEvent = record.topic().endsWith("event");
+            UUID eventId = uuid(payload.path(isEvent ? "id" : "eventId"));
+            if (eventId == null) {
+                return null;
+            }
+            UUID organizerId = isEvent ? uuid(payload.path("organizer").path("id")) : organizerOf(eventId);
+            return new ScheduleChange(Long.parseLong(sequence), type, eventId, organizerId, record.value());
+        } catch (IOException | IllegalArgumentException ex) {
+            log.debug("Ignoring unreadable schedule change at {}-{}@{}: {}", record.topic(), record.partition(), record.offset(), ex.getMessage());
+            return null;
+        }
+    }
+
+    private UUID organizerOf(UUID eventId) {
+        return organizerByEvent.get(eventId, id -> eventRepository.findOrganizerIdById(id).orElse(null));
+    }
+
+    private static UUID uuid(JsonNode node) {
+        return node.isTextual() ? UUID.fromString(node.asText()) : null;
+    }
+
+    private static String header(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,248 @@
+package com.gucardev.eventsphere.domain.event.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gucardev.eventsphere.domain.event.model.dto.SeatAvailabilityDto;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.event.repository.projection.EventSeatCountProjection;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.infrastructure.config.kafka.KafkaConsumerConfiguration;
+import com.gucardev.eventsphere.infrastructure.config.properties.SeatAvailabilityProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Pushes remaining-ticket counts to {@code /topic/events/{id}/availability}.
+ * <p>
+ * Every node consumes the ticket and event change streams from the outbox with its own consumer group, and
+ * only marks an event dirty when a client of this node watches it. Once per push interval the
+ * dirty events are counted in one query and each gets at most one message, only when its count
+ * changed, so the number of messages depends on the interval, not on the number of sales, and the
+ * database sees one query per node per interval instead of one per client poll.
+ */
+@Slf4j
+@Component
+public class SeatAvailabilityBroadcaster {
+
+    private static final Pattern TOPIC_DESTINATION = Pattern.compile("^/topic/events/([0-9a-fA-F-]{36})/availability$");
+
+    private final EventRepository eventRepository;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final SeatAvailabilityProperties properties;
+    private final Counter pushed;
+
+    // Subscriptions on this node: event -> count, and session -> (subscription id -> event)
+    private final Map<UUID, AtomicInteger> watchers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, UUID>> subscriptions = new ConcurrentHashMap<>();
+
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+    // Last state pushed per watched event; also answers snapshots for new subscribers
+    private final Map<UUID, SeatAvailabilityDto> lastPushed = new ConcurrentHashMap<>();
+
+    public SeatAvailabilityBroadcaster(EventRepository eventRepository,
+                                       SimpMessageSendingOperations messagingTemplate,
+                                       ObjectMapper objectMapper,
+                                       SeatAvailabilityProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.pushed = meterRegistry.counter("ws.availability.pushed");
+        Gauge.builder("ws.availability.watched.events", watchers, Map::size).register(meterRegistry);
+    }
+
+    public static String destination(UUID eventId) {
+        return "/topic/events/" + eventId + "/availability";
+    }
+
+    // A throwaway group per node start: every node sees every change, and only changes from now on matter.
+    // Ticket sales change the sold count, event updates may change the capacity.
+    @KafkaListener(
+            topics = {
+                    "${app-specific-configs.outbox.topic-prefix:eventsphere.}ticket",
+                    "${app-specific-configs.outbox.topic-prefix:eventsphere.}event"
+            },
+            groupId = "seat-availability-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = KafkaConsumerConfiguration.BATCH_FACTORY,
+            autoStartup = "${app-specific-configs.seat-availability.enabled:true}",
+            properties = {
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "auto.offset.reset=latest"
+            })
+    public void onChanges(List<ConsumerRecord<String, String>> records) {
+        for (ConsumerRecord<String, String> record : records) {
+            UUID eventId = record.topic().endsWith("ticket")
+                    ? eventIdFrom(record.value(), "eventId")
+                    : eventIdFrom(record.value(), "id");
+            if (eventId != null) {
+                markChanged(eventId);
+            }
+        }
+    }
+
+    public void markChanged(UUID eventId) {
+        if (watchers.containsKey(eventId)) {
+            dirty.add(eventId);
+        }
+    }
+
+    /**
+     * Current availability for a new subscriber, from memory when the event is already watched.
+     */
+    public SeatAvailabilityDto snapshot(UUID eventId) {
+        SeatAvailabilityDto known = lastPushed.get(eventId);
+        if (known != null) {
+            return known;
+        }
+        List<EventSeatCountProjection> counts = eventRepository.countSeatsByIdIn(List.of(eventId), TicketStatus.CANCELLED);
+        if (counts.isEmpty()) {
+            return null;
+        }
+        SeatAvailabilityDto availability = toDto(counts.getFirst());
+        if (watchers.containsKey(eventId)) {
+            lastPushed.putIfAbsent(eventId, availability);
+        }
+        return availability;
+    }
+
+    @Scheduled(fixedDelayString = "${app-specific-configs.seat-availability.push-interval:500ms}")
+    public void pushChanges() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<UUID> changed = new ArrayList<>();
+        for (Iterator<UUID> it = dirty.iterator(); it.hasNext(); ) {
+            UUID eventId = it.next();
+            it.remove();
+            if (watchers.containsKey(eventId)) {
+                changed.add(eventId);
+            }
+        }
+        for (int from = 0; from < changed.size(); from += properties.getQueryChunkSize()) {
+            List<UUID> chunk = changed.subList(from, Math.min(changed.size(), from + properties.getQueryChunkSize()));
+            for (EventSeatCountProjection counts : eventRepository.countSeatsByIdIn(chunk, TicketStatus.CANCELLED)) {
+                push(toDto(counts));
+            }
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        UUID eventId = eventIdFromDestination(accessor.getDestination());
+        if (eventId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscriptions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), eventId);
+        watchers.computeIfAbsent(eventId, id -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, UUID> sessionSubscriptions = accessor.getSessionId() != null
+                ? subscriptions.get(accessor.getSessionId())
+                : null;
+        if (sessionSubscriptions != null && accessor.getSubscriptionId() != null) {
+            UUID eventId = sessionSubscriptions.remove(accessor.getSubscriptionId());
+            if (eventId != null) {
+                unwatch(eventId);
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, UUID> sessionSubscriptions = subscriptions.remove(event.getSessionId());
+        if (sessionSubscriptions != null) {
+            sessionSubscriptions.values().forEach(this::unwatch);
+        }
+    }
+
+    private void unwatch(UUID eventId) {
+        watchers.computeIfPresent(eventId, (id, count) -> {
+            if (count.decrementAndGet() > 0) {
+                return count;
+            }
+            lastPushed.remove(id);
+            dirty.remove(id);
+            return null;
+        });
+    }
+
+    private void push(SeatAvailabilityDto availability) {
+        SeatAvailabilityDto previous = lastPushed.get(availability.getEventId());
+        if (previous != null
+                && previous.getSold() == availability.getSold()
+                && Objects.equals(previous.getCapacity(), availability.getCapacity())) {
+            return;
+        }
+        lastPushed.put(availability.getEventId(), availability);
+        messagingTemplate.convertAndSend(destination(availability.getEventId()), availability);
+        pushed.increment();
+    }
+
+    private static SeatAvailabilityDto toDto(EventSeatCountProjection counts) {
+        Integer capacity = counts.getCapacity();
+        Integer remaining = capacity != null ? (int) Math.max(0, capacity - counts.getSold()) : null;
+        return SeatAvailabilityDto.builder()
+                .eventId(counts.getEventId())
+                .capacity(capacity)
+                .sold(counts.getSold())
+                .remaining(remaining)
+                .soldOut(remaining != null && remaining == 0)
+                .asOf(Instant.now())
+                .build();
+    }
+
+    private static UUID eventIdFromDestination(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = TOPIC_DESTINATION.matcher(destination);
+        return matcher.matches() ? UUID.fromString(matcher.group(1)) : null;
+    }
+
+    // Payloads are the ticket/event response DTOs as JSON; anything unreadable is ignored, it only costs freshness
+    private UUID eventIdFrom(String json, String field) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            JsonNode eventId = objectMapper.readTree(json).path(field);
+            return eventId.isTextual() ? UUID.fromString(eventId.asText()) : null;
+        } catch (IOException | IllegalArgumentException ex) {
+            log.debug("Ignoring unreadable change: {}", ex.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.gucardev.eventsphere.domain.event.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobExecutionContext;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+// One change notice, scheduled by EventChangeNotifier
+@RequiredArgsConstructor
+public class EventChangeNoticeJob extends QuartzJobBean {
+
+    static final String NOTICE_ID = "noticeId";
+
+    private final EventChangeNoticeSender sender;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        sender.send(context.getMergedJobDataMap().getLong(NOTICE_ID));
+    }
+}
@@ -0,0 +1,137 @@
+package com.gucardev.eventsphere.domain.event.service.notification;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.entity.EventChangeNotice;
+import com.gucardev.eventsphere.domain.event.repository.EventChangeNoticeRepository;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.event.service.reminder.ReminderPartition;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketHolderProjection;
+import com.gucardev.eventsphere.infrastructure.config.email.EmailSenderService;
+import com.gucardev.eventsphere.infrastructure.config.properties.EventNoticeProperties;
+import com.gucardev.eventsphere.infrastructure.mail.EmailRecipient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Emails a change notice to every ticket holder of the event, once per attendee however many
+ * tickets they hold. Holders are read by keyset in chunks; each chunk's emails commit together
+ * with the notice's cursor, so a recovered job picks up after the last committed chunk. A newer
+ * notice for the same event supersedes this one, it carries the latest start time and location.
+ * Notices for deleted or unpublished events are dropped, like reminders.
+ */
+@Slf4j
+@Component
+public class EventChangeNoticeSender {
+
+    private static final DateTimeFormatter START_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final ReminderPartition ALL_HOLDERS = ReminderPartition.of(0, 1);
+
+    private final EventChangeNoticeRepository noticeRepository;
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final EmailSenderService emailSenderService;
+    private final EventNoticeProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter enqueued;
+
+    public EventChangeNoticeSender(EventChangeNoticeRepository noticeRepository,
+                                   EventRepository eventRepository,
+                                   TicketRepository ticketRepository,
+                                   EmailSenderService emailSenderService,
+                                   EventNoticeProperties properties,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.noticeRepository = noticeRepository;
+        this.eventRepository = eventRepository;
+        this.ticketRepository = ticketRepository;
+        this.emailSenderService = emailSenderService;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enqueued = meterRegistry.counter("event.notices.enqueued");
+    }
+
+    public void send(Long noticeId) {
+        boolean more;
+        do {
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> sendChunk(noticeId)));
+        } while (more);
+    }
+
+    /**
+     * @return whether the event has more holders
+     */
+    private boolean sendChunk(Long noticeId) {
+        EventChangeNotice notice = noticeRepository.findLockedById(noticeId).orElse(null);
+        if (notice == null || notice.getCompletedAt() != null) {
+            return false;
+        }
+        Event event = eventRepository.findById(notice.getEventId()).orElse(null);
+        if (event == null || event.getDeletedAt() != null || !Boolean.TRUE.equals(event.getIsPublished())
+                || noticeRepository.existsByEventIdAndIdGreaterThan(notice.getEventId(), notice.getId())) {
+            log.info("Dropping change notice {} for event {}, the event is gone, unpublished or changed again",
+                    noticeId, notice.getEventId());
+            notice.setCompletedAt(Instant.now());
+            return false;
+        }
+
+        List<TicketHolderProjection> holders = ticketRepository.findHoldersAfter(
+                event.getId(),
+                notice.getLastAttendeeId() != null ? notice.getLastAttendeeId() : ALL_HOLDERS.after(),
+                ALL_HOLDERS.last(),
+                TicketStatus.CANCELLED,
+                PageRequest.of(0, properties.getChunkSize()));
+
+        if (!holders.isEmpty()) {
+            emailSenderService.sendBulkTemplatedHtmlEmail("Schedule change: " + event.getTitle(), properties.getTemplate(),
+                    sharedModel(event, notice), holders.stream().map(EventChangeNoticeSender::toRecipient).toList());
+            notice.setLastAttendeeId(holders.getLast().getAttendeeId());
+            notice.setSent(notice.getSent() + holders.size());
+            enqueued.increment(holders.size());
+        }
+
+        if (holders.size() < properties.getChunkSize()) {
+            notice.setCompletedAt(Instant.now());
+            log.info("Change notice {} for event {} queued to {} holders", noticeId, event.getId(), notice.getSent());
+            return false;
+        }
+        return true;
+    }
+
+    private static Map<String, Object> sharedModel(Event event, EventChangeNotice notice) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("eventId", event.getId().toString());
+        model.put("eventTitle", event.getTitle());
+        model.put("startTimeChanged", !Objects.equals(notice.getPreviousStartTime(), notice.getStartTime()));
+        model.put("locationChanged", !Objects.equals(notice.getPreviousLocation(), notice.getLocation()));
+        model.put("previousStartTime", format(notice.getPreviousStartTime()));
+        model.put("startTime", format(notice.getStartTime()));
+        model.put("previousLocation", notice.getPreviousLocation());
+        model.put("location", notice.getLocation());
+        return model;
+    }
+
+    private static String format(LocalDateTime time) {
+        return time != null ? time.format(START_TIME_FORMAT) : null;
+    }
+
+    private static EmailRecipient toRecipient(TicketHolderProjection holder) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("name", holder.getName());
+        return new EmailRecipient(holder.getEmail(), model);
+    }
+}
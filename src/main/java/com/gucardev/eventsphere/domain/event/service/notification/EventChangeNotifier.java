@@ -0,0 +1,118 @@
+package com.gucardev.eventsphere.domain.event.service.notification;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.entity.EventChangeNotice;
+import com.gucardev.eventsphere.domain.event.model.dto.EventScheduleChangeDto;
+import com.gucardev.eventsphere.domain.event.repository.EventChangeNoticeRepository;
+import com.gucardev.eventsphere.domain.event.repository.EventReminderRepository;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tells ticket holders when an event moves in time or place. Called inside the update, it only
+ * records the change: a notice row plus its Quartz job for email (same datasource, so they commit
+ * with the update), and an outbox event that every node pushes to its WebSocket subscribers, see
+ * EventNoticeBroadcaster. No holder is looked up while the update runs.
+ * <p>
+ * A start time change also deletes the event's reminder rows, sent or not, so the reminder planner
+ * plans the event again for its new start time instead of skipping it as already reminded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventChangeNotifier {
+
+    public static final String EVENT_TYPE = "EventScheduleChanged";
+    public static final String NOTICE_GROUP = "event-notices";
+    static final String START_TIME = "startTime";
+    static final String LOCATION = "location";
+
+    private final EventChangeNoticeRepository noticeRepository;
+    private final EventReminderRepository reminderRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final Scheduler scheduler;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void notifyIfChanged(Event event, LocalDateTime previousStartTime, String previousLocation) {
+        EventScheduleChangeDto change = diff(event, previousStartTime, previousLocation);
+        if (change == null) {
+            return;
+        }
+        outboxPublisher.publish(AggregateType.EVENT, event.getId(), EVENT_TYPE, change);
+        if (change.getChangedFields().contains(START_TIME)) {
+            int reset = reminderRepository.deleteByEventId(event.getId());
+            log.debug("Reset {} reminder partitions of event {}", reset, event.getId());
+        }
+
+        EventChangeNotice notice = noticeRepository.save(EventChangeNotice.builder()
+                .eventId(event.getId())
+                .previousStartTime(previousStartTime)
+                .startTime(event.getStartTime())
+                .previousLocation(previousLocation)
+                .location(event.getLocation())
+                .createdAt(change.getChangedAt())
+                .build());
+        schedule(notice);
+        log.info("Event {} changed {}, notifying ticket holders", event.getId(), change.getChangedFields());
+    }
+
+    static EventScheduleChangeDto diff(Event event, LocalDateTime previousStartTime, String previousLocation) {
+        List<String> changedFields = new ArrayList<>(2);
+        if (!Objects.equals(previousStartTime, event.getStartTime())) {
+            changedFields.add(START_TIME);
+        }
+        if (!Objects.equals(previousLocation, event.getLocation())) {
+            changedFields.add(LOCATION);
+        }
+        if (changedFields.isEmpty()) {
+            return null;
+        }
+        return EventScheduleChangeDto.builder()
+                .eventId(event.getId())
+                .title(event.getTitle())
+                .changedFields(changedFields)
+                .previousStartTime(previousStartTime)
+                .startTime(event.getStartTime())
+                .previousLocation(previousLocation)
+                .location(event.getLocation())
+                .changedAt(Instant.now())
+                .build();
+    }
+
+    private void schedule(EventChangeNotice notice) {
+        JobDetail job = JobBuilder.newJob(EventChangeNoticeJob.class)
+                .withIdentity(JobKey.jobKey("notice-" + notice.getId(), NOTICE_GROUP))
+                .usingJobData(EventChangeNoticeJob.NOTICE_ID, notice.getId())
+                .requestRecovery()
+                .build();
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .forJob(job)
+                .startNow()
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                .build();
+        try {
+            scheduler.scheduleJob(job, trigger);
+        } catch (SchedulerException ex) {
+            throw new IllegalStateException("Could not schedule change notice " + notice.getId(), ex);
+        }
+    }
+}
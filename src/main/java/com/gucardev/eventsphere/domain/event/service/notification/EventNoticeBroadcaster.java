@@ -0,0 +1,75 @@
+package com.gucardev.eventsphere.domain.event.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gucardev.eventsphere.domain.event.model.dto.EventScheduleChangeDto;
+import com.gucardev.eventsphere.infrastructure.config.kafka.KafkaConsumerConfiguration;
+import com.gucardev.eventsphere.infrastructure.messaging.MessageHeaders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pushes start time and location changes to {@code /topic/events/{id}/notices}. One message per
+ * change and event reaches every subscriber through the broker, so there is no per-holder work;
+ * like SeatAvailabilityBroadcaster, each node consumes the event topic with its own group and
+ * serves its own sessions.
+ */
+@Slf4j
+@Component
+public class EventNoticeBroadcaster {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter pushed;
+
+    public EventNoticeBroadcaster(SimpMessageSendingOperations messagingTemplate,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.pushed = meterRegistry.counter("ws.notices.pushed");
+    }
+
+    public static String destination(UUID eventId) {
+        return "/topic/events/" + eventId + "/notices";
+    }
+
+    @KafkaListener(
+            topics = "${app-specific-configs.outbox.topic-prefix:eventsphere.}event",
+            groupId = "event-notices-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = KafkaConsumerConfiguration.BATCH_FACTORY,
+            autoStartup = "${app-specific-configs.event-notices.enabled:true}",
+            properties = {
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "auto.offset.reset=latest"
+            })
+    public void onChanges(List<ConsumerRecord<String, String>> records) {
+        for (ConsumerRecord<String, String> record : records) {
+            if (!EventChangeNotifier.EVENT_TYPE.equals(header(record, MessageHeaders.EVENT_TYPE)) || record.value() == null) {
+                continue;
+            }
+            try {
+                EventScheduleChangeDto change = objectMapper.readValue(record.value(), EventScheduleChangeDto.class);
+                messagingTemplate.convertAndSend(destination(change.getEventId()), change);
+                pushed.increment();
+            } catch (IOException | IllegalArgumentException ex) {
+                log.debug("Ignoring unreadable change notice at {}-{}@{}: {}", record.topic(), record.partition(), record.offset(), ex.getMessage());
+            }
+        }
+    }
+
+    private static String header(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.gucardev.eventsphere.domain.event.service.reminder;
+
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobExecutionContext;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+// One partition of one reminder, scheduled by EventReminderPlanner
+@RequiredArgsConstructor
+public class EventReminderFanoutJob extends QuartzJobBean {
+
+    static final String REMINDER_ID = "reminderId";
+
+    private final EventReminderSender sender;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        sender.send(context.getMergedJobDataMap().getLong(REMINDER_ID));
+    }
+}
@@ -0,0 +1,150 @@
+package com.gucardev.eventsphere.domain.event.service.reminder;
+
+import com.gucardev.eventsphere.domain.event.entity.EventReminder;
+import com.gucardev.eventsphere.domain.event.entity.ReminderKind;
+import com.gucardev.eventsphere.domain.event.entity.ReminderStatus;
+import com.gucardev.eventsphere.domain.event.repository.EventReminderRepository;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.infrastructure.config.properties.ReminderProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plans reminders for events about to start. Each reminder kind owns the bucket of start times
+ * between its lead and the next shorter one, so an event announced 30 minutes ahead gets the hour
+ * reminder only. A planned event gets one {@link EventReminder} row per partition, inserted in the
+ * same transaction that schedules the partition's {@link EventReminderFanoutJob}: Quartz uses the
+ * application's datasource, so both commit or neither does.
+ * <p>
+ * Runs from {@link EventReminderScanJob}, which the Quartz cluster fires on one node at a time.
+ * The unique key on event_reminders still stops a second planner should that ever slip.
+ */
+@Slf4j
+@Component
+public class EventReminderPlanner {
+
+    public static final String FANOUT_GROUP = "event-reminders";
+
+    private final EventRepository eventRepository;
+    private final EventReminderRepository reminderRepository;
+    private final Scheduler scheduler;
+    private final ReminderProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public EventReminderPlanner(EventRepository eventRepository,
+                                EventReminderRepository reminderRepository,
+                                Scheduler scheduler,
+                                ReminderProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.reminderRepository = reminderRepository;
+        this.scheduler = scheduler;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void planDueReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        ReminderKind[] kinds = ReminderKind.values();
+        for (int i = 0; i < kinds.length; i++) {
+            ReminderKind kind = kinds[i];
+            LocalDateTime from = i + 1 < kinds.length ? now.plus(kinds[i + 1].getLead()) : now;
+            LocalDateTime to = now.plus(kind.getLead());
+            int planned;
+            int total = 0;
+            do {
+                planned = transactionTemplate.execute(status -> planPage(kind, from, to));
+                total += planned;
+            } while (planned == properties.getScanPageSize());
+            if (total > 0) {
+                log.info("Planned {} reminders for {} events", kind, total);
+            }
+        }
+        rescheduleStalled();
+    }
+
+    private int planPage(ReminderKind kind, LocalDateTime from, LocalDateTime to) {
+        List<UUID> eventIds = eventRepository.findUnremindedStartingBetween(
+                from, to, kind, PageRequest.of(0, properties.getScanPageSize()));
+        Instant now = Instant.now();
+        List<EventReminder> reminders = new ArrayList<>(eventIds.size() * properties.getPartitions());
+        for (UUID eventId : eventIds) {
+            for (int partition = 0; partition < properties.getPartitions(); partition++) {
+                reminders.add(EventReminder.builder()
+                        .eventId(eventId)
+                        .kind(kind)
+                        .partitionNo(partition)
+                        .partitionCount(properties.getPartitions())
+                        .status(ReminderStatus.PENDING)
+                        .lastProgressAt(now)
+                        .build());
+            }
+        }
+        reminderRepository.saveAll(reminders).forEach(this::scheduleFanout);
+        return eventIds.size();
+    }
+
+    // Fan-out jobs lost with the node's Quartz tables, or never picked up, are planned again here
+    private void rescheduleStalled() {
+        Instant before = Instant.now().minus(properties.getStallTimeout());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (EventReminder reminder : reminderRepository.findStalled(
+                    ReminderStatus.PENDING, before, PageRequest.of(0, properties.getScanPageSize()))) {
+                if (!exists(jobKey(reminder))) {
+                    log.warn("Rescheduling stalled {} reminder partition {} of event {}",
+                            reminder.getKind(), reminder.getPartitionNo(), reminder.getEventId());
+                    reminder.setLastProgressAt(Instant.now());
+                    scheduleFanout(reminder);
+                }
+            }
+        });
+    }
+
+    private void scheduleFanout(EventReminder reminder) {
+        JobDetail job = JobBuilder.newJob(EventReminderFanoutJob.class)
+                .withIdentity(jobKey(reminder))
+                .usingJobData(EventReminderFanoutJob.REMINDER_ID, reminder.getId())
+                // Runs again on another node if this one dies mid fan-out, from the last committed chunk
+                .requestRecovery()
+                .build();
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .forJob(job)
+                .startNow()
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                .build();
+        try {
+            scheduler.scheduleJob(job, trigger);
+        } catch (SchedulerException ex) {
+            throw new IllegalStateException("Could not schedule reminder " + reminder.getId(), ex);
+        }
+    }
+
+    private boolean exists(JobKey jobKey) {
+        try {
+            return scheduler.checkExists(jobKey);
+        } catch (SchedulerException ex) {
+            throw new IllegalStateException("Could not look up " + jobKey, ex);
+        }
+    }
+
+    private static JobKey jobKey(EventReminder reminder) {
+        return JobKey.jobKey("reminder-" + reminder.getId(), FANOUT_GROUP);
+    }
+}
@@ -0,0 +1,19 @@
+package com.gucardev.eventsphere.domain.event.service.reminder;
+
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+// Clustered: each firing runs on one node only, see QuartzConfiguration
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+public class EventReminderScanJob extends QuartzJobBean {
+
+    private final EventReminderPlanner planner;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        planner.planDueReminders();
+    }
+}
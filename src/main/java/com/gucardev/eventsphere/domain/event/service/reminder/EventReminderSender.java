@@ -0,0 +1,133 @@
+package com.gucardev.eventsphere.domain.event.service.reminder;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.entity.EventReminder;
+import com.gucardev.eventsphere.domain.event.entity.ReminderStatus;
+import com.gucardev.eventsphere.domain.event.repository.EventReminderRepository;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketHolderProjection;
+import com.gucardev.eventsphere.infrastructure.config.email.EmailSenderService;
+import com.gucardev.eventsphere.infrastructure.config.properties.ReminderProperties;
+import com.gucardev.eventsphere.infrastructure.mail.EmailRecipient;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Emails the ticket holders of one reminder partition, a chunk per transaction. The emails of a
+ * chunk and the partition's cursor commit together, so a job that dies and is recovered on another
+ * node carries on after the last committed chunk instead of starting over.
+ */
+@Slf4j
+@Component
+public class EventReminderSender {
+
+    static final DateTimeFormatter START_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final EventReminderRepository reminderRepository;
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final EmailSenderService emailSenderService;
+    private final ReminderProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public EventReminderSender(EventReminderRepository reminderRepository,
+                               EventRepository eventRepository,
+                               TicketRepository ticketRepository,
+                               EmailSenderService emailSenderService,
+                               ReminderProperties properties,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.reminderRepository = reminderRepository;
+        this.eventRepository = eventRepository;
+        this.ticketRepository = ticketRepository;
+        this.emailSenderService = emailSenderService;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void send(Long reminderId) {
+        boolean more;
+        do {
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> sendChunk(reminderId)));
+        } while (more);
+    }
+
+    /**
+     * @return whether the partition has more holders
+     */
+    private boolean sendChunk(Long reminderId) {
+        EventReminder reminder = reminderRepository.findLockedById(reminderId).orElse(null);
+        if (reminder == null || reminder.getStatus() == ReminderStatus.DONE) {
+            return false;
+        }
+        Event event = eventRepository.findById(reminder.getEventId()).orElse(null);
+        if (event == null || event.getDeletedAt() != null || !Boolean.TRUE.equals(event.getIsPublished())
+                || event.getStartTime() == null || !event.getStartTime().isAfter(LocalDateTime.now())) {
+            log.info("Dropping {} reminder {} for event {}, the event is gone or has started",
+                    reminder.getKind(), reminder.getPartitionNo(), reminder.getEventId());
+            finish(reminder);
+            return false;
+        }
+
+        ReminderPartition partition = ReminderPartition.of(reminder.getPartitionNo(), reminder.getPartitionCount());
+        List<TicketHolderProjection> holders = ticketRepository.findHoldersAfter(
+                event.getId(),
+                reminder.getLastAttendeeId() != null ? reminder.getLastAttendeeId() : partition.after(),
+                partition.last(),
+                TicketStatus.CANCELLED,
+                PageRequest.of(0, properties.getChunkSize()));
+
+        if (!holders.isEmpty()) {
+            emailSenderService.sendBulkTemplatedHtmlEmail("Reminder: " + event.getTitle(), properties.getTemplate(),
+                    sharedModel(event, reminder), holders.stream().map(EventReminderSender::toRecipient).toList());
+            reminder.setLastAttendeeId(holders.getLast().getAttendeeId());
+            reminder.setSent(reminder.getSent() + holders.size());
+            meterRegistry.counter("event.reminders.enqueued", "kind", reminder.getKind().name()).increment(holders.size());
+        }
+        reminder.setLastProgressAt(Instant.now());
+
+        if (holders.size() < properties.getChunkSize()) {
+            finish(reminder);
+            log.debug("{} reminder partition {} of event {} done, {} holders",
+                    reminder.getKind(), reminder.getPartitionNo(), event.getId(), reminder.getSent());
+            return false;
+        }
+        return true;
+    }
+
+    private void finish(EventReminder reminder) {
+        reminder.setStatus(ReminderStatus.DONE);
+        reminder.setLastProgressAt(Instant.now());
+    }
+
+    private static Map<String, Object> sharedModel(Event event, EventReminder reminder) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("eventId", event.getId().toString());
+        model.put("eventTitle", event.getTitle());
+        model.put("eventLocation", event.getLocation());
+        model.put("eventStartTime", event.getStartTime().format(START_TIME_FORMAT));
+        model.put("hoursBefore", reminder.getKind().getLead().toHours());
+        return model;
+    }
+
+    private static EmailRecipient toRecipient(TicketHolderProjection holder) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("name", holder.getName());
+        return new EmailRecipient(holder.getEmail(), model);
+    }
+}
@@ -0,0 +1,28 @@
+package com.gucardev.eventsphere.domain.event.service.reminder;
+
+import java.util.UUID;
+
+/**
+ * A contiguous range of attendee ids, split on the first 32 bits. UUIDs are stored as lower-case
+ * CHAR(36), so comparing the text in the database orders them like the unsigned bits here.
+ *
+ * @param after exclusive lower bound; its version nibble is 0, so no generated id equals it
+ * @param last  inclusive upper bound
+ */
+public record ReminderPartition(UUID after, UUID last) {
+
+    private static final long PREFIXES = 1L << 32;
+
+    public static ReminderPartition of(int partition, int partitionCount) {
+        if (partitionCount < 1 || partition < 0 || partition >= partitionCount) {
+            throw new IllegalArgumentException("Partition " + partition + " of " + partitionCount);
+        }
+        long from = prefix(partition, partitionCount);
+        long to = prefix(partition + 1, partitionCount);
+        return new ReminderPartition(new UUID(from << 32, 0L), new UUID(((to - 1) << 32) | 0xFFFFFFFFL, -1L));
+    }
+
+    private static long prefix(int partition, int partitionCount) {
+        return partition * PREFIXES / partitionCount;
+    }
+}
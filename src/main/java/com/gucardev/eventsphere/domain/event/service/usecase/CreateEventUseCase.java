@@ -8,7 +8,11 @@ import com.gucardev.eventsphere.domain.event.repository.EventRepository;
 import com.gucardev.eventsphere.domain.organizer.entity.Organizer;
 import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
 import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +28,8 @@ public class CreateEventUseCase implements UseCase<CreateEventRequest, EventResp
     private final OrganizerRepository organizerRepository;
     private final EventMapper eventMapper;
     private final ResourceOwnershipValidator ownershipValidator;
+    private final OutboxPublisher outboxPublisher;
+    private final SyncChangeLog syncChangeLog;
 
     @Override
     @Transactional
@@ -41,6 +47,9 @@ public class CreateEventUseCase implements UseCase<CreateEventRequest, EventResp
         Event savedEvent = eventRepository.save(event);
         log.info("Created event: {}", savedEvent.getId());
 
-        return eventMapper.toDto(savedEvent);
+        EventResponseDto response = eventMapper.toDto(savedEvent);
+        outboxPublisher.publish(AggregateType.EVENT, savedEvent.getId(), "EventCreated", response);
+        syncChangeLog.record(SyncEntityType.EVENT, savedEvent.getId(), savedEvent.getId());
+        return response;
     }
 }
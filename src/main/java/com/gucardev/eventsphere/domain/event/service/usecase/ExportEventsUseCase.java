@@ -0,0 +1,80 @@
+package com.gucardev.eventsphere.domain.event.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.model.dto.EventExportRow;
+import com.gucardev.eventsphere.domain.event.model.parameter.ExportEventsUseCaseParam;
+import com.gucardev.eventsphere.domain.event.model.request.EventFilterRequest;
+import com.gucardev.eventsphere.domain.event.repository.specification.EventSpecification;
+import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
+import com.gucardev.eventsphere.domain.shared.repository.specification.BaseSpecification;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.export.ExportQuery;
+import com.gucardev.eventsphere.infrastructure.export.StreamingExporter;
+import com.gucardev.eventsphere.infrastructure.usecase.HeavyOperation;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import jakarta.persistence.criteria.Join;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streams the events of one organizer matching the filter, for that organizer; paging and sort fields
+ * of the filter are ignored.
+ */
+@Service
+@HeavyOperation
+@RequiredArgsConstructor
+public class ExportEventsUseCase implements UseCase<ExportEventsUseCaseParam, Long> {
+
+    private final StreamingExporter streamingExporter;
+    private final OrganizerRepository organizerRepository;
+    private final ResourceOwnershipValidator ownershipValidator;
+
+    @Override
+    public Long execute(ExportEventsUseCaseParam param) {
+        // Unpublished events are included, so only the organizer's own, checked before the cursor is opened
+        UUID ownerId = organizerRepository.findUserIdById(param.organizerId())
+                .orElseThrow(() -> ExceptionUtil.notFound("Organizer", param.organizerId()));
+        ownershipValidator.validateOwnership(ownerId);
+
+        ExportQuery<Event, EventExportRow> query = new ExportQuery<>(
+                Event.class,
+                EventExportRow.class,
+                buildSpecification(param.organizerId(), param.filter()),
+                (root, cb) -> {
+                    Join<Object, Object> organizer = root.join("organizer");
+                    return List.of(
+                            root.get("id"),
+                            root.get("title"),
+                            root.get("location"),
+                            root.get("startTime"),
+                            root.get("endTime"),
+                            root.get("isPublished"),
+                            organizer.get("id"),
+                            organizer.get("organizationName"),
+                            root.get("createdAt"));
+                });
+        return streamingExporter.export(query, param.format(), param.out());
+    }
+
+    private Specification<Event> buildSpecification(UUID organizerId, EventFilterRequest filter) {
+        Specification<Event> spec = BaseSpecification.toSpec(filter)
+                .and(EventSpecification.withOrganizerId(organizerId));
+
+        if (StringUtils.hasText(filter.getTitle())) {
+            spec = spec.and(EventSpecification.withTitle(filter.getTitle()));
+        }
+        if (StringUtils.hasText(filter.getLocation())) {
+            spec = spec.and(EventSpecification.withLocation(filter.getLocation()));
+        }
+        if (filter.getIsPublished() != null) {
+            spec = spec.and(EventSpecification.isPublished(filter.getIsPublished()));
+        }
+        return spec;
+    }
+}
@@ -0,0 +1,202 @@
+package com.gucardev.eventsphere.domain.event.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.mapper.EventMapper;
+import com.gucardev.eventsphere.domain.event.model.dto.EventDetailResponseDto;
+import com.gucardev.eventsphere.domain.event.model.dto.EventResponseDto;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.organizer.mapper.OrganizerMapper;
+import com.gucardev.eventsphere.domain.organizer.model.dto.OrganizerResponseDto;
+import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
+import com.gucardev.eventsphere.domain.session.mapper.SessionMapper;
+import com.gucardev.eventsphere.domain.session.model.dto.SessionResponseDto;
+import com.gucardev.eventsphere.domain.session.repository.SessionRepository;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.ticket.mapper.TicketMapper;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketAvailabilityDto;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketResponseDto;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketStatusCountProjection;
+import com.gucardev.eventsphere.infrastructure.config.properties.EventDetailProperties;
+import com.gucardev.eventsphere.infrastructure.context.RequestContext;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Joiner;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.function.Supplier;
+
+/**
+ * Everything an event page needs in one call. The five parts are read concurrently on virtual
+ * threads, each in its own short read-only transaction (so its own connection) and under its
+ * own timeout, which also bounds its queries. Latency is that of the slowest part.
+ * <p>
+ * The event itself is required: not found is a 404, a timeout a 503. Any other part that
+ * fails or times out is left null and listed in {@code unavailableParts}.
+ * <p>
+ * Parts of all concurrent requests share {@code max-concurrent-reads} connections, so a burst of
+ * event pages queues here (inside each part's timeout) instead of draining the pool for everyone else.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GetEventDetailUseCase implements UseCase<UUID, EventDetailResponseDto> {
+
+    private static final String EVENT = "event";
+    private static final String ORGANIZER = "organizer";
+    private static final String SESSIONS = "sessions";
+    private static final String TICKET_AVAILABILITY = "ticket-availability";
+    private static final String MY_TICKETS = "my-tickets";
+
+    private final EventRepository eventRepository;
+    private final OrganizerRepository organizerRepository;
+    private final SessionRepository sessionRepository;
+    private final TicketRepository ticketRepository;
+    private final EventMapper eventMapper;
+    private final OrganizerMapper organizerMapper;
+    private final SessionMapper sessionMapper;
+    private final TicketMapper ticketMapper;
+    private final ResourceOwnershipValidator resourceOwnershipValidator;
+    private final PlatformTransactionManager transactionManager;
+    private final EventDetailProperties properties;
+    private final MeterRegistry meterRegistry;
+    private Semaphore reads;
+
+    @PostConstruct
+    void init() {
+        reads = new Semaphore(properties.getMaxConcurrentReads(), true);
+        meterRegistry.gauge("event.detail.reads.waiting", reads, Semaphore::getQueueLength);
+    }
+
+    @Override
+    public EventDetailResponseDto execute(UUID id) {
+        UUID userId = resourceOwnershipValidator.getCurrentUserId();
+        try {
+            // Opened inside the binding so every part sees the caller's principal, trace and locale
+            return RequestContext.capture().call(() -> fanOut(id, userId));
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtil.of(ExceptionType.REQUEST_TIMEOUT);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private EventDetailResponseDto fanOut(UUID id, UUID userId) throws InterruptedException {
+        // awaitAll: a failed part must not cancel its siblings, each part is bounded by its own timeout
+        try (var scope = StructuredTaskScope.open(Joiner.awaitAll())) {
+            Subtask<EventResponseDto> event = scope.fork(() -> part(EVENT, () ->
+                    eventRepository.findById(id)
+                            .map(eventMapper::toSummaryDto)
+                            .orElseThrow(() -> ExceptionUtil.notFound("Event", id))));
+            Subtask<OrganizerResponseDto> organizer = scope.fork(() -> part(ORGANIZER, () ->
+                    organizerRepository.findByEventId(id).map(organizerMapper::toDto).orElse(null)));
+            Subtask<List<SessionResponseDto>> sessions = scope.fork(() -> part(SESSIONS, () ->
+                    sessionRepository.findAllByEventId(id).stream().map(sessionMapper::toDto).toList()));
+            Subtask<TicketAvailabilityDto> availability = scope.fork(() -> part(TICKET_AVAILABILITY, () ->
+                    toAvailability(ticketRepository.countByStatusForEvent(id))));
+            Subtask<List<TicketResponseDto>> myTickets = scope.fork(() -> part(MY_TICKETS, () ->
+                    ticketRepository.findAllForEventAndUser(id, userId).stream().map(ticketMapper::toDto).toList()));
+
+            scope.join();
+
+            List<String> unavailable = new ArrayList<>();
+            return EventDetailResponseDto.builder()
+                    .event(required(event))
+                    .organizer(optional(ORGANIZER, organizer, unavailable))
+                    .sessions(optional(SESSIONS, sessions, unavailable))
+                    .ticketAvailability(optional(TICKET_AVAILABILITY, availability, unavailable))
+                    .myTickets(optional(MY_TICKETS, myTickets, unavailable))
+                    .unavailableParts(unavailable)
+                    .build();
+        }
+    }
+
+    private <T> T part(String name, Supplier<T> read) throws InterruptedException {
+        Duration timeout = properties.timeoutFor(name);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try (var scope = StructuredTaskScope.open(Joiner.<T>anySuccessfulResultOrThrow(),
+                config -> config.withTimeout(timeout))) {
+            scope.fork(inReadOnlyTransaction(timeout, read));
+            return scope.join();
+        } catch (StructuredTaskScope.TimeoutException ex) {
+            outcome = "timeout";
+            throw ex;
+        } catch (StructuredTaskScope.FailedException ex) {
+            outcome = "failure";
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        } finally {
+            sample.stop(meterRegistry.timer("event.detail.part", "part", name, "outcome", outcome));
+        }
+    }
+
+    private <T> Callable<T> inReadOnlyTransaction(Duration timeout, Supplier<T> read) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        // Whole seconds only; the scope timeout above is the precise bound, this one stops the query
+        transaction.setTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+        return () -> {
+            // Interrupted by the part's scope when its timeout passes while waiting
+            reads.acquire();
+            try {
+                return transaction.execute(status -> read.get());
+            } finally {
+                reads.release();
+            }
+        };
+    }
+
+    private static <T> T required(Subtask<T> subtask) {
+        if (subtask.state() == Subtask.State.SUCCESS) {
+            return subtask.get();
+        }
+        if (subtask.exception() instanceof RuntimeException ex
+                && !(ex instanceof StructuredTaskScope.TimeoutException)) {
+            throw ex;
+        }
+        throw ExceptionUtil.of(ExceptionType.REQUEST_TIMEOUT);
+    }
+
+    private static <T> T optional(String name, Subtask<T> subtask, List<String> unavailable) {
+        if (subtask.state() == Subtask.State.SUCCESS) {
+            return subtask.get();
+        }
+        unavailable.add(name);
+        log.warn("Event detail part '{}' unavailable: {}", name,
+                subtask.state() == Subtask.State.FAILED ? subtask.exception().toString() : subtask.state());
+        return null;
+    }
+
+    private static TicketAvailabilityDto toAvailability(List<TicketStatusCountProjection> counts) {
+        TicketAvailabilityDto availability = new TicketAvailabilityDto();
+        for (TicketStatusCountProjection count : counts) {
+            if (count.getStatus() == null) {
+                continue;
+            }
+            switch (count.getStatus()) {
+                case SOLD -> availability.setSold(count.getCount());
+                case USED -> availability.setUsed(count.getCount());
+                case CANCELLED -> availability.setCancelled(count.getCount());
+            }
+        }
+        return availability;
+    }
+}
@@ -4,9 +4,11 @@ import com.gucardev.eventsphere.domain.event.entity.Event;
 import com.gucardev.eventsphere.domain.event.mapper.EventMapper;
 import com.gucardev.eventsphere.domain.event.model.dto.EventResponseDto;
 import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.infrastructure.config.cache.CacheNames;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class GetEventUseCase implements UseCase<UUID, EventResponseDto> {
     private final EventMapper eventMapper;
 
     @Override
+    @Cacheable(value = CacheNames.CACHE_EVENT, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public EventResponseDto execute(UUID id) {
         Event event = eventRepository.findById(id)
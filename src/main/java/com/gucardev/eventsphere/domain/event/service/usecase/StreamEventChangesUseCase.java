@@ -0,0 +1,36 @@
+package com.gucardev.eventsphere.domain.event.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.model.parameter.StreamEventChangesUseCaseParam;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.event.service.ScheduleChangeFeed;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Subscribes to the change stream of one event. Published events stream to everyone, drafts only
+ * to their organizer and admins.
+ */
+@Service
+@RequiredArgsConstructor
+public class StreamEventChangesUseCase implements UseCase<StreamEventChangesUseCaseParam, SseEmitter> {
+
+    private final EventRepository eventRepository;
+    private final ScheduleChangeFeed scheduleChangeFeed;
+    private final ResourceOwnershipValidator ownershipValidator;
+
+    @Override
+    public SseEmitter execute(StreamEventChangesUseCaseParam param) {
+        Event event = eventRepository.findById(param.eventId())
+                .orElseThrow(() -> ExceptionUtil.notFound("Event", param.eventId()));
+        if (!Boolean.TRUE.equals(event.getIsPublished())) {
+            ownershipValidator.validateOwnership(eventRepository.findOrganizerUserIdById(param.eventId())
+                    .orElseThrow(() -> ExceptionUtil.notFound("Event", param.eventId())));
+        }
+        return scheduleChangeFeed.subscribeToEvent(param.eventId(), param.lastEventId());
+    }
+}
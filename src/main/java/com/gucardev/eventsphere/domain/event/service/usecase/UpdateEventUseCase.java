@@ -5,14 +5,23 @@ import com.gucardev.eventsphere.domain.event.mapper.EventMapper;
 import com.gucardev.eventsphere.domain.event.model.dto.EventResponseDto;
 import com.gucardev.eventsphere.domain.event.model.parameter.UpdateEventUseCaseParam;
 import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.event.service.notification.EventChangeNotifier;
 import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.infrastructure.config.cache.CacheNames;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -21,8 +30,12 @@ public class UpdateEventUseCase implements UseCase<UpdateEventUseCaseParam, Even
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
     private final ResourceOwnershipValidator ownershipValidator;
+    private final OutboxPublisher outboxPublisher;
+    private final SyncChangeLog syncChangeLog;
+    private final EventChangeNotifier eventChangeNotifier;
 
     @Override
+    @CacheEvict(value = CacheNames.CACHE_EVENT, key = "#param.id()")
     @Transactional
     public EventResponseDto execute(UpdateEventUseCaseParam param) {
         Event event = eventRepository.findById(param.id())
@@ -31,11 +44,17 @@ public class UpdateEventUseCase implements UseCase<UpdateEventUseCaseParam, Even
         // Validate that the user updating this event is the owner of the organizer or admin
         ownershipValidator.validateOwnership(event.getOrganizer().getUser().getId());
 
+        LocalDateTime previousStartTime = event.getStartTime();
+        String previousLocation = event.getLocation();
         eventMapper.updateEntityFromRequest(param.request(), event);
 
         Event updatedEvent = eventRepository.save(event);
         log.info("Updated event: {}", updatedEvent.getId());
 
-        return eventMapper.toDto(updatedEvent);
+        EventResponseDto response = eventMapper.toDto(updatedEvent);
+        outboxPublisher.publish(AggregateType.EVENT, updatedEvent.getId(), "EventUpdated", response);
+        syncChangeLog.record(SyncEntityType.EVENT, updatedEvent.getId(), updatedEvent.getId());
+        eventChangeNotifier.notifyIfChanged(updatedEvent, previousStartTime, previousLocation);
+        return response;
     }
 }
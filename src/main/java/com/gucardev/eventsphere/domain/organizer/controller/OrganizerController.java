@@ -1,6 +1,7 @@
 package com.gucardev.eventsphere.domain.organizer.controller;
 
 import com.gucardev.eventsphere.domain.organizer.model.dto.OrganizerResponseDto;
+import com.gucardev.eventsphere.domain.organizer.model.parameter.StreamScheduleChangesUseCaseParam;
 import com.gucardev.eventsphere.domain.organizer.model.parameter.UpdateOrganizerUseCaseParam;
 import com.gucardev.eventsphere.domain.organizer.model.request.CreateOrganizerRequest;
 import com.gucardev.eventsphere.domain.organizer.model.request.OrganizerFilterRequest;
@@ -8,6 +9,7 @@ import com.gucardev.eventsphere.domain.organizer.model.request.UpdateOrganizerRe
 import com.gucardev.eventsphere.domain.organizer.service.usecase.CreateOrganizerUseCase;
 import com.gucardev.eventsphere.domain.organizer.service.usecase.GetOrganizerListUseCase;
 import com.gucardev.eventsphere.domain.organizer.service.usecase.GetOrganizerUseCase;
+import com.gucardev.eventsphere.domain.organizer.service.usecase.StreamScheduleChangesUseCase;
 import com.gucardev.eventsphere.domain.organizer.service.usecase.UpdateOrganizerUseCase;
 import com.gucardev.eventsphere.infrastructure.response.ApiResponseWrapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,8 +18,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -31,6 +35,7 @@ public class OrganizerController {
     private final UpdateOrganizerUseCase updateOrganizerUseCase;
     private final GetOrganizerUseCase getOrganizerUseCase;
     private final GetOrganizerListUseCase getOrganizerListUseCase;
+    private final StreamScheduleChangesUseCase streamScheduleChangesUseCase;
 
     @PostMapping
     @Operation(summary = "Create a new organizer", description = "Creates a new organizer profile for a user.")
@@ -58,4 +63,13 @@ public class OrganizerController {
             @Valid @ParameterObject OrganizerFilterRequest filter) {
         return ResponseEntity.ok(ApiResponseWrapper.success(getOrganizerListUseCase.execute(filter)));
     }
+
+    @GetMapping(value = "/{id}/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream organizer schedule changes", description = "Server-sent stream of changes to every event and session of the organizer. "
+            + "Reconnect with Last-Event-ID to resume, a resume may repeat ids already received; a reset event means the gap is too old and the schedule should be reloaded.")
+    public SseEmitter streamScheduleChanges(
+            @PathVariable UUID id,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return streamScheduleChangesUseCase.execute(new StreamScheduleChangesUseCaseParam(id, lastEventId));
+    }
 }
@@ -17,4 +17,5 @@ public class OrganizerResponseDto {
     private String websiteUrl;
     private String contactEmail;
     private UUID userId;
+    private Long version;
 }
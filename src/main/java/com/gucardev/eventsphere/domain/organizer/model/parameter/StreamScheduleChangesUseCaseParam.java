@@ -0,0 +1,6 @@
+package com.gucardev.eventsphere.domain.organizer.model.parameter;
+
+import java.util.UUID;
+
+public record StreamScheduleChangesUseCaseParam(UUID organizerId, Long lastEventId) {
+}
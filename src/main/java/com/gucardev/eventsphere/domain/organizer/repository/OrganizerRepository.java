@@ -2,10 +2,22 @@ package com.gucardev.eventsphere.domain.organizer.repository;
 
 import com.gucardev.eventsphere.domain.organizer.entity.Organizer;
 import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface OrganizerRepository extends BaseJpaRepository<Organizer, UUID> {
+
+    @Query("SELECT e.organizer FROM Event e WHERE e.id = :eventId")
+    Optional<Organizer> findByEventId(@Param("eventId") UUID eventId);
+
+    @Query("SELECT o.id FROM Organizer o WHERE o.user.id = :userId")
+    Optional<UUID> findIdByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT o.user.id FROM Organizer o WHERE o.id = :id")
+    Optional<UUID> findUserIdById(@Param("id") UUID id);
 }
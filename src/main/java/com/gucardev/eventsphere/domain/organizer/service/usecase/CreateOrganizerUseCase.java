@@ -8,6 +8,8 @@ import com.gucardev.eventsphere.domain.organizer.model.dto.OrganizerResponseDto;
 import com.gucardev.eventsphere.domain.organizer.model.request.CreateOrganizerRequest;
 import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,7 @@ public class CreateOrganizerUseCase implements UseCase<CreateOrganizerRequest, O
     private final OrganizerRepository organizerRepository;
     private final UserRepository userRepository;
     private final OrganizerMapper organizerMapper;
+    private final OutboxPublisher outboxPublisher;
 
     @Override
     @Transactional
@@ -38,6 +41,8 @@ public class CreateOrganizerUseCase implements UseCase<CreateOrganizerRequest, O
         Organizer savedOrganizer = organizerRepository.save(organizer);
         log.info("Created organizer profile for user: {}", user.getId());
 
-        return organizerMapper.toDto(savedOrganizer);
+        OrganizerResponseDto response = organizerMapper.toDto(savedOrganizer);
+        outboxPublisher.publish(AggregateType.ORGANIZER, savedOrganizer.getId(), "OrganizerCreated", response);
+        return response;
     }
 }
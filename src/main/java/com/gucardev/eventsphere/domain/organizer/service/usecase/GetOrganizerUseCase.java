@@ -4,9 +4,11 @@ import com.gucardev.eventsphere.domain.organizer.entity.Organizer;
 import com.gucardev.eventsphere.domain.organizer.mapper.OrganizerMapper;
 import com.gucardev.eventsphere.domain.organizer.model.dto.OrganizerResponseDto;
 import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
+import com.gucardev.eventsphere.infrastructure.config.cache.CacheNames;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class GetOrganizerUseCase implements UseCase<UUID, OrganizerResponseDto>
     private final OrganizerMapper organizerMapper;
 
     @Override
+    @Cacheable(value = CacheNames.CACHE_ORGANIZER, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public OrganizerResponseDto execute(UUID id) {
         Organizer organizer = organizerRepository.findById(id)
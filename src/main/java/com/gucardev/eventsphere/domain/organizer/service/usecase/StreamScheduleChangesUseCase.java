@@ -0,0 +1,31 @@
+package com.gucardev.eventsphere.domain.organizer.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.service.ScheduleChangeFeed;
+import com.gucardev.eventsphere.domain.organizer.model.parameter.StreamScheduleChangesUseCaseParam;
+import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Subscribes to the changes of every event of an organizer, drafts included, so only the
+ * organizer itself and admins may listen.
+ */
+@Service
+@RequiredArgsConstructor
+public class StreamScheduleChangesUseCase implements UseCase<StreamScheduleChangesUseCaseParam, SseEmitter> {
+
+    private final OrganizerRepository organizerRepository;
+    private final ScheduleChangeFeed scheduleChangeFeed;
+    private final ResourceOwnershipValidator ownershipValidator;
+
+    @Override
+    public SseEmitter execute(StreamScheduleChangesUseCaseParam param) {
+        ownershipValidator.validateOwnership(organizerRepository.findUserIdById(param.organizerId())
+                .orElseThrow(() -> ExceptionUtil.notFound("Organizer", param.organizerId())));
+        return scheduleChangeFeed.subscribeToOrganizer(param.organizerId(), param.lastEventId());
+    }
+}
@@ -6,10 +6,15 @@ import com.gucardev.eventsphere.domain.organizer.model.dto.OrganizerResponseDto;
 import com.gucardev.eventsphere.domain.organizer.model.parameter.UpdateOrganizerUseCaseParam;
 import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
 import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.infrastructure.config.cache.CacheNames;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +26,14 @@ public class UpdateOrganizerUseCase implements UseCase<UpdateOrganizerUseCasePar
     private final OrganizerRepository organizerRepository;
     private final OrganizerMapper organizerMapper;
     private final ResourceOwnershipValidator ownershipValidator;
+    private final OutboxPublisher outboxPublisher;
 
     @Override
+    // The organizer is embedded in every cached event response, organizer updates are rare enough to clear them all
+    @Caching(evict = {
+            @CacheEvict(value = CacheNames.CACHE_ORGANIZER, key = "#param.id()"),
+            @CacheEvict(value = CacheNames.CACHE_EVENT, allEntries = true)
+    })
     @Transactional
     public OrganizerResponseDto execute(UpdateOrganizerUseCaseParam param) {
         Organizer organizer = organizerRepository.findById(param.id())
@@ -36,6 +47,8 @@ public class UpdateOrganizerUseCase implements UseCase<UpdateOrganizerUseCasePar
         Organizer updatedOrganizer = organizerRepository.save(organizer);
         log.info("Updated organizer: {}", updatedOrganizer.getId());
 
-        return organizerMapper.toDto(updatedOrganizer);
+        OrganizerResponseDto response = organizerMapper.toDto(updatedOrganizer);
+        outboxPublisher.publish(AggregateType.ORGANIZER, updatedOrganizer.getId(), "OrganizerUpdated", response);
+        return response;
     }
 }
@@ -1,23 +1,28 @@
 package com.gucardev.eventsphere.domain.session.controller;
 
 import com.gucardev.eventsphere.domain.session.model.dto.SessionResponseDto;
+import com.gucardev.eventsphere.domain.session.model.parameter.GetSessionListETagUseCaseParam;
 import com.gucardev.eventsphere.domain.session.model.parameter.UpdateSessionUseCaseParam;
 import com.gucardev.eventsphere.domain.session.model.request.CreateSessionRequest;
 import com.gucardev.eventsphere.domain.session.model.request.SessionFilterRequest;
 import com.gucardev.eventsphere.domain.session.model.request.UpdateSessionRequest;
 import com.gucardev.eventsphere.domain.session.service.usecase.CreateSessionUseCase;
+import com.gucardev.eventsphere.domain.session.service.usecase.GetSessionListETagUseCase;
 import com.gucardev.eventsphere.domain.session.service.usecase.GetSessionListUseCase;
 import com.gucardev.eventsphere.domain.session.service.usecase.GetSessionUseCase;
 import com.gucardev.eventsphere.domain.session.service.usecase.UpdateSessionUseCase;
+import com.gucardev.eventsphere.infrastructure.config.web.HttpCachePolicyResolver;
 import com.gucardev.eventsphere.infrastructure.response.ApiResponseWrapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.UUID;
 
@@ -31,6 +36,8 @@ public class SessionController {
     private final UpdateSessionUseCase updateSessionUseCase;
     private final GetSessionUseCase getSessionUseCase;
     private final GetSessionListUseCase getSessionListUseCase;
+    private final GetSessionListETagUseCase getSessionListETagUseCase;
+    private final HttpCachePolicyResolver httpCachePolicyResolver;
 
     @PostMapping
     @Operation(summary = "Create a new session", description = "Creates a new session for an event.")
@@ -53,9 +60,26 @@ public class SessionController {
     }
 
     @GetMapping
-    @Operation(summary = "Search sessions", description = "Retrieves a paginated list of sessions based on filter criteria.")
+    @Operation(summary = "Search sessions", description = "Retrieves a paginated list of sessions based on filter criteria. Supports If-None-Match when filtered by eventId.")
     public ResponseEntity<ApiResponseWrapper<com.gucardev.eventsphere.infrastructure.response.PageableResponse<SessionResponseDto>>> searchSessions(
-            @Valid @ParameterObject SessionFilterRequest filter) {
-        return ResponseEntity.ok(ApiResponseWrapper.success(getSessionListUseCase.execute(filter)));
+            @Valid @ParameterObject SessionFilterRequest filter,
+            ServletWebRequest webRequest) {
+        // Conditional requests only for a single event's sessions, an unscoped search has no cheap version source
+        if (filter.getEventId() == null) {
+            return ResponseEntity.ok(ApiResponseWrapper.success(getSessionListUseCase.execute(filter)));
+        }
+
+        // Version aggregate only: a 304 never runs the search, its COUNT or the mapping
+        String eTag = getSessionListETagUseCase.execute(
+                new GetSessionListETagUseCaseParam(filter.getEventId(), webRequest.getRequest().getQueryString()));
+        CacheControl cacheControl = httpCachePolicyResolver.cacheControl(HttpCachePolicyResolver.SESSION_LIST);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(ApiResponseWrapper.success(getSessionListUseCase.execute(filter)));
     }
 }
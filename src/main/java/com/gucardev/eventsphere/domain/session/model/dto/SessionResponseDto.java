@@ -19,4 +19,5 @@ public class SessionResponseDto {
     private LocalDateTime endTime;
     private String speakerName;
     private UUID eventId;
+    private Long version;
 }
@@ -0,0 +1,7 @@
+package com.gucardev.eventsphere.domain.session.model.parameter;
+
+import java.util.UUID;
+
+// variant: anything else that shapes the response (query string with paging, sorting and filters)
+public record GetSessionListETagUseCaseParam(UUID eventId, String variant) {
+}
@@ -1,11 +1,22 @@
 package com.gucardev.eventsphere.domain.session.repository;
 
 import com.gucardev.eventsphere.domain.session.entity.Session;
+import com.gucardev.eventsphere.domain.session.repository.projection.SessionSetVersionProjection;
 import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface SessionRepository extends BaseJpaRepository<Session, UUID> {
+
+    @Query("SELECT s FROM Session s WHERE s.event.id = :eventId ORDER BY s.startTime, s.id")
+    List<Session> findAllByEventId(@Param("eventId") UUID eventId);
+
+    // Changes whenever a session of the event is added or written, soft deletes bump the version too
+    @Query("SELECT COUNT(s) AS sessionCount, SUM(s.version) AS versionSum FROM Session s WHERE s.event.id = :eventId")
+    SessionSetVersionProjection findSessionSetVersion(@Param("eventId") UUID eventId);
 }
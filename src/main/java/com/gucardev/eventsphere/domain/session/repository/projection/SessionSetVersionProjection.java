@@ -0,0 +1,7 @@
+package com.gucardev.eventsphere.domain.session.repository.projection;
+
+public interface SessionSetVersionProjection {
+    long getSessionCount();
+
+    Long getVersionSum();
+}
@@ -8,10 +8,16 @@ import com.gucardev.eventsphere.domain.session.model.dto.SessionResponseDto;
 import com.gucardev.eventsphere.domain.session.model.request.CreateSessionRequest;
 import com.gucardev.eventsphere.domain.session.repository.SessionRepository;
 import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.infrastructure.config.cache.CacheNames;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,8 +30,12 @@ public class CreateSessionUseCase implements UseCase<CreateSessionRequest, Sessi
     private final EventRepository eventRepository;
     private final SessionMapper sessionMapper;
     private final ResourceOwnershipValidator ownershipValidator;
+    private final OutboxPublisher outboxPublisher;
+    private final SyncChangeLog syncChangeLog;
 
     @Override
+    // Sessions are embedded in the cached event response
+    @CacheEvict(value = CacheNames.CACHE_EVENT, key = "#request.eventId()")
     @Transactional
     public SessionResponseDto execute(CreateSessionRequest request) {
         Event event = eventRepository.findById(request.eventId())
@@ -41,6 +51,9 @@ public class CreateSessionUseCase implements UseCase<CreateSessionRequest, Sessi
         Session savedSession = sessionRepository.save(session);
         log.info("Created session: {}", savedSession.getId());
 
-        return sessionMapper.toDto(savedSession);
+        SessionResponseDto response = sessionMapper.toDto(savedSession);
+        outboxPublisher.publish(AggregateType.SESSION, savedSession.getId(), "SessionCreated", response);
+        syncChangeLog.record(SyncEntityType.SESSION, savedSession.getId(), savedSession.getEvent().getId());
+        return response;
     }
 }
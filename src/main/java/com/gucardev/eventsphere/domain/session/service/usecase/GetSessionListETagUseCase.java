@@ -0,0 +1,30 @@
+package com.gucardev.eventsphere.domain.session.service.usecase;
+
+import com.gucardev.eventsphere.domain.session.model.parameter.GetSessionListETagUseCaseParam;
+import com.gucardev.eventsphere.domain.session.repository.SessionRepository;
+import com.gucardev.eventsphere.domain.session.repository.projection.SessionSetVersionProjection;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import com.gucardev.eventsphere.infrastructure.util.ETagUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Strong ETag of an event's session list from one aggregate row: session count and the sum of
+ * their versions. Any session write of the event changes it, whatever page or filter the client
+ * asked for, and a 304 is answered without running the search.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetSessionListETagUseCase implements UseCase<GetSessionListETagUseCaseParam, String> {
+
+    private final SessionRepository sessionRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public String execute(GetSessionListETagUseCaseParam param) {
+        SessionSetVersionProjection version = sessionRepository.findSessionSetVersion(param.eventId());
+        return ETagUtil.strong(param.eventId(), param.variant(), version.getSessionCount(),
+                version.getVersionSum() == null ? 0 : version.getVersionSum());
+    }
+}
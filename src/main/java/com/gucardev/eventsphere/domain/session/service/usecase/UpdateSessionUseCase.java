@@ -6,10 +6,16 @@ import com.gucardev.eventsphere.domain.session.model.dto.SessionResponseDto;
 import com.gucardev.eventsphere.domain.session.model.parameter.UpdateSessionUseCaseParam;
 import com.gucardev.eventsphere.domain.session.repository.SessionRepository;
 import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.infrastructure.config.cache.CacheNames;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +27,12 @@ public class UpdateSessionUseCase implements UseCase<UpdateSessionUseCaseParam,
     private final SessionRepository sessionRepository;
     private final SessionMapper sessionMapper;
     private final ResourceOwnershipValidator ownershipValidator;
+    private final OutboxPublisher outboxPublisher;
+    private final SyncChangeLog syncChangeLog;
 
     @Override
+    // Sessions are embedded in the cached event response
+    @CacheEvict(value = CacheNames.CACHE_EVENT, key = "#result.eventId")
     @Transactional
     public SessionResponseDto execute(UpdateSessionUseCaseParam param) {
         Session session = sessionRepository.findById(param.id())
@@ -36,6 +46,9 @@ public class UpdateSessionUseCase implements UseCase<UpdateSessionUseCaseParam,
         Session updatedSession = sessionRepository.save(session);
         log.info("Updated session: {}", updatedSession.getId());
 
-        return sessionMapper.toDto(updatedSession);
+        SessionResponseDto response = sessionMapper.toDto(updatedSession);
+        outboxPublisher.publish(AggregateType.SESSION, updatedSession.getId(), "SessionUpdated", response);
+        syncChangeLog.record(SyncEntityType.SESSION, updatedSession.getId(), updatedSession.getEvent().getId());
+        return response;
     }
 }
@@ -4,6 +4,7 @@ import com.gucardev.eventsphere.infrastructure.config.hibernate.SoftDeleteListen
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -55,4 +56,9 @@ public abstract class BaseEntity {
     @Column(name = "deleted_by")
     protected String deletedBy;
 
+    // Optimistic locking; event and session list ETags are built from it (null until first persist so Spring Data sees new entities)
+    @Version
+    @Column(name = "version", nullable = false)
+    protected Long version;
+
 }
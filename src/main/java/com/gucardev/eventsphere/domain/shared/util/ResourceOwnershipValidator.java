@@ -36,14 +36,21 @@ public class ResourceOwnershipValidator {
      *                                                                         admin
      */
     public void validateOwnership(UUID resourceOwnerId) {
+        if (!isOwnerOrAdmin(resourceOwnerId)) {
+            throw ExceptionUtil.of(ExceptionType.FORBIDDEN, "You do not have permission to access this resource");
+        }
+    }
+
+    /**
+     * Same rule as {@link #validateOwnership(UUID)} without throwing, for reads that return less
+     * to non-owners instead of rejecting them.
+     */
+    public boolean isOwnerOrAdmin(UUID resourceOwnerId) {
         UserResponseDto currentUser = authService.getAuthenticatedUser();
         boolean isOwner = currentUser.getId().equals(resourceOwnerId);
         boolean isAdmin = currentUser.getAuthorities().stream()
                 .anyMatch(auth -> auth.equals("ROLE_ADMIN"));
-
-        if (!isOwner && !isAdmin) {
-            throw ExceptionUtil.of(ExceptionType.FORBIDDEN, "You do not have permission to access this resource");
-        }
+        return isOwner || isAdmin;
     }
 
     /**
@@ -0,0 +1,47 @@
+package com.gucardev.eventsphere.domain.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One write to an event, session or ticket, scoped to the event it belongs to. The identity id is
+ * the change sequence clients sync from: assigned by the database, so it does not depend on the
+ * clock of the node that made the change. {@code changedAt} is stamped by the database clock too,
+ * see {@link com.gucardev.eventsphere.domain.sync.service.SyncChangeLog}.
+ */
+@Entity
+@Table(name = "sync_changes", indexes = {
+        @Index(name = "idx_sync_changes_event_seq", columnList = "event_id, id"),
+        @Index(name = "idx_sync_changes_changed_at", columnList = "changed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private SyncEntityType entityType;
+
+    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,7 @@
+package com.gucardev.eventsphere.domain.sync.entity;
+
+public enum SyncEntityType {
+    EVENT,
+    SESSION,
+    TICKET
+}
@@ -0,0 +1,31 @@
+package com.gucardev.eventsphere.domain.sync.model.dto;
+
+import com.gucardev.eventsphere.domain.event.model.dto.EventResponseDto;
+import com.gucardev.eventsphere.domain.session.model.dto.SessionResponseDto;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Current state of everything under an event that changed after the client's watermark. An entity
+ * changed several times appears once; it may appear again on a later page if it changed again.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventChangesResponseDto {
+    private List<EventResponseDto> events;
+    private List<SessionResponseDto> sessions;
+    private List<TicketResponseDto> tickets;
+    private List<SyncTombstoneDto> deleted;
+    // Watermark for the next call
+    private long nextSince;
+    private boolean hasMore;
+    // The watermark is older than the retained log, the client has to download the event again
+    private boolean resyncRequired;
+}
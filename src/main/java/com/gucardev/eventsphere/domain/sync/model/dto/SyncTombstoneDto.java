@@ -0,0 +1,21 @@
+package com.gucardev.eventsphere.domain.sync.model.dto;
+
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTombstoneDto {
+    private SyncEntityType type;
+    private UUID id;
+    // Null when the row is gone altogether
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,6 @@
+package com.gucardev.eventsphere.domain.sync.model.parameter;
+
+import java.util.UUID;
+
+public record GetEventChangesUseCaseParam(UUID eventId, long since, Integer size) {
+}
@@ -0,0 +1,48 @@
+package com.gucardev.eventsphere.domain.sync.repository;
+
+import com.gucardev.eventsphere.domain.sync.entity.SyncChange;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SyncChangeRepository extends JpaRepository<SyncChange, Long> {
+
+    // Served from idx_sync_changes_event_seq; only changes old enough that no earlier sequence can still commit
+    @Query("SELECT c FROM SyncChange c WHERE c.eventId = :eventId AND c.id > :since AND c.changedAt < :settledBefore ORDER BY c.id")
+    List<SyncChange> findSettledAfter(@Param("eventId") UUID eventId,
+                                      @Param("since") long since,
+                                      @Param("settledBefore") LocalDateTime settledBefore,
+                                      Pageable pageable);
+
+    @Query("SELECT c FROM SyncChange c WHERE c.eventId = :eventId AND c.entityType = :entityType " +
+            "AND c.id > :since AND c.changedAt < :settledBefore ORDER BY c.id")
+    List<SyncChange> findSettledAfter(@Param("eventId") UUID eventId,
+                                      @Param("entityType") SyncEntityType entityType,
+                                      @Param("since") long since,
+                                      @Param("settledBefore") LocalDateTime settledBefore);
+
+    // Backward scan of idx_sync_changes_event_seq, stops at the first settled row
+    @Query("SELECT c.id FROM SyncChange c WHERE c.eventId = :eventId AND c.changedAt < :settledBefore ORDER BY c.id DESC")
+    List<Long> findLatestSettledSequence(@Param("eventId") UUID eventId,
+                                         @Param("settledBefore") LocalDateTime settledBefore,
+                                         Pageable pageable);
+
+    @Query("SELECT MIN(c.id) FROM SyncChange c")
+    Long findOldestSequence();
+
+    @Query("SELECT MAX(c.id) FROM SyncChange c")
+    Long findLatestSequence();
+
+    @Modifying
+    @Query("DELETE FROM SyncChange c WHERE c.changedAt < :cutoff AND c.id < :keepFrom")
+    int deleteChangedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("keepFrom") long keepFrom);
+}
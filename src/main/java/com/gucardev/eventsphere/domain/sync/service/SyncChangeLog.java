@@ -0,0 +1,110 @@
+package com.gucardev.eventsphere.domain.sync.service;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.session.entity.Session;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.repository.SyncChangeRepository;
+import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
+import com.gucardev.eventsphere.infrastructure.config.properties.SyncProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only log of writes that offline clients sync from. Entries are recorded in the
+ * transaction of the change, so a client never sees a sequence for a change that rolled back.
+ * <p>
+ * {@code changed_at} and the settle boundary both come from the database clock (the statement
+ * time on MySQL), so clock skew between nodes cannot let a reader skip a change that is still
+ * committing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncChangeLog {
+
+    private static final String INSERT_CHANGE = "INSERT INTO sync_changes " +
+            "(event_id, entity_type, entity_id, changed_at) VALUES (?, ?, ?, LOCALTIMESTAMP(6))";
+    private static final String DATABASE_NOW = "SELECT LOCALTIMESTAMP(6)";
+
+    // Soft deletes are bulk updates without the entity at hand, the event id is read from the deleted row
+    private static final Map<Class<?>, String> INSERT_DELETION = Map.of(
+            Event.class, deletionFrom("events", "id", SyncEntityType.EVENT),
+            Session.class, deletionFrom("sessions", "event_id", SyncEntityType.SESSION),
+            Ticket.class, deletionFrom("tickets", "event_id", SyncEntityType.TICKET));
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final SyncProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(SyncEntityType entityType, UUID entityId, UUID eventId) {
+        jdbcTemplate.update(INSERT_CHANGE, eventId.toString(), entityType.name(), entityId.toString());
+    }
+
+    /**
+     * Records many entities of one event as one JDBC batch, for bulk writers that bypass JPA.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(SyncEntityType entityType, Collection<UUID> entityIds, UUID eventId) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = entityIds.stream()
+                .map(entityId -> new Object[]{eventId.toString(), entityType.name(), entityId.toString()})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, rows);
+    }
+
+    /**
+     * Records a soft delete of {@code id}; clients then get a tombstone for it. Other entity types
+     * are not synced and are ignored. Joins the caller's transaction when there is one.
+     */
+    @Transactional
+    public void recordDeletion(Class<?> entityType, Object id) {
+        String insert = INSERT_DELETION.get(entityType);
+        if (insert != null) {
+            jdbcTemplate.update(insert, id.toString());
+        }
+    }
+
+    /**
+     * Changes stamped before this are old enough that no lower sequence can still commit.
+     */
+    public LocalDateTime settledBefore() {
+        return databaseNow().minus(properties.getSettleDelay());
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT5M")
+    @Transactional
+    public void purgeExpired() {
+        Long latest = syncChangeRepository.findLatestSequence();
+        if (latest == null) {
+            return;
+        }
+        // The latest entry always stays, it tells clients whether their watermark fell behind the purge
+        int purged = syncChangeRepository.deleteChangedBefore(databaseNow().minus(properties.getRetention()), latest);
+        if (purged > 0) {
+            log.info("Purged {} sync changes", purged);
+        }
+    }
+
+    private LocalDateTime databaseNow() {
+        return jdbcTemplate.queryForObject(DATABASE_NOW, LocalDateTime.class);
+    }
+
+    private static String deletionFrom(String table, String eventIdColumn, SyncEntityType entityType) {
+        return "INSERT INTO sync_changes (event_id, entity_type, entity_id, changed_at) " +
+                "SELECT " + eventIdColumn + ", '" + entityType.name() + "', id, LOCALTIMESTAMP(6) FROM " + table + " WHERE id = ?";
+    }
+}
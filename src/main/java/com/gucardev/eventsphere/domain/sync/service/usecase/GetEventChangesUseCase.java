@@ -0,0 +1,153 @@
+package com.gucardev.eventsphere.domain.sync.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.mapper.EventMapper;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.session.entity.Session;
+import com.gucardev.eventsphere.domain.session.mapper.SessionMapper;
+import com.gucardev.eventsphere.domain.session.repository.SessionRepository;
+import com.gucardev.eventsphere.domain.shared.entity.BaseEntity;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.sync.entity.SyncChange;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.model.dto.EventChangesResponseDto;
+import com.gucardev.eventsphere.domain.sync.model.dto.SyncTombstoneDto;
+import com.gucardev.eventsphere.domain.sync.model.parameter.GetEventChangesUseCaseParam;
+import com.gucardev.eventsphere.domain.sync.repository.SyncChangeRepository;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
+import com.gucardev.eventsphere.domain.ticket.mapper.TicketMapper;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.infrastructure.config.properties.SyncProperties;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Delta sync for offline clients: everything under an event that changed after the client's
+ * watermark, paged by change sequence. Cost follows the number of changes, not the event size.
+ * <p>
+ * The event's organizer and admins get every ticket. Anyone else only syncs published events and
+ * gets the tickets they hold, other holders' tickets and codes are left out.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetEventChangesUseCase implements UseCase<GetEventChangesUseCaseParam, EventChangesResponseDto> {
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final SyncChangeLog syncChangeLog;
+    private final EventRepository eventRepository;
+    private final SessionRepository sessionRepository;
+    private final TicketRepository ticketRepository;
+    private final EventMapper eventMapper;
+    private final SessionMapper sessionMapper;
+    private final TicketMapper ticketMapper;
+    private final SyncProperties properties;
+    private final ResourceOwnershipValidator ownershipValidator;
+
+    @Override
+    @Transactional(readOnly = true)
+    public EventChangesResponseDto execute(GetEventChangesUseCaseParam param) {
+        UUID ownerUserId = eventRepository.findOrganizerUserIdById(param.eventId())
+                .orElseThrow(() -> ExceptionUtil.notFound("Event", param.eventId()));
+        boolean organizerView = ownershipValidator.isOwnerOrAdmin(ownerUserId);
+        if (!organizerView && !eventRepository.existsByIdAndIsPublishedTrue(param.eventId())) {
+            throw ExceptionUtil.forbidden();
+        }
+
+        Long oldest = syncChangeRepository.findOldestSequence();
+        if (param.since() > 0 && oldest != null && param.since() < oldest - 1) {
+            return EventChangesResponseDto.builder()
+                    .events(List.of()).sessions(List.of()).tickets(List.of()).deleted(List.of())
+                    .resyncRequired(true)
+                    .build();
+        }
+
+        int size = pageSize(param.size());
+        LocalDateTime settledBefore = syncChangeLog.settledBefore();
+        List<SyncChange> changes = syncChangeRepository.findSettledAfter(
+                param.eventId(), param.since(), settledBefore, PageRequest.ofSize(size + 1));
+        boolean hasMore = changes.size() > size;
+        if (hasMore) {
+            changes = changes.subList(0, size);
+        }
+
+        Map<SyncEntityType, Set<UUID>> changedIds = new EnumMap<>(SyncEntityType.class);
+        for (SyncChange change : changes) {
+            changedIds.computeIfAbsent(change.getEntityType(), type -> new LinkedHashSet<>()).add(change.getEntityId());
+        }
+        if (!organizerView) {
+            retainOwnTickets(changedIds);
+        }
+
+        List<SyncTombstoneDto> deleted = new ArrayList<>();
+        return EventChangesResponseDto.builder()
+                .events(load(SyncEntityType.EVENT, changedIds, eventRepository::findAllById, Event::getId, eventMapper::toDto, deleted))
+                .sessions(load(SyncEntityType.SESSION, changedIds, sessionRepository::findAllById, Session::getId, sessionMapper::toDto, deleted))
+                .tickets(load(SyncEntityType.TICKET, changedIds, ticketRepository::findAllById, Ticket::getId, ticketMapper::toDto, deleted))
+                .deleted(deleted)
+                .nextSince(changes.isEmpty() ? param.since() : changes.getLast().getId())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Maps live entities and adds soft-deleted or missing ones to {@code deleted} as tombstones.
+     */
+    private <E extends BaseEntity, D> List<D> load(SyncEntityType type,
+                                                   Map<SyncEntityType, Set<UUID>> changedIds,
+                                                   Function<Iterable<UUID>, List<E>> finder,
+                                                   Function<E, UUID> idOf,
+                                                   Function<E, D> mapper,
+                                                   List<SyncTombstoneDto> deleted) {
+        Set<UUID> ids = changedIds.get(type);
+        if (ids == null) {
+            return List.of();
+        }
+        Set<UUID> missing = new LinkedHashSet<>(ids);
+        List<D> live = new ArrayList<>();
+        for (E entity : finder.apply(ids)) {
+            UUID id = idOf.apply(entity);
+            missing.remove(id);
+            if (entity.getDeletedAt() != null) {
+                deleted.add(new SyncTombstoneDto(type, id, entity.getDeletedAt()));
+            } else {
+                live.add(mapper.apply(entity));
+            }
+        }
+        missing.forEach(id -> deleted.add(new SyncTombstoneDto(type, id, null)));
+        return live;
+    }
+
+    // Dropped before loading, so other holders' tickets do not come back as tombstones either
+    private void retainOwnTickets(Map<SyncEntityType, Set<UUID>> changedIds) {
+        Set<UUID> ticketIds = changedIds.get(SyncEntityType.TICKET);
+        if (ticketIds == null) {
+            return;
+        }
+        ticketIds.retainAll(ticketRepository.findIdsHeldByUser(ticketIds, ownershipValidator.getCurrentUserId()));
+        if (ticketIds.isEmpty()) {
+            changedIds.remove(SyncEntityType.TICKET);
+        }
+    }
+
+    private int pageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return properties.getDefaultPageSize();
+        }
+        return Math.min(requested, properties.getMaxPageSize());
+    }
+}
@@ -0,0 +1,56 @@
+package com.gucardev.eventsphere.domain.ticket.controller;
+
+import com.gucardev.eventsphere.domain.ticket.model.dto.GateManifestKeyDto;
+import com.gucardev.eventsphere.domain.ticket.model.dto.GateScanResultDto;
+import com.gucardev.eventsphere.domain.ticket.model.parameter.GetGateManifestUseCaseParam;
+import com.gucardev.eventsphere.domain.ticket.model.parameter.UploadGateScansUseCaseParam;
+import com.gucardev.eventsphere.domain.ticket.model.request.UploadGateScansRequest;
+import com.gucardev.eventsphere.domain.ticket.service.GateManifestSigner;
+import com.gucardev.eventsphere.domain.ticket.service.usecase.GetGateManifestUseCase;
+import com.gucardev.eventsphere.domain.ticket.service.usecase.UploadGateScansUseCase;
+import com.gucardev.eventsphere.infrastructure.response.ApiResponseWrapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/gate")
+@RequiredArgsConstructor
+@Tag(name = "Gate", description = "Offline ticket validation for venue gates")
+public class GateController {
+
+    private final GetGateManifestUseCase getGateManifestUseCase;
+    private final UploadGateScansUseCase uploadGateScansUseCase;
+    private final GateManifestSigner gateManifestSigner;
+
+    @GetMapping(value = "/events/{eventId}/manifest", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Get gate manifest", description = "Signed binary manifest of the event's ticket code hashes and states. "
+            + "Pass the sequence of the manifest the gate holds as `since` to get only the changes.")
+    public ResponseEntity<byte[]> getManifest(
+            @PathVariable UUID eventId,
+            @RequestParam(required = false) Long since) {
+        return ResponseEntity.ok(getGateManifestUseCase.execute(new GetGateManifestUseCaseParam(eventId, since)));
+    }
+
+    @PostMapping("/events/{eventId}/scans")
+    @Operation(summary = "Upload gate scans", description = "Marks tickets scanned offline as used and reports the outcome of each scan.")
+    public ResponseEntity<ApiResponseWrapper<List<GateScanResultDto>>> uploadScans(
+            @PathVariable UUID eventId,
+            @Valid @RequestBody UploadGateScansRequest request) {
+        return ResponseEntity.ok(ApiResponseWrapper.success(uploadGateScansUseCase.execute(new UploadGateScansUseCaseParam(eventId, request))));
+    }
+
+    @GetMapping("/manifest-key")
+    @Operation(summary = "Get manifest public key", description = "Public key gates use to verify manifest signatures.")
+    public ResponseEntity<ApiResponseWrapper<GateManifestKeyDto>> getManifestKey() {
+        return ResponseEntity.ok(ApiResponseWrapper.success(
+                new GateManifestKeyDto(GateManifestSigner.ALGORITHM, gateManifestSigner.publicKey())));
+    }
+}
@@ -1,14 +1,18 @@
 package com.gucardev.eventsphere.domain.ticket.controller;
 
 import com.gucardev.eventsphere.domain.ticket.model.dto.TicketResponseDto;
+import com.gucardev.eventsphere.domain.ticket.model.parameter.ExportTicketsUseCaseParam;
 import com.gucardev.eventsphere.domain.ticket.model.parameter.UpdateTicketUseCaseParam;
 import com.gucardev.eventsphere.domain.ticket.model.request.CreateTicketRequest;
 import com.gucardev.eventsphere.domain.ticket.model.request.TicketFilterRequest;
 import com.gucardev.eventsphere.domain.ticket.model.request.UpdateTicketRequest;
 import com.gucardev.eventsphere.domain.ticket.service.usecase.CreateTicketUseCase;
+import com.gucardev.eventsphere.domain.ticket.service.usecase.ExportTicketsUseCase;
 import com.gucardev.eventsphere.domain.ticket.service.usecase.GetTicketListUseCase;
 import com.gucardev.eventsphere.domain.ticket.service.usecase.GetTicketUseCase;
 import com.gucardev.eventsphere.domain.ticket.service.usecase.UpdateTicketUseCase;
+import com.gucardev.eventsphere.infrastructure.export.ExportFormat;
+import com.gucardev.eventsphere.infrastructure.export.ExportResponse;
 import com.gucardev.eventsphere.infrastructure.response.ApiResponseWrapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,6 +22,7 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.UUID;
 
@@ -31,6 +36,7 @@ public class TicketController {
     private final UpdateTicketUseCase updateTicketUseCase;
     private final GetTicketUseCase getTicketUseCase;
     private final GetTicketListUseCase getTicketListUseCase;
+    private final ExportTicketsUseCase exportTicketsUseCase;
 
     @PostMapping
     @Operation(summary = "Create a new ticket", description = "Creates a new ticket for an event and attendee.")
@@ -58,4 +64,13 @@ public class TicketController {
             @Valid @ParameterObject TicketFilterRequest filter) {
         return ResponseEntity.ok(ApiResponseWrapper.success(getTicketListUseCase.execute(filter)));
     }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export tickets", description = "Streams all tickets of one event (eventId is required) matching the filter as NDJSON or CSV. Organizer only. Paging parameters are ignored.")
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+            @Valid @ParameterObject TicketFilterRequest filter,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return ExportResponse.attachment("tickets", format,
+                out -> exportTicketsUseCase.execute(new ExportTicketsUseCaseParam(filter, format, out)));
+    }
 }
@@ -13,7 +13,10 @@ import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", indexes = {
+        // Ticket holders of an event in attendee order, see TicketRepository#findHoldersAfter
+        @Index(name = "idx_tickets_event_attendee", columnList = "event_id, attendee_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,5 @@
+package com.gucardev.eventsphere.domain.ticket.model.dto;
+
+public enum GateScanOutcome {
+    ACCEPTED, ALREADY_USED, REVOKED, UNKNOWN
+}
@@ -0,0 +1,15 @@
+package com.gucardev.eventsphere.domain.ticket.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GateScanResultDto {
+    private String ticketCode;
+    private GateScanOutcome outcome;
+}
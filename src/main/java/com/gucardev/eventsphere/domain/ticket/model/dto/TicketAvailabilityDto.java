@@ -0,0 +1,16 @@
+package com.gucardev.eventsphere.domain.ticket.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketAvailabilityDto {
+    private long sold;
+    private long used;
+    private long cancelled;
+}
@@ -0,0 +1,19 @@
+package com.gucardev.eventsphere.domain.ticket.model.dto;
+
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TicketExportRow(
+        UUID id,
+        String ticketCode,
+        BigDecimal price,
+        TicketStatus status,
+        UUID eventId,
+        String eventTitle,
+        UUID attendeeId,
+        String attendeeEmail,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,9 @@
+package com.gucardev.eventsphere.domain.ticket.model.parameter;
+
+import com.gucardev.eventsphere.domain.ticket.model.request.TicketFilterRequest;
+import com.gucardev.eventsphere.infrastructure.export.ExportFormat;
+
+import java.io.OutputStream;
+
+public record ExportTicketsUseCaseParam(TicketFilterRequest filter, ExportFormat format, OutputStream out) {
+}
@@ -0,0 +1,7 @@
+package com.gucardev.eventsphere.domain.ticket.model.parameter;
+
+import java.util.UUID;
+
+// since: sequence of the gate's current manifest, null for a full manifest
+public record GetGateManifestUseCaseParam(UUID eventId, Long since) {
+}
@@ -0,0 +1,8 @@
+package com.gucardev.eventsphere.domain.ticket.model.parameter;
+
+import com.gucardev.eventsphere.domain.ticket.model.request.UploadGateScansRequest;
+
+import java.util.UUID;
+
+public record UploadGateScansUseCaseParam(UUID eventId, UploadGateScansRequest request) {
+}
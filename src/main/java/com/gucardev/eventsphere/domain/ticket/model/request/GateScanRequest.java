@@ -0,0 +1,14 @@
+package com.gucardev.eventsphere.domain.ticket.model.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Instant;
+
+public record GateScanRequest(
+    @NotBlank(message = "Ticket code is required")
+    String ticketCode,
+
+    @NotNull(message = "Scan time is required")
+    Instant scannedAt
+) {}
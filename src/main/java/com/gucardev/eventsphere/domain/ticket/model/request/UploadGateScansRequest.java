@@ -0,0 +1,13 @@
+package com.gucardev.eventsphere.domain.ticket.model.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record UploadGateScansRequest(
+    String gateId,
+
+    @NotEmpty(message = "At least one scan is required")
+    List<@Valid GateScanRequest> scans
+) {}
@@ -0,0 +1,12 @@
+package com.gucardev.eventsphere.domain.ticket.repository;
+
+import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
+
+/**
+ * Re-reads a managed ticket after a bulk update skipped it. A plain select may still return the
+ * transaction's snapshot (MySQL repeatable read), a locking read sees the latest committed row.
+ */
+public interface TicketRefreshRepository {
+
+    void refreshLocked(Ticket ticket);
+}
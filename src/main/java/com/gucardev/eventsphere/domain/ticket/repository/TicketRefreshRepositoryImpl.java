@@ -0,0 +1,17 @@
+package com.gucardev.eventsphere.domain.ticket.repository;
+
+import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+
+public class TicketRefreshRepositoryImpl implements TicketRefreshRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void refreshLocked(Ticket ticket) {
+        entityManager.refresh(ticket, LockModeType.PESSIMISTIC_READ);
+    }
+}
@@ -1,11 +1,74 @@
 package com.gucardev.eventsphere.domain.ticket.repository;
 
 import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
 import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.GateTicketProjection;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketHolderProjection;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketOwnerProjection;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketSetVersionProjection;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketStatusCountProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface TicketRepository extends BaseJpaRepository<Ticket, UUID> {
+public interface TicketRepository extends BaseJpaRepository<Ticket, UUID>, TicketRefreshRepository {
+
+    // Includes soft-deleted tickets, ticket codes stay unique
+    @Query("SELECT t.id AS id, t.ticketCode AS ticketCode, t.attendee.id AS attendeeId, t.event.id AS eventId, " +
+            "t.deletedAt AS deletedAt FROM Ticket t WHERE t.ticketCode IN :ticketCodes")
+    List<TicketOwnerProjection> findOwnersByTicketCodeIn(@Param("ticketCodes") Collection<String> ticketCodes);
+
+    // Seats taken on the event, the same count the availability push uses; soft-deleted tickets free their seat
+    @Query("SELECT COUNT(t) FROM Ticket t WHERE t.event.id = :eventId AND t.status <> :excludedStatus AND t.deletedAt IS NULL")
+    long countSeatsTaken(@Param("eventId") UUID eventId, @Param("excludedStatus") TicketStatus excludedStatus);
+
+    // Soft-deleted tickets included, their holder still gets the tombstone
+    @Query("SELECT t.id FROM Ticket t WHERE t.id IN :ids AND t.attendee.user.id = :userId")
+    List<UUID> findIdsHeldByUser(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Ticket t WHERE t.event.id = :eventId GROUP BY t.status")
+    List<TicketStatusCountProjection> countByStatusForEvent(@Param("eventId") UUID eventId);
+
+    @Query("SELECT t FROM Ticket t WHERE t.event.id = :eventId AND t.attendee.user.id = :userId")
+    List<Ticket> findAllForEventAndUser(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
+
+    @Query("SELECT t.ticketCode AS ticketCode, t.status AS status, t.deletedAt AS deletedAt " +
+            "FROM Ticket t WHERE t.event.id = :eventId AND t.deletedAt IS NULL")
+    List<GateTicketProjection> findGateTicketsByEventId(@Param("eventId") UUID eventId);
+
+    @Query("SELECT t.ticketCode AS ticketCode, t.status AS status, t.deletedAt AS deletedAt FROM Ticket t WHERE t.id IN :ids")
+    List<GateTicketProjection> findGateTicketsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT t FROM Ticket t WHERE t.event.id = :eventId AND t.ticketCode IN :ticketCodes")
+    List<Ticket> findAllByEventIdAndTicketCodeIn(@Param("eventId") UUID eventId, @Param("ticketCodes") Collection<String> ticketCodes);
+
+    // Changes whenever a ticket of the event is added or written, soft deletes and bulk updates bump the version too
+    @Query("SELECT COUNT(t) AS ticketCount, SUM(t.version) AS versionSum FROM Ticket t WHERE t.event.id = :eventId")
+    TicketSetVersionProjection findTicketSetVersion(@Param("eventId") UUID eventId);
+
+    // Compare-and-set: 0 when a concurrent transaction already used, cancelled or deleted the ticket
+    @Modifying
+    @Query("UPDATE Ticket t SET t.status = :used, t.updatedAt = CURRENT_TIMESTAMP, t.version = t.version + 1 " +
+            "WHERE t.id = :id AND t.status = :expected AND t.deletedAt IS NULL")
+    int markUsed(@Param("id") UUID id, @Param("expected") TicketStatus expected, @Param("used") TicketStatus used);
+
+    // Keyset page of the distinct holders of an event within (after, last], one row per attendee however many tickets
+    @Query("SELECT a.id AS attendeeId, u.email AS email, u.name AS name " +
+            "FROM Ticket t JOIN t.attendee a JOIN a.user u " +
+            "WHERE t.event.id = :eventId AND t.status <> :excludedStatus AND t.deletedAt IS NULL " +
+            "AND a.id > :after AND a.id <= :last " +
+            "GROUP BY a.id, u.email, u.name ORDER BY a.id")
+    List<TicketHolderProjection> findHoldersAfter(@Param("eventId") UUID eventId,
+                                                  @Param("after") UUID after,
+                                                  @Param("last") UUID last,
+                                                  @Param("excludedStatus") TicketStatus excludedStatus,
+                                                  Pageable pageable);
 }
@@ -0,0 +1,13 @@
+package com.gucardev.eventsphere.domain.ticket.repository.projection;
+
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+
+import java.time.LocalDateTime;
+
+public interface GateTicketProjection {
+    String getTicketCode();
+
+    TicketStatus getStatus();
+
+    LocalDateTime getDeletedAt();
+}
@@ -0,0 +1,11 @@
+package com.gucardev.eventsphere.domain.ticket.repository.projection;
+
+import java.util.UUID;
+
+public interface TicketHolderProjection {
+    UUID getAttendeeId();
+
+    String getEmail();
+
+    String getName();
+}
@@ -0,0 +1,16 @@
+package com.gucardev.eventsphere.domain.ticket.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TicketOwnerProjection {
+    UUID getId();
+
+    String getTicketCode();
+
+    UUID getAttendeeId();
+
+    UUID getEventId();
+
+    LocalDateTime getDeletedAt();
+}
@@ -0,0 +1,7 @@
+package com.gucardev.eventsphere.domain.ticket.repository.projection;
+
+public interface TicketSetVersionProjection {
+    long getTicketCount();
+
+    Long getVersionSum();
+}
@@ -0,0 +1,9 @@
+package com.gucardev.eventsphere.domain.ticket.repository.projection;
+
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+
+public interface TicketStatusCountProjection {
+    TicketStatus getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,96 @@
+package com.gucardev.eventsphere.domain.ticket.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gucardev.eventsphere.domain.sync.entity.SyncChange;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.repository.SyncChangeRepository;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.GateTicketProjection;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketSetVersionProjection;
+import com.gucardev.eventsphere.infrastructure.config.properties.GateManifestProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds full and incremental gate manifests for an event. Full manifests are cached per event,
+ * sequence and version of the event's ticket set (count and sum of row versions): every gate of a
+ * venue downloading at opening time gets the same bytes, and any ticket write, including one the
+ * sync log has not settled yet, makes the next download rebuild.
+ */
+@Component
+public class GateManifestBuilder {
+
+    // Keeps IN lists well below driver and database limits
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private final TicketRepository ticketRepository;
+    private final SyncChangeRepository syncChangeRepository;
+    private final GateManifestEncoder encoder;
+    private final Cache<FullManifestKey, byte[]> fullManifests;
+
+    public GateManifestBuilder(TicketRepository ticketRepository,
+                               SyncChangeRepository syncChangeRepository,
+                               GateManifestEncoder encoder,
+                               GateManifestProperties properties) {
+        this.ticketRepository = ticketRepository;
+        this.syncChangeRepository = syncChangeRepository;
+        this.encoder = encoder;
+        this.fullManifests = Caffeine.newBuilder()
+                .maximumWeight(properties.getCacheSize().toBytes())
+                .<FullManifestKey, byte[]>weigher((key, manifest) -> manifest.length)
+                .build();
+    }
+
+    /**
+     * Every live ticket of the event. Tickets changed after {@code sequence} may already show
+     * their new state; the next diff repeats them, which gates apply idempotently.
+     */
+    public byte[] full(UUID eventId, long sequence) {
+        TicketSetVersionProjection version = ticketRepository.findTicketSetVersion(eventId);
+        FullManifestKey cacheKey = new FullManifestKey(eventId, sequence, version.getTicketCount(),
+                version.getVersionSum() == null ? 0 : version.getVersionSum());
+        return fullManifests.get(cacheKey, key -> {
+            List<GateManifestEncoder.Entry> entries = ticketRepository.findGateTicketsByEventId(eventId).stream()
+                    .map(ticket -> entry(eventId, ticket))
+                    .toList();
+            return encoder.encode(GateManifestEncoder.Kind.FULL, eventId, 0, sequence, Instant.now(), entries);
+        });
+    }
+
+    /**
+     * Tickets of the event changed after {@code since}, soft-deleted ones as revoked.
+     */
+    public byte[] diff(UUID eventId, long since, long sequence, LocalDateTime settledBefore) {
+        List<UUID> changedIds = syncChangeRepository.findSettledAfter(eventId, SyncEntityType.TICKET, since, settledBefore).stream()
+                .map(SyncChange::getEntityId)
+                .distinct()
+                .toList();
+        List<GateManifestEncoder.Entry> entries = new ArrayList<>(changedIds.size());
+        for (int from = 0; from < changedIds.size(); from += ID_CHUNK_SIZE) {
+            List<UUID> chunk = changedIds.subList(from, Math.min(changedIds.size(), from + ID_CHUNK_SIZE));
+            ticketRepository.findGateTicketsByIdIn(chunk).forEach(ticket -> entries.add(entry(eventId, ticket)));
+        }
+        return encoder.encode(GateManifestEncoder.Kind.DIFF, eventId, since, Math.max(since, sequence), Instant.now(), entries);
+    }
+
+    private GateManifestEncoder.Entry entry(UUID eventId, GateTicketProjection ticket) {
+        return new GateManifestEncoder.Entry(encoder.hash(eventId, ticket.getTicketCode()), state(ticket));
+    }
+
+    private static GateManifestEncoder.State state(GateTicketProjection ticket) {
+        if (ticket.getDeletedAt() != null || ticket.getStatus() == TicketStatus.CANCELLED) {
+            return GateManifestEncoder.State.REVOKED;
+        }
+        return ticket.getStatus() == TicketStatus.USED ? GateManifestEncoder.State.USED : GateManifestEncoder.State.VALID;
+    }
+
+    private record FullManifestKey(UUID eventId, long sequence, long ticketCount, long versionSum) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.gucardev.eventsphere.domain.ticket.service;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.GateManifestProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary manifest that lets a gate validate tickets without a connection. Big-endian layout:
+ * <pre>
+ * "ESGM" | version u8 | kind u8 | hashBytes u8 | reserved u8 | eventId 16 bytes
+ * | baseSequence i64 | sequence i64 | generatedAt epoch millis i64 | count i32
+ * | count x hashBytes truncated SHA-256(eventId || ticketCode), ascending
+ * | ceil(count / 4) bytes of 2-bit states, entry i in bits (i % 4) * 2 of byte i / 4
+ * | signature length u16 | Ed25519 signature over everything before it
+ * </pre>
+ * A gate hashes the scanned code the same way and binary-searches the sorted table. A diff has
+ * the same layout and carries only tickets changed after {@code baseSequence}; the gate replaces
+ * their states and continues from {@code sequence}.
+ */
+@Component
+@RequiredArgsConstructor
+public class GateManifestEncoder {
+
+    static final byte[] MAGIC = "ESGM".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+
+    private final GateManifestProperties properties;
+    private final GateManifestSigner signer;
+
+    public enum Kind {
+        FULL, DIFF
+    }
+
+    public enum State {
+        VALID, USED, REVOKED
+    }
+
+    public record Entry(long hash, State state) {
+    }
+
+    public long hash(UUID eventId, String ticketCode) {
+        MessageDigest digest = sha256();
+        digest.update(ByteBuffer.allocate(16)
+                .putLong(eventId.getMostSignificantBits())
+                .putLong(eventId.getLeastSignificantBits())
+                .array());
+        byte[] hash = digest.digest(ticketCode.getBytes(StandardCharsets.UTF_8));
+        long value = 0;
+        for (int i = 0; i < hashBytes(); i++) {
+            value = (value << 8) | (hash[i] & 0xFF);
+        }
+        return value;
+    }
+
+    public byte[] encode(Kind kind, UUID eventId, long baseSequence, long sequence, Instant generatedAt, List<Entry> entries) {
+        List<Entry> sorted = entries.stream()
+                .sorted(Comparator.comparing(Entry::hash, Long::compareUnsigned))
+                .toList();
+        int hashBytes = hashBytes();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(40 + sorted.size() * hashBytes + sorted.size() / 4 + 70);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(kind.ordinal());
+            out.writeByte(hashBytes);
+            out.writeByte(0);
+            out.writeLong(eventId.getMostSignificantBits());
+            out.writeLong(eventId.getLeastSignificantBits());
+            out.writeLong(baseSequence);
+            out.writeLong(sequence);
+            out.writeLong(generatedAt.toEpochMilli());
+            out.writeInt(sorted.size());
+            for (Entry entry : sorted) {
+                for (int shift = (hashBytes - 1) * 8; shift >= 0; shift -= 8) {
+                    out.writeByte((int) (entry.hash() >>> shift));
+                }
+            }
+            byte[] states = new byte[(sorted.size() + 3) / 4];
+            for (int i = 0; i < sorted.size(); i++) {
+                states[i / 4] |= (byte) (sorted.get(i).state().ordinal() << ((i % 4) * 2));
+            }
+            out.write(states);
+            out.flush();
+
+            byte[] signature = signer.sign(buffer.toByteArray());
+            out.writeShort(signature.length);
+            out.write(signature);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    private int hashBytes() {
+        return Math.clamp(properties.getHashBytes(), 4, 8);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.gucardev.eventsphere.domain.ticket.service;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.GateManifestProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * Signs gate manifests with Ed25519 so a gate only trusts manifests from this service. Gates pin
+ * the public key from /api/v1/gate/manifest-key.
+ */
+@Slf4j
+@Component
+public class GateManifestSigner {
+
+    public static final String ALGORITHM = "Ed25519";
+
+    private final PrivateKey privateKey;
+    private final PublicKey publicKey;
+
+    public GateManifestSigner(GateManifestProperties properties) {
+        KeyPair keyPair;
+        if (StringUtils.hasText(properties.getSigningKey())) {
+            keyPair = load(properties.getSigningKey(), properties.getPublicKey());
+        } else if (properties.isAllowEphemeralKey()) {
+            keyPair = generate();
+        } else {
+            throw new IllegalStateException("No gate manifest key pair configured, set app-specific-configs.gate-manifest"
+                    + ".signing-key and public-key (GATE_MANIFEST_SIGNING_KEY / GATE_MANIFEST_PUBLIC_KEY)");
+        }
+        this.privateKey = keyPair.getPrivate();
+        this.publicKey = keyPair.getPublic();
+    }
+
+    public byte[] sign(byte[] data) {
+        try {
+            Signature signature = Signature.getInstance(ALGORITHM);
+            signature.initSign(privateKey);
+            signature.update(data);
+            return signature.sign();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Could not sign gate manifest", ex);
+        }
+    }
+
+    /**
+     * X.509 SubjectPublicKeyInfo, Base64.
+     */
+    public String publicKey() {
+        return Base64.getEncoder().encodeToString(publicKey.getEncoded());
+    }
+
+    private static KeyPair load(String base64Pkcs8, String base64X509) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(ALGORITHM);
+            return new KeyPair(
+                    keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(base64X509))),
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64Pkcs8))));
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IllegalStateException("Invalid gate manifest key pair", ex);
+        }
+    }
+
+    private static KeyPair generate() {
+        log.warn("No gate manifest signing key configured, using a per-process key as allowed by allow-ephemeral-key");
+        try {
+            return KeyPairGenerator.getInstance(ALGORITHM).generateKeyPair();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -5,11 +5,17 @@ import com.gucardev.eventsphere.domain.attendee.repository.AttendeeRepository;
 import com.gucardev.eventsphere.domain.event.entity.Event;
 import com.gucardev.eventsphere.domain.event.repository.EventRepository;
 import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
 import com.gucardev.eventsphere.domain.ticket.mapper.TicketMapper;
 import com.gucardev.eventsphere.domain.ticket.model.dto.TicketResponseDto;
 import com.gucardev.eventsphere.domain.ticket.model.request.CreateTicketRequest;
 import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,12 +31,19 @@ public class CreateTicketUseCase implements UseCase<CreateTicketRequest, TicketR
     private final EventRepository eventRepository;
     private final AttendeeRepository attendeeRepository;
     private final TicketMapper ticketMapper;
+    private final OutboxPublisher outboxPublisher;
+    private final SyncChangeLog syncChangeLog;
 
     @Override
     @Transactional
     public TicketResponseDto execute(CreateTicketRequest request) {
-        Event event = eventRepository.findById(request.eventId())
+        // Locked until commit, concurrent sales of the same event count their seats one after another
+        Event event = eventRepository.findLockedById(request.eventId())
                 .orElseThrow(() -> ExceptionUtil.notFound("Event", request.eventId()));
+        if (request.status() != TicketStatus.CANCELLED && event.getCapacity() != null
+                && ticketRepository.countSeatsTaken(event.getId(), TicketStatus.CANCELLED) >= event.getCapacity()) {
+            throw ExceptionUtil.of(ExceptionType.EVENT_SOLD_OUT, event.getId());
+        }
 
         Attendee attendee = attendeeRepository.findById(request.attendeeId())
                 .orElseThrow(() -> ExceptionUtil.notFound("Attendee", request.attendeeId()));
@@ -49,6 +62,9 @@ public class CreateTicketUseCase implements UseCase<CreateTicketRequest, TicketR
         Ticket savedTicket = ticketRepository.save(ticket);
         log.info("Created ticket: {}", savedTicket.getId());
 
-        return ticketMapper.toDto(savedTicket);
+        TicketResponseDto response = ticketMapper.toDto(savedTicket);
+        outboxPublisher.publish(AggregateType.TICKET, savedTicket.getId(), "TicketCreated", response);
+        syncChangeLog.record(SyncEntityType.TICKET, savedTicket.getId(), savedTicket.getEvent().getId());
+        return response;
     }
 }
@@ -0,0 +1,91 @@
+package com.gucardev.eventsphere.domain.ticket.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.shared.repository.specification.BaseSpecification;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketExportRow;
+import com.gucardev.eventsphere.domain.ticket.model.parameter.ExportTicketsUseCaseParam;
+import com.gucardev.eventsphere.domain.ticket.model.request.TicketFilterRequest;
+import com.gucardev.eventsphere.domain.ticket.repository.specification.TicketSpecification;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.export.ExportQuery;
+import com.gucardev.eventsphere.infrastructure.export.StreamingExporter;
+import com.gucardev.eventsphere.infrastructure.usecase.HeavyOperation;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import jakarta.persistence.criteria.Join;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streams every ticket of one event matching the filter, for the event's organizer; paging and sort
+ * fields of the filter are ignored.
+ */
+@Service
+@HeavyOperation
+@RequiredArgsConstructor
+public class ExportTicketsUseCase implements UseCase<ExportTicketsUseCaseParam, Long> {
+
+    private final StreamingExporter streamingExporter;
+    private final EventRepository eventRepository;
+    private final ResourceOwnershipValidator ownershipValidator;
+
+    @Override
+    public Long execute(ExportTicketsUseCaseParam param) {
+        validateAccess(param.filter().getEventId());
+
+        ExportQuery<Ticket, TicketExportRow> query = new ExportQuery<>(
+                Ticket.class,
+                TicketExportRow.class,
+                buildSpecification(param.filter()),
+                (root, cb) -> {
+                    Join<Object, Object> event = root.join("event");
+                    Join<Object, Object> attendee = root.join("attendee");
+                    return List.of(
+                            root.get("id"),
+                            root.get("ticketCode"),
+                            root.get("price"),
+                            root.get("status"),
+                            event.get("id"),
+                            event.get("title"),
+                            attendee.get("id"),
+                            attendee.join("user").get("email"),
+                            root.get("createdAt"));
+                });
+        return streamingExporter.export(query, param.format(), param.out());
+    }
+
+    // One event at a time and for its organizer only, checked before the cursor is opened
+    private void validateAccess(UUID eventId) {
+        if (eventId == null) {
+            throw ExceptionUtil.of(ExceptionType.VALIDATION_FAILED);
+        }
+        UUID ownerId = eventRepository.findOrganizerUserIdById(eventId)
+                .orElseThrow(() -> ExceptionUtil.notFound("Event", eventId));
+        ownershipValidator.validateOwnership(ownerId);
+    }
+
+    private Specification<Ticket> buildSpecification(TicketFilterRequest filter) {
+        Specification<Ticket> spec = BaseSpecification.toSpec(filter);
+
+        if (StringUtils.hasText(filter.getTicketCode())) {
+            spec = spec.and(TicketSpecification.withTicketCode(filter.getTicketCode()));
+        }
+        if (filter.getStatus() != null) {
+            spec = spec.and(TicketSpecification.withStatus(filter.getStatus()));
+        }
+        if (filter.getEventId() != null) {
+            spec = spec.and(TicketSpecification.withEventId(filter.getEventId()));
+        }
+        if (filter.getAttendeeId() != null) {
+            spec = spec.and(TicketSpecification.withAttendeeId(filter.getAttendeeId()));
+        }
+        return spec;
+    }
+}
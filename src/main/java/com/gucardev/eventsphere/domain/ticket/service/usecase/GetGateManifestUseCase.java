@@ -0,0 +1,57 @@
+package com.gucardev.eventsphere.domain.ticket.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.sync.repository.SyncChangeRepository;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.domain.ticket.model.parameter.GetGateManifestUseCaseParam;
+import com.gucardev.eventsphere.domain.ticket.service.GateManifestBuilder;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Signed gate manifest of an event. With {@code since} it returns a diff, unless the sync log no
+ * longer reaches back that far, then a full manifest; gates tell them apart by the kind byte.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetGateManifestUseCase implements UseCase<GetGateManifestUseCaseParam, byte[]> {
+
+    private final EventRepository eventRepository;
+    private final SyncChangeRepository syncChangeRepository;
+    private final GateManifestBuilder gateManifestBuilder;
+    private final ResourceOwnershipValidator ownershipValidator;
+    private final SyncChangeLog syncChangeLog;
+
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] execute(GetGateManifestUseCaseParam param) {
+        Event event = eventRepository.findById(param.eventId())
+                .orElseThrow(() -> ExceptionUtil.notFound("Event", param.eventId()));
+
+        // Gates run under the organizer's account
+        ownershipValidator.validateOwnership(event.getOrganizer().getUser().getId());
+
+        // Same settle rule as delta sync, so no ticket change can land below the manifest sequence later
+        LocalDateTime settledBefore = syncChangeLog.settledBefore();
+        long sequence = syncChangeRepository.findLatestSettledSequence(param.eventId(), settledBefore, PageRequest.ofSize(1))
+                .stream().findFirst().orElse(0L);
+
+        if (param.since() != null && param.since() > 0 && canDiffFrom(param.since())) {
+            return gateManifestBuilder.diff(param.eventId(), param.since(), sequence, settledBefore);
+        }
+        return gateManifestBuilder.full(param.eventId(), sequence);
+    }
+
+    private boolean canDiffFrom(long since) {
+        Long oldest = syncChangeRepository.findOldestSequence();
+        return oldest == null || since >= oldest - 1;
+    }
+}
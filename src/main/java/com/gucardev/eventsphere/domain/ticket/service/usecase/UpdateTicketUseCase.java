@@ -5,7 +5,11 @@ import com.gucardev.eventsphere.domain.ticket.mapper.TicketMapper;
 import com.gucardev.eventsphere.domain.ticket.model.dto.TicketResponseDto;
 import com.gucardev.eventsphere.domain.ticket.model.parameter.UpdateTicketUseCaseParam;
 import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
 import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +23,8 @@ public class UpdateTicketUseCase implements UseCase<UpdateTicketUseCaseParam, Ti
 
     private final TicketRepository ticketRepository;
     private final TicketMapper ticketMapper;
+    private final OutboxPublisher outboxPublisher;
+    private final SyncChangeLog syncChangeLog;
 
     @Override
     @Transactional
@@ -33,6 +39,9 @@ public class UpdateTicketUseCase implements UseCase<UpdateTicketUseCaseParam, Ti
         Ticket updatedTicket = ticketRepository.save(ticket);
         log.info("Updated ticket: {}", updatedTicket.getId());
 
-        return ticketMapper.toDto(updatedTicket);
+        TicketResponseDto response = ticketMapper.toDto(updatedTicket);
+        outboxPublisher.publish(AggregateType.TICKET, updatedTicket.getId(), "TicketUpdated", response);
+        syncChangeLog.record(SyncEntityType.TICKET, updatedTicket.getId(), updatedTicket.getEvent().getId());
+        return response;
     }
 }
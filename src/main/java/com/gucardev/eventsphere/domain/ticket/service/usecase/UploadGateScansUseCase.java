@@ -0,0 +1,131 @@
+package com.gucardev.eventsphere.domain.ticket.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.domain.ticket.mapper.TicketMapper;
+import com.gucardev.eventsphere.domain.ticket.model.dto.GateScanOutcome;
+import com.gucardev.eventsphere.domain.ticket.model.dto.GateScanResultDto;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketResponseDto;
+import com.gucardev.eventsphere.domain.ticket.model.parameter.UploadGateScansUseCaseParam;
+import com.gucardev.eventsphere.domain.ticket.model.request.GateScanRequest;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.infrastructure.config.properties.GateManifestProperties;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies USED transitions that gates recorded offline, in one transaction per upload. Scans of
+ * one upload are applied in scan-time order, so the earlier scan of a ticket is accepted and the
+ * later ones are reported as ALREADY_USED. Across uploads the first upload to commit wins, whatever
+ * the scan times: a gate that syncs late gets ALREADY_USED for a ticket it scanned first.
+ * <p>
+ * Each ticket is marked with a conditional update, a ticket changed concurrently since it was
+ * loaded is reported with its current state and does not fail the rest of the upload.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadGateScansUseCase implements UseCase<UploadGateScansUseCaseParam, List<GateScanResultDto>> {
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketMapper ticketMapper;
+    private final ResourceOwnershipValidator ownershipValidator;
+    private final OutboxPublisher outboxPublisher;
+    private final SyncChangeLog syncChangeLog;
+    private final GateManifestProperties properties;
+
+    @Override
+    @Transactional
+    public List<GateScanResultDto> execute(UploadGateScansUseCaseParam param) {
+        List<GateScanRequest> scans = param.request().scans();
+        if (scans.size() > properties.getMaxScansPerUpload()) {
+            throw ExceptionUtil.of(ExceptionType.VALIDATION_FAILED);
+        }
+
+        Event event = eventRepository.findById(param.eventId())
+                .orElseThrow(() -> ExceptionUtil.notFound("Event", param.eventId()));
+        ownershipValidator.validateOwnership(event.getOrganizer().getUser().getId());
+
+        Map<String, Ticket> tickets = ticketRepository.findAllByEventIdAndTicketCodeIn(param.eventId(),
+                        scans.stream().map(GateScanRequest::ticketCode).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Ticket::getTicketCode, Function.identity()));
+
+        List<GateScanRequest> ordered = scans.stream()
+                .sorted(Comparator.comparing(GateScanRequest::scannedAt))
+                .toList();
+        List<GateScanResultDto> results = new ArrayList<>(ordered.size());
+        Set<UUID> usedInUpload = new HashSet<>();
+        int accepted = 0;
+        for (GateScanRequest scan : ordered) {
+            Ticket ticket = tickets.get(scan.ticketCode());
+            GateScanOutcome outcome = use(ticket, usedInUpload);
+            if (outcome == GateScanOutcome.ACCEPTED) {
+                accepted++;
+                TicketResponseDto used = ticketMapper.toDto(ticket);
+                used.setStatus(TicketStatus.USED);
+                outboxPublisher.publish(AggregateType.TICKET, ticket.getId(), "TicketUsed", used);
+                syncChangeLog.record(SyncEntityType.TICKET, ticket.getId(), param.eventId());
+            }
+            results.add(new GateScanResultDto(scan.ticketCode(), outcome));
+        }
+
+        log.info("Applied gate scans for event {} from gate {}: {} accepted of {}",
+                param.eventId(), param.request().gateId(), accepted, scans.size());
+        return results;
+    }
+
+    private GateScanOutcome use(Ticket ticket, Set<UUID> usedInUpload) {
+        GateScanOutcome outcome = outcome(ticket);
+        if (outcome != GateScanOutcome.ACCEPTED) {
+            return outcome;
+        }
+        // The bulk update leaves the loaded entity as it was, later scans of the ticket are caught here
+        if (usedInUpload.contains(ticket.getId())) {
+            return GateScanOutcome.ALREADY_USED;
+        }
+        if (ticketRepository.markUsed(ticket.getId(), TicketStatus.SOLD, TicketStatus.USED) == 1) {
+            usedInUpload.add(ticket.getId());
+            return GateScanOutcome.ACCEPTED;
+        }
+        // Used, cancelled or deleted by another transaction since it was loaded
+        ticketRepository.refreshLocked(ticket);
+        return outcome(ticket);
+    }
+
+    private static GateScanOutcome outcome(Ticket ticket) {
+        if (ticket == null) {
+            return GateScanOutcome.UNKNOWN;
+        }
+        if (ticket.getDeletedAt() != null || ticket.getStatus() == TicketStatus.CANCELLED) {
+            return GateScanOutcome.REVOKED;
+        }
+        if (ticket.getStatus() == TicketStatus.USED) {
+            return GateScanOutcome.ALREADY_USED;
+        }
+        return GateScanOutcome.ACCEPTED;
+    }
+}
@@ -1,10 +1,17 @@
 package com.gucardev.eventsphere.infrastructure.config.async;
 
+import com.gucardev.eventsphere.infrastructure.config.properties.MailDispatchProperties;
+import com.gucardev.eventsphere.infrastructure.config.properties.ThreadingProperties;
+import com.gucardev.eventsphere.infrastructure.context.ContextPropagatingTaskDecorator;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionLogger;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -16,15 +23,60 @@ import java.util.concurrent.Executor;
 @Configuration
 @EnableAsync
 @EnableScheduling
+@RequiredArgsConstructor
 public class AsyncConfiguration implements AsyncConfigurer {
 
+    public static final String IMPORT_EXECUTOR = "importExecutor";
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+
+    private final Environment environment;
+    private final ThreadingProperties threadingProperties;
+    private final MailDispatchProperties mailDispatchProperties;
+
     @Bean(name = "asyncExecutor")
     public Executor asyncExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // A virtual thread per task, the concurrency limit takes over from the bounded queue
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(threadingProperties.getAsyncConcurrencyLimit());
+            executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+            log.info("@Async runs on virtual threads (concurrency limit {})", threadingProperties.getAsyncConcurrencyLimit());
+            return executor;
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(3);
         executor.setMaxPoolSize(3);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("Async-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    // Bulk imports are long running, keep them off the general async pool
+    @Bean(name = IMPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor importExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("Import-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    // One worker per concurrent SMTP connection; the dispatcher only claims what the pool can take
+    @Bean(name = MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailDispatchProperties.getWorkers());
+        executor.setMaxPoolSize(mailDispatchProperties.getWorkers());
+        executor.setQueueCapacity(mailDispatchProperties.getWorkers());
+        executor.setThreadNamePrefix("Mail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
         executor.initialize();
         return executor;
     }
@@ -0,0 +1,27 @@
+package com.gucardev.eventsphere.infrastructure.config.cache;
+
+/**
+ * Broadcast after a write so the other nodes drop their L1 copy.
+ * A null key means the whole cache was cleared.
+ */
+public record CacheInvalidationMessage(String originNodeId, String cacheName, String key) {
+
+    private static final String SEPARATOR = "|";
+    private static final String ALL_KEYS = "*";
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    public String serialize() {
+        return originNodeId + SEPARATOR + cacheName + SEPARATOR + (key == null ? ALL_KEYS : key);
+    }
+
+    public static CacheInvalidationMessage deserialize(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cache invalidation message: " + payload);
+        }
+        return new CacheInvalidationMessage(parts[0], parts[1], ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+    }
+}
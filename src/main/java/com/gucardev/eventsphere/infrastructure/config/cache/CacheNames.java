@@ -3,24 +3,37 @@ package com.gucardev.eventsphere.infrastructure.config.cache;
 import java.util.Arrays;
 import java.util.List;
 
+// Every cache is two-tier (Caffeine L1 + Redis/in-memory L2), see TwoTierCacheConfig.
 // Example usage:
-//@Cacheable(value = CacheNames.CACHE_NAME, key = "#parameter", cacheManager = RedisCacheConfig.REDIS_CACHE_MANAGER_MEDIUM_LIVED)
-//@CachePut(value = CacheNames.CACHE_PRODUCTS, key = "#product.id", cacheManager = RedisCacheConfig.REDIS_CACHE_MANAGER_MEDIUM_LIVED)
-//@CacheEvict(value = CacheNames.CACHE_PRODUCTS, key = "#id", cacheManager = RedisCacheConfig.REDIS_CACHE_MANAGER_MEDIUM_LIVED)
-//@CacheEvict(value = CacheNames.CACHE_PRODUCTS, allEntries = true, cacheManager = RedisCacheConfig.REDIS_CACHE_MANAGER_MEDIUM_LIVED)
-//public void clearCache() {log.info("Clearing all products from cache");}
+//@Cacheable(value = CacheNames.CACHE_EVENT, key = "#id")
+//@CacheEvict(value = CacheNames.CACHE_EVENT, key = "#param.id()")
+//@CacheEvict(value = CacheNames.CACHE_EVENT, allEntries = true)
+//public void clearCache() {log.info("Clearing all events from cache");}
+//
+// Hit ratio targets (cache.gets{result=hit} / cache.gets, plus cache.l2.gets for the shared tier):
+// - event (hot event pages): >= 0.90 combined, >= 0.80 on L1 alone under steady traffic.
+//   Below that, raise app-specific-configs.cache.specs.event.l1-maximum-size before touching TTLs.
+// - organizer, role, all_roles: >= 0.95, the data changes rarely.
 
 public class CacheNames {
 
     public static final String CACHE_USER_INFO = "user_info";
     public static final String CACHE_USER_PHOTO = "user_photo";
     public static final String CACHE_ALL_LOOKUPS = "all_lookups";
+    public static final String CACHE_EVENT = "event";
+    public static final String CACHE_ORGANIZER = "organizer";
+    public static final String CACHE_ROLE = "role";
+    public static final String CACHE_ALL_ROLES = "all_roles";
 
     public static List<String> getAllCacheNames() {
         return Arrays.asList(
                 CACHE_USER_INFO,
                 CACHE_USER_PHOTO,
-                CACHE_ALL_LOOKUPS
+                CACHE_ALL_LOOKUPS,
+                CACHE_EVENT,
+                CACHE_ORGANIZER,
+                CACHE_ROLE,
+                CACHE_ALL_ROLES
         );
     }
-}
\ No newline at end of file
+}
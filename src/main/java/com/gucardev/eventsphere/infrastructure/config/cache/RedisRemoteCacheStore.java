@@ -0,0 +1,115 @@
+package com.gucardev.eventsphere.infrastructure.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Redis backed L2 tier and invalidation bus.
+ * Redis errors are logged and treated as misses so an outage degrades to L1 + DB instead of failing reads.
+ */
+@Slf4j
+public class RedisRemoteCacheStore implements RemoteCacheStore {
+
+    private static final int CLEAR_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String keyPrefix;
+    private final ChannelTopic invalidationTopic;
+
+    public RedisRemoteCacheStore(RedisTemplate<String, Object> redisTemplate,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 String keyPrefix,
+                                 String invalidationChannel) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.keyPrefix = keyPrefix;
+        this.invalidationTopic = new ChannelTopic(invalidationChannel);
+    }
+
+    @Override
+    public Object get(String cacheName, String key) {
+        try {
+            return redisTemplate.opsForValue().get(redisKey(cacheName, key));
+        } catch (RuntimeException ex) {
+            log.warn("Redis get failed for cache {} key {}: {}", cacheName, key, ex.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(cacheName, key), value, ttl);
+        } catch (RuntimeException ex) {
+            log.warn("Redis put failed for cache {} key {}: {}", cacheName, key, ex.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        // Eviction failures must surface, otherwise stale data would outlive the write
+        redisTemplate.delete(redisKey(cacheName, key));
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(redisKey(cacheName, "*"))
+                .count(CLEAR_BATCH_SIZE)
+                .build();
+        List<String> batch = new ArrayList<>(CLEAR_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == CLEAR_BATCH_SIZE) {
+                    redisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            redisTemplate.delete(batch);
+        }
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(invalidationTopic.getTopic(), message.serialize());
+        } catch (RuntimeException ex) {
+            // Other nodes fall back to their L1 TTL
+            log.warn("Cache invalidation publish failed for cache {}: {}", message.cacheName(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                listener.accept(CacheInvalidationMessage.deserialize(payload));
+            } catch (IllegalArgumentException ex) {
+                log.warn("Ignoring cache invalidation message: {}", ex.getMessage());
+            }
+        }, invalidationTopic);
+    }
+
+    private String redisKey(String cacheName, String key) {
+        return keyPrefix + cacheName + "::" + key;
+    }
+}
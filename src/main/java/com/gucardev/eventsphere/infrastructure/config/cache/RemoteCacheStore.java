@@ -0,0 +1,26 @@
+package com.gucardev.eventsphere.infrastructure.config.cache;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Shared (L2) cache tier plus the bus used to invalidate every node's L1.
+ * Redis in production, {@link InMemoryRemoteCacheStore} when Redis is disabled and in tests.
+ */
+public interface RemoteCacheStore {
+
+    /**
+     * Returns the cached value or null when absent.
+     */
+    Object get(String cacheName, String key);
+
+    void put(String cacheName, String key, Object value, Duration ttl);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
@@ -0,0 +1,261 @@
+package com.gucardev.eventsphere.infrastructure.config.cache;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.CacheProperties;
+import com.gucardev.eventsphere.infrastructure.usecase.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Read path: per-node Caffeine L1, then shared L2, then the loader (DB).
+ * Every write or eviction also goes to L2 and is broadcast so the other nodes drop their L1 entry.
+ * Both tiers are keyed by the key's string form so remote invalidations map 1:1 onto L1 entries.
+ * Null values are not cached; not-found lookups throw before reaching the cache anyway.
+ * <p>
+ * With {@code @Cacheable(sync = true)} concurrent misses for a key share one load through {@link SingleFlight},
+ * and entries older than refresh-after are served stale while a single background reload runs.
+ * Entry age is tracked in L1 only, an entry pulled from L2 starts fresh.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final String nodeId;
+    private final com.github.benmanes.caffeine.cache.Cache<String, CachedValue> l1;
+    private final RemoteCacheStore l2;
+    private final Duration l2Ttl;
+    private final Duration refreshAfter;
+    private final Duration coalescingTimeout;
+    private final SingleFlight singleFlight;
+    private final Executor refreshExecutor;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter l2HitCounter;
+    private final Counter l2MissCounter;
+    private final Counter staleHitCounter;
+
+    public TwoTierCache(String name,
+                        String nodeId,
+                        com.github.benmanes.caffeine.cache.Cache<String, CachedValue> l1,
+                        RemoteCacheStore l2,
+                        CacheProperties.Spec spec,
+                        SingleFlight singleFlight,
+                        Executor refreshExecutor,
+                        MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.nodeId = nodeId;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.l2Ttl = spec.getL2Ttl();
+        this.refreshAfter = spec.getRefreshAfter();
+        this.coalescingTimeout = spec.getCoalescingTimeout();
+        this.singleFlight = singleFlight;
+        this.refreshExecutor = refreshExecutor;
+        this.l2HitCounter = l2Counter(meterRegistry, name, "hit");
+        this.l2MissCounter = l2Counter(meterRegistry, name, "miss");
+        this.staleHitCounter = Counter.builder("cache.stale.hits")
+                .description("Stale entries served while a background reload runs")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = key.toString();
+        CachedValue cached = l1.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached.value();
+        }
+        return lookupRemote(cacheKey);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = key.toString();
+        CachedValue cached = l1.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (isStale(cached)) {
+                staleHitCounter.increment();
+                refreshAsync(cacheKey, cached, valueLoader);
+            }
+            return (T) fromStoreValue(cached.value());
+        }
+
+        Object remote = lookupRemote(cacheKey);
+        if (remote != null) {
+            return (T) fromStoreValue(remote);
+        }
+
+        return (T) fromStoreValue(singleFlight.execute(name, cacheKey, coalescingTimeout, () -> {
+            // A previous leader may have filled the cache between our miss and taking the lead
+            CachedValue loadedMeanwhile = l1.getIfPresent(cacheKey);
+            if (loadedMeanwhile != null) {
+                return loadedMeanwhile.value();
+            }
+            return load(cacheKey, valueLoader);
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = key.toString();
+        Object storeValue = toStoreValue(value);
+        l1.put(cacheKey, CachedValue.now(storeValue));
+        l2.put(name, cacheKey, storeValue, l2Ttl);
+        l2.publish(new CacheInvalidationMessage(nodeId, name, cacheKey));
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = key.toString();
+        l1.invalidate(cacheKey);
+        l2.evict(name, cacheKey);
+        l2.publish(new CacheInvalidationMessage(nodeId, name, cacheKey));
+    }
+
+    @Override
+    public void clear() {
+        l1.invalidateAll();
+        l2.clear(name);
+        l2.publish(new CacheInvalidationMessage(nodeId, name, null));
+    }
+
+    /**
+     * Applies an invalidation received from another node. Only L1 is touched, L2 was already updated by the sender.
+     */
+    void onRemoteInvalidation(CacheInvalidationMessage message) {
+        if (message.isClear()) {
+            l1.invalidateAll();
+            return;
+        }
+        l1.invalidate(message.key());
+    }
+
+    private Object lookupRemote(String cacheKey) {
+        Object value = l2.get(name, cacheKey);
+        if (value == null) {
+            l2MissCounter.increment();
+            return null;
+        }
+        l2HitCounter.increment();
+        l1.put(cacheKey, CachedValue.now(value));
+        return value;
+    }
+
+    private Object load(String cacheKey, Callable<?> valueLoader) {
+        Object loaded = callLoader(cacheKey, valueLoader);
+        l1.put(cacheKey, CachedValue.now(loaded));
+        l2.put(name, cacheKey, loaded, l2Ttl);
+        return loaded;
+    }
+
+    private Object callLoader(String cacheKey, Callable<?> valueLoader) {
+        try {
+            return toStoreValue(valueLoader.call());
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(cacheKey, valueLoader, ex);
+        }
+    }
+
+    private boolean isStale(CachedValue cached) {
+        return refreshAfter != null && System.currentTimeMillis() - cached.loadedAt() >= refreshAfter.toMillis();
+    }
+
+    /**
+     * Reloads a stale entry in the background. The result is only written back if the stale entry is
+     * still the one in L1: a put, a local or remote eviction while the reload ran means the reload may
+     * have read pre-change data, so it is dropped and the next read loads again.
+     */
+    private void refreshAsync(String cacheKey, CachedValue stale, Callable<?> valueLoader) {
+        if (!refreshing.add(cacheKey)) {
+            return;
+        }
+        try {
+            // The loader is the intercepted method invocation. It was not run on the caller thread (stale hit),
+            // so running it once here goes through the remaining advice chain, including @Transactional.
+            // The executor carries the caller's context over, see TwoTierCacheConfig.
+            refreshExecutor.execute(() -> {
+                try {
+                    Object loaded = callLoader(cacheKey, valueLoader);
+                    CachedValue fresh = CachedValue.now(loaded);
+                    if (!l1.asMap().replace(cacheKey, stale, fresh)) {
+                        log.debug("Dropped refresh of {} in cache {}, entry changed while reloading", cacheKey, name);
+                        return;
+                    }
+                    l2.put(name, cacheKey, loaded, l2Ttl);
+                    if (l1.getIfPresent(cacheKey) != fresh) {
+                        // Evicted between the swap and the L2 write, do not leave the reloaded value in L2
+                        l2.evict(name, cacheKey);
+                        return;
+                    }
+                    l2.publish(new CacheInvalidationMessage(nodeId, name, cacheKey));
+                    log.debug("Refreshed stale entry {} in cache {}", cacheKey, name);
+                } catch (RuntimeException ex) {
+                    // Keep serving the stale value until it expires, the next stale hit retries
+                    log.warn("Background refresh failed for {} in cache {}: {}", cacheKey, name, ex.getMessage());
+                } finally {
+                    refreshing.remove(cacheKey);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(cacheKey);
+        }
+    }
+
+    private static Counter l2Counter(MeterRegistry meterRegistry, String cacheName, String result) {
+        return Counter.builder("cache.l2.gets")
+                .description("Shared cache tier lookups after an L1 miss")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * L1 entry with its load time, used for stale-while-revalidate.
+     * Compared by identity: a refresh may only replace the exact entry it was started for.
+     */
+    static final class CachedValue {
+
+        private final Object value;
+        private final long loadedAt;
+
+        private CachedValue(Object value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+        Object value() {
+            return value;
+        }
+
+        long loadedAt() {
+            return loadedAt;
+        }
+
+        static CachedValue now(Object value) {
+            return new CachedValue(value, System.currentTimeMillis());
+        }
+    }
+}
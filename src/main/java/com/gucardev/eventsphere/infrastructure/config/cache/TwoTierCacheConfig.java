@@ -0,0 +1,70 @@
+package com.gucardev.eventsphere.infrastructure.config.cache;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.CacheProperties;
+import com.gucardev.eventsphere.infrastructure.context.ContextPropagatingTaskDecorator;
+import com.gucardev.eventsphere.infrastructure.context.RequestContext;
+import com.gucardev.eventsphere.infrastructure.usecase.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
+@Configuration
+public class TwoTierCacheConfig {
+
+    public static final String CACHE_REFRESH_EXECUTOR = "cacheRefreshExecutor";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app-specific-configs.cache.redis", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public RemoteCacheStore inMemoryRemoteCacheStore() {
+        log.info("Redis cache disabled, using in-memory L2 cache (single node only)");
+        return new InMemoryRemoteCacheStore();
+    }
+
+    // Stale-while-revalidate reloads; when saturated the refresh is skipped and the stale entry kept until TTL.
+    // The reload re-runs the caller's method invocation, so it gets the caller's context: the scoped
+    // RequestContext (auditing, tenant resolution, locale) and the security context for method security
+    @Bean(name = CACHE_REFRESH_EXECUTOR)
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("CacheRefresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(refreshTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    @Primary
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties,
+                                     RemoteCacheStore remoteCacheStore,
+                                     SingleFlight singleFlight,
+                                     @Qualifier(CACHE_REFRESH_EXECUTOR) ThreadPoolTaskExecutor cacheRefreshExecutor,
+                                     MeterRegistry meterRegistry) {
+        return new TwoTierCacheManager(cacheProperties, remoteCacheStore, singleFlight, cacheRefreshExecutor, meterRegistry);
+    }
+
+    static TaskDecorator refreshTaskDecorator() {
+        ContextPropagatingTaskDecorator contextDecorator = new ContextPropagatingTaskDecorator();
+        return task -> {
+            SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+            securityContext.setAuthentication(RequestContext.currentAuthentication());
+            return contextDecorator.decorate(new DelegatingSecurityContextRunnable(task, securityContext));
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.gucardev.eventsphere.infrastructure.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gucardev.eventsphere.infrastructure.config.properties.CacheProperties;
+import com.gucardev.eventsphere.infrastructure.usecase.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Builds a {@link TwoTierCache} per cache name and routes invalidations from other nodes to it.
+ * Transaction aware: puts and evictions issued inside a transaction are applied after commit,
+ * so a concurrent reader cannot repopulate a cache with the pre-commit row.
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final CacheProperties properties;
+    private final RemoteCacheStore remoteCacheStore;
+    private final SingleFlight singleFlight;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public TwoTierCacheManager(CacheProperties properties,
+                               RemoteCacheStore remoteCacheStore,
+                               SingleFlight singleFlight,
+                               Executor refreshExecutor,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.remoteCacheStore = remoteCacheStore;
+        this.singleFlight = singleFlight;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        setTransactionAware(true);
+        remoteCacheStore.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return CacheNames.getAllCacheNames().stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private TwoTierCache createCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            CacheProperties.Spec spec = properties.specFor(cacheName);
+            com.github.benmanes.caffeine.cache.Cache<String, TwoTierCache.CachedValue> l1 = Caffeine.newBuilder()
+                    .maximumSize(spec.getL1MaximumSize())
+                    .expireAfterWrite(spec.getL1Ttl())
+                    .recordStats()
+                    .build();
+            // Exposes cache.gets{result=hit|miss}, evictions and size for the L1 tier
+            CaffeineCacheMetrics.monitor(meterRegistry, l1, cacheName);
+            log.info("Creating two-tier cache {} (L1 size: {}, L1 TTL: {}, L2 TTL: {}, refresh after: {})",
+                    cacheName, spec.getL1MaximumSize(), spec.getL1Ttl(), spec.getL2Ttl(), spec.getRefreshAfter());
+            return new TwoTierCache(cacheName, nodeId, l1, remoteCacheStore, spec, singleFlight, refreshExecutor, meterRegistry);
+        });
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.originNodeId())) {
+            return;
+        }
+        TwoTierCache cache = caches.get(message.cacheName());
+        if (cache != null) {
+            cache.onRemoteInvalidation(message);
+        }
+    }
+}
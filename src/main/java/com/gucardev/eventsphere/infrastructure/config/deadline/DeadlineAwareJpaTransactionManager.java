@@ -0,0 +1,105 @@
+package com.gucardev.eventsphere.infrastructure.config.deadline;
+
+import com.gucardev.eventsphere.infrastructure.context.Deadline;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.Session;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.datasource.ConnectionHandle;
+import org.springframework.orm.jpa.JpaDialect;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Caps every new transaction's timeout at the time left on the current {@link Deadline}.
+ * <p>
+ * Spring hands the transaction's remaining time to each query as its JPA query timeout. Statements
+ * Hibernate issues on its own (the {@code em.find} behind findById, lazy loads, flushes) never see that
+ * hint, so the timeout is also set on the Hibernate transaction before it begins, which puts it on every
+ * JDBC statement via {@code Statement.setQueryTimeout}. The driver then cancels the statement on the
+ * server and the connection goes back to the pool instead of finishing work nobody waits for.
+ * A transaction started after the deadline fails before reaching the database.
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    public DeadlineAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (!(getJpaDialect() instanceof StatementTimeoutJpaDialect)) {
+            setJpaDialect(new StatementTimeoutJpaDialect(getJpaDialect()));
+        }
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int configured = super.determineTimeout(definition);
+        Optional<Deadline> deadline = Deadline.current();
+        if (deadline.isEmpty()) {
+            return configured;
+        }
+        if (deadline.get().isExpired()) {
+            throw new TransactionTimedOutException("Request deadline passed before the transaction started");
+        }
+        // JDBC timeouts are whole seconds, round up so a short budget still gets one
+        long remainingMillis = deadline.get().remaining().toMillis();
+        int remaining = (int) Math.max(1, (remainingMillis + 999) / 1000);
+        return configured == TransactionDefinition.TIMEOUT_DEFAULT ? remaining : Math.min(configured, remaining);
+    }
+
+    // Sets the transaction timeout on the Hibernate session, then leaves everything to the vendor dialect
+    static final class StatementTimeoutJpaDialect implements JpaDialect {
+
+        private final JpaDialect delegate;
+
+        StatementTimeoutJpaDialect(JpaDialect delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+                throws PersistenceException, SQLException, TransactionException {
+            if (definition.getTimeout() != TransactionDefinition.TIMEOUT_DEFAULT) {
+                entityManager.unwrap(Session.class).getTransaction().setTimeout(definition.getTimeout());
+            }
+            return delegate.beginTransaction(entityManager, definition);
+        }
+
+        @Override
+        public Object prepareTransaction(EntityManager entityManager, boolean readOnly, String name)
+                throws PersistenceException {
+            return delegate.prepareTransaction(entityManager, readOnly, name);
+        }
+
+        @Override
+        public void cleanupTransaction(Object transactionData) {
+            delegate.cleanupTransaction(transactionData);
+        }
+
+        @Override
+        public ConnectionHandle getJdbcConnection(EntityManager entityManager, boolean readOnly)
+                throws PersistenceException, SQLException {
+            return delegate.getJdbcConnection(entityManager, readOnly);
+        }
+
+        @Override
+        public void releaseJdbcConnection(ConnectionHandle conHandle, EntityManager entityManager)
+                throws PersistenceException, SQLException {
+            delegate.releaseJdbcConnection(conHandle, entityManager);
+        }
+
+        @Override
+        public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+            return delegate.translateExceptionIfPossible(ex);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.gucardev.eventsphere.infrastructure.config.deadline;
+
+import com.gucardev.eventsphere.infrastructure.config.tenant.TenantSchedulingConfiguration;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCasePointcut;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.transaction.autoconfigure.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class DeadlineConfiguration {
+
+    // Inside tenant scheduling (time spent queued counts against the deadline), outside the transaction
+    public static final int ORDER = TenantSchedulingConfiguration.ORDER + 100;
+
+    // Replaces Boot's default JpaTransactionManager, with the same customizers (spring.transaction.* properties)
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers) {
+        DeadlineAwareJpaTransactionManager transactionManager = new DeadlineAwareJpaTransactionManager(entityManagerFactory);
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor deadlineAdvisor(@Lazy MeterRegistry meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new UseCasePointcut(), new DeadlineInterceptor(meterRegistry));
+        advisor.setOrder(ORDER);
+        return advisor;
+    }
+}
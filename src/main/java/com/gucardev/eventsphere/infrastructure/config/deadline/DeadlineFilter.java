@@ -0,0 +1,90 @@
+package com.gucardev.eventsphere.infrastructure.config.deadline;
+
+import com.gucardev.eventsphere.infrastructure.config.loadshedding.ConcurrencyLimitFilter;
+import com.gucardev.eventsphere.infrastructure.config.properties.DeadlineProperties;
+import com.gucardev.eventsphere.infrastructure.context.Deadline;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Binds a {@link Deadline} for the rest of the request: the client's budget from the
+ * deadline header, capped at max-timeout, or else the route's configured budget. Transactions
+ * and queries started under it get the remaining time as their timeout, see
+ * DeadlineAwareJpaTransactionManager. Excluded routes (large uploads) run without one.
+ */
+@Slf4j
+@Component
+@Order(ConcurrencyLimitFilter.ORDER + 10)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final DeadlineProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public DeadlineFilter(DeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@Nonnull HttpServletRequest request) {
+        return !properties.isEnabled()
+                || properties.getExcludedRoutes().stream().anyMatch(route -> matches(route, request));
+    }
+
+    @Override
+    protected void doFilterInternal(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                                    @Nonnull FilterChain filterChain) throws ServletException, IOException {
+        Deadline deadline = Deadline.after(budget(request));
+        try {
+            deadline.call(() -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new ServletException(ex);
+        }
+    }
+
+    Duration budget(HttpServletRequest request) {
+        String header = request.getHeader(properties.getHeader());
+        if (header != null) {
+            try {
+                long millis = Long.parseLong(header.trim());
+                if (millis > 0) {
+                    Duration requested = Duration.ofMillis(millis);
+                    return requested.compareTo(properties.getMaxTimeout()) < 0 ? requested : properties.getMaxTimeout();
+                }
+            } catch (NumberFormatException ex) {
+                log.debug("Ignoring malformed {} header: {}", properties.getHeader(), header);
+            }
+        }
+        for (Map.Entry<String, Duration> route : properties.getRoutes().entrySet()) {
+            if (matches(route.getKey(), request)) {
+                return route.getValue();
+            }
+        }
+        return properties.getDefaultTimeout();
+    }
+
+    // "METHOD /ant/pattern" or "/ant/pattern"
+    private boolean matches(String route, HttpServletRequest request) {
+        String[] parts = route.trim().split("\\s+", 2);
+        String method = parts.length == 2 ? parts[0] : null;
+        String pattern = parts.length == 2 ? parts[1] : parts[0];
+        return (method == null || method.equalsIgnoreCase(request.getMethod()))
+                && pathMatcher.match(pattern, request.getRequestURI());
+    }
+}
@@ -0,0 +1,59 @@
+package com.gucardev.eventsphere.infrastructure.config.deadline;
+
+import com.gucardev.eventsphere.infrastructure.context.Deadline;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.util.Optional;
+
+/**
+ * Refuses to start a use case whose request deadline has already passed, and turns query and
+ * transaction timeouts caused by the deadline into DEADLINE_EXCEEDED, counted per use case.
+ * A timeout while the deadline still has time left came from a query's own limit and is rethrown.
+ */
+@Slf4j
+public class DeadlineInterceptor implements MethodInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public DeadlineInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        Optional<Deadline> deadline = Deadline.current();
+        if (deadline.isEmpty()) {
+            return invocation.proceed();
+        }
+        if (deadline.get().isExpired()) {
+            throw exceeded(invocation, "before-start");
+        }
+        try {
+            return invocation.proceed();
+        } catch (TransactionTimedOutException | QueryTimeoutException | jakarta.persistence.QueryTimeoutException ex) {
+            if (!deadline.get().isExpired()) {
+                throw ex;
+            }
+            throw exceeded(invocation, "cancelled");
+        }
+    }
+
+    private BusinessException exceeded(MethodInvocation invocation, String stage) {
+        String useCase = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis()).getSimpleName()
+                : invocation.getMethod().getDeclaringClass().getSimpleName();
+        meterRegistry.counter("usecase.deadline.exceeded", "usecase", useCase, "stage", stage).increment();
+        log.warn("{} stopped, request deadline exceeded ({})", useCase, stage);
+        return ExceptionUtil.of(ExceptionType.DEADLINE_EXCEEDED);
+    }
+}
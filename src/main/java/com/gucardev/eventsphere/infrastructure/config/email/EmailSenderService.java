@@ -1,87 +1,42 @@
 package com.gucardev.eventsphere.infrastructure.config.email;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.gucardev.eventsphere.infrastructure.mail.EmailQueue;
+import com.gucardev.eventsphere.infrastructure.mail.EmailRecipient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Entry point for sending email. Messages are queued and delivered by
+ * {@link com.gucardev.eventsphere.infrastructure.mail.EmailDispatcher}, so callers never wait on
+ * SMTP and delivery failures are retried instead of surfacing here.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class EmailSenderService {
 
-    private final SpringTemplateEngine templateEngine;
-    private final JavaMailSender mailSender;
-
-    @Value("${spring.mail.username}")
-    private String fromEmail;
-
+    private final EmailQueue emailQueue;
 
     public void sendPlainTextEmail(String recipient, String subject, String content) {
-        try {
-            MimeMessage message = createMimeMessage(recipient, subject, content, false);
-            log.info("Sending plain text email to: {}", recipient);
-            deliverEmail(message, recipient);
-        } catch (MessagingException e) {
-            handleEmailError("plain text", recipient, e);
-        }
+        emailQueue.enqueuePlainText(recipient, subject, content);
+        log.debug("Queued plain text email to: {}", recipient);
     }
 
     public void sendTemplatedHtmlEmail(HtmlEmailRequest request, Map<String, Object> modelData) {
-        Context context = new Context();
-        context.setVariables(modelData);
-
-        String templateName = request.templateName();
-        String recipient = request.to();
-        String subject = request.subject();
-
-        String processedHtml = templateEngine.process(templateName, context);
-        log.debug("Processed HTML template '{}' for recipient: {}", templateName, recipient);
-        sendHtmlEmail(recipient, subject, processedHtml);
-    }
-
-    private void sendHtmlEmail(String recipient, String subject, String htmlContent) {
-        try {
-            MimeMessage message = createMimeMessage(recipient, subject, htmlContent, true);
-            log.info("Sending HTML email to: {}", recipient);
-            deliverEmail(message, recipient);
-        } catch (MessagingException e) {
-            handleEmailError("HTML", recipient, e);
-        }
-    }
-
-    private MimeMessage createMimeMessage(String recipient, String subject, String content, boolean isHtml)
-            throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-        helper.setFrom(fromEmail);
-        helper.setTo(recipient);
-        helper.setSubject(subject);
-        helper.setText(content, isHtml);
-
-        ClassPathResource logoImage = new ClassPathResource("static/images/logo.png");
-        helper.addInline("logo", logoImage); // "logo" must match the cid in your HTML
-
-        return message;
-    }
-
-    private void deliverEmail(MimeMessage message, String recipient) {
-        mailSender.send(message);
-        log.info("Email sent successfully to: {}", recipient);
+        emailQueue.enqueueTemplate(request.to(), request.subject(), request.templateName(), modelData);
+        log.debug("Queued HTML email '{}' to: {}", request.templateName(), request.to());
     }
 
-    private void handleEmailError(String emailType, String recipient, MessagingException exception) {
-        log.error("Failed to send {} email to: {}", emailType, recipient, exception);
-        throw new RuntimeException("Failed to send " + emailType + " email", exception);
+    /**
+     * One template to many recipients, e.g. every ticket holder of an event.
+     */
+    public void sendBulkTemplatedHtmlEmail(String subject, String templateName, Map<String, Object> sharedModel,
+                                           List<EmailRecipient> recipients) {
+        emailQueue.enqueueTemplate(subject, templateName, sharedModel, recipients);
+        log.info("Queued {} '{}' emails", recipients.size(), templateName);
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.gucardev.eventsphere.infrastructure.config.email;
 
+import com.gucardev.eventsphere.infrastructure.config.properties.MailDispatchProperties;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.thymeleaf.TemplateEngine;
@@ -9,9 +11,14 @@ import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 import org.thymeleaf.templateresolver.ITemplateResolver;
 
 @Configuration
+@RequiredArgsConstructor
 public class MailConfig {
 
-    @Bean
+    public static final String EMAIL_TEMPLATE_ENGINE = "emailTemplateEngine";
+
+    private final MailDispatchProperties mailDispatchProperties;
+
+    @Bean(name = EMAIL_TEMPLATE_ENGINE)
     public TemplateEngine emailTemplateEngine() {
         SpringTemplateEngine templateEngine = new SpringTemplateEngine();
         templateEngine.addTemplateResolver(emailTemplateResolver());
@@ -24,7 +31,8 @@ public class MailConfig {
         templateResolver.setSuffix(".html");
         templateResolver.setTemplateMode(TemplateMode.HTML);
         templateResolver.setCharacterEncoding("UTF-8");
-        templateResolver.setCacheable(false);
+        // Parsed once per template; bulk sends render the same template thousands of times
+        templateResolver.setCacheable(mailDispatchProperties.isTemplateCache());
         return templateResolver;
     }
 
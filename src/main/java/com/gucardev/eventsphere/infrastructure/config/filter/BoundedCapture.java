@@ -0,0 +1,64 @@
+package com.gucardev.eventsphere.infrastructure.config.filter;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Keeps the first {@code limit} bytes written through it and counts the rest.
+ */
+final class BoundedCapture {
+
+    private final int limit;
+    private byte[] buffer = new byte[0];
+    private int size;
+    private long total;
+
+    BoundedCapture(int limit) {
+        this.limit = limit;
+    }
+
+    void write(int b) {
+        total++;
+        if (size < limit) {
+            ensureCapacity(size + 1);
+            buffer[size++] = (byte) b;
+        }
+    }
+
+    void write(byte[] bytes, int offset, int length) {
+        total += length;
+        int kept = Math.min(length, limit - size);
+        if (kept > 0) {
+            ensureCapacity(size + kept);
+            System.arraycopy(bytes, offset, buffer, size, kept);
+            size += kept;
+        }
+    }
+
+    byte[] bytes() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    long total() {
+        return total;
+    }
+
+    static String decode(byte[] bytes, long total, String charsetName) {
+        if (bytes.length == 0) {
+            return "";
+        }
+        Charset charset = charsetName != null && Charset.isSupported(charsetName)
+                ? Charset.forName(charsetName)
+                : StandardCharsets.UTF_8;
+        String content = new String(bytes, charset);
+        return total > bytes.length ? content + "... [TRUNCATED, " + total + " bytes]" : content;
+    }
+
+    // Grows on demand so small bodies never allocate the full limit
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.min(limit, Math.max(required, Math.max(256, buffer.length * 2))));
+        }
+    }
+}
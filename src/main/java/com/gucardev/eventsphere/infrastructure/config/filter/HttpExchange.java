@@ -0,0 +1,25 @@
+package com.gucardev.eventsphere.infrastructure.config.filter;
+
+import java.util.Map;
+
+/**
+ * One captured request/response pair, raw: decoding and formatting happen on the writer thread.
+ */
+record HttpExchange(
+        String traceId,
+        String clientIp,
+        String method,
+        String uri,
+        String query,
+        Map<String, String> requestHeaders,
+        byte[] requestBody,
+        long requestBodySize,
+        String requestEncoding,
+        int status,
+        Map<String, String> responseHeaders,
+        byte[] responseBody,
+        long responseBodySize,
+        String responseEncoding,
+        long durationMillis,
+        String sampledBy) {
+}
@@ -0,0 +1,128 @@
+package com.gucardev.eventsphere.infrastructure.config.filter;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.HttpLoggingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Drains captured exchanges from a lock-free ring on a single background thread, where the
+ * bodies are decoded and the log lines formatted. Request threads only enqueue; when the writer
+ * falls behind, new exchanges are dropped and counted rather than slowing requests down.
+ */
+@Component
+public class HttpExchangeLogWriter implements SmartLifecycle {
+
+    // Same logger as the filter, so its level still switches capture on and off
+    private static final Logger log = LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
+    private static final long IDLE_PARK_NANOS = Duration.ofMillis(5).toNanos();
+
+    private final MpscRingBuffer<HttpExchange> buffer;
+    private final Counter dropped;
+    private volatile boolean running;
+    private Thread worker;
+
+    public HttpExchangeLogWriter(HttpLoggingProperties properties, MeterRegistry meterRegistry) {
+        this.buffer = new MpscRingBuffer<>(properties.getBufferCapacity());
+        this.dropped = meterRegistry.counter("http.log.dropped");
+        Gauge.builder("http.log.pending", buffer, MpscRingBuffer::size).register(meterRegistry);
+    }
+
+    void submit(HttpExchange exchange) {
+        if (!buffer.offer(exchange)) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().daemon().name("http-log-writer").start(this::drain);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            try {
+                worker.join(Duration.ofSeconds(2));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        while (running || buffer.size() > 0) {
+            HttpExchange exchange = buffer.poll();
+            if (exchange == null) {
+                if (!running) {
+                    // Last claimed slot may still be unpublished, give it a moment and stop
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    if (buffer.poll() == null) {
+                        return;
+                    }
+                    continue;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                write(exchange);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to write HTTP exchange log for {} {}", exchange.method(), exchange.uri(), ex);
+            }
+        }
+    }
+
+    private void write(HttpExchange exchange) {
+        log.debug("""
+
+                        === Request === [trace {}, sampled by {}]
+                        Client IP: {}
+                        Method: {}
+                        URI: {}
+                        Query Params: {}
+                        Headers: {}
+                        Body: {}
+                        === Response ===
+                        Status: {}
+                        Body: {}
+                        Headers: {}
+                        Time Taken: {} ms
+                        """,
+                exchange.traceId(),
+                exchange.sampledBy(),
+                exchange.clientIp(),
+                exchange.method(),
+                exchange.uri(),
+                exchange.query(),
+                format(exchange.requestHeaders()),
+                BoundedCapture.decode(exchange.requestBody(), exchange.requestBodySize(), exchange.requestEncoding()),
+                exchange.status(),
+                BoundedCapture.decode(exchange.responseBody(), exchange.responseBodySize(), exchange.responseEncoding()),
+                format(exchange.responseHeaders()),
+                exchange.durationMillis());
+    }
+
+    private static String format(Map<String, String> headers) {
+        return headers.entrySet().stream()
+                .map(header -> header.getKey() + ": " + header.getValue())
+                .collect(Collectors.joining("\n"));
+    }
+}
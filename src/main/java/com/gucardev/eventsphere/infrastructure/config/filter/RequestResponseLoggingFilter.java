@@ -1,7 +1,11 @@
 package com.gucardev.eventsphere.infrastructure.config.filter;
 
 import com.gucardev.eventsphere.infrastructure.config.properties.AppSpecificProperties;
+import com.gucardev.eventsphere.infrastructure.config.properties.HttpLoggingProperties;
+import com.gucardev.eventsphere.infrastructure.context.RequestContext;
 import jakarta.annotation.Nonnull;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,31 +15,53 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Logs sampled request/response pairs. Bodies are teed into bounded buffers as the application
+ * reads and writes them, the decision to log is taken once the outcome is known (head sample,
+ * server error or slow), and formatting happens off the request thread in
+ * {@link HttpExchangeLogWriter}. With the logger above DEBUG the filter is skipped entirely.
+ */
 @Component
 public class RequestResponseLoggingFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
-    private static final int MAX_PAYLOAD_SIZE = 5120; // 5KB
+    private static final String REDACTED = "***";
+
     private final List<String> ignorePaths;
+    private final HttpLoggingProperties properties;
+    private final HttpExchangeLogWriter writer;
+    private final Set<String> redactedHeaders;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
-    public RequestResponseLoggingFilter(AppSpecificProperties appProperties) {
+    public RequestResponseLoggingFilter(AppSpecificProperties appProperties,
+                                        HttpLoggingProperties properties,
+                                        HttpExchangeLogWriter writer) {
         this.ignorePaths = appProperties.getIgnoredLoggingPaths();
+        this.properties = properties;
+        this.writer = writer;
+        this.redactedHeaders = properties.getRedactedHeaders().stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableSet());
     }
 
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
-
     @Override
     protected boolean shouldNotFilter(@Nonnull HttpServletRequest request) {
-        // Check if the request URI matches any of the ignore patterns
+        if (!properties.isEnabled() || !log.isDebugEnabled()) {
+            return true;
+        }
         return ignorePaths.stream()
                 .anyMatch(pattern -> pathMatcher.match(pattern, request.getRequestURI()));
     }
@@ -44,79 +70,146 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
     protected void doFilterInternal(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        // This method will only be called if shouldNotFilter() returns false
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request,0);
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean headSampled = ThreadLocalRandom.current().nextDouble() < sampleRate(request);
+        if (!headSampled && !properties.isAlwaysLogErrors() && properties.getSlowThreshold() == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        long startTime = System.currentTimeMillis();
+        CapturingRequestWrapper requestWrapper = new CapturingRequestWrapper(request, properties.getMaxPayloadBytes());
+        CapturingResponseWrapper responseWrapper = new CapturingResponseWrapper(response, properties.getMaxPayloadBytes());
+        String traceId = RequestContext.currentTraceId();
+        long startNanos = System.nanoTime();
 
         try {
             filterChain.doFilter(requestWrapper, responseWrapper);
         } finally {
-            long timeTaken = System.currentTimeMillis() - startTime;
-            logRequest(requestWrapper);
-            logResponse(responseWrapper, timeTaken);
-            responseWrapper.copyBodyToResponse();
+            if (request.isAsyncStarted()) {
+                // Async dispatches skip this filter, the exchange completes when the async context does
+                request.getAsyncContext().addListener(new CompletionListener(
+                        requestWrapper, responseWrapper, traceId, startNanos, headSampled));
+            } else {
+                responseWrapper.flushWriter();
+                complete(requestWrapper, responseWrapper, traceId, startNanos, headSampled, null);
+            }
         }
     }
 
-    private void logRequest(ContentCachingRequestWrapper request) {
-        String requestBody = getContentAsString(request.getContentAsByteArray(), request.getCharacterEncoding());
-        String headers = Collections.list(request.getHeaderNames()).stream()
-                .map(headerName -> headerName + ": " + Collections.list(request.getHeaders(headerName)))
-                .collect(Collectors.joining("\n"));
-
-        log.debug("""
-                        
-                        === Request ===
-                        Client IP: {}
-                        Method: {}
-                        URI: {}
-                        Query Params: {}
-                        Headers: {}
-                        Body: {}
-                        """,
+    /**
+     * @param failure "async-timeout" or "async-error" when the async context did not finish normally,
+     *                such exchanges are logged like server errors whatever status was set so far
+     */
+    private void complete(CapturingRequestWrapper request, CapturingResponseWrapper response,
+                          String traceId, long startNanos, boolean headSampled, String failure) {
+        long durationMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        String sampledBy = sampledBy(headSampled, response.getStatus(), durationMillis, failure);
+        if (sampledBy == null) {
+            return;
+        }
+        // Headers are only copied for exchanges that are actually logged
+        writer.submit(new HttpExchange(
+                traceId,
                 request.getRemoteAddr(),
                 request.getMethod(),
                 request.getRequestURI(),
                 request.getQueryString(),
-                headers,
-                requestBody);
+                headers(Collections.list(request.getHeaderNames()), name -> Collections.list(request.getHeaders(name))),
+                request.capture().bytes(),
+                request.capture().total(),
+                request.getCharacterEncoding(),
+                response.getStatus(),
+                headers(response.getHeaderNames(), response::getHeaders),
+                response.capture().bytes(),
+                response.capture().total(),
+                response.getCharacterEncoding(),
+                durationMillis,
+                sampledBy));
     }
 
-    private void logResponse(ContentCachingResponseWrapper response, long timeTaken) {
-        String responseBody = getContentAsString(response.getContentAsByteArray(), response.getCharacterEncoding());
-        String headers = response.getHeaderNames().stream()
-                .map(headerName -> headerName + ": " + response.getHeaders(headerName))
-                .collect(Collectors.joining("\n"));
-
-        log.debug("""
-                        
-                        === Response ===
-                        Status: {}
-                        Body: {}
-                        Headers: {}
-                        Time Taken: {} ms
-                        """,
-                response.getStatus(),
-                responseBody,
-                headers,
-                timeTaken);
+    private String sampledBy(boolean headSampled, int status, long durationMillis, String failure) {
+        if (headSampled) {
+            return "rate";
+        }
+        if (properties.isAlwaysLogErrors() && failure != null) {
+            return failure;
+        }
+        if (properties.isAlwaysLogErrors() && status >= 500) {
+            return "error";
+        }
+        if (properties.getSlowThreshold() != null && durationMillis > properties.getSlowThreshold().toMillis()) {
+            return "latency";
+        }
+        return null;
     }
 
-    private String getContentAsString(byte[] buf, String charsetName) {
-        if (buf == null || buf.length == 0) {
-            return "";
+    private double sampleRate(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String methodAndPath = request.getMethod() + " " + path;
+        for (Map.Entry<String, Double> route : properties.getRouteRates().entrySet()) {
+            String pattern = route.getKey();
+            boolean matches = pattern.startsWith("/")
+                    ? pathMatcher.match(pattern, path)
+                    : pathMatcher.match(pattern, methodAndPath);
+            if (matches) {
+                return route.getValue();
+            }
         }
-        try {
-            int length = Math.min(buf.length, MAX_PAYLOAD_SIZE);
-            String content = new String(buf, 0, length, charsetName);
-            if (buf.length > MAX_PAYLOAD_SIZE) {
-                content += "... [TRUNCATED]";
+        return properties.getSampleRate();
+    }
+
+    private Map<String, String> headers(Collection<String> names, Function<String, Collection<String>> values) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : names) {
+            headers.put(name, redactedHeaders.contains(name.toLowerCase())
+                    ? REDACTED
+                    : String.valueOf(values.apply(name)));
+        }
+        return headers;
+    }
+
+    // Timeouts and errors are logged when they happen, the completion that follows them is then skipped
+    private final class CompletionListener implements AsyncListener {
+
+        private final CapturingRequestWrapper request;
+        private final CapturingResponseWrapper response;
+        private final String traceId;
+        private final long startNanos;
+        private final boolean headSampled;
+        private final AtomicBoolean logged = new AtomicBoolean();
+
+        private CompletionListener(CapturingRequestWrapper request, CapturingResponseWrapper response,
+                                   String traceId, long startNanos, boolean headSampled) {
+            this.request = request;
+            this.response = response;
+            this.traceId = traceId;
+            this.startNanos = startNanos;
+            this.headSampled = headSampled;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            completeOnce(null);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            completeOnce("async-timeout");
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            completeOnce("async-error");
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void completeOnce(String failure) {
+            if (logged.compareAndSet(false, true)) {
+                response.flushWriter();
+                complete(request, response, traceId, startNanos, headSampled, failure);
             }
-            return content;
-        } catch (UnsupportedEncodingException ex) {
-            return "Failed to parse content as string";
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package com.gucardev.eventsphere.infrastructure.config.hibernate;
+
+import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.NameMatchMethodPointcut;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Hibernate statistics (hibernate.second.level.cache.requests{result=hit|miss}, ...) are bound by
+ * Boot's Hibernate metrics auto-configuration, this only covers what Hibernate does not report.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    static final String SOFT_DELETE = "softDelete";
+
+    // BaseJpaRepository.softDelete is a bulk update: no entity events, so the invalidator is told directly
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor softDeleteCacheInvalidationAdvisor(@Lazy SecondLevelCacheInvalidator invalidator) {
+        NameMatchMethodPointcut softDelete = new NameMatchMethodPointcut();
+        softDelete.setMappedName(SOFT_DELETE);
+        ComposablePointcut pointcut = new ComposablePointcut(new RootClassFilter(BaseJpaRepository.class), softDelete);
+        MethodInterceptor interceptor = invocation -> {
+            Object result = invocation.proceed();
+            Class<?> entityType = entityType(invocation.getThis());
+            if (entityType != null) {
+                invalidator.onBulkChange(entityType);
+            }
+            return result;
+        };
+        return new DefaultPointcutAdvisor(pointcut, interceptor);
+    }
+
+    static Class<?> entityType(Object repository) {
+        if (repository == null) {
+            return null;
+        }
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(repository.getClass())) {
+            if (type != BaseJpaRepository.class && BaseJpaRepository.class.isAssignableFrom(type)) {
+                return ResolvableType.forClass(type).as(BaseJpaRepository.class).resolveGeneric(0);
+            }
+        }
+        return null;
+    }
+}
@@ -1,11 +1,11 @@
 package com.gucardev.eventsphere.infrastructure.config.hibernate;
 
+import com.gucardev.eventsphere.infrastructure.context.RequestContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Optional;
 
@@ -16,7 +16,8 @@ public class JpaAuditingConfig {
     @Bean
     public AuditorAware<String> auditorProvider() {
         return () -> {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            // Bound context first, so entities saved from async or forked work keep the caller
+            Authentication authentication = RequestContext.currentAuthentication();
             if (authentication == null || !authentication.isAuthenticated()) {
                 return Optional.of("SYSTEM");
             }
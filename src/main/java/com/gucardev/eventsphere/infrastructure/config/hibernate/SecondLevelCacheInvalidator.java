@@ -0,0 +1,176 @@
+package com.gucardev.eventsphere.infrastructure.config.hibernate;
+
+import com.gucardev.eventsphere.infrastructure.config.cache.CacheInvalidationMessage;
+import com.gucardev.eventsphere.infrastructure.config.cache.RemoteCacheStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * The second-level cache regions are local to each node (Caffeine JCache), Hibernate only invalidates
+ * the node that made the change. After a cached entity (Role, Permission) is committed this broadcasts
+ * its name and id on the cache invalidation channel, and every other node drops that entry, the cached
+ * collections it owns, collections holding that entity type and the query results.
+ * Role permission changes are covered too: they bump the role's @Version, so they arrive as a role update.
+ * <p>
+ * Bulk HQL updates (softDelete) raise no entity events, they are reported through {@link #onBulkChange}
+ * and evict the entity's whole region on the other nodes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    static final String CHANNEL_CACHE_NAME = "hibernate_l2";
+    private static final String ID_SEPARATOR = "#";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final EntityManagerFactory entityManagerFactory;
+    private final RemoteCacheStore remoteCacheStore;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = sessionFactory().getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        remoteCacheStore.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was committed, nothing to invalidate
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was committed, nothing to invalidate
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was committed, nothing to invalidate
+    }
+
+    /**
+     * Called after a bulk update or delete of {@code entityType}. Hibernate already cleaned the local
+     * regions; the other nodes are told after commit, a rolled back update invalidates nothing.
+     */
+    public void onBulkChange(Class<?> entityType) {
+        EntityPersister persister = sessionFactory().getMappingMetamodel().findEntityDescriptor(entityType);
+        if (persister == null || !persister.canWriteToCache()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(persister, null);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(persister, null);
+            }
+        });
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        String key = id == null ? persister.getEntityName() : persister.getEntityName() + ID_SEPARATOR + id;
+        remoteCacheStore.publish(new CacheInvalidationMessage(nodeId, CHANNEL_CACHE_NAME, key));
+    }
+
+    void onInvalidation(CacheInvalidationMessage message) {
+        if (!CHANNEL_CACHE_NAME.equals(message.cacheName()) || nodeId.equals(message.originNodeId())
+                || message.isClear()) {
+            return;
+        }
+        String[] parts = message.key().split(ID_SEPARATOR, 2);
+        EntityPersister persister = sessionFactory().getMappingMetamodel().findEntityDescriptor(parts[0]);
+        if (persister == null) {
+            log.warn("Ignoring second-level cache invalidation for unknown entity {}", parts[0]);
+            return;
+        }
+        Object id = parts.length == 2 ? persister.getIdentifierMapping().getJavaType().fromString(parts[1]) : null;
+        log.debug("Evicting second-level cache entry {} after remote change", message.key());
+        evict(persister, id);
+    }
+
+    private void evict(EntityPersister persister, Object id) {
+        SessionFactoryImplementor sessionFactory = sessionFactory();
+        Cache cache = sessionFactory.getCache();
+        String entityName = persister.getEntityName();
+        if (id == null) {
+            cache.evictEntityData(entityName);
+        } else {
+            cache.evictEntityData(entityName, id);
+        }
+        sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+            if (!collection.hasCache()) {
+                return;
+            }
+            if (entityName.equals(collection.getOwnerEntityPersister().getEntityName())) {
+                if (id == null) {
+                    cache.evictCollectionData(collection.getRole());
+                } else {
+                    cache.evictCollectionData(collection.getRole(), id);
+                }
+            } else if (holds(collection, entityName)) {
+                // Any owner may reference the changed entity, e.g. every role holding a permission
+                cache.evictCollectionData(collection.getRole());
+            }
+        });
+        // Remote query results may list the changed row, their timestamps region never saw the update
+        cache.evictQueryRegions();
+    }
+
+    private static boolean holds(CollectionPersister collection, String entityName) {
+        return collection.getElementType() instanceof EntityType elementType
+                && entityName.equals(elementType.getAssociatedEntityName());
+    }
+
+    private SessionFactoryImplementor sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+}
@@ -0,0 +1,41 @@
+package com.gucardev.eventsphere.infrastructure.config.hibernate;
+
+import com.gucardev.eventsphere.domain.shared.repository.BaseJpaRepository;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.NameMatchMethodPointcut;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Soft deletes of synced entities (events, sessions, tickets) go to the sync change log, so
+ * offline clients receive a tombstone for them.
+ */
+@Configuration
+public class SoftDeleteSyncConfig {
+
+    // Like the cache invalidation advisor: softDelete is a bulk update, no entity event reaches the sync log
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor softDeleteSyncAdvisor(@Lazy SyncChangeLog syncChangeLog) {
+        NameMatchMethodPointcut softDelete = new NameMatchMethodPointcut();
+        softDelete.setMappedName(HibernateCacheConfig.SOFT_DELETE);
+        ComposablePointcut pointcut = new ComposablePointcut(new RootClassFilter(BaseJpaRepository.class), softDelete);
+        MethodInterceptor interceptor = invocation -> {
+            Object result = invocation.proceed();
+            Class<?> entityType = HibernateCacheConfig.entityType(invocation.getThis());
+            if (entityType != null) {
+                syncChangeLog.recordDeletion(entityType, invocation.getArguments()[0]);
+            }
+            return result;
+        };
+        return new DefaultPointcutAdvisor(pointcut, interceptor);
+    }
+}
@@ -0,0 +1,132 @@
+package com.gucardev.eventsphere.infrastructure.config.kafka;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.KafkaConsumerProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Replays parked records from a dead-letter topic back to their source topic, e.g. after the
+ * bug that failed them is fixed: {@code POST /actuator/deadletters/eventsphere.ticket?limit=500}.
+ * <p>
+ * Progress is committed under its own consumer group, so every parked record is replayed once
+ * and repeated calls continue where the last one stopped. Keys, values and headers are copied
+ * as raw bytes; the dead-letter diagnostic headers are dropped. Consumers deduplicate on
+ * {@code eventId}, so replaying something already applied is harmless.
+ * <p>
+ * Over HTTP the endpoint requires the ADMIN role, see
+ * {@link com.gucardev.eventsphere.infrastructure.config.security.config.SecurityConfig}.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "deadletters")
+@RequiredArgsConstructor
+public class DeadLetterReplayEndpoint {
+
+    private static final String REPLAY_GROUP = "eventsphere-dlt-replay";
+    private static final String DEAD_LETTER_HEADER_PREFIX = "kafka_dlt-";
+    private static final int DEFAULT_LIMIT = 1000;
+    private static final int MAX_EMPTY_POLLS = 3;
+
+    private final ConsumerFactory<Object, Object> kafkaConsumerFactory;
+    private final ProducerFactory<Object, Object> kafkaProducerFactory;
+    private final KafkaConsumerProperties properties;
+
+    @WriteOperation
+    public Map<String, Object> replay(@Selector String topic, @OptionalParameter Integer limit) throws Exception {
+        String deadLetterTopic = topic + properties.getDeadLetterSuffix();
+        int max = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+
+        Properties consumerOverrides = new Properties();
+        consumerOverrides.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        consumerOverrides.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        consumerOverrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerOverrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerOverrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.min(max, 500));
+
+        ProducerFactory<Object, Object> replayProducerFactory = kafkaProducerFactory.copyWithConfigurationOverride(Map.of(
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class));
+        try {
+            return replay(topic, deadLetterTopic, max, consumerOverrides, replayProducerFactory);
+        } finally {
+            if (replayProducerFactory instanceof DisposableBean disposable) {
+                disposable.destroy();
+            }
+        }
+    }
+
+    private Map<String, Object> replay(String topic, String deadLetterTopic, int max, Properties consumerOverrides,
+                                       ProducerFactory<Object, Object> replayProducerFactory)
+            throws ExecutionException, InterruptedException {
+        int replayed = 0;
+        try (Consumer<Object, Object> consumer = kafkaConsumerFactory.createConsumer(REPLAY_GROUP, null, "-dlt-replay", consumerOverrides);
+             Producer<Object, Object> producer = replayProducerFactory.createProducer()) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(deadLetterTopic);
+            if (partitions == null || partitions.isEmpty()) {
+                return Map.of("topic", deadLetterTopic, "replayed", 0);
+            }
+            consumer.assign(partitions.stream().map(p -> new TopicPartition(p.topic(), p.partition())).toList());
+
+            int emptyPolls = 0;
+            while (replayed < max && emptyPolls < MAX_EMPTY_POLLS) {
+                var records = consumer.poll(Duration.ofSeconds(1));
+                if (records.isEmpty()) {
+                    emptyPolls++;
+                    continue;
+                }
+                emptyPolls = 0;
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (ConsumerRecord<Object, Object> record : records) {
+                    if (replayed >= max) {
+                        break;
+                    }
+                    producer.send(new ProducerRecord<>(topic, null, record.key(), record.value(),
+                            replayHeaders(record))).get();
+                    offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                    replayed++;
+                }
+                consumer.commitSync(offsets);
+            }
+        }
+        log.info("Replayed {} records from {} to {}", replayed, deadLetterTopic, topic);
+        return Map.of("topic", deadLetterTopic, "replayed", replayed);
+    }
+
+    private static List<Header> replayHeaders(ConsumerRecord<?, ?> record) {
+        List<Header> headers = new ArrayList<>();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(DEAD_LETTER_HEADER_PREFIX)) {
+                headers.add(header);
+            }
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,35 @@
+package com.gucardev.eventsphere.infrastructure.config.kafka;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.KafkaConsumerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * Container factory for batch listeners. Pair it with
+ * {@link com.gucardev.eventsphere.infrastructure.messaging.KeyedBatchProcessor}, which processes
+ * keys in parallel, deduplicates redeliveries and reports the failing record so that only it is
+ * retried and dead-lettered.
+ */
+@Configuration
+public class KafkaConsumerConfiguration {
+
+    public static final String BATCH_FACTORY = "batchKafkaListenerContainerFactory";
+
+    @Bean(name = BATCH_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            CommonErrorHandler kafkaErrorHandler,
+            KafkaConsumerProperties properties) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(kafkaConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(properties.getConcurrency());
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        return factory;
+    }
+}
@@ -1,24 +1,58 @@
 package com.gucardev.eventsphere.infrastructure.config.kafka;
 
 
+import com.gucardev.eventsphere.infrastructure.config.properties.KafkaConsumerProperties;
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
-import org.springframework.util.backoff.FixedBackOff;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Slf4j
 @Configuration
-public class KafkaErrorConfiguration {
+@RequiredArgsConstructor
+public class KafkaErrorConfiguration implements DisposableBean {
+
+    private final KafkaConsumerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private ProducerFactory<?, ?> deadLetterProducerFactory;
 
     @Bean
-    public CommonErrorHandler kafkaErrorHandler() {
+    public CommonErrorHandler kafkaErrorHandler(KafkaTemplate<Object, Object> kafkaTemplate,
+                                                ProducerFactory<Object, Object> kafkaProducerFactory) {
+        DeadLetterPublishingRecoverer deadLetterRecoverer = new DeadLetterPublishingRecoverer(
+                deadLetterTemplates(kafkaTemplate, kafkaProducerFactory),
+                // Negative partition: let the key pick it, the dead-letter topic may have fewer partitions
+                (record, ex) -> new TopicPartition(record.topic() + properties.getDeadLetterSuffix(), -1));
+
+        // Retries block the partition, so they stay short and back off; then the record is parked
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(properties.getMaxRetries());
+        backOff.setInitialInterval(properties.getInitialInterval().toMillis());
+        backOff.setMultiplier(properties.getMultiplier());
+        backOff.setMaxInterval(properties.getMaxInterval().toMillis());
+
         DefaultErrorHandler errorHandler = new DefaultErrorHandler(
-                this::handleKafkaError,
-                new FixedBackOff(1000L, 3) // 3 retries with 1 second interval
+                (record, ex) -> {
+                    handleKafkaError(record, ex);
+                    deadLetterRecoverer.accept(record, ex);
+                },
+                backOff
         );
 
         // Don't retry on certain exceptions
@@ -30,15 +64,32 @@ public class KafkaErrorConfiguration {
         return errorHandler;
     }
 
+    // Records that failed deserialization are dead-lettered as their raw bytes, the rest with the JSON template
+    private Map<Class<?>, KafkaOperations<?, ?>> deadLetterTemplates(KafkaTemplate<Object, Object> kafkaTemplate,
+                                                                      ProducerFactory<Object, Object> kafkaProducerFactory) {
+        deadLetterProducerFactory = kafkaProducerFactory.copyWithConfigurationOverride(
+                Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class));
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, new KafkaTemplate<>(deadLetterProducerFactory));
+        templates.put(Object.class, kafkaTemplate);
+        return templates;
+    }
+
     private void handleKafkaError(ConsumerRecord<?, ?> record, Exception ex) {
-        log.error("[KAFKA] Failed to process message - topic: {}, partition: {}, offset: {}, key: {}",
+        log.error("[KAFKA] Failed to process message, sending to dead-letter topic - topic: {}, partition: {}, offset: {}, key: {}",
                 record.topic(),
                 record.partition(),
                 record.offset(),
                 record.key());
 
         ExceptionLogger.logError(log, "KAFKA", ex);
+        meterRegistry.counter("kafka.consumer.dead.lettered", "topic", record.topic()).increment();
+    }
 
-        // Optional: send to dead letter topic or alert
+    @Override
+    public void destroy() throws Exception {
+        if (deadLetterProducerFactory instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.gucardev.eventsphere.infrastructure.config.loadshedding;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.LoadSheddingProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows measured latency, in the style of Netflix's Gradient2.
+ * <p>
+ * Latency is averaged over short windows and compared with a slow moving baseline. While the
+ * short RTT stays within {@code rttTolerance} of the baseline the limit grows by about sqrt(limit)
+ * per window; once requests start queueing somewhere (the DB pool, usually) the RTT rises, the
+ * gradient drops below one and the limit shrinks proportionally. The limit only grows while at
+ * least half of it is in use, so an idle service does not drift to the maximum.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int windowSize;
+    private final int longWindow;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+
+    // Guarded by this
+    private double longRtt;
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInflight;
+
+    public AdaptiveConcurrencyLimiter(LoadSheddingProperties properties) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.rttTolerance = properties.getRttTolerance();
+        this.smoothing = properties.getSmoothing();
+        this.windowSize = properties.getWindowSize();
+        this.longWindow = properties.getLongWindow();
+        this.limit = properties.getInitialLimit();
+    }
+
+    /**
+     * Takes a slot if fewer than {@code share} of the limit are in flight.
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot. Pass {@code sample = false} for requests whose latency says nothing about
+     * load (async hand-offs, client errors) so they do not skew the estimate.
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inflightAtEnd = inflight.getAndDecrement();
+        if (sample) {
+            onSample(rttNanos, inflightAtEnd);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    synchronized void onSample(long rttNanos, int inflightAtEnd) {
+        windowRttSum += rttNanos;
+        windowCount++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtEnd);
+        if (windowCount < windowSize) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowCount;
+        boolean appLimited = windowMaxInflight < limit / 2;
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInflight = 0;
+
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+            return;
+        }
+        longRtt += (shortRtt - longRtt) / longWindow;
+        // After a latency spike has passed, bring the baseline down quickly instead of over longWindow
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        if (appLimited) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double estimate = limit * gradient + Math.sqrt(limit);
+        double smoothed = limit * (1 - smoothing) + estimate * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+    }
+}
@@ -0,0 +1,130 @@
+package com.gucardev.eventsphere.infrastructure.config.loadshedding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gucardev.eventsphere.infrastructure.config.properties.LoadSheddingProperties;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.response.ApiResponseWrapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sheds load before any work is done for the request: no token decryption, no security
+ * context, no connection. Runs after the tracing filter, so rejections still carry a trace id,
+ * and ahead of the security chain and JwtFilter.
+ * <p>
+ * Rejected requests get 503 with Retry-After; retrying clients should back off rather than
+ * join a queue that only grows.
+ */
+@Slf4j
+@Component
+@Order(ConcurrencyLimitFilter.ORDER)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    // Tracing sits at HIGHEST_PRECEDENCE + 1, the security chain at -100
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    private final LoadSheddingProperties properties;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<Route> routes = new ArrayList<>();
+
+    @Autowired
+    public ConcurrencyLimitFilter(LoadSheddingProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this(properties, new AdaptiveConcurrencyLimiter(properties), objectMapper, meterRegistry);
+    }
+
+    // Lets tests observe what is admitted and which latencies are sampled
+    ConcurrencyLimitFilter(LoadSheddingProperties properties, AdaptiveConcurrencyLimiter limiter,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        for (RequestPriority priority : RequestPriority.values()) {
+            properties.getRoutes().getOrDefault(priority, List.of())
+                    .forEach(route -> routes.add(Route.parse(route, priority)));
+        }
+        Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@Nonnull HttpServletRequest request) {
+        return !properties.isEnabled() || properties.getExcludedPaths().stream()
+                .anyMatch(pattern -> pathMatcher.match(pattern, request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                                    @Nonnull FilterChain filterChain) throws ServletException, IOException {
+        RequestPriority priority = priorityOf(request);
+        if (!limiter.tryAcquire(properties.getLimitShare().getOrDefault(priority, 1.0))) {
+            reject(response, priority);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean sample = false;
+        try {
+            filterChain.doFilter(request, response);
+            // Streaming responses return at once, client errors are cheap: neither reflects load
+            sample = !request.isAsyncStarted() && response.getStatus() < 400;
+        } finally {
+            limiter.release(System.nanoTime() - start, sample);
+        }
+    }
+
+    RequestPriority priorityOf(HttpServletRequest request) {
+        for (Route route : routes) {
+            if ((route.method() == null || route.method().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(route.pattern(), request.getRequestURI())) {
+                return route.priority();
+            }
+        }
+        return properties.getDefaultPriority();
+    }
+
+    private void reject(HttpServletResponse response, RequestPriority priority) throws IOException {
+        meterRegistry.counter("http.server.concurrency.rejected", "priority", priority.name()).increment();
+        log.debug("Shedding {} request, {} in flight of limit {}", priority, limiter.getInflight(), limiter.getLimit());
+
+        ExceptionType type = ExceptionType.OVERLOADED;
+        response.setStatus(type.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ApiResponseWrapper.error(type.getKey(), type.getCode(), null));
+    }
+
+    private record Route(String method, String pattern, RequestPriority priority) {
+
+        static Route parse(String route, RequestPriority priority) {
+            String[] parts = route.trim().split("\\s+", 2);
+            return parts.length == 2
+                    ? new Route(parts[0], parts[1], priority)
+                    : new Route(null, parts[0], priority);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.gucardev.eventsphere.infrastructure.config.loadshedding;
+
+/**
+ * Admission classes, highest first. Each may use a share of the live limit (see
+ * LoadSheddingProperties.limitShare), so lower classes are shed first as it fills up.
+ */
+public enum RequestPriority {
+    // Buying and checking in tickets
+    CRITICAL,
+    // Browsing and search
+    NORMAL,
+    // Exports, imports and other bulk work
+    BACKGROUND
+}
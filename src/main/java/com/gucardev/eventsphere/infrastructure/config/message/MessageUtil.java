@@ -1,7 +1,7 @@
 package com.gucardev.eventsphere.infrastructure.config.message;
 
+import com.gucardev.eventsphere.infrastructure.context.RequestContext;
 import org.springframework.context.MessageSource;
-import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,9 +15,9 @@ public class MessageUtil {
 
     public static String getMessage(String key, Object[] args) {
         try {
-            return messageSource.getMessage(key, args, LocaleContextHolder.getLocale());
+            return messageSource.getMessage(key, args, RequestContext.currentLocale());
         } catch (Exception e) {
-            return messageSource.getMessage("messages.fallback", null, LocaleContextHolder.getLocale());
+            return messageSource.getMessage("messages.fallback", null, RequestContext.currentLocale());
         }
     }
 
@@ -0,0 +1,34 @@
+package com.gucardev.eventsphere.infrastructure.config.metrics;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.UseCaseMetricsProperties;
+import com.gucardev.eventsphere.infrastructure.config.tenant.TenantSchedulingConfiguration;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCasePointcut;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+
+@Configuration
+public class UseCaseMetricsConfiguration {
+
+    // Outermost use case advice: latency includes time queued by tenant scheduling, and its
+    // rejections (TENANT_THROTTLED, OVERLOADED) show up in the error counts
+    public static final int ORDER = TenantSchedulingConfiguration.ORDER - 100;
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor useCaseMetricsAdvisor(@Lazy MeterRegistry meterRegistry,
+                                                ObjectProvider<Tracer> tracer,
+                                                @Lazy UseCaseMetricsProperties properties) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new UseCasePointcut(),
+                new UseCaseMetricsInterceptor(meterRegistry, () -> tracer.getIfAvailable(() -> Tracer.NOOP), properties));
+        advisor.setOrder(ORDER);
+        return advisor;
+    }
+}
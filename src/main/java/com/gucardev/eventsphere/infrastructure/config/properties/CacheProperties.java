@@ -0,0 +1,57 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.cache")
+public class CacheProperties {
+
+    // Defaults applied to every cache unless overridden in specs
+    private long l1MaximumSize = 10_000;
+    private Duration l1Ttl = Duration.ofMinutes(5);
+    private Duration l2Ttl = Duration.ofMinutes(30);
+    // Entries older than this are served stale while one background reload runs, null disables it
+    private Duration refreshAfter;
+    // How long concurrent misses wait for the in-flight load of the same key
+    private Duration coalescingTimeout = Duration.ofSeconds(5);
+
+    // Per cache overrides, keyed by CacheNames constant
+    private Map<String, Spec> specs = new HashMap<>();
+
+    private Redis redis = new Redis();
+
+    public Spec specFor(String cacheName) {
+        Spec spec = specs.getOrDefault(cacheName, new Spec());
+        Spec resolved = new Spec();
+        resolved.setL1MaximumSize(spec.getL1MaximumSize() != null ? spec.getL1MaximumSize() : l1MaximumSize);
+        resolved.setL1Ttl(spec.getL1Ttl() != null ? spec.getL1Ttl() : l1Ttl);
+        resolved.setL2Ttl(spec.getL2Ttl() != null ? spec.getL2Ttl() : l2Ttl);
+        resolved.setRefreshAfter(spec.getRefreshAfter() != null ? spec.getRefreshAfter() : refreshAfter);
+        resolved.setCoalescingTimeout(spec.getCoalescingTimeout() != null ? spec.getCoalescingTimeout() : coalescingTimeout);
+        return resolved;
+    }
+
+    @Data
+    public static class Spec {
+        private Long l1MaximumSize;
+        private Duration l1Ttl;
+        private Duration l2Ttl;
+        private Duration refreshAfter;
+        private Duration coalescingTimeout;
+    }
+
+    @Data
+    public static class Redis {
+        // When disabled the L2 tier and invalidation bus run in-memory (single node, tests)
+        private boolean enabled = false;
+        private String keyPrefix = "eventsphere:";
+        private String invalidationChannel = "eventsphere:cache-invalidation";
+    }
+}
@@ -0,0 +1,41 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Server-sent schedule change feed, see ScheduleChangeFeed.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.change-feed")
+public class ChangeFeedProperties {
+
+    // Consume event/session changes from Kafka; without it the feed stays silent
+    private boolean enabled = true;
+
+    // Recent changes kept for Last-Event-ID resume; older resumes get a "reset" event
+    private int bufferCapacity = 10_000;
+
+    // Changes that arrived just before the Last-Event-ID replayed again on resume, other nodes
+    // interleave partitions differently; clients drop the duplicates by id
+    private int resumeMargin = 500;
+
+    // Open streams per node, beyond that new subscriptions get 503
+    private int maxConnections = 50_000;
+
+    // Streams are closed after this, clients reconnect with Last-Event-ID
+    private Duration connectionTimeout = Duration.ofMinutes(30);
+
+    // Comment frames on idle streams so proxies keep them open and dead clients are noticed
+    private Duration heartbeatInterval = Duration.ofSeconds(20);
+
+    // Sent as the SSE retry field
+    private Duration reconnectDelay = Duration.ofSeconds(3);
+
+    // Events queued for one client before it is considered too slow and disconnected
+    private int maxPendingPerConnection = 256;
+}
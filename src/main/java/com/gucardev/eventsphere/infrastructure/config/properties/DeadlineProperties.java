@@ -0,0 +1,34 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.deadline")
+public class DeadlineProperties {
+
+    private boolean enabled = true;
+
+    // Client budget in milliseconds, relative so client and server clocks need not agree
+    private String header = "X-Request-Timeout";
+
+    // Budget when the client sends none and no route matches
+    private Duration defaultTimeout = Duration.ofSeconds(30);
+
+    // Upper bound on any client supplied budget
+    private Duration maxTimeout = Duration.ofSeconds(60);
+
+    // "METHOD /ant/pattern" or "/ant/pattern" to budget, first match wins
+    private Map<String, Duration> routes = new LinkedHashMap<>();
+
+    // Same route syntax, requests matching one get no deadline at all (uploads that take as long as the client's link)
+    private List<String> excludedRoutes = new ArrayList<>();
+}
@@ -0,0 +1,28 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.event-detail")
+public class EventDetailProperties {
+
+    // Budget for a part without its own entry, also used as its transaction (query) timeout
+    private Duration defaultPartTimeout = Duration.ofSeconds(1);
+
+    // Per part budgets keyed by part name: event, organizer, sessions, ticket-availability, my-tickets
+    private Map<String, Duration> partTimeouts = new HashMap<>();
+
+    // Connections the parts of all event pages may hold at once, a share of the Hikari pool
+    private int maxConcurrentReads = 6;
+
+    public Duration timeoutFor(String part) {
+        return partTimeouts.getOrDefault(part, defaultPartTimeout);
+    }
+}
@@ -0,0 +1,22 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Start time and location change notices to ticket holders, see EventChangeNotifier.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.event-notices")
+public class EventNoticeProperties {
+
+    // Push notices to WebSocket subscribers of this node; emails are sent either way
+    private boolean enabled = true;
+
+    // Holders read, emailed and checkpointed per transaction
+    private int chunkSize = 1000;
+
+    private String template = "event-changed";
+}
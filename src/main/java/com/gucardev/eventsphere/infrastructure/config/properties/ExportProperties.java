@@ -0,0 +1,17 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.export")
+public class ExportProperties {
+
+    // JDBC fetch size for the export cursor; ignored on MySQL, which only streams with Integer.MIN_VALUE
+    private int fetchSize = 1000;
+
+    // Rows written between two flushes of the response stream
+    private int flushEveryRows = 1000;
+}
@@ -0,0 +1,34 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Offline gate manifests, see GateManifestEncoder.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.gate-manifest")
+public class GateManifestProperties {
+
+    // Truncated SHA-256 per ticket code (4-8). At 5 bytes 100k tickets take ~525 KB and a forged code
+    // matches with probability tickets / 2^40
+    private int hashBytes = 5;
+
+    // Base64 PKCS#8 Ed25519 private key, required unless allowEphemeralKey is on
+    private String signingKey = "";
+
+    // Base64 X.509 public half of signingKey, handed to gates
+    private String publicKey = "";
+
+    // Generate a per-process key pair when none is configured. Tests only: gates pinned to that key
+    // reject every manifest after a restart, so startup fails instead unless this is on
+    private boolean allowEphemeralKey = false;
+
+    private int maxScansPerUpload = 1000;
+
+    // Full manifests per event, sequence and ticket set version, shared by every gate of an event that downloads at once
+    private DataSize cacheSize = DataSize.ofMegabytes(64);
+}
@@ -0,0 +1,29 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.http-cache")
+public class HttpCacheProperties {
+
+    // Applied to endpoints without an entry below: clients must revalidate with If-None-Match
+    private Policy defaults = new Policy();
+
+    // Keyed by the endpoint name passed to HttpCachePolicyResolver (e.g. event, session-list)
+    private Map<String, Policy> endpoints = new HashMap<>();
+
+    @Data
+    public static class Policy {
+        // null or zero means no-cache (always revalidate)
+        private Duration maxAge;
+        private boolean privateCache = true;
+        private boolean mustRevalidate = false;
+    }
+}
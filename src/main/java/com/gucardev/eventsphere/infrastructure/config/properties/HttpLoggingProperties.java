@@ -0,0 +1,41 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request/response capture, see RequestResponseLoggingFilter. Nothing is captured unless this is
+ * enabled and the filter's logger is at DEBUG.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.http-logging")
+public class HttpLoggingProperties {
+
+    private boolean enabled = true;
+
+    // Head sampling: share of requests logged regardless of outcome
+    private double sampleRate = 1.0;
+
+    // Per route head sampling rates, "METHOD /ant/pattern" or "/ant/pattern", first match wins
+    private Map<String, Double> routeRates = new LinkedHashMap<>();
+
+    // Tail sampling: always log server errors and slow requests, even when not head sampled
+    private boolean alwaysLogErrors = true;
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    // Body bytes kept per direction, the rest streams through uncaptured
+    private int maxPayloadBytes = 5120;
+
+    // Exchanges waiting for the writer; when full new ones are dropped and counted
+    private int bufferCapacity = 4096;
+
+    // Header values replaced with *** in the log
+    private List<String> redactedHeaders = List.of("authorization", "cookie", "set-cookie", "x-api-key");
+}
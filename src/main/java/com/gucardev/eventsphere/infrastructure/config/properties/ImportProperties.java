@@ -0,0 +1,25 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.import")
+public class ImportProperties {
+
+    // Uploaded files are kept here until the import completes, resuming re-reads them
+    private String directory = "./storage/imports";
+
+    // Rows per chunk: one validation pass, one set of IN lookups, one JDBC batch and one checkpoint
+    private int batchSize = 1000;
+
+    // Threads validating the rows of a chunk
+    private int validationParallelism = 4;
+
+    // How long a claimed import stays with its node without committing a chunk; it must outlast any one chunk
+    private Duration leaseDuration = Duration.ofMinutes(5);
+}
@@ -0,0 +1,34 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.kafka.consumer")
+public class KafkaConsumerProperties {
+
+    // Consumer threads of the batch container factory, at most one per partition does work
+    private int concurrency = 3;
+
+    // Keys of one batch processed at the same time; records of one key stay sequential
+    private int keyParallelism = 16;
+
+    // In-partition retries before a record goes to the dead-letter topic; they block the partition, keep them short
+    private int maxRetries = 3;
+    private Duration initialInterval = Duration.ofMillis(200);
+    private double multiplier = 2.0;
+    private Duration maxInterval = Duration.ofSeconds(2);
+
+    // Failed records go to <topic><suffix>
+    private String deadLetterSuffix = ".DLT";
+
+    // Recently processed event ids kept in memory, so redeliveries skip the database lookup
+    private int idempotencyCacheSize = 100_000;
+
+    // How long processed event ids are kept; must exceed the longest expected redelivery or replay gap
+    private Duration idempotencyRetention = Duration.ofDays(7);
+}
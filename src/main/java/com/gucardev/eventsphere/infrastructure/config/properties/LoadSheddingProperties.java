@@ -0,0 +1,54 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import com.gucardev.eventsphere.infrastructure.config.loadshedding.RequestPriority;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    // Concurrent requests allowed before any latency has been measured
+    private int initialLimit = 50;
+    private int minLimit = 10;
+    private int maxLimit = 500;
+
+    // Latency growth tolerated before the limit shrinks, as short/long RTT ratio
+    private double rttTolerance = 2.0;
+
+    // Weight of each new limit estimate, lower reacts slower but steadier
+    private double smoothing = 0.2;
+
+    // Samples averaged into one short RTT measurement
+    private int windowSize = 20;
+
+    // Windows averaged into the long RTT baseline
+    private int longWindow = 100;
+
+    // Sent as Retry-After on 503
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private RequestPriority defaultPriority = RequestPriority.NORMAL;
+
+    // Fraction of the live limit each class may fill
+    private Map<RequestPriority, Double> limitShare = new EnumMap<>(Map.of(
+            RequestPriority.CRITICAL, 1.0,
+            RequestPriority.NORMAL, 0.9,
+            RequestPriority.BACKGROUND, 0.5));
+
+    // "METHOD /ant/pattern" or "/ant/pattern" per class, first match wins from CRITICAL down
+    private Map<RequestPriority, List<String>> routes = new EnumMap<>(RequestPriority.class);
+
+    // Never limited, e.g. health checks
+    private List<String> excludedPaths = new ArrayList<>();
+}
@@ -0,0 +1,28 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.security.login")
+public class LoginProtectionProperties {
+
+    // Concurrent BCrypt calls (CPU bound, keep it close to core count)
+    private int maxConcurrentHashes = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    // How long a call waits for a free slot before failing with 503; callers wait on the request thread
+    private Duration hashingPermitWait = Duration.ofMillis(100);
+
+    // Sliding window throttles
+    private Duration throttleWindow = Duration.ofMinutes(1);
+    private int maxAttemptsPerIp = 30;
+    private int maxFailuresPerEmail = 5;
+    private long maxTrackedKeys = 100_000;
+
+    // Negative cache for emails that do not belong to any user
+    private Duration unknownEmailTtl = Duration.ofMinutes(5);
+    private long unknownEmailMaxSize = 100_000;
+}
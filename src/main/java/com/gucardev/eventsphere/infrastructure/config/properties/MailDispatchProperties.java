@@ -0,0 +1,56 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Queued email delivery, see EmailDispatcher.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.mail-dispatch")
+public class MailDispatchProperties {
+
+    // Run the dispatcher on this node; enqueueing works either way
+    private boolean enabled = true;
+
+    private String from;
+
+    // Concurrent SMTP connections per node
+    private int workers = 4;
+
+    // Messages sent over one SMTP connection before it is closed
+    private int chunkSize = 50;
+
+    // A claimed message not reported back within this is claimed again (node died mid-send)
+    private Duration lease = Duration.ofMinutes(5);
+
+    private int maxAttempts = 6;
+
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    // Messages per rate window per recipient domain and node, unless listed in domainRates
+    private int defaultDomainRate = 600;
+
+    private Map<String, Integer> domainRates = new LinkedHashMap<>();
+
+    private Duration rateWindow = Duration.ofMinutes(1);
+
+    // Rate limited messages are put back for this long
+    private Duration rateLimitDelay = Duration.ofSeconds(5);
+
+    // Parsed templates stay cached; turn off to edit templates without restarting
+    private boolean templateCache = true;
+
+    // cid -> classpath resource, attached when the rendered HTML references cid:<name>
+    private Map<String, String> inlineResources = new LinkedHashMap<>(Map.of("logo", "static/images/logo.png"));
+
+    private Duration sentRetention = Duration.ofDays(7);
+}
@@ -0,0 +1,40 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.outbox")
+public class OutboxProperties {
+
+    // Run the relay on this node; events are still written to the outbox when off
+    private boolean relayEnabled = true;
+
+    // Pause between relay runs once the outbox is drained
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    // Events locked, sent and deleted together
+    private int batchSize = 1000;
+
+    // Full batches relayed back to back before the run yields to the scheduler
+    private int maxBatchesPerRun = 50;
+
+    // Topic per aggregate: prefix + aggregate type, e.g. eventsphere.ticket
+    private String topicPrefix = "eventsphere.";
+
+    // How long a batch waits for broker acknowledgements before it is retried
+    private Duration sendTimeout = Duration.ofSeconds(30);
+
+    // How long a claimed batch stays reserved for its relay, longer than the send timeout;
+    // a relay that dies mid-batch frees the outbox head after this
+    private Duration claimDuration = Duration.ofMinutes(2);
+
+    // Producer tuning for relay throughput; idempotence keeps per-partition order across retries
+    private int lingerMs = 10;
+    private int producerBatchBytes = 256 * 1024;
+    private String compressionType = "lz4";
+}
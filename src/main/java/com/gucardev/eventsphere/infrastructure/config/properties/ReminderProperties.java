@@ -0,0 +1,37 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Event reminders to ticket holders, planned and fanned out as clustered Quartz jobs, see
+ * EventReminderPlanner.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.reminders")
+public class ReminderProperties {
+
+    // Schedule the scan job; when off, nothing is planned but already planned fan-outs still run
+    private boolean enabled = true;
+
+    // Also how late a reminder can go out relative to its lead
+    private Duration scanInterval = Duration.ofMinutes(5);
+
+    // Events planned per transaction
+    private int scanPageSize = 200;
+
+    // Fan-out jobs per event and reminder, spread over the Quartz threads of every node
+    private int partitions = 16;
+
+    // Holders read, emailed and checkpointed per transaction
+    private int chunkSize = 1000;
+
+    // A pending partition without progress for this long is scheduled again (its job was lost)
+    private Duration stallTimeout = Duration.ofMinutes(15);
+
+    private String template = "event-reminder";
+}
@@ -0,0 +1,25 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Live seat availability, see SeatAvailabilityBroadcaster.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.seat-availability")
+public class SeatAvailabilityProperties {
+
+    // Consume ticket changes from Kafka; without it nothing is pushed
+    private boolean enabled = true;
+
+    // At most one message per event per interval (500ms = 2 per second), however many tickets sell
+    private Duration pushInterval = Duration.ofMillis(500);
+
+    // Events counted per query when many changed in one interval
+    private int queryChunkSize = 500;
+}
@@ -0,0 +1,28 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Delta sync ("changes since") for offline clients, see GetEventChangesUseCase.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.sync")
+public class SyncProperties {
+
+    // Changes younger than this are held back, so a slower transaction with a lower sequence
+    // cannot commit behind a client's watermark. Keep it above the longest write transaction.
+    // Measured on the database clock, like changed_at.
+    private Duration settleDelay = Duration.ofSeconds(5);
+
+    private int defaultPageSize = 500;
+
+    private int maxPageSize = 2000;
+
+    // Older changes are purged; clients behind that get resyncRequired and download everything again
+    private Duration retention = Duration.ofDays(30);
+}
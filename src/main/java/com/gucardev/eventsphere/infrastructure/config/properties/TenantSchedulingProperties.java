@@ -0,0 +1,39 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.tenant-scheduling")
+public class TenantSchedulingProperties {
+
+    private boolean enabled = true;
+
+    // Use case executions running at once across all tenants, beyond it callers queue fairly
+    private int capacity = 30;
+
+    // How long a queued call may wait for its turn before 503
+    private Duration queueTimeout = Duration.ofSeconds(2);
+
+    // Calls one tenant may have queued before further ones get 429 straight away
+    private int maxQueuedPerTenant = 20;
+
+    // Concurrent @HeavyOperation calls per tenant and in total
+    private int heavyPerTenant = 2;
+    private int heavyTotal = 8;
+
+    // Share weights keyed by tenant (organizer id or "system"), default 1; "attendees" applies to each attendee's own tenant
+    private Map<String, Double> weights = new HashMap<>();
+
+    // Tenants tagged individually in metrics, the rest are reported as "other"
+    private int maxTaggedTenants = 200;
+
+    // Organizer lookups per user are cached this long
+    private Duration tenantCacheTtl = Duration.ofMinutes(10);
+}
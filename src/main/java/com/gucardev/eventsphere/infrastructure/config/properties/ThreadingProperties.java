@@ -0,0 +1,25 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the virtual-thread mode, switched on with spring.threads.virtual.enabled.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.threading")
+public class ThreadingProperties {
+
+    // Concurrent @Async tasks; beyond it submitters wait, the same back-pressure the old bounded queue gave
+    private int asyncConcurrencyLimit = 256;
+
+    // How long a thread may wait for a DB connection permit before failing fast
+    private Duration connectionPermitTimeout = Duration.ofSeconds(5);
+
+    // Pinned intervals shorter than this are not recorded
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
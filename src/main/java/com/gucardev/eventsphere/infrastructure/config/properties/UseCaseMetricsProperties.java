@@ -0,0 +1,28 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Timers, in-flight gauges, error counters and spans per use case, see UseCaseMetricsInterceptor.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.usecase-metrics")
+public class UseCaseMetricsProperties {
+
+    private boolean enabled = true;
+
+    // Histogram buckets, so percentiles can be aggregated across nodes (p99 of the fleet, not of one node)
+    private boolean percentileHistogram = true;
+
+    // Bucket range; a narrower range means fewer buckets per use case
+    private Duration minimumExpectedValue = Duration.ofMillis(1);
+    private Duration maximumExpectedValue = Duration.ofSeconds(30);
+
+    // A span per use case call, child of the request span
+    private boolean tracing = true;
+}
@@ -0,0 +1,33 @@
+package com.gucardev.eventsphere.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app-specific-configs.websocket")
+public class WebSocketProperties {
+
+    private List<String> allowedOrigins = new ArrayList<>(List.of("*"));
+
+    // Destinations clients may SUBSCRIBE to (ant patterns); every client SEND is rejected
+    private List<String> subscribableDestinations = new ArrayList<>();
+
+    // Slow consumers: a session whose send blocks longer or buffers more than this is closed.
+    // Clients reconnect and get a fresh snapshot, so nothing is lost but stale intermediate counts.
+    private Duration sendTimeLimit = Duration.ofSeconds(5);
+    private int sendBufferSizeLimit = 256 * 1024;
+
+    // Inbound frames are tiny (SUBSCRIBE/UNSUBSCRIBE)
+    private int messageSizeLimit = 16 * 1024;
+
+    // Threads writing to client sessions
+    private int outboundThreads = 8;
+
+    private Duration heartbeat = Duration.ofSeconds(10);
+}
@@ -0,0 +1,43 @@
+package com.gucardev.eventsphere.infrastructure.config.scheduler;
+
+import com.gucardev.eventsphere.domain.event.service.reminder.EventReminderScanJob;
+import com.gucardev.eventsphere.infrastructure.config.properties.ReminderProperties;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Recurring Quartz jobs. Unlike {@code @Scheduled} methods, which run on every node, these live in
+ * the clustered JDBC job store (spring.quartz), so each firing runs once across the cluster and a
+ * job interrupted by a node dying is recovered by another.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app-specific-configs.reminders", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QuartzConfiguration {
+
+    @Bean
+    public JobDetail eventReminderScanJobDetail() {
+        return JobBuilder.newJob(EventReminderScanJob.class)
+                .withIdentity("event-reminder-scan")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger eventReminderScanTrigger(JobDetail eventReminderScanJobDetail, ReminderProperties properties) {
+        return TriggerBuilder.newTrigger()
+                .forJob(eventReminderScanJobDetail)
+                .withIdentity("event-reminder-scan")
+                // After downtime, scan once instead of catching up on every missed firing
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInMilliseconds(properties.getScanInterval().toMillis())
+                        .repeatForever()
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+    }
+}
@@ -1,25 +1,43 @@
 package com.gucardev.eventsphere.infrastructure.config.scheduler;
 
 import com.gucardev.eventsphere.infrastructure.exception.ExceptionLogger;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.util.ErrorHandler;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class SchedulerConfiguration implements SchedulingConfigurer {
 
+    public static final String OUTBOX_RELAY_SCHEDULER = "outboxRelayScheduler";
+
+    private final Environment environment;
+
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         taskRegistrar.setScheduler(taskScheduler());
     }
 
     @Bean
-    public ThreadPoolTaskScheduler taskScheduler() {
+    public TaskScheduler taskScheduler() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // Each trigger fires on its own virtual thread, a slow job no longer delays the others
+            SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setThreadNamePrefix("Scheduler-");
+            scheduler.setVirtualThreads(true);
+            scheduler.setErrorHandler(schedulerErrorHandler());
+            return scheduler;
+        }
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
         scheduler.setPoolSize(2);
         scheduler.setThreadNamePrefix("Scheduler-");
@@ -28,6 +46,21 @@ public class SchedulerConfiguration implements SchedulingConfigurer {
         return scheduler;
     }
 
+    /**
+     * The outbox relay runs back to back batches and waits on broker acks, it would hold one of the
+     * shared threads most of the time and delay mail dispatch, availability pushes and heartbeats.
+     * It gets its own thread; fixed delay runs never overlap, so one is enough.
+     */
+    @Bean(OUTBOX_RELAY_SCHEDULER)
+    public ThreadPoolTaskScheduler outboxRelayScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("OutboxRelay-");
+        scheduler.setErrorHandler(schedulerErrorHandler());
+        scheduler.initialize();
+        return scheduler;
+    }
+
     @Bean
     public ErrorHandler schedulerErrorHandler() {
         return throwable -> ExceptionLogger.logError(log, "SCHEDULER", throwable);
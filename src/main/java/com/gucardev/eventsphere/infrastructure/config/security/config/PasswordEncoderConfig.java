@@ -1,14 +1,27 @@
 package com.gucardev.eventsphere.infrastructure.config.security.config;
 
+import com.gucardev.eventsphere.infrastructure.config.properties.LoginProtectionProperties;
+import com.gucardev.eventsphere.infrastructure.config.security.protection.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
+@RequiredArgsConstructor
 public class PasswordEncoderConfig {
 
+    private final LoginProtectionProperties loginProtectionProperties;
+
+    // Only one PasswordEncoder bean may exist, otherwise Spring Security ignores it for DaoAuthenticationProvider
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(),
+                loginProtectionProperties.getMaxConcurrentHashes(),
+                loginProtectionProperties.getHashingPermitWait(),
+                meterRegistry);
     }
 }
@@ -29,6 +29,9 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // Actuator endpoints that change state; the rest of /actuator stays open through the ignored paths
+    private static final String[] ADMIN_ACTUATOR_PATHS = {"/actuator/deadletters/**"};
+
     private final SecurityProperties securityProperties;
     private final JwtTokenService tokenService;
     private final EncryptionService encryptionService;
@@ -58,7 +61,8 @@ public class SecurityConfig {
                     securityProperties.getIgnoredPaths().forEach(path ->
                             log.info("Permitting path: {}", path)
                     );
-                    auth.requestMatchers(securityProperties.getIgnoredPaths().toArray(new String[0])).permitAll()
+                    auth.requestMatchers(ADMIN_ACTUATOR_PATHS).hasRole("ADMIN")
+                            .requestMatchers(securityProperties.getIgnoredPaths().toArray(new String[0])).permitAll()
                             .anyRequest().authenticated();
                 })
                 .addFilterBefore(jwtFilter(), UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,94 @@
+package com.gucardev.eventsphere.infrastructure.config.security.protection;
+
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many hash/verify calls of the delegate encoder run at once. The work stays on the
+ * calling thread, handing it to a pool would only park the request thread on the result; callers
+ * beyond the cap wait at most {@code permitWait} and then fail fast with 503, so a
+ * credential-stuffing burst cannot pile up request threads behind BCrypt.
+ * <p>
+ * Verifying (login) fails with LOGIN_CAPACITY_EXCEEDED, hashing a new password (user creation,
+ * password change) with PASSWORD_HASHING_BUSY.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final Duration permitWait;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent, Duration permitWait,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.permitWait = permitWait;
+        this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+                .description("Password hashing calls rejected because every permit was taken")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", this, BoundedPasswordEncoder::getActive)
+                .description("Password hashing calls currently running")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.waiting", this, BoundedPasswordEncoder::getWaiting)
+                .description("Password hashing calls queued for a permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return runBounded(() -> delegate.encode(rawPassword), ExceptionType.PASSWORD_HASHING_BUSY);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return runBounded(() -> delegate.matches(rawPassword, encodedPassword), ExceptionType.LOGIN_CAPACITY_EXCEEDED);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    // Estimate; the semaphore is fair, so this is the FIFO queue of callers within their permitWait
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    private <T> T runBounded(Supplier<T> task, ExceptionType busy) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(permitWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtil.of(busy);
+        }
+        if (!acquired) {
+            rejectedCounter.increment();
+            log.warn("Password hashing saturated, {} calls running", maxConcurrent);
+            throw ExceptionUtil.of(busy);
+        }
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
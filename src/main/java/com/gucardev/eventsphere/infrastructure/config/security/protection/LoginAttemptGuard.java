@@ -0,0 +1,134 @@
+package com.gucardev.eventsphere.infrastructure.config.security.protection;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gucardev.eventsphere.infrastructure.config.properties.LoginProtectionProperties;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Locale;
+
+/**
+ * Front door for the login hot path.
+ * Throttles by client IP (all attempts) and by email (failed attempts) with in-memory
+ * sliding windows, and short-circuits emails known not to exist before any DB or hash work.
+ */
+@Slf4j
+@Component
+public class LoginAttemptGuard {
+
+    private static final String UNKNOWN_IP = "unknown";
+
+    private final SlidingWindowRateLimiter ipLimiter;
+    private final SlidingWindowRateLimiter emailFailureLimiter;
+    private final Cache<String, Boolean> unknownEmails;
+
+    private final Counter ipThrottledCounter;
+    private final Counter emailThrottledCounter;
+    private final Counter unknownEmailShortCircuitCounter;
+
+    public LoginAttemptGuard(LoginProtectionProperties properties, MeterRegistry meterRegistry) {
+        this.ipLimiter = new SlidingWindowRateLimiter(
+                properties.getMaxAttemptsPerIp(), properties.getThrottleWindow(), properties.getMaxTrackedKeys());
+        this.emailFailureLimiter = new SlidingWindowRateLimiter(
+                properties.getMaxFailuresPerEmail(), properties.getThrottleWindow(), properties.getMaxTrackedKeys());
+        this.unknownEmails = Caffeine.newBuilder()
+                .maximumSize(properties.getUnknownEmailMaxSize())
+                .expireAfterWrite(properties.getUnknownEmailTtl())
+                .build();
+
+        this.ipThrottledCounter = throttledCounter(meterRegistry, "ip");
+        this.emailThrottledCounter = throttledCounter(meterRegistry, "email");
+        this.unknownEmailShortCircuitCounter = Counter.builder("auth.login.unknown_email.short_circuit")
+                .description("Logins rejected from the unknown email negative cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Must be called before authentication. Throws if the caller is throttled
+     * or the email is cached as unknown.
+     */
+    public void checkAllowed(String email) {
+        String clientIp = resolveClientIp();
+        if (!ipLimiter.tryAcquire(clientIp)) {
+            ipThrottledCounter.increment();
+            log.warn("Login throttled for IP: {}", clientIp);
+            throw ExceptionUtil.of(ExceptionType.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+
+        String emailKey = normalize(email);
+        if (emailFailureLimiter.isExceeded(emailKey)) {
+            emailThrottledCounter.increment();
+            log.warn("Login throttled for email: {}", emailKey);
+            throw ExceptionUtil.of(ExceptionType.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+
+        if (unknownEmails.getIfPresent(emailKey) != null) {
+            unknownEmailShortCircuitCounter.increment();
+            throw new BadCredentialsException("Bad credentials");
+        }
+    }
+
+    public void recordFailure(String email) {
+        emailFailureLimiter.record(normalize(email));
+    }
+
+    public void recordSuccess(String email) {
+        emailFailureLimiter.reset(normalize(email));
+    }
+
+    public void rememberUnknownEmail(String email) {
+        unknownEmails.put(normalize(email), Boolean.TRUE);
+    }
+
+    /**
+     * Must be called whenever a user is created or changes email,
+     * otherwise the new address stays rejected until the entry expires.
+     * Inside a transaction the entry is dropped after commit: a login racing the commit would
+     * otherwise miss the user and put the address straight back.
+     */
+    public void forgetUnknownEmail(String email) {
+        if (email == null) return;
+        String emailKey = normalize(email);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            unknownEmails.invalidate(emailKey);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                unknownEmails.invalidate(emailKey);
+            }
+        });
+    }
+
+    private String resolveClientIp() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return UNKNOWN_IP;
+        }
+        // Proxies are resolved by server.forward-headers-strategy, never trust raw X-Forwarded-For here
+        return servletAttributes.getRequest().getRemoteAddr();
+    }
+
+    private String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter throttledCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected by the sliding window throttle")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,98 @@
+package com.gucardev.eventsphere.infrastructure.config.security.protection;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory sliding window counter keyed by an arbitrary string (IP, email, ...).
+ * Uses the two-bucket approximation: the previous window's count is weighted by how much
+ * of it still overlaps the sliding window, so memory stays O(1) per key.
+ * Keys are held in a bounded Caffeine cache and expire after two idle windows.
+ */
+public class SlidingWindowRateLimiter {
+
+    private final int limit;
+    private final long windowMillis;
+    private final Cache<String, Window> windows;
+    private final LongSupplier clock;
+
+    public SlidingWindowRateLimiter(int limit, Duration window, long maxKeys) {
+        this(limit, window, maxKeys, System::currentTimeMillis);
+    }
+
+    // clock in epoch millis, replaceable in tests
+    SlidingWindowRateLimiter(int limit, Duration window, long maxKeys, LongSupplier clock) {
+        this.limit = limit;
+        this.clock = clock;
+        this.windowMillis = window.toMillis();
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(window.multipliedBy(2))
+                .build();
+    }
+
+    /**
+     * Records a hit for the key and returns false if the key is over its limit.
+     */
+    public boolean tryAcquire(String key) {
+        return windows.get(key, k -> new Window()).tryAcquire(clock.getAsLong());
+    }
+
+    /**
+     * Records a hit for the key without checking the limit.
+     */
+    public void record(String key) {
+        windows.get(key, k -> new Window()).record(clock.getAsLong());
+    }
+
+    /**
+     * Returns true if the key already reached its limit, without recording a hit.
+     */
+    public boolean isExceeded(String key) {
+        Window window = windows.getIfPresent(key);
+        return window != null && window.estimate(clock.getAsLong()) >= limit;
+    }
+
+    public void reset(String key) {
+        windows.invalidate(key);
+    }
+
+    private final class Window {
+        private long currentStart;
+        private int previousCount;
+        private int currentCount;
+
+        synchronized boolean tryAcquire(long now) {
+            if (estimate(now) >= limit) {
+                return false;
+            }
+            currentCount++;
+            return true;
+        }
+
+        synchronized void record(long now) {
+            roll(now);
+            currentCount++;
+        }
+
+        synchronized double estimate(long now) {
+            roll(now);
+            double previousWeight = 1.0 - (double) (now - currentStart) / windowMillis;
+            return previousCount * previousWeight + currentCount;
+        }
+
+        private void roll(long now) {
+            long elapsed = now - currentStart;
+            if (elapsed < windowMillis) {
+                return;
+            }
+            // Exactly one window passed: current becomes previous, otherwise both are stale
+            previousCount = elapsed < 2 * windowMillis ? currentCount : 0;
+            currentCount = 0;
+            currentStart = now - (elapsed % windowMillis);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.gucardev.eventsphere.infrastructure.config.security.dto.JwtAuthDetail
 import com.gucardev.eventsphere.infrastructure.config.security.dto.PasswordAuthDetails;
 import com.gucardev.eventsphere.infrastructure.config.security.dto.request.LoginRequest;
 import com.gucardev.eventsphere.infrastructure.config.security.dto.response.TokenDto;
+import com.gucardev.eventsphere.infrastructure.config.security.protection.LoginAttemptGuard;
+import com.gucardev.eventsphere.infrastructure.context.RequestContext;
 import com.gucardev.eventsphere.infrastructure.util.EncryptionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -26,13 +29,24 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenService tokenService;
     private final EncryptionService encryptionService;
+    private final LoginAttemptGuard loginAttemptGuard;
 
     public TokenDto login(@Valid LoginRequest loginRequest) {
+        // Reject throttled callers and known-unknown emails before any DB or hash work
+        loginAttemptGuard.checkAllowed(loginRequest.getEmail());
+
         // Authenticate with username and password
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getEmail(),
-                        loginRequest.getPassword()));
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            loginRequest.getEmail(),
+                            loginRequest.getPassword()));
+        } catch (AuthenticationException ex) {
+            loginAttemptGuard.recordFailure(loginRequest.getEmail());
+            throw ex;
+        }
+        loginAttemptGuard.recordSuccess(loginRequest.getEmail());
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -47,7 +61,7 @@ public class AuthService {
     }
 
     public UserResponseDto getAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Authentication authentication = RequestContext.currentAuthentication();
         if (!isAuthenticated(authentication)) {
             throw new RuntimeException("No authenticated user found");
         }
@@ -2,6 +2,7 @@ package com.gucardev.eventsphere.infrastructure.config.security.service;
 
 import com.gucardev.eventsphere.domain.auth.user.service.usecase.GetOptionalUserDtoByEmailUseCase;
 import com.gucardev.eventsphere.infrastructure.config.security.dto.PasswordAuthDetails;
+import com.gucardev.eventsphere.infrastructure.config.security.protection.LoginAttemptGuard;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,10 +19,15 @@ import org.springframework.stereotype.Service;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final GetOptionalUserDtoByEmailUseCase getOptionalUserDtoByEmailUseCase;
+    private final LoginAttemptGuard loginAttemptGuard;
 
     @Override
     public @NotNull UserDetails loadUserByUsername(@NotNull String email) throws UsernameNotFoundException {
         return new PasswordAuthDetails(getOptionalUserDtoByEmailUseCase.execute(email)
-                .orElseThrow(() -> new UsernameNotFoundException(email)));
+                .orElseThrow(() -> {
+                    // Next attempts with this email are rejected without touching the DB
+                    loginAttemptGuard.rememberUnknownEmail(email);
+                    return new UsernameNotFoundException(email);
+                }));
     }
 }
\ No newline at end of file
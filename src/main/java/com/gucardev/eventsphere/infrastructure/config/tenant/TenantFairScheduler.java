@@ -0,0 +1,202 @@
+package com.gucardev.eventsphere.infrastructure.config.tenant;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.TenantSchedulingProperties;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Weighted fair queuing of use case executions across tenants.
+ * <p>
+ * Up to {@code capacity} calls run at once. Beyond that each call is queued with a virtual
+ * finish tag, {@code max(virtual time, tenant's last tag) + 1 / weight}, and freed slots go to the
+ * lowest tag (start-time fair queuing). A tenant flooding the queue only pushes its own tags
+ * further out, so the others keep getting their share in proportion to their weights.
+ * <p>
+ * Heavy operations do not take a shared slot, they would hold it for minutes. They are
+ * capped per tenant and in total instead, and rejected at once when over the cap.
+ */
+public class TenantFairScheduler {
+
+    private final TenantSchedulingProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>();
+    // Only tenants with queued, running or heavy calls are kept
+    private final Map<String, TenantState> tenants = new HashMap<>();
+    private int running;
+    private int heavyRunning;
+    private double virtualTime;
+    private long sequence;
+
+    public TenantFairScheduler(TenantSchedulingProperties properties) {
+        this.properties = properties;
+    }
+
+    public long acquire(String tenant) throws InterruptedException {
+        return acquire(tenant, properties.getQueueTimeout());
+    }
+
+    /**
+     * Blocks until the tenant's turn comes, at most {@code maxWait}.
+     *
+     * @return nanoseconds spent queued
+     */
+    public long acquire(String tenant, Duration maxWait) throws InterruptedException {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            TenantState state = tenants.computeIfAbsent(tenant, key -> new TenantState());
+            if (running < properties.getCapacity() && queue.isEmpty()) {
+                running++;
+                state.running++;
+                return 0;
+            }
+            if (state.queued >= properties.getMaxQueuedPerTenant()) {
+                forgetIfIdle(tenant, state);
+                throw ExceptionUtil.of(ExceptionType.TENANT_THROTTLED);
+            }
+
+            double tag = Math.max(virtualTime, state.lastTag) + 1 / weight(tenant);
+            state.lastTag = tag;
+            Waiter waiter = new Waiter(tenant, tag, sequence++, lock.newCondition());
+            queue.add(waiter);
+            state.queued++;
+
+            long remaining = maxWait.toNanos();
+            try {
+                while (!waiter.granted && remaining > 0) {
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException ex) {
+                // Granted and interrupted at the same time: hand the slot on
+                if (waiter.granted) {
+                    release(tenant);
+                }
+                throw ex;
+            } finally {
+                if (!waiter.granted) {
+                    queue.remove(waiter);
+                    state.queued--;
+                    forgetIfIdle(tenant, state);
+                }
+            }
+            if (!waiter.granted) {
+                throw ExceptionUtil.of(ExceptionType.OVERLOADED);
+            }
+            return System.nanoTime() - start;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(String tenant) {
+        lock.lock();
+        try {
+            TenantState state = tenants.get(tenant);
+            running--;
+            if (state != null) {
+                state.running--;
+                forgetIfIdle(tenant, state);
+            }
+            Waiter next = queue.poll();
+            if (next != null) {
+                virtualTime = next.tag;
+                next.granted = true;
+                running++;
+                TenantState nextState = tenants.get(next.tenant);
+                nextState.queued--;
+                nextState.running++;
+                next.condition.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void acquireHeavy(String tenant) {
+        lock.lock();
+        try {
+            TenantState state = tenants.computeIfAbsent(tenant, key -> new TenantState());
+            if (state.heavy >= properties.getHeavyPerTenant() || heavyRunning >= properties.getHeavyTotal()) {
+                forgetIfIdle(tenant, state);
+                throw ExceptionUtil.of(ExceptionType.TENANT_HEAVY_LIMIT, properties.getHeavyPerTenant());
+            }
+            state.heavy++;
+            heavyRunning++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void releaseHeavy(String tenant) {
+        lock.lock();
+        try {
+            TenantState state = tenants.get(tenant);
+            heavyRunning--;
+            if (state != null) {
+                state.heavy--;
+                forgetIfIdle(tenant, state);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getRunning() {
+        return running;
+    }
+
+    public int getQueued() {
+        return queue.size();
+    }
+
+    private double weight(String tenant) {
+        Double weight = properties.getWeights().get(tenant);
+        if (weight == null) {
+            weight = properties.getWeights().getOrDefault(TenantResolver.group(tenant), 1.0);
+        }
+        return Math.max(0.01, weight);
+    }
+
+    // Forget idle tenants; a returning tenant restarts from the current virtual time
+    private void forgetIfIdle(String tenant, TenantState state) {
+        if (state.queued == 0 && state.running == 0 && state.heavy == 0) {
+            tenants.remove(tenant);
+        }
+    }
+
+    private static final class TenantState {
+        private int queued;
+        private int running;
+        private int heavy;
+        private double lastTag;
+    }
+
+    private static final class Waiter implements Comparable<Waiter> {
+        private final String tenant;
+        private final double tag;
+        private final long sequence;
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(String tenant, double tag, long sequence, Condition condition) {
+            this.tenant = tenant;
+            this.tag = tag;
+            this.sequence = sequence;
+            this.condition = condition;
+        }
+
+        @Override
+        public int compareTo(Waiter other) {
+            int byTag = Double.compare(tag, other.tag);
+            return byTag != 0 ? byTag : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.gucardev.eventsphere.infrastructure.config.tenant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gucardev.eventsphere.domain.auth.user.model.dto.UserResponseDto;
+import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
+import com.gucardev.eventsphere.infrastructure.config.properties.TenantSchedulingProperties;
+import com.gucardev.eventsphere.infrastructure.config.security.dto.JwtAuthDetails;
+import com.gucardev.eventsphere.infrastructure.config.security.dto.PasswordAuthDetails;
+import com.gucardev.eventsphere.infrastructure.context.RequestContext;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Maps the caller to the tenant its work is accounted to: the organizer id for organizer
+ * accounts, the user itself for everyone else, and one tenant for unauthenticated or system work.
+ * <p>
+ * Buyers are keyed one by one, so a noisy organizer competes with each of them rather than with
+ * a single shared tenant whose queue cap and share all checkouts would have to split. They are
+ * still weighted and reported together, see {@link #group(String)}.
+ */
+@Component
+public class TenantResolver {
+
+    public static final String ATTENDEES = "attendees";
+    public static final String ATTENDEE_PREFIX = "attendee:";
+    public static final String SYSTEM = "system";
+
+    private final OrganizerRepository organizerRepository;
+    private final Cache<UUID, Optional<UUID>> organizerByUser;
+
+    public TenantResolver(OrganizerRepository organizerRepository, TenantSchedulingProperties properties) {
+        this.organizerRepository = organizerRepository;
+        this.organizerByUser = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(properties.getTenantCacheTtl())
+                .build();
+    }
+
+    public String currentTenant() {
+        UserResponseDto user = currentUser(RequestContext.currentAuthentication());
+        if (user == null || user.getId() == null) {
+            return SYSTEM;
+        }
+        return organizerByUser.get(user.getId(), organizerRepository::findIdByUserId)
+                .map(UUID::toString)
+                .orElse(ATTENDEE_PREFIX + user.getId());
+    }
+
+    /**
+     * Group a tenant is weighted and tagged in metrics under: {@link #ATTENDEES} for every
+     * per-user attendee tenant, the tenant itself otherwise.
+     */
+    public static String group(String tenant) {
+        return tenant.startsWith(ATTENDEE_PREFIX) ? ATTENDEES : tenant;
+    }
+
+    private static UserResponseDto currentUser(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return switch (authentication.getPrincipal()) {
+            case JwtAuthDetails details -> details.getUserDto();
+            case PasswordAuthDetails details -> details.getUserDto();
+            case null, default -> null;
+        };
+    }
+}
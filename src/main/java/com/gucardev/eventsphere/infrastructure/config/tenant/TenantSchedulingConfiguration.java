@@ -0,0 +1,43 @@
+package com.gucardev.eventsphere.infrastructure.config.tenant;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.TenantSchedulingProperties;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCasePointcut;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class TenantSchedulingConfiguration {
+
+    // Outside the transaction and cache advice, a queued call must not hold a connection
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 200;
+
+    @Bean
+    public TenantFairScheduler tenantFairScheduler(TenantSchedulingProperties properties, MeterRegistry meterRegistry) {
+        TenantFairScheduler scheduler = new TenantFairScheduler(properties);
+        Gauge.builder("usecase.scheduler.running", scheduler, TenantFairScheduler::getRunning).register(meterRegistry);
+        Gauge.builder("usecase.scheduler.queued", scheduler, TenantFairScheduler::getQueued).register(meterRegistry);
+        return scheduler;
+    }
+
+    // Infrastructure role so the auto-proxy creator picks it up without AspectJ; collaborators are
+    // resolved lazily to keep the advisor from initializing beans before they can be proxied
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor tenantSchedulingAdvisor(@Lazy TenantFairScheduler scheduler,
+                                                  @Lazy TenantResolver tenantResolver,
+                                                  @Lazy TenantSchedulingProperties properties,
+                                                  @Lazy MeterRegistry meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new UseCasePointcut(),
+                new TenantSchedulingInterceptor(scheduler, tenantResolver, properties, meterRegistry));
+        advisor.setOrder(ORDER);
+        return advisor;
+    }
+}
@@ -0,0 +1,119 @@
+package com.gucardev.eventsphere.infrastructure.config.tenant;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.TenantSchedulingProperties;
+import com.gucardev.eventsphere.infrastructure.context.Deadline;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.usecase.HeavyOperation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits use case calls through the {@link TenantFairScheduler} and records per-tenant latency,
+ * queue wait and throttling. Only the outermost use case of a call is scheduled; use cases it
+ * calls run in the slot already taken.
+ */
+public class TenantSchedulingInterceptor implements MethodInterceptor {
+
+    private static final ScopedValue<Boolean> ADMITTED = ScopedValue.newInstance();
+    private static final String OTHER = "other";
+
+    private final TenantFairScheduler scheduler;
+    private final TenantResolver tenantResolver;
+    private final TenantSchedulingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> taggedTenants = ConcurrentHashMap.newKeySet();
+
+    public TenantSchedulingInterceptor(TenantFairScheduler scheduler, TenantResolver tenantResolver,
+                                       TenantSchedulingProperties properties, MeterRegistry meterRegistry) {
+        this.scheduler = scheduler;
+        this.tenantResolver = tenantResolver;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        if (!properties.isEnabled() || ADMITTED.isBound()) {
+            return invocation.proceed();
+        }
+
+        String tenant = tenantResolver.currentTenant();
+        // Attendee tenants are per user, tagging them one by one would use up the tag budget
+        String tag = metricTag(TenantResolver.group(tenant));
+        boolean heavy = isHeavy(invocation);
+
+        try {
+            if (heavy) {
+                scheduler.acquireHeavy(tenant);
+            } else {
+                long waited = scheduler.acquire(tenant, maxWait());
+                meterRegistry.timer("usecase.tenant.queue.wait", "tenant", tag).record(waited, TimeUnit.NANOSECONDS);
+            }
+        } catch (BusinessException ex) {
+            meterRegistry.counter("usecase.tenant.throttled", "tenant", tag, "reason", reason(ex, heavy)).increment();
+            throw ex;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtil.of(ExceptionType.REQUEST_TIMEOUT);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return ScopedValue.where(ADMITTED, Boolean.TRUE).call(invocation::proceed);
+        } finally {
+            sample.stop(meterRegistry.timer("usecase.tenant.duration", "tenant", tag, "heavy", String.valueOf(heavy)));
+            if (heavy) {
+                scheduler.releaseHeavy(tenant);
+            } else {
+                scheduler.release(tenant);
+            }
+        }
+    }
+
+    // Never queue past the request deadline
+    private Duration maxWait() {
+        Duration queueTimeout = properties.getQueueTimeout();
+        return Deadline.current()
+                .map(Deadline::remaining)
+                .filter(remaining -> remaining.compareTo(queueTimeout) < 0)
+                .orElse(queueTimeout);
+    }
+
+    private static boolean isHeavy(MethodInvocation invocation) {
+        Class<?> target = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        return AnnotatedElementUtils.hasAnnotation(target, HeavyOperation.class);
+    }
+
+    private static String reason(BusinessException ex, boolean heavy) {
+        if (heavy) {
+            return "heavy-limit";
+        }
+        return ex.getBusinessErrorCode() == ExceptionType.TENANT_THROTTLED.getCode() ? "queue-full" : "queue-timeout";
+    }
+
+    // Bounded tag cardinality: the first tenants seen get their own series, later ones share one
+    private String metricTag(String tenant) {
+        if (taggedTenants.contains(tenant)) {
+            return tenant;
+        }
+        if (taggedTenants.size() < properties.getMaxTaggedTenants()) {
+            taggedTenants.add(tenant);
+            return tenant;
+        }
+        return OTHER;
+    }
+}
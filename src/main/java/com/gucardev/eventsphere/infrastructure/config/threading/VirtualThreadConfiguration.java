@@ -0,0 +1,48 @@
+package com.gucardev.eventsphere.infrastructure.config.threading;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.ThreadingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Extras that only make sense once spring.threads.virtual.enabled is on. Tomcat, @Async and
+ * the scheduler switch on their own (see AsyncConfiguration, SchedulerConfiguration).
+ * <p>
+ * The cache refresh and import executors stay on platform threads: they are CPU bound or
+ * deliberately small, and a virtual thread would not buy them anything.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration {
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                                                   ThreadingProperties threadingProperties) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threadingProperties);
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                              ObjectProvider<ThreadingProperties> threadingProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int maxConnections = hikari.getMaximumPoolSize();
+                log.info("Limiting database access to {} concurrent connections", maxConnections);
+                return new ConnectionLimitingDataSource(hikari, maxConnections,
+                        threadingProperties.getObject().getConnectionPermitTimeout(), meterRegistry.getObject());
+            }
+        };
+    }
+}
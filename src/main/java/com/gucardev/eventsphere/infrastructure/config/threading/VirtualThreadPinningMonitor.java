@@ -0,0 +1,96 @@
+package com.gucardev.eventsphere.infrastructure.config.threading;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.ThreadingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.List;
+
+/**
+ * Listens to the JFR virtual-thread events in-process and publishes them as metrics.
+ * <p>
+ * A pinned virtual thread keeps its carrier for the whole blocking call, so a few of them
+ * in a hot path quietly turn the carrier pool (one per core) into the bottleneck. Each pinned
+ * interval is timed as {@code jvm.threads.virtual.pinned}, tagged with the component whose
+ * frame was on top of the stack, which is usually enough to tell a driver issue from our own code.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final String APPLICATION_PACKAGE = "com.gucardev.eventsphere.";
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadingProperties threadingProperties;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, ThreadingProperties threadingProperties) {
+        this.meterRegistry = meterRegistry;
+        this.threadingProperties = threadingProperties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(threadingProperties.getPinningThreshold())
+                .withStackTrace();
+        stream.enable(SUBMIT_FAILED_EVENT);
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.onEvent(SUBMIT_FAILED_EVENT, event ->
+                meterRegistry.counter("jvm.threads.virtual.submit.failed").increment());
+        stream.setReuse(true);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {})", threadingProperties.getPinningThreshold());
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String source = source(event.getStackTrace());
+        // pinnedReason is only recorded from JDK 24 on, e.g. "Native or VM frame on stack"
+        String reason = event.hasField("pinnedReason") ? event.getString("pinnedReason") : "unknown";
+        meterRegistry.timer("jvm.threads.virtual.pinned", "source", source, "reason", String.valueOf(reason))
+                .record(event.getDuration());
+        log.debug("Virtual thread pinned for {} ms in {} ({})", event.getDuration().toMillis(), source, reason);
+    }
+
+    // First frame we can attribute, walking from the top of the stack
+    static String source(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame() || frame.getMethod() == null) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("com.mysql.") || type.startsWith("org.h2.")) {
+                return "jdbc-driver";
+            }
+            if (type.startsWith("com.zaxxer.hikari.")) {
+                return "connection-pool";
+            }
+            if (type.startsWith("org.hibernate.")) {
+                return "hibernate";
+            }
+            if (type.startsWith(APPLICATION_PACKAGE)) {
+                return "application";
+            }
+        }
+        return "library";
+    }
+}
@@ -0,0 +1,35 @@
+package com.gucardev.eventsphere.infrastructure.config.web;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.HttpCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the Cache-Control header of an endpoint from app-specific-configs.http-cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpCachePolicyResolver {
+
+    public static final String EVENT = "event";
+    public static final String SESSION_LIST = "session-list";
+
+    private final HttpCacheProperties httpCacheProperties;
+
+    public CacheControl cacheControl(String endpoint) {
+        HttpCacheProperties.Policy policy = httpCacheProperties.getEndpoints()
+                .getOrDefault(endpoint, httpCacheProperties.getDefaults());
+
+        CacheControl cacheControl = policy.getMaxAge() == null || policy.getMaxAge().isZero()
+                ? CacheControl.noCache()
+                : CacheControl.maxAge(policy.getMaxAge());
+        if (policy.isPrivateCache()) {
+            cacheControl = cacheControl.cachePrivate();
+        }
+        if (policy.isMustRevalidate()) {
+            cacheControl = cacheControl.mustRevalidate();
+        }
+        return cacheControl;
+    }
+}
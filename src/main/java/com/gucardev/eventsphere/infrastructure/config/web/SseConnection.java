@@ -0,0 +1,94 @@
+package com.gucardev.eventsphere.infrastructure.config.web;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link SseEmitter} with a bounded send queue. Producers never block on a client: events are
+ * queued and written by one short-lived task at a time, in order. A client that falls more than
+ * {@code maxPending} events behind is disconnected, it reconnects with Last-Event-ID and resumes.
+ * Idle connections hold no thread, only the emitter and an empty queue.
+ */
+public final class SseConnection {
+
+    private final SseEmitter emitter;
+    private final int maxPending;
+    private final Executor writer;
+    private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    public SseConnection(SseEmitter emitter, int maxPending, Executor writer) {
+        this.emitter = emitter;
+        this.maxPending = maxPending;
+        this.writer = writer;
+    }
+
+    public SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * @return false when the connection is closed or was just closed for being too slow
+     */
+    public boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed) {
+            return false;
+        }
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            close();
+            return false;
+        }
+        pending.add(event);
+        scheduleDrain();
+        return true;
+    }
+
+    public boolean isIdle() {
+        return pendingCount.get() == 0;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void close() {
+        if (!closed) {
+            closed = true;
+            emitter.complete();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            writer.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed && (event = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away or the emitter already completed
+            closed = true;
+            pending.clear();
+        } finally {
+            draining.set(false);
+            if (!closed && !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.gucardev.eventsphere.infrastructure.config.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+/**
+ * The broker is push-only: clients may subscribe to the configured destinations and nothing
+ * else, and may never SEND, otherwise anyone could publish fake counts to a topic.
+ */
+class StompSubscriptionGuard implements ChannelInterceptor {
+
+    private final List<String> subscribableDestinations;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    StompSubscriptionGuard(List<String> subscribableDestinations) {
+        this.subscribableDestinations = subscribableDestinations;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.SEND) {
+            throw new MessageDeliveryException(message, "Sending messages is not supported");
+        }
+        if (accessor.getCommand() == StompCommand.SUBSCRIBE && !isSubscribable(accessor.getDestination())) {
+            throw new MessageDeliveryException(message, "Subscription not allowed: " + accessor.getDestination());
+        }
+        return message;
+    }
+
+    private boolean isSubscribable(String destination) {
+        return destination != null && subscribableDestinations.stream()
+                .anyMatch(pattern -> pathMatcher.match(pattern, destination));
+    }
+}
@@ -0,0 +1,69 @@
+package com.gucardev.eventsphere.infrastructure.config.websocket;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.WebSocketProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP endpoint at {@code /ws} with the in-memory broker. Each node fans out to its own
+ * sessions only; cross-node propagation goes through Kafka (see SeatAvailabilityBroadcaster), so
+ * no external broker relay is needed.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer {
+
+    private final WebSocketProperties properties;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns(properties.getAllowedOrigins().toArray(String[]::new));
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        long heartbeat = properties.getHeartbeat().toMillis();
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{heartbeat, heartbeat})
+                .setTaskScheduler(webSocketHeartbeatScheduler());
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) properties.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit(properties.getSendBufferSizeLimit())
+                .setMessageSizeLimit(properties.getMessageSizeLimit());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new StompSubscriptionGuard(properties.getSubscribableDestinations()));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(properties.getOutboundThreads())
+                .maxPoolSize(properties.getOutboundThreads());
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler webSocketHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("WsHeartbeat-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -0,0 +1,28 @@
+package com.gucardev.eventsphere.infrastructure.context;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the submitting thread's {@link RequestContext} into executor tasks.
+ * <p>
+ * Only the trace and span ids are also put into the worker's MDC, so log lines written by
+ * the task stay correlated; everything else is read from the scoped binding.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        RequestContext context = RequestContext.capture();
+        return () -> context.run(() -> {
+            MDC.put(RequestContext.TRACE_ID, context.traceId());
+            MDC.put(RequestContext.SPAN_ID, context.spanId());
+            try {
+                task.run();
+            } finally {
+                MDC.remove(RequestContext.TRACE_ID);
+                MDC.remove(RequestContext.SPAN_ID);
+            }
+        });
+    }
+}
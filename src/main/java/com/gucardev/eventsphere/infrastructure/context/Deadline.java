@@ -0,0 +1,34 @@
+package com.gucardev.eventsphere.infrastructure.context;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Point in time after which the caller no longer wants the answer. Bound for the request by
+ * DeadlineFilter and inherited by structured fan-out; deliberately not carried into @Async
+ * work, which is meant to outlive the request.
+ */
+public record Deadline(long expiresAtNanos) {
+
+    private static final ScopedValue<Deadline> CURRENT = ScopedValue.newInstance();
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public static Optional<Deadline> current() {
+        return CURRENT.isBound() ? Optional.of(CURRENT.get()) : Optional.empty();
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - expiresAtNanos >= 0;
+    }
+
+    public <T, X extends Throwable> T call(ScopedValue.CallableOp<T, X> task) throws X {
+        return ScopedValue.where(CURRENT, this).call(task);
+    }
+}
@@ -0,0 +1,63 @@
+package com.gucardev.eventsphere.infrastructure.context;
+
+import org.slf4j.MDC;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Who is calling, under which trace and in which locale, bound as a {@link ScopedValue}.
+ * <p>
+ * The request thread keeps using the ThreadLocal holders Spring fills in (security context,
+ * MDC, locale). Work handed to another thread gets a snapshot of them bound here instead of
+ * copying each holder: the binding is immutable, costs one object per hand-off, and is
+ * inherited for free by every subtask forked in a {@link java.util.concurrent.StructuredTaskScope}.
+ * Readers go through the static accessors, which check the binding first and fall back to
+ * the ThreadLocals, so the same code works on both sides of the hand-off.
+ */
+public record RequestContext(Authentication authentication, String traceId, String spanId, Locale locale) {
+
+    public static final String TRACE_ID = "traceId";
+    public static final String SPAN_ID = "spanId";
+
+    private static final ScopedValue<RequestContext> CURRENT = ScopedValue.newInstance();
+
+    /**
+     * Snapshot of the calling thread's context, the bound one if there is any.
+     */
+    public static RequestContext capture() {
+        if (CURRENT.isBound()) {
+            return CURRENT.get();
+        }
+        return new RequestContext(
+                SecurityContextHolder.getContext().getAuthentication(),
+                MDC.get(TRACE_ID),
+                MDC.get(SPAN_ID),
+                LocaleContextHolder.getLocale());
+    }
+
+    public static Authentication currentAuthentication() {
+        return CURRENT.isBound()
+                ? CURRENT.get().authentication()
+                : SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    public static String currentTraceId() {
+        return CURRENT.isBound() ? CURRENT.get().traceId() : MDC.get(TRACE_ID);
+    }
+
+    public static Locale currentLocale() {
+        return CURRENT.isBound() ? CURRENT.get().locale() : LocaleContextHolder.getLocale();
+    }
+
+    public void run(Runnable task) {
+        ScopedValue.where(CURRENT, this).run(task);
+    }
+
+    public <T> T call(Callable<T> task) throws Exception {
+        return ScopedValue.where(CURRENT, this).call(task::call);
+    }
+}
@@ -4,6 +4,12 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Getter
 @RequiredArgsConstructor
 public enum ExceptionType {
@@ -13,20 +19,40 @@ public enum ExceptionType {
     NOT_FOUND("error.not_found", HttpStatus.NOT_FOUND, 1001),
     ALREADY_EXISTS("error.already_exists", HttpStatus.CONFLICT, 1002),
     VALIDATION_FAILED("error.validation_failed", HttpStatus.BAD_REQUEST, 1003),
+    REQUEST_TIMEOUT("error.request_timeout", HttpStatus.SERVICE_UNAVAILABLE, 1004),
+    OVERLOADED("error.overloaded", HttpStatus.SERVICE_UNAVAILABLE, 1005),
+    TENANT_THROTTLED("error.tenant.throttled", HttpStatus.TOO_MANY_REQUESTS, 1006),
+    TENANT_HEAVY_LIMIT("error.tenant.heavy_limit", HttpStatus.TOO_MANY_REQUESTS, 1007),
+    DEADLINE_EXCEEDED("error.deadline_exceeded", HttpStatus.GATEWAY_TIMEOUT, 1008),
 
     // ==================== AUTH ====================
     UNAUTHORIZED("error.auth.unauthorized", HttpStatus.UNAUTHORIZED, 1100),
     FORBIDDEN("error.auth.forbidden", HttpStatus.FORBIDDEN, 1101),
     TOKEN_EXPIRED("error.auth.token_expired", HttpStatus.UNAUTHORIZED, 1102),
     INVALID_CREDENTIALS("error.auth.invalid_credentials", HttpStatus.UNAUTHORIZED, 1103),
+    TOO_MANY_LOGIN_ATTEMPTS("error.auth.too_many_attempts", HttpStatus.TOO_MANY_REQUESTS, 1104),
+    LOGIN_CAPACITY_EXCEEDED("error.auth.capacity_exceeded", HttpStatus.SERVICE_UNAVAILABLE, 1105),
+    PASSWORD_HASHING_BUSY("error.auth.hashing_busy", HttpStatus.SERVICE_UNAVAILABLE, 1106),
 
     // ==================== BUSINESS SPECIFIC ====================
     OUT_OF_STOCK("error.product.out_of_stock", HttpStatus.CONFLICT, 1201),
     ORDER_ALREADY_CANCELLED("error.order.already_cancelled", HttpStatus.CONFLICT, 1301),
     PAYMENT_FAILED("error.order.payment_failed", HttpStatus.PAYMENT_REQUIRED, 1302),
-    USER_INACTIVE("error.user.inactive", HttpStatus.FORBIDDEN, 1402);
+    USER_INACTIVE("error.user.inactive", HttpStatus.FORBIDDEN, 1402),
+    IMPORT_UNSUPPORTED_FORMAT("error.import.unsupported_format", HttpStatus.UNSUPPORTED_MEDIA_TYPE, 1501),
+    IMPORT_NOT_RESUMABLE("error.import.not_resumable", HttpStatus.CONFLICT, 1502),
+    IMPORT_QUEUE_FULL("error.import.queue_full", HttpStatus.SERVICE_UNAVAILABLE, 1503),
+    EVENT_SOLD_OUT("error.event.sold_out", HttpStatus.CONFLICT, 1601);
+
+    private static final Map<Integer, ExceptionType> BY_CODE = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(ExceptionType::getCode, Function.identity()));
 
     private final String key;
     private final HttpStatus status;
     private final int code;
+
+    // BusinessException carries the code only
+    public static Optional<ExceptionType> fromCode(Integer code) {
+        return code != null ? Optional.ofNullable(BY_CODE.get(code)) : Optional.empty();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.gucardev.eventsphere.infrastructure.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV, header taken from the row record's component names.
+ */
+class CsvRowWriter implements RowWriter {
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer writer;
+    private final RecordComponent[] components;
+
+    CsvRowWriter(Class<? extends Record> rowType, OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.components = rowType.getRecordComponents();
+        for (int i = 0; i < components.length; i++) {
+            writeCell(components[i].getName(), i);
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(Record row) throws IOException {
+        for (int i = 0; i < components.length; i++) {
+            writeCell(valueOf(row, components[i]), i);
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCell(Object value, int index) throws IOException {
+        if (index > 0) {
+            writer.write(',');
+        }
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        // Spreadsheet apps evaluate cells starting with these as formulas (tab and CR included, OWASP CSV injection)
+        if (!text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+
+    private static Object valueOf(Record row, RecordComponent component) {
+        try {
+            return component.getAccessor().invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("Cannot read export column " + component.getName(), ex);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.gucardev.eventsphere.infrastructure.export;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * What to export: the rows of {@code entityType} matching {@code filter}, each selected into a
+ * {@code rowType} record through its canonical constructor. Columns are listed in constructor order.
+ */
+public record ExportQuery<E, R extends Record>(
+        Class<E> entityType,
+        Class<R> rowType,
+        Specification<E> filter,
+        Columns<E> columns) {
+
+    @FunctionalInterface
+    public interface Columns<E> {
+        List<Selection<?>> select(Root<E> root, CriteriaBuilder cb);
+    }
+}
@@ -0,0 +1,45 @@
+package com.gucardev.eventsphere.infrastructure.export;
+
+import com.gucardev.eventsphere.infrastructure.context.RequestContext;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+public final class ExportResponse {
+
+    private ExportResponse() {
+    }
+
+    /**
+     * Download response for an export; the body runs on the MVC async executor after the headers are sent,
+     * under the caller's {@link RequestContext} so it is still accounted and audited to them.
+     */
+    public static ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "-" + LocalDate.now() + "." + format.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(withContext(RequestContext.capture(), body));
+    }
+
+    private static StreamingResponseBody withContext(RequestContext context, StreamingResponseBody body) {
+        return out -> {
+            try {
+                context.call(() -> {
+                    body.writeTo(out);
+                    return null;
+                });
+            } catch (IOException | RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+    }
+}
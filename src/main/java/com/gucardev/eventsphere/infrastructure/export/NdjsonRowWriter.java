@@ -0,0 +1,31 @@
+package com.gucardev.eventsphere.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+class NdjsonRowWriter implements RowWriter {
+
+    private final ObjectWriter objectWriter;
+    private final OutputStream out;
+
+    NdjsonRowWriter(ObjectMapper objectMapper, OutputStream out) {
+        // The response stream is owned by the servlet container, never close it from here
+        this.objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.out = out;
+    }
+
+    @Override
+    public void write(Record row) throws IOException {
+        objectWriter.writeValue(out, row);
+        out.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
@@ -0,0 +1,13 @@
+package com.gucardev.eventsphere.infrastructure.export;
+
+import java.io.IOException;
+
+/**
+ * Writes export rows to the response one at a time, nothing is buffered beyond the stream itself.
+ */
+interface RowWriter {
+
+    void write(Record row) throws IOException;
+
+    void flush() throws IOException;
+}
@@ -0,0 +1,86 @@
+package com.gucardev.eventsphere.infrastructure.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Minimal RFC 4180 reader: quoted fields, doubled quotes and line breaks inside quotes.
+ */
+final class CsvTabularParser {
+
+    private CsvTabularParser() {
+    }
+
+    static void parse(Path file, TabularRowHandler handler) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            // Skip the byte order mark Excel writes in front of UTF-8 CSVs
+            reader.mark(1);
+            if (reader.read() != '\uFEFF') {
+                reader.reset();
+            }
+
+            List<String> header = null;
+            long rowNumber = 0;
+            List<String> record;
+            while ((record = nextRecord(reader)) != null) {
+                if (header == null) {
+                    header = record.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+                    continue;
+                }
+                if (record.size() == 1 && record.getFirst().isEmpty()) {
+                    continue; // blank line
+                }
+                Map<String, String> values = new HashMap<>();
+                for (int i = 0; i < header.size() && i < record.size(); i++) {
+                    values.put(header.get(i), record.get(i));
+                }
+                handler.handle(new TabularRow(++rowNumber, values));
+            }
+        }
+    }
+
+    private static List<String> nextRecord(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
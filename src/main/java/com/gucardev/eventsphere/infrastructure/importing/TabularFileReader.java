@@ -0,0 +1,45 @@
+package com.gucardev.eventsphere.infrastructure.importing;
+
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.Tika;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams the rows of a CSV or XLSX file to a handler one at a time, so memory does not grow with the file.
+ * The format is detected from content with Tika rather than trusted from the upload's extension.
+ */
+@Slf4j
+@Component
+public class TabularFileReader {
+
+    private final Tika tika = new Tika();
+
+    public TabularFormat detect(Path file, String fileName) throws IOException {
+        String mediaType;
+        try (InputStream in = Files.newInputStream(file)) {
+            mediaType = tika.detect(in, fileName);
+        }
+        log.debug("Detected {} as {}", fileName, mediaType);
+        if (mediaType.contains("spreadsheetml") || mediaType.equals("application/x-tika-ooxml")) {
+            return TabularFormat.XLSX;
+        }
+        if (mediaType.equals("text/csv") || mediaType.equals("text/plain")) {
+            return TabularFormat.CSV;
+        }
+        throw ExceptionUtil.of(ExceptionType.IMPORT_UNSUPPORTED_FORMAT, mediaType);
+    }
+
+    public void read(Path file, TabularFormat format, TabularRowHandler handler) throws IOException {
+        switch (format) {
+            case CSV -> CsvTabularParser.parse(file, handler);
+            case XLSX -> XlsxTabularParser.parse(file, handler);
+        }
+    }
+}
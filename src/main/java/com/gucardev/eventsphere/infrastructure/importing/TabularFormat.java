@@ -0,0 +1,5 @@
+package com.gucardev.eventsphere.infrastructure.importing;
+
+public enum TabularFormat {
+    CSV, XLSX
+}
@@ -0,0 +1,15 @@
+package com.gucardev.eventsphere.infrastructure.importing;
+
+import java.util.Map;
+
+/**
+ * One data row of an import file. {@code rowNumber} counts data rows from 1 (the header is not counted),
+ * values are keyed by the lower-cased, trimmed header name.
+ */
+public record TabularRow(long rowNumber, Map<String, String> values) {
+
+    public String get(String column) {
+        String value = values.get(column);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,7 @@
+package com.gucardev.eventsphere.infrastructure.importing;
+
+@FunctionalInterface
+public interface TabularRowHandler {
+
+    void handle(TabularRow row);
+}
@@ -0,0 +1,104 @@
+package com.gucardev.eventsphere.infrastructure.importing;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads the first sheet with POI's SAX event API. The workbook is never built in memory; only the
+ * shared strings table is, which is what Excel deduplicates (emails and codes are mostly unique, so it stays small).
+ */
+final class XlsxTabularParser {
+
+    private XlsxTabularParser() {
+    }
+
+    static void parse(Path file, TabularRowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(),
+                        new ReadOnlySharedStringsTable(pkg),
+                        new RowCollector(handler),
+                        new DataFormatter(),
+                        false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException ex) {
+            throw new IOException("Unreadable XLSX file: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final TabularRowHandler handler;
+        private List<String> header;
+        private Map<Integer, String> cells = new HashMap<>();
+        private long rowNumber;
+
+        private RowCollector(TabularRowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new HashMap<>();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference != null) {
+                cells.put((int) new CellReference(cellReference).getCol(), formattedValue);
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (header == null) {
+                header = new ArrayList<>();
+                int lastColumn = cells.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+                for (int i = 0; i <= lastColumn; i++) {
+                    header.add(cells.getOrDefault(i, "").trim().toLowerCase(Locale.ROOT));
+                }
+                return;
+            }
+            if (cells.isEmpty()) {
+                return;
+            }
+            Map<String, String> values = new HashMap<>();
+            cells.forEach((column, value) -> {
+                if (column < header.size()) {
+                    values.put(header.get(column), value);
+                }
+            });
+            handler.handle(new TabularRow(++rowNumber, values));
+        }
+    }
+}
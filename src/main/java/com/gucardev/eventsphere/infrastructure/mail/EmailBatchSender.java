@@ -0,0 +1,77 @@
+package com.gucardev.eventsphere.infrastructure.mail;
+
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends a chunk of queued emails over a single SMTP connection: {@link JavaMailSender#send(MimeMessage...)}
+ * connects once and reuses the transport for every message in the call.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailBatchSender {
+
+    private final JavaMailSender mailSender;
+    private final EmailRenderer renderer;
+
+    /**
+     * @return failures by message id; ids not in the map were handed to the SMTP server
+     */
+    public Map<Long, Failure> send(List<EmailMessage> emails) {
+        Map<Long, Failure> failures = new HashMap<>();
+        Map<MimeMessage, Long> idsByMessage = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+        for (EmailMessage email : emails) {
+            try {
+                MimeMessage message = renderer.render(email);
+                idsByMessage.put(message, email.getId());
+                messages.add(message);
+            } catch (Exception ex) {
+                // A template or model that does not render will not render on retry either
+                failures.put(email.getId(), new Failure(ex, true));
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException ex) {
+            ex.getFailedMessages().forEach((message, cause) -> {
+                Long id = idsByMessage.get(message);
+                if (id != null) {
+                    failures.put(id, new Failure(cause, isPermanent(cause)));
+                }
+            });
+            if (ex.getFailedMessages().isEmpty()) {
+                idsByMessage.values().forEach(id -> failures.put(id, new Failure(ex, false)));
+            }
+        } catch (MailException ex) {
+            // Authentication or other failures before anything was sent
+            idsByMessage.values().forEach(id -> failures.put(id, new Failure(ex, false)));
+        }
+        return failures;
+    }
+
+    // Rejected recipients; anything else (connection, timeouts, 4xx) is worth retrying
+    private static boolean isPermanent(Exception cause) {
+        return cause instanceof SendFailedException sendFailed
+                && sendFailed.getInvalidAddresses() != null
+                && sendFailed.getInvalidAddresses().length > 0;
+    }
+
+    public record Failure(Exception cause, boolean permanent) {
+    }
+}
@@ -0,0 +1,226 @@
+package com.gucardev.eventsphere.infrastructure.mail;
+
+import com.gucardev.eventsphere.infrastructure.config.async.AsyncConfiguration;
+import com.gucardev.eventsphere.infrastructure.config.properties.MailDispatchProperties;
+import com.gucardev.eventsphere.infrastructure.config.security.protection.SlidingWindowRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the email queue. Each poll claims as many due messages as the mail workers can take,
+ * leasing them so a node that dies mid-send does not lose them, and hands them to the workers in
+ * chunks that share one SMTP connection. Delivery is at-least-once: a crash after the SMTP server
+ * accepted a chunk but before it was marked sent resends that chunk when the lease runs out.
+ * <p>
+ * Per-domain rate limits are applied at claim time; a limited message is put back for a few
+ * seconds without counting as an attempt. Limits are per node.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app-specific-configs.mail-dispatch", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EmailDispatcher {
+
+    private static final List<EmailStatus> CLAIMABLE = List.of(EmailStatus.PENDING, EmailStatus.SENDING);
+    private static final long MAX_RATE_LIMITED_DOMAINS = 10_000;
+    private static final Duration PENDING_GAUGE_REFRESH = Duration.ofSeconds(15);
+
+    private final EmailMessageRepository emailMessageRepository;
+    private final EmailBatchSender batchSender;
+    private final MailDispatchProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor mailExecutor;
+    private final SlidingWindowRateLimiter defaultDomainLimiter;
+    private final Map<String, SlidingWindowRateLimiter> domainLimiters = new HashMap<>();
+    private final AtomicInteger inFlightChunks = new AtomicInteger();
+    private final AtomicLong pending = new AtomicLong();
+    private volatile Instant pendingRefreshedAt = Instant.EPOCH;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter rateLimited;
+    private final Counter failedPermanent;
+    private final Counter failedExhausted;
+    private final Timer chunkTimer;
+
+    public EmailDispatcher(EmailMessageRepository emailMessageRepository,
+                           EmailBatchSender batchSender,
+                           MailDispatchProperties properties,
+                           PlatformTransactionManager transactionManager,
+                           @Qualifier(AsyncConfiguration.MAIL_EXECUTOR) ThreadPoolTaskExecutor mailExecutor,
+                           MeterRegistry meterRegistry) {
+        this.emailMessageRepository = emailMessageRepository;
+        this.batchSender = batchSender;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mailExecutor = mailExecutor;
+        this.defaultDomainLimiter = new SlidingWindowRateLimiter(
+                properties.getDefaultDomainRate(), properties.getRateWindow(), MAX_RATE_LIMITED_DOMAINS);
+        properties.getDomainRates().forEach((domain, rate) -> domainLimiters.put(
+                domain.toLowerCase(), new SlidingWindowRateLimiter(rate, properties.getRateWindow(), 1)));
+
+        this.sent = meterRegistry.counter("email.sent");
+        this.retried = meterRegistry.counter("email.retried");
+        this.rateLimited = meterRegistry.counter("email.rate_limited");
+        this.failedPermanent = meterRegistry.counter("email.failed", "reason", "permanent");
+        this.failedExhausted = meterRegistry.counter("email.failed", "reason", "attempts_exhausted");
+        this.chunkTimer = meterRegistry.timer("email.send.chunk");
+        Gauge.builder("email.queue.pending", pending, AtomicLong::get)
+                .description("Queued emails not yet sent or failed")
+                .register(meterRegistry);
+        Gauge.builder("email.dispatch.in_flight", inFlightChunks, AtomicInteger::get)
+                .description("Chunks being sent, one SMTP connection each")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app-specific-configs.mail-dispatch.poll-interval:500ms}")
+    public void dispatch() {
+        refreshPendingGauge();
+        // Pool threads plus queue slots, see AsyncConfiguration#mailExecutor
+        int freeChunks = properties.getWorkers() * 2 - inFlightChunks.get();
+        if (freeChunks <= 0) {
+            return;
+        }
+        List<EmailMessage> claimed = transactionTemplate.execute(status -> claim(freeChunks * properties.getChunkSize()));
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < claimed.size(); from += properties.getChunkSize()) {
+            List<EmailMessage> chunk = claimed.subList(from, Math.min(claimed.size(), from + properties.getChunkSize()));
+            inFlightChunks.incrementAndGet();
+            try {
+                mailExecutor.execute(() -> sendChunk(chunk));
+            } catch (RejectedExecutionException ex) {
+                // Stays SENDING and is claimed again when the lease runs out
+                inFlightChunks.decrementAndGet();
+                log.warn("Mail workers rejected a chunk of {} emails, retrying after the lease", chunk.size());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT10M")
+    public void purgeSent() {
+        Integer purged = transactionTemplate.execute(status -> emailMessageRepository.deleteSentBefore(
+                EmailStatus.SENT, Instant.now().minus(properties.getSentRetention())));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} sent emails", purged);
+        }
+    }
+
+    private List<EmailMessage> claim(int limit) {
+        Instant now = Instant.now();
+        List<EmailMessage> claimed = new ArrayList<>();
+        for (EmailMessage email : emailMessageRepository.lockDue(CLAIMABLE, now, PageRequest.ofSize(limit))) {
+            if (email.getStatus() == EmailStatus.SENDING && email.getAttempts() >= properties.getMaxAttempts()) {
+                fail(email, "Lease expired on the last attempt");
+                failedExhausted.increment();
+                continue;
+            }
+            if (!limiterFor(email.getRecipientDomain()).tryAcquire(email.getRecipientDomain())) {
+                email.setStatus(EmailStatus.PENDING);
+                email.setNextAttemptAt(now.plus(properties.getRateLimitDelay()));
+                rateLimited.increment();
+                continue;
+            }
+            // Counted at claim time, so a message that takes its node down still runs out of attempts
+            email.setAttempts(email.getAttempts() + 1);
+            email.setStatus(EmailStatus.SENDING);
+            email.setNextAttemptAt(now.plus(properties.getLease()));
+            claimed.add(email);
+        }
+        return claimed;
+    }
+
+    private void sendChunk(List<EmailMessage> chunk) {
+        try {
+            Timer.Sample sample = Timer.start();
+            Map<Long, EmailBatchSender.Failure> failures = batchSender.send(chunk);
+            sample.stop(chunkTimer);
+            transactionTemplate.executeWithoutResult(status -> recordResults(chunk, failures));
+        } catch (RuntimeException ex) {
+            log.error("Email chunk of {} failed unexpectedly, retrying after the lease", chunk.size(), ex);
+        } finally {
+            inFlightChunks.decrementAndGet();
+        }
+    }
+
+    private void recordResults(List<EmailMessage> chunk, Map<Long, EmailBatchSender.Failure> failures) {
+        Instant now = Instant.now();
+        List<Long> sentIds = chunk.stream()
+                .map(EmailMessage::getId)
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+        if (!sentIds.isEmpty()) {
+            emailMessageRepository.markSent(sentIds, EmailStatus.SENT, now);
+            sent.increment(sentIds.size());
+        }
+        if (failures.isEmpty()) {
+            return;
+        }
+        for (EmailMessage email : emailMessageRepository.findAllById(failures.keySet())) {
+            EmailBatchSender.Failure failure = failures.get(email.getId());
+            String error = StringUtils.truncate(String.valueOf(failure.cause().getMessage()), 1000);
+            if (failure.permanent()) {
+                fail(email, error);
+                failedPermanent.increment();
+            } else if (email.getAttempts() >= properties.getMaxAttempts()) {
+                fail(email, error);
+                failedExhausted.increment();
+            } else {
+                email.setStatus(EmailStatus.PENDING);
+                email.setNextAttemptAt(now.plus(backoff(email.getAttempts())));
+                email.setLastError(error);
+                retried.increment();
+            }
+        }
+        log.warn("{} of {} emails in chunk failed", failures.size(), chunk.size());
+    }
+
+    private void fail(EmailMessage email, String error) {
+        email.setStatus(EmailStatus.FAILED);
+        email.setLastError(error);
+        log.warn("Giving up on email {} to {} after {} attempts: {}", email.getId(), email.getRecipient(), email.getAttempts(), error);
+    }
+
+    // Exponential with +-20% jitter, so a failed chunk does not retry in lockstep
+    private Duration backoff(int attempts) {
+        long base = properties.getInitialBackoff().toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, properties.getMaxBackoff().toMillis());
+        return Duration.ofMillis((long) (capped * ThreadLocalRandom.current().nextDouble(0.8, 1.2)));
+    }
+
+    private SlidingWindowRateLimiter limiterFor(String domain) {
+        return domainLimiters.getOrDefault(domain, defaultDomainLimiter);
+    }
+
+    private void refreshPendingGauge() {
+        Instant now = Instant.now();
+        if (now.isAfter(pendingRefreshedAt.plus(PENDING_GAUGE_REFRESH))) {
+            pendingRefreshedAt = now;
+            pending.set(emailMessageRepository.countByStatus(EmailStatus.PENDING)
+                    + emailMessageRepository.countByStatus(EmailStatus.SENDING));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.gucardev.eventsphere.infrastructure.mail;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailMessageRepository extends JpaRepository<EmailMessage, Long> {
+
+    /**
+     * Due messages, including SENDING ones whose lease ran out. SKIP LOCKED lets dispatchers on
+     * several nodes claim disjoint batches; send order across messages does not matter.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM EmailMessage m WHERE m.status IN :statuses AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt")
+    List<EmailMessage> lockDue(@Param("statuses") Collection<EmailStatus> statuses, @Param("now") Instant now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE EmailMessage m SET m.status = :status, m.sentAt = :sentAt, m.lastError = NULL WHERE m.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("status") EmailStatus status, @Param("sentAt") Instant sentAt);
+
+    long countByStatus(EmailStatus status);
+
+    @Modifying
+    @Query("DELETE FROM EmailMessage m WHERE m.status = :status AND m.sentAt < :cutoff")
+    int deleteSentBefore(@Param("status") EmailStatus status, @Param("cutoff") Instant cutoff);
+}
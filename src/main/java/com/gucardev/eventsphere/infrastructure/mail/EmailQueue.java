@@ -0,0 +1,90 @@
+package com.gucardev.eventsphere.infrastructure.mail;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Queues emails for {@link EmailDispatcher}. Enqueueing joins the caller's transaction, so mail
+ * about a change goes out only if the change commits, and never blocks on SMTP.
+ */
+@Component
+public class EmailQueue {
+
+    private static final String INSERT = "INSERT INTO email_messages (recipient, recipient_domain, subject, template_name, model, body, " +
+            "status, attempts, next_attempt_at, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter enqueued;
+
+    public EmailQueue(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enqueued = meterRegistry.counter("email.enqueued");
+    }
+
+    @Transactional
+    public void enqueueTemplate(String to, String subject, String templateName, Map<String, Object> model) {
+        enqueueTemplate(subject, templateName, Map.of(), List.of(new EmailRecipient(to, model)));
+    }
+
+    @Transactional
+    public void enqueuePlainText(String to, String subject, String body) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(INSERT, to, domainOf(to), subject, null, null, body, EmailStatus.PENDING.name(), now, now);
+        enqueued.increment();
+    }
+
+    /**
+     * Bulk enqueue of one template to many recipients, written with JDBC batches since identity
+     * ids rule out Hibernate insert batching.
+     */
+    @Transactional
+    public void enqueueTemplate(String subject, String templateName, Map<String, Object> sharedModel, List<EmailRecipient> recipients) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(Math.min(recipients.size(), INSERT_BATCH_SIZE));
+        for (EmailRecipient recipient : recipients) {
+            Map<String, Object> model = new HashMap<>(sharedModel);
+            if (recipient.model() != null) {
+                model.putAll(recipient.model());
+            }
+            rows.add(new Object[]{recipient.to(), domainOf(recipient.to()), subject, templateName, toJson(model), null,
+                    EmailStatus.PENDING.name(), now, now});
+            if (rows.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, rows);
+        }
+        enqueued.increment(recipients.size());
+    }
+
+    static String domainOf(String email) {
+        int at = email.lastIndexOf('@');
+        return (at < 0 ? "" : email.substring(at + 1)).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private String toJson(Map<String, Object> model) {
+        try {
+            return objectMapper.writeValueAsString(model);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Email model is not serializable", ex);
+        }
+    }
+}
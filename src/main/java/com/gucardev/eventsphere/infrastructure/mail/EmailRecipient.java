@@ -0,0 +1,7 @@
+package com.gucardev.eventsphere.infrastructure.mail;
+
+import java.util.Map;
+
+// model: template variables for this recipient, merged over the shared model
+public record EmailRecipient(String to, Map<String, Object> model) {
+}
@@ -0,0 +1,103 @@
+package com.gucardev.eventsphere.infrastructure.mail;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gucardev.eventsphere.infrastructure.config.email.MailConfig;
+import com.gucardev.eventsphere.infrastructure.config.properties.MailDispatchProperties;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns a queued {@link EmailMessage} into a {@link MimeMessage}. Templates are parsed once by the
+ * caching email template engine, and inline resources are read from the classpath once and
+ * shared by every message that references them.
+ */
+@Slf4j
+@Component
+public class EmailRenderer {
+
+    private static final TypeReference<Map<String, Object>> MODEL_TYPE = new TypeReference<>() {
+    };
+
+    private final TemplateEngine templateEngine;
+    private final JavaMailSender mailSender;
+    private final ObjectMapper objectMapper;
+    private final MailDispatchProperties properties;
+    private final Map<String, Optional<InlineResource>> inlineResources = new ConcurrentHashMap<>();
+
+    public EmailRenderer(@Qualifier(MailConfig.EMAIL_TEMPLATE_ENGINE) TemplateEngine templateEngine,
+                         JavaMailSender mailSender,
+                         ObjectMapper objectMapper,
+                         MailDispatchProperties properties) {
+        this.templateEngine = templateEngine;
+        this.mailSender = mailSender;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    public MimeMessage render(EmailMessage email) throws MessagingException, IOException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(properties.getFrom());
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+
+        if (email.getTemplateName() == null) {
+            helper.setText(email.getBody(), false);
+            return message;
+        }
+
+        Context context = new Context();
+        if (email.getModel() != null) {
+            context.setVariables(objectMapper.readValue(email.getModel(), MODEL_TYPE));
+        }
+        String html = templateEngine.process(email.getTemplateName(), context);
+        helper.setText(html, true);
+        // Inline parts must be added after the body
+        for (String cid : properties.getInlineResources().keySet()) {
+            if (html.contains("cid:" + cid)) {
+                Optional<InlineResource> resource = inlineResource(cid);
+                if (resource.isPresent()) {
+                    helper.addInline(cid, resource.get().content(), resource.get().contentType());
+                }
+            }
+        }
+        return message;
+    }
+
+    private Optional<InlineResource> inlineResource(String cid) {
+        return inlineResources.computeIfAbsent(cid, key -> {
+            String path = properties.getInlineResources().get(key);
+            ClassPathResource resource = new ClassPathResource(path);
+            if (!resource.exists()) {
+                log.warn("Inline email resource {} not found at classpath:{}, templates referencing cid:{} render without it", key, path, key);
+                return Optional.empty();
+            }
+            try (InputStream in = resource.getInputStream()) {
+                String contentType = Optional.ofNullable(URLConnection.guessContentTypeFromName(path)).orElse("application/octet-stream");
+                return Optional.of(new InlineResource(new ByteArrayResource(in.readAllBytes()), contentType));
+            } catch (IOException ex) {
+                throw new IllegalStateException("Could not read inline email resource " + path, ex);
+            }
+        });
+    }
+
+    private record InlineResource(ByteArrayResource content, String contentType) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.gucardev.eventsphere.infrastructure.mail;
+
+public enum EmailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,89 @@
+package com.gucardev.eventsphere.infrastructure.messaging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gucardev.eventsphere.infrastructure.config.properties.KafkaConsumerProperties;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Remembers which events each consumer has applied. The marker row is written in the consumer's
+ * own transaction, so an event's effects and its marker commit or roll back together; a recent-id
+ * cache in front answers most redelivery checks without a query.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final EntityManager entityManager;
+    private final KafkaConsumerProperties properties;
+    private final Cache<ProcessedMessageId, Boolean> recent;
+
+    public IdempotencyStore(ProcessedMessageRepository processedMessageRepository,
+                            EntityManager entityManager,
+                            KafkaConsumerProperties properties) {
+        this.processedMessageRepository = processedMessageRepository;
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(properties.getIdempotencyCacheSize())
+                .build();
+    }
+
+    /**
+     * Returns the ids among {@code eventIds} that {@code consumer} has already processed, with at
+     * most one query for the ids not found in memory.
+     */
+    public Set<UUID> findProcessed(String consumer, Collection<UUID> eventIds) {
+        Set<UUID> processed = new HashSet<>();
+        List<UUID> unknown = new ArrayList<>();
+        for (UUID eventId : eventIds) {
+            if (recent.getIfPresent(new ProcessedMessageId(consumer, eventId)) != null) {
+                processed.add(eventId);
+            } else {
+                unknown.add(eventId);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            processed.addAll(processedMessageRepository.findProcessedIds(consumer, unknown));
+        }
+        return processed;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markProcessed(String consumer, UUID eventId) {
+        ProcessedMessageId id = new ProcessedMessageId(consumer, eventId);
+        // persist, not save: the id is assigned, save would merge and select first
+        entityManager.persist(ProcessedMessage.builder().id(id).processedAt(Instant.now()).build());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recent.put(id, Boolean.TRUE);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT5M")
+    @Transactional
+    public void purgeExpired() {
+        int purged = processedMessageRepository.deleteProcessedBefore(Instant.now().minus(properties.getIdempotencyRetention()));
+        if (purged > 0) {
+            log.info("Purged {} processed message markers", purged);
+        }
+    }
+}
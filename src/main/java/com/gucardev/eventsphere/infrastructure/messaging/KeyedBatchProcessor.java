@@ -0,0 +1,162 @@
+package com.gucardev.eventsphere.infrastructure.messaging;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.KafkaConsumerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Runs a batch listener's records with per-key parallelism: records sharing a partition and key
+ * are handled one after another in offset order, different keys run concurrently on virtual
+ * threads. Each record is handled in its own transaction together with its idempotency marker,
+ * and records whose {@code eventId} the consumer has already applied are skipped.
+ * <p>
+ * When records fail, the lowest failed index is reported through
+ * {@link BatchListenerFailedException}: the error handler commits everything before it, retries
+ * and dead-letters that record, and redelivers the rest. Records of other keys that already
+ * succeeded past that index are then skipped as duplicates.
+ * <p>
+ * Usage from a listener on the {@code batchKafkaListenerContainerFactory}:
+ * <pre>
+ * &#64;KafkaListener(topics = "eventsphere.ticket", containerFactory = KafkaConsumerConfiguration.BATCH_FACTORY)
+ * public void onTickets(List&lt;ConsumerRecord&lt;String, String&gt;&gt; records) {
+ *     keyedBatchProcessor.process("ticket-projection", records, this::apply);
+ * }
+ * </pre>
+ */
+@Slf4j
+@Component
+public class KeyedBatchProcessor {
+
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaConsumerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public KeyedBatchProcessor(IdempotencyStore idempotencyStore,
+                               PlatformTransactionManager transactionManager,
+                               KafkaConsumerProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.idempotencyStore = idempotencyStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param consumer stable name of the consuming logic, scopes the idempotency markers
+     */
+    public <K, V> void process(String consumer, List<ConsumerRecord<K, V>> records, Consumer<ConsumerRecord<K, V>> handler) {
+        if (records.isEmpty()) {
+            return;
+        }
+        List<UUID> eventIds = new ArrayList<>(records.size());
+        for (ConsumerRecord<K, V> record : records) {
+            UUID eventId = eventId(record);
+            if (eventId != null) {
+                eventIds.add(eventId);
+            }
+        }
+        Set<UUID> processed = eventIds.isEmpty() ? Set.of() : idempotencyStore.findProcessed(consumer, eventIds);
+
+        Map<GroupKey, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<K, V> record = records.get(i);
+            groups.computeIfAbsent(new GroupKey(record.partition(), record.key()), key -> new ArrayList<>()).add(i);
+        }
+
+        // Failures by batch index; the lowest one is what gets reported
+        ConcurrentSkipListMap<Integer, RuntimeException> failures = new ConcurrentSkipListMap<>();
+        if (groups.size() == 1) {
+            processGroup(consumer, records, groups.values().iterator().next(), processed, handler, failures);
+        } else {
+            Semaphore permits = new Semaphore(properties.getKeyParallelism());
+            try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kafka-key-", 0).factory())) {
+                for (List<Integer> group : groups.values()) {
+                    permits.acquireUninterruptibly();
+                    executor.execute(() -> {
+                        try {
+                            processGroup(consumer, records, group, processed, handler, failures);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            Map.Entry<Integer, RuntimeException> first = failures.firstEntry();
+            throw new BatchListenerFailedException(
+                    consumer + " failed on " + failures.size() + " record(s)", first.getValue(), first.getKey());
+        }
+    }
+
+    private <K, V> void processGroup(String consumer,
+                                     List<ConsumerRecord<K, V>> records,
+                                     List<Integer> indexes,
+                                     Set<UUID> processed,
+                                     Consumer<ConsumerRecord<K, V>> handler,
+                                     Map<Integer, RuntimeException> failures) {
+        for (int index : indexes) {
+            ConsumerRecord<K, V> record = records.get(index);
+            UUID eventId = eventId(record);
+            if (eventId != null && processed.contains(eventId)) {
+                count(consumer, "duplicate");
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    handler.accept(record);
+                    if (eventId != null) {
+                        idempotencyStore.markProcessed(consumer, eventId);
+                    }
+                });
+                count(consumer, "processed");
+            } catch (RuntimeException ex) {
+                count(consumer, "failed");
+                log.warn("{} failed on {}-{}@{}: {}", consumer, record.topic(), record.partition(), record.offset(), ex.getMessage());
+                failures.put(index, ex);
+                // Later records of this key must not overtake the failed one
+                return;
+            }
+        }
+    }
+
+    private void count(String consumer, String outcome) {
+        meterRegistry.counter("kafka.consumer.records", "consumer", consumer, "outcome", outcome).increment();
+    }
+
+    private static UUID eventId(ConsumerRecord<?, ?> record) {
+        Header header = record.headers().lastHeader(MessageHeaders.EVENT_ID);
+        if (header == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(new String(header.value(), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private record GroupKey(int partition, Object key) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.gucardev.eventsphere.infrastructure.messaging;
+
+/**
+ * Kafka headers set by the outbox relay on every domain event.
+ */
+public final class MessageHeaders {
+
+    public static final String EVENT_ID = "eventId";
+    public static final String EVENT_TYPE = "eventType";
+    // Outbox id: increases in insert order across all aggregates, identical on every consumer
+    public static final String SEQUENCE = "sequence";
+
+    private MessageHeaders() {
+    }
+}
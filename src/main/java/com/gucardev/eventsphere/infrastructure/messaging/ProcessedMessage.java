@@ -0,0 +1,25 @@
+package com.gucardev.eventsphere.infrastructure.messaging;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A message a consumer has already applied, written in the same transaction as its effects.
+ */
+@Entity
+@Table(name = "processed_messages", indexes = @Index(name = "idx_processed_messages_processed_at", columnList = "processed_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessedMessage {
+
+    @EmbeddedId
+    private ProcessedMessageId id;
+
+    @Column(name = "processed_at", nullable = false)
+    private Instant processedAt;
+}
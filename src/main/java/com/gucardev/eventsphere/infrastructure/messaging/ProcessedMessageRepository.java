@@ -0,0 +1,21 @@
+package com.gucardev.eventsphere.infrastructure.messaging;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProcessedMessageRepository extends JpaRepository<ProcessedMessage, ProcessedMessageId> {
+
+    @Query("SELECT p.id.eventId FROM ProcessedMessage p WHERE p.id.consumer = :consumer AND p.id.eventId IN :eventIds")
+    Set<UUID> findProcessedIds(@Param("consumer") String consumer, @Param("eventIds") Collection<UUID> eventIds);
+
+    @Modifying
+    @Query("DELETE FROM ProcessedMessage p WHERE p.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") Instant cutoff);
+}
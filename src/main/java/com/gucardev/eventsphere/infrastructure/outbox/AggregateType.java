@@ -0,0 +1,17 @@
+package com.gucardev.eventsphere.infrastructure.outbox;
+
+/**
+ * Aggregates that publish domain events. Each one has its own topic, keyed by aggregate id, so
+ * events of one aggregate land on one partition in the order they were written.
+ */
+public enum AggregateType {
+    EVENT,
+    SESSION,
+    TICKET,
+    ORGANIZER,
+    ATTENDEE;
+
+    public String topic(String prefix) {
+        return prefix + name().toLowerCase();
+    }
+}
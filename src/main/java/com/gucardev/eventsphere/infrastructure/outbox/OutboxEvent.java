@@ -0,0 +1,55 @@
+package com.gucardev.eventsphere.infrastructure.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A domain event waiting to be relayed to Kafka. Rows are inserted in the transaction of the
+ * change they describe and deleted once the broker has acknowledged them; the identity id gives
+ * the relay its order. {@code claimedUntil} reserves the row for the relay sending it, so no lock is
+ * held while the broker acknowledges.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Sent as a header so consumers can drop redeliveries
+    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "event_id", nullable = false, unique = true)
+    private UUID eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 32)
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 64)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // Set while a relay sends the event, an expired claim is free to take
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+}
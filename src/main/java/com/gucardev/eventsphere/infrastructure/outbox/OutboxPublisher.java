@@ -0,0 +1,68 @@
+package com.gucardev.eventsphere.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records a domain event in the outbox as part of the caller's transaction, so the event exists
+ * exactly when the change does. {@link OutboxRelay} publishes it afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private static final String INSERT_EVENT = "INSERT INTO outbox_events " +
+            "(event_id, aggregate_type, aggregate_id, event_type, payload, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(AggregateType aggregateType, UUID aggregateId, String eventType, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventId(UUID.randomUUID())
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId.toString())
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .createdAt(Instant.now())
+                .build());
+    }
+
+    /**
+     * Same as {@link #publish} for many aggregates at once, written as one JDBC batch. For bulk writers
+     * that bypass JPA; events are inserted in the map's iteration order.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(AggregateType aggregateType, String eventType, Map<UUID, ?> payloadsByAggregateId) {
+        if (payloadsByAggregateId.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = payloadsByAggregateId.entrySet().stream()
+                .map(entry -> new Object[]{UUID.randomUUID().toString(), aggregateType.name(),
+                        entry.getKey().toString(), eventType, toJson(entry.getValue()), now})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Domain event payload is not serializable: " + payload.getClass().getName(), ex);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.gucardev.eventsphere.infrastructure.outbox;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.OutboxProperties;
+import com.gucardev.eventsphere.infrastructure.config.scheduler.SchedulerConfiguration;
+import com.gucardev.eventsphere.infrastructure.messaging.MessageHeaders;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the outbox to Kafka in large batches. A batch is claimed in a short transaction, sent with
+ * no row lock or connection held, and the acknowledged events are deleted in a second transaction,
+ * so delivery is at-least-once: a crash between the broker ack and the delete resends them once the
+ * claim expires, and consumers deduplicate on the {@code eventId} header
+ * (see {@link com.gucardev.eventsphere.infrastructure.messaging.IdempotencyStore}).
+ * <p>
+ * Order per aggregate is kept by sending an aggregate's events one at a time: round n sends the n-th
+ * event of every aggregate in the batch and waits for their acks before the next round. When a send
+ * fails, the aggregate's later events are not sent and stay in the outbox behind it. A relay that
+ * finds the head claimed by another node skips the run, so only one relay publishes at a time.
+ * <p>
+ * Runs on its own scheduler thread, not the shared pool the other {@code @Scheduled} jobs use.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app-specific-configs.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay implements DisposableBean {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ProducerFactory<String, String> producerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSize;
+    // Age of the oldest event still in the outbox at the last poll, 0 when drained
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxProperties properties,
+                       PlatformTransactionManager transactionManager,
+                       ProducerFactory<Object, Object> kafkaProducerFactory,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Own producer: plain string values (payloads are already JSON) and throughput settings
+        this.producerFactory = (ProducerFactory<String, String>) (ProducerFactory<?, ?>)
+                kafkaProducerFactory.copyWithConfigurationOverride(Map.of(
+                        ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                        ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                        ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+                        ProducerConfig.ACKS_CONFIG, "all",
+                        ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5,
+                        ProducerConfig.LINGER_MS_CONFIG, properties.getLingerMs(),
+                        ProducerConfig.BATCH_SIZE_CONFIG, properties.getProducerBatchBytes(),
+                        ProducerConfig.COMPRESSION_TYPE_CONFIG, properties.getCompressionType()));
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        this.meterRegistry = meterRegistry;
+        this.batchTimer = meterRegistry.timer("outbox.relay.batch");
+        this.batchSize = meterRegistry.summary("outbox.relay.batch.size");
+        Gauge.builder("outbox.relay.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .baseUnit("seconds")
+                .description("Age of the oldest unpublished outbox event")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app-specific-configs.outbox.poll-interval:100ms}",
+            scheduler = SchedulerConfiguration.OUTBOX_RELAY_SCHEDULER)
+    public void relay() {
+        for (int run = 0; run < properties.getMaxBatchesPerRun(); run++) {
+            List<OutboxEvent> batch;
+            try {
+                batch = transactionTemplate.execute(status -> claimNextBatch());
+            } catch (PessimisticLockingFailureException ex) {
+                log.debug("Outbox head is locked by another relay, skipping this run");
+                return;
+            }
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            int relayed = relayBatch(batch);
+            if (batch.size() < properties.getBatchSize() || relayed < batch.size()) {
+                return;
+            }
+        }
+    }
+
+    private List<OutboxEvent> claimNextBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(PageRequest.of(0, properties.getBatchSize()));
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return List.of();
+        }
+        Instant now = Instant.now();
+        if (batch.stream().anyMatch(event -> event.getClaimedUntil() != null && event.getClaimedUntil().isAfter(now))) {
+            log.debug("Outbox head is claimed by another relay, skipping this run");
+            return List.of();
+        }
+        lagMillis.set(Duration.between(batch.getFirst().getCreatedAt(), now).toMillis());
+        outboxEventRepository.claim(batch.stream().map(OutboxEvent::getId).toList(),
+                now.plus(properties.getClaimDuration()));
+        return batch;
+    }
+
+    private int relayBatch(List<OutboxEvent> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<String, List<OutboxEvent>> byAggregate = batch.stream().collect(Collectors.groupingBy(
+                event -> event.getAggregateType() + ":" + event.getAggregateId(),
+                LinkedHashMap::new, Collectors.toList()));
+
+        Set<Long> published = new HashSet<>(batch.size());
+        Set<String> blockedAggregates = new HashSet<>();
+        long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+        for (int round = 0; ; round++) {
+            List<OutboxEvent> sending = new ArrayList<>();
+            for (Map.Entry<String, List<OutboxEvent>> aggregate : byAggregate.entrySet()) {
+                if (round < aggregate.getValue().size() && !blockedAggregates.contains(aggregate.getKey())) {
+                    sending.add(aggregate.getValue().get(round));
+                }
+            }
+            if (sending.isEmpty()) {
+                break;
+            }
+            List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(sending.size());
+            for (OutboxEvent event : sending) {
+                sends.add(kafkaTemplate.send(toRecord(event)));
+            }
+            kafkaTemplate.flush();
+            for (int i = 0; i < sending.size(); i++) {
+                OutboxEvent event = sending.get(i);
+                boolean sent = awaitAck(sends.get(i), event, deadline);
+                if (sent) {
+                    published.add(event.getId());
+                } else {
+                    blockedAggregates.add(event.getAggregateType() + ":" + event.getAggregateId());
+                }
+                meterRegistry.counter(sent ? "outbox.relay.published" : "outbox.relay.failed",
+                        "aggregate", event.getAggregateType().name()).increment();
+            }
+        }
+
+        List<Long> held = batch.stream().map(OutboxEvent::getId).filter(id -> !published.contains(id)).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!published.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(published);
+            }
+            if (!held.isEmpty()) {
+                outboxEventRepository.release(held);
+            }
+        });
+        sample.stop(batchTimer);
+        batchSize.record(batch.size());
+        if (!held.isEmpty()) {
+            log.warn("Relayed {} of {} outbox events, {} aggregates held back for retry",
+                    published.size(), batch.size(), blockedAggregates.size());
+        }
+        return published.size();
+    }
+
+    private ProducerRecord<String, String> toRecord(OutboxEvent event) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(
+                event.getAggregateType().topic(properties.getTopicPrefix()),
+                event.getAggregateId(),
+                event.getPayload());
+        record.headers()
+                .add(MessageHeaders.EVENT_ID, event.getEventId().toString().getBytes(StandardCharsets.UTF_8))
+                .add(MessageHeaders.EVENT_TYPE, event.getEventType().getBytes(StandardCharsets.UTF_8))
+                .add(MessageHeaders.SEQUENCE, event.getId().toString().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private boolean awaitAck(CompletableFuture<SendResult<String, String>> send, OutboxEvent event, long deadline) {
+        try {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException ex) {
+            log.warn("Failed to relay outbox event {} ({} {}): {}",
+                    event.getEventId(), event.getAggregateType(), event.getAggregateId(), ex.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (producerFactory instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+}
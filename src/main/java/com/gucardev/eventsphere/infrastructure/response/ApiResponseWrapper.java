@@ -4,11 +4,11 @@ package com.gucardev.eventsphere.infrastructure.response;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.context.RequestContext;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.slf4j.MDC;
 import org.springframework.data.domain.Page;
 
 import java.util.Map;
@@ -35,7 +35,7 @@ public class ApiResponseWrapper<T> {
     // Common fields
     private Boolean error;
     @Builder.Default
-    private String traceId = MDC.get("traceId");
+    private String traceId = RequestContext.currentTraceId();
     private String message;
 
     // Success response field
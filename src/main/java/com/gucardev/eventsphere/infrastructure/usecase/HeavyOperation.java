@@ -0,0 +1,17 @@
+package com.gucardev.eventsphere.infrastructure.usecase;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a use case that holds resources for long (exports, imports, bulk writes). Such calls
+ * bypass the shared fair queue and are capped per tenant instead, see TenantFairScheduler.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HeavyOperation {
+}
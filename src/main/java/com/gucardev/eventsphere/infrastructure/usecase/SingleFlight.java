@@ -0,0 +1,87 @@
+package com.gucardev.eventsphere.infrastructure.usecase;
+
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with the same scope and key into one in-flight computation.
+ * The first caller (leader) runs the supplier on its own thread; callers arriving while it runs
+ * wait for the leader's result, or its exception, up to the given timeout.
+ * Nothing is retained after the leader finishes, caching is the caller's concern.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    public static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public <T> T execute(String scope, Object key, Supplier<T> supplier) {
+        return execute(scope, key, DEFAULT_WAIT_TIMEOUT, supplier);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, Object key, Duration waitTimeout, Supplier<T> supplier) {
+        FlightKey flightKey = new FlightKey(scope, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            meterRegistry.counter("usecase.singleflight.calls", "scope", scope, "role", "coalesced").increment();
+            return (T) await(flightKey, existing, waitTimeout);
+        }
+
+        meterRegistry.counter("usecase.singleflight.calls", "scope", scope, "role", "leader").increment();
+        try {
+            T result = supplier.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Object await(FlightKey flightKey, CompletableFuture<Object> flight, Duration waitTimeout) {
+        try {
+            return flight.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            meterRegistry.counter("usecase.singleflight.timeouts", "scope", flightKey.scope()).increment();
+            log.warn("Timed out after {} ms waiting for in-flight {}", waitTimeout.toMillis(), flightKey);
+            throw ExceptionUtil.of(ExceptionType.REQUEST_TIMEOUT);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtil.of(ExceptionType.REQUEST_TIMEOUT);
+        } catch (ExecutionException ex) {
+            // Followers see the same failure as the leader (e.g. not found)
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("In-flight computation failed", ex.getCause());
+        }
+    }
+
+    private record FlightKey(String scope, Object key) {
+    }
+}
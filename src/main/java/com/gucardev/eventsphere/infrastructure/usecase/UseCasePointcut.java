@@ -0,0 +1,30 @@
+package com.gucardev.eventsphere.infrastructure.usecase;
+
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.lang.NonNull;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Matches {@code execute} on every bean implementing one of the use case interfaces, so
+ * cross-cutting concerns can be added as advisors without touching the use cases.
+ */
+public class UseCasePointcut extends StaticMethodMatcherPointcut {
+
+    private static final List<Class<?>> USE_CASE_TYPES = List.of(
+            UseCase.class, UseCaseWithInput.class, UseCaseWithOutput.class, UseCaseNoInputOutput.class);
+
+    public UseCasePointcut() {
+        setClassFilter(UseCasePointcut::isUseCase);
+    }
+
+    public static boolean isUseCase(Class<?> type) {
+        return USE_CASE_TYPES.stream().anyMatch(useCaseType -> useCaseType.isAssignableFrom(type));
+    }
+
+    @Override
+    public boolean matches(@NonNull Method method, @NonNull Class<?> targetClass) {
+        return "execute".equals(method.getName()) && !method.isBridge();
+    }
+}
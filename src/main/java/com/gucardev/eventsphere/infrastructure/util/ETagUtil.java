@@ -0,0 +1,37 @@
+package com.gucardev.eventsphere.infrastructure.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class ETagUtil {
+
+    private static final int ETAG_BYTES = 12;
+
+    private ETagUtil() {
+    }
+
+    /**
+     * Builds a quoted strong ETag from the given parts (ids, versions, request variants).
+     * Same parts in the same order always give the same tag.
+     */
+    public static String strong(Object... parts) {
+        MessageDigest digest = sha256();
+        for (Object part : parts) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            // Separator so ("ab", "c") and ("a", "bc") differ
+            digest.update((byte) 0);
+        }
+        byte[] hash = digest.digest();
+        return "\"" + HexFormat.of().formatHex(hash, 0, ETAG_BYTES) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.gucardev.eventsphere.benchmark;
+
+import com.gucardev.eventsphere.infrastructure.context.ContextPropagatingTaskDecorator;
+import com.gucardev.eventsphere.infrastructure.context.RequestContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.MDC;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Joiner;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of handing the request context to another task.
+ * <p>
+ * The wrap benchmarks decorate and run a task on the same thread, so only the hand-off is
+ * measured: the scoped binding against copying the security context, MDC map and locale into
+ * ThreadLocals and clearing them again. The fan-out benchmark forks eight virtual threads in a
+ * structured scope, where forks inherit the binding and nothing is copied per task.
+ * <p>
+ * Run from the IDE through {@link #main}, or with the test classpath:
+ * {@code java --enable-preview -cp target/test-classes:<test classpath> com.gucardev.eventsphere.benchmark.ContextHandOffBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class ContextHandOffBenchmark {
+
+    private static final int FAN_OUT = 8;
+
+    private final TaskDecorator scopedDecorator = new ContextPropagatingTaskDecorator();
+    private List<Callable<Integer>> fanOutTasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "organizer@example.com", null, List.of(new SimpleGrantedAuthority("EVENT_UPDATE"))));
+        MDC.put(RequestContext.TRACE_ID, "6f1c2a9e4b7d3f01");
+        MDC.put(RequestContext.SPAN_ID, "9a8b7c6d5e4f3a2b");
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("tr"));
+        fanOutTasks = IntStream.range(0, FAN_OUT)
+                .<Callable<Integer>>mapToObj(i -> () -> RequestContext.currentAuthentication().getName().length() + i)
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        Runnable task = () -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        task.run();
+    }
+
+    @Benchmark
+    public void scopedValueWrap(Blackhole blackhole) {
+        Runnable task = () -> blackhole.consume(RequestContext.currentAuthentication());
+        scopedDecorator.decorate(task).run();
+    }
+
+    @Benchmark
+    public void threadLocalCopyWrap(Blackhole blackhole) {
+        Runnable task = () -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        copyingThreadLocals(task).run();
+    }
+
+    @Benchmark
+    public List<Integer> scopedValueFanOut() throws Exception {
+        // Scope opened inside the binding, as GetEventDetailUseCase does: forks inherit it
+        return RequestContext.capture().call(() -> {
+            try (var scope = StructuredTaskScope.open(Joiner.<Integer>allSuccessfulOrThrow())) {
+                fanOutTasks.forEach(scope::fork);
+                return scope.join().map(Subtask::get).toList();
+            }
+        });
+    }
+
+    // What propagation looks like without a scoped binding: three holders copied and restored per task
+    private static Runnable copyingThreadLocals(Runnable task) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        LocaleContext locale = LocaleContextHolder.getLocaleContext();
+        Runnable secured = new DelegatingSecurityContextRunnable(task);
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            LocaleContext previousLocale = LocaleContextHolder.getLocaleContext();
+            MDC.setContextMap(mdc);
+            LocaleContextHolder.setLocaleContext(locale);
+            try {
+                secured.run();
+            } finally {
+                MDC.setContextMap(previousMdc);
+                LocaleContextHolder.setLocaleContext(previousLocale);
+            }
+        };
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContextHandOffBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.gucardev.eventsphere.benchmark;
+
+import com.gucardev.eventsphere.infrastructure.config.metrics.UseCaseMetricsInterceptor;
+import com.gucardev.eventsphere.infrastructure.config.properties.UseCaseMetricsProperties;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCasePointcut;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the use case instrumentation.
+ * <p>
+ * The use case itself does next to nothing, so what is measured is the overhead: a plain call, a
+ * call through a Spring AOP proxy with a pass-through advice (what any use case advisor costs),
+ * and the same proxy with UseCaseMetricsInterceptor, with and without percentile histograms.
+ * Spans use the no-op tracer; a sampled span costs what the tracing backend makes it cost. Run
+ * with four threads to see contention on the shared timers and in-flight gauge.
+ * <p>
+ * Run from the IDE through {@link #main}, or with the test classpath:
+ * {@code java -cp target/test-classes:<test classpath> com.gucardev.eventsphere.benchmark.UseCaseInstrumentationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class UseCaseInstrumentationBenchmark {
+
+    private UseCase<String, Integer> plain;
+    private UseCase<String, Integer> proxied;
+    private UseCase<String, Integer> instrumented;
+    private UseCase<String, Integer> instrumentedWithHistogram;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        plain = new EchoUseCase();
+        proxied = proxy(invocation -> invocation.proceed());
+        instrumented = proxy(interceptor(false));
+        instrumentedWithHistogram = proxy(interceptor(true));
+    }
+
+    @Benchmark
+    public Integer baseline() {
+        return plain.execute("event");
+    }
+
+    @Benchmark
+    public Integer proxyOnly() {
+        return proxied.execute("event");
+    }
+
+    @Benchmark
+    public Integer instrumented() {
+        return instrumented.execute("event");
+    }
+
+    @Benchmark
+    public Integer instrumentedWithHistogram() {
+        return instrumentedWithHistogram.execute("event");
+    }
+
+    private static UseCaseMetricsInterceptor interceptor(boolean percentileHistogram) {
+        UseCaseMetricsProperties properties = new UseCaseMetricsProperties();
+        properties.setPercentileHistogram(percentileHistogram);
+        return new UseCaseMetricsInterceptor(new SimpleMeterRegistry(), () -> Tracer.NOOP, properties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UseCase<String, Integer> proxy(MethodInterceptor interceptor) {
+        ProxyFactory proxyFactory = new ProxyFactory(new EchoUseCase());
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(new UseCasePointcut(), interceptor));
+        return (UseCase<String, Integer>) proxyFactory.getProxy();
+    }
+
+    static class EchoUseCase implements UseCase<String, Integer> {
+        @Override
+        public Integer execute(String input) {
+            return input.length();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UseCaseInstrumentationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
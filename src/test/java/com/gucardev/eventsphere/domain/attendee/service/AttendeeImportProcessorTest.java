@@ -0,0 +1,510 @@
+package com.gucardev.eventsphere.domain.attendee.service;
+
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImport;
+import com.gucardev.eventsphere.domain.attendee.entity.AttendeeImportStatus;
+import com.gucardev.eventsphere.domain.attendee.repository.AttendeeImportRepository;
+import com.gucardev.eventsphere.domain.attendee.repository.AttendeeRepository;
+import com.gucardev.eventsphere.domain.attendee.repository.projection.AttendeeUserProjection;
+import com.gucardev.eventsphere.domain.auth.user.repository.UserRepository;
+import com.gucardev.eventsphere.domain.auth.user.repository.projection.UserEmailProjection;
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketOwnerProjection;
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.config.properties.ImportProperties;
+import com.gucardev.eventsphere.infrastructure.config.properties.TenantSchedulingProperties;
+import com.gucardev.eventsphere.infrastructure.config.tenant.TenantFairScheduler;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.importing.TabularFileReader;
+import com.gucardev.eventsphere.infrastructure.importing.TabularFormat;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AttendeeImportProcessorTest {
+
+    private static final String HEADER = "email,preferences,ticket_code,price,status\n";
+    private static final String IMPORTER = "organizer@example.com";
+
+    @Mock
+    private AttendeeImportRepository attendeeImportRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AttendeeRepository attendeeRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Mock
+    private SyncChangeLog syncChangeLog;
+
+    @Mock
+    private ThreadPoolTaskExecutor importExecutor;
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private MessageSource messageSource;
+
+    private final ImportProperties importProperties = new ImportProperties();
+    private final TenantSchedulingProperties tenantSchedulingProperties = new TenantSchedulingProperties();
+    private final TenantFairScheduler tenantFairScheduler = new TenantFairScheduler(tenantSchedulingProperties);
+    // Rows written per statement, keyed by the statement's leading "INSERT INTO x" / "UPDATE x"
+    private final Map<String, List<Object[]>> batches = new HashMap<>();
+    private AttendeeImportProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+        tenantSchedulingProperties.setHeavyPerTenant(1);
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(importExecutor).execute(any(Runnable.class));
+        lenient().when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            String[] words = invocation.<String>getArgument(0).split(" ");
+            String statement = words[0].equals("INSERT") ? words[0] + " " + words[1] + " " + words[2] : words[0] + " " + words[1];
+            batches.computeIfAbsent(statement, key -> new ArrayList<>()).addAll(invocation.getArgument(1));
+            return new int[0];
+        });
+        lenient().when(attendeeImportRepository.claim(any(), anyString(), any(), any(), any(), any())).thenReturn(1);
+        lenient().when(attendeeImportRepository.advanceCheckpoint(any(), anyString(), any(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(1);
+        lenient().when(attendeeImportRepository.release(any(), anyString(), any(), any())).thenReturn(1);
+
+        processor = new AttendeeImportProcessor(attendeeImportRepository, userRepository, attendeeRepository,
+                ticketRepository, eventRepository, new TabularFileReader(), jdbcTemplate, new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator(), importProperties, new SimpleMeterRegistry(),
+                outboxPublisher, syncChangeLog, tenantFairScheduler, tenantSchedulingProperties, importExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    void shouldInsertAttendeesAndTickets_whenRowsAreNew() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        AttendeeImport attendeeImport = givenImport(eventId, 0, HEADER
+                + "a@example.com,Vegan,T-1,10.50,\n"
+                + "b@example.com,,T-2,,cancelled\n");
+        when(userRepository.findIdsByEmailIn(any())).thenReturn(List.of(
+                new User(UUID.randomUUID(), "a@example.com"), new User(UUID.randomUUID(), "b@example.com")));
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        assertThat(batches.get("INSERT INTO attendees")).hasSize(2);
+        List<Object[]> tickets = batches.get("INSERT INTO tickets");
+        assertThat(tickets).extracting(row -> row[1], row -> row[2], row -> row[3], row -> row[5])
+                .containsExactly(
+                        tuple("T-1", new BigDecimal("10.50"), "SOLD", eventId.toString()),
+                        tuple("T-2", null, "CANCELLED", eventId.toString()));
+        assertThat(batches).doesNotContainKeys("UPDATE attendees", "UPDATE tickets", "INSERT INTO attendee_import_errors");
+        verify(outboxPublisher).publishAll(eq(AggregateType.ATTENDEE), eq("AttendeeCreated"), argThat(map -> map.size() == 2));
+        verify(outboxPublisher).publishAll(eq(AggregateType.TICKET), eq("TicketCreated"), argThat(map -> map.size() == 2));
+        verify(syncChangeLog).recordAll(eq(SyncEntityType.TICKET), argThat(ids -> ids.size() == 2), eq(eventId));
+        verify(attendeeImportRepository).advanceCheckpoint(eq(attendeeImport.getId()), anyString(), any(), eq(2L), eq(2L), eq(0L));
+        verify(attendeeImportRepository).release(eq(attendeeImport.getId()), anyString(), eq(AttendeeImportStatus.COMPLETED), isNull());
+        assertThat(Path.of(attendeeImport.getStoredPath())).doesNotExist();
+    }
+
+    @Test
+    void shouldUpdateExistingAttendeeAndTicket_whenRowsMatchExistingRecords() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID attendeeId = UUID.randomUUID();
+        UUID ticketId = UUID.randomUUID();
+        AttendeeImport attendeeImport = givenImport(eventId, 0, HEADER + "A@Example.com,Kosher,T-1,20,used\n");
+        when(userRepository.findIdsByEmailIn(any())).thenReturn(List.of(new User(userId, "a@example.com")));
+        when(attendeeRepository.findIdsByUserIdIn(any())).thenReturn(List.of(new Attendee(attendeeId, userId, IMPORTER, null)));
+        when(ticketRepository.findOwnersByTicketCodeIn(any()))
+                .thenReturn(List.of(new Ticket(ticketId, "T-1", attendeeId, eventId, null)));
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        assertThat(batches).containsOnlyKeys("UPDATE attendees", "UPDATE tickets");
+        Object[] attendeeUpdate = batches.get("UPDATE attendees").getFirst();
+        assertThat(attendeeUpdate[0]).isEqualTo("Kosher");
+        assertThat(attendeeUpdate[3]).isEqualTo(attendeeId.toString());
+        Object[] ticketUpdate = batches.get("UPDATE tickets").getFirst();
+        assertThat(ticketUpdate[0]).isEqualTo(new BigDecimal("20"));
+        assertThat(ticketUpdate[1]).isEqualTo("USED");
+        assertThat(ticketUpdate[4]).isEqualTo(ticketId.toString());
+        verify(outboxPublisher).publishAll(eq(AggregateType.ATTENDEE), eq("AttendeeUpdated"),
+                argThat(map -> map.keySet().equals(Set.of(attendeeId))));
+        verify(outboxPublisher).publishAll(eq(AggregateType.TICKET), eq("TicketUpdated"),
+                argThat(map -> map.keySet().equals(Set.of(ticketId))));
+        verify(syncChangeLog).recordAll(SyncEntityType.TICKET, List.of(ticketId), eventId);
+    }
+
+    @Test
+    void shouldImportTicketOnly_whenAttendeeProfileWasCreatedByAnotherAccount() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        UUID attendeeId = UUID.randomUUID();
+        AttendeeImport attendeeImport = givenImport(eventId, 0, HEADER
+                + "a@example.com,Kosher,T-1,20,\n"
+                + "b@example.com,Vegan,,,\n");
+        when(userRepository.findIdsByEmailIn(any())).thenReturn(List.of(
+                new User(userId, "a@example.com"), new User(otherUserId, "b@example.com")));
+        when(attendeeRepository.findIdsByUserIdIn(any())).thenReturn(List.of(
+                new Attendee(attendeeId, userId, "a@example.com", null),
+                new Attendee(UUID.randomUUID(), otherUserId, "b@example.com", null)));
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        assertThat(batches).containsOnlyKeys("INSERT INTO tickets", "INSERT INTO attendee_import_errors");
+        assertThat(batches.get("INSERT INTO tickets").getFirst()[4]).isEqualTo(attendeeId.toString());
+        assertThat(batches.get("INSERT INTO attendee_import_errors").getFirst()[3])
+                .isEqualTo("Attendee profile of b@example.com is managed by another account");
+        verify(outboxPublisher, never()).publishAll(eq(AggregateType.ATTENDEE), eq("AttendeeUpdated"), argThat(map -> !map.isEmpty()));
+        verify(attendeeImportRepository).advanceCheckpoint(eq(attendeeImport.getId()), anyString(), any(), eq(2L), eq(1L), eq(1L));
+    }
+
+    @Test
+    void shouldRejectNewTickets_whenEventHasNoSeatsLeft() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        AttendeeImport attendeeImport = givenImport(eventId, 0, HEADER
+                + "a@example.com,,T-1,10,\n"
+                + "b@example.com,,T-2,10,cancelled\n"
+                + "c@example.com,,T-3,10,\n");
+        when(userRepository.findIdsByEmailIn(any())).thenReturn(List.of(new User(UUID.randomUUID(), "a@example.com"),
+                new User(UUID.randomUUID(), "b@example.com"), new User(UUID.randomUUID(), "c@example.com")));
+        when(eventRepository.findLockedById(eventId)).thenReturn(Optional.of(Event.builder().id(eventId).capacity(5).build()));
+        when(ticketRepository.countSeatsTaken(eventId, TicketStatus.CANCELLED)).thenReturn(4L);
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        assertThat(batches.get("INSERT INTO tickets")).extracting(row -> row[1]).containsExactly("T-1", "T-2");
+        assertThat(batches.get("INSERT INTO attendee_import_errors")).extracting(row -> row[2], row -> row[3])
+                .containsExactly(tuple(3L, "Event is sold out, ticket code T-3 was not imported"));
+        verify(outboxPublisher).publishAll(eq(AggregateType.TICKET), eq("TicketCreated"), argThat(map -> map.size() == 2));
+        verify(attendeeImportRepository).advanceCheckpoint(eq(attendeeImport.getId()), anyString(), any(), eq(3L), eq(2L), eq(1L));
+    }
+
+    @Test
+    void shouldRejectRowsInsteadOfRestoring_whenMatchesAreSoftDeleted() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        UUID deletedUserId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID attendeeId = UUID.randomUUID();
+        LocalDateTime deletedAt = LocalDateTime.of(2026, 5, 1, 12, 0);
+        AttendeeImport attendeeImport = givenImport(eventId, 0, HEADER
+                + "gone@example.com,,,,\n"
+                + "a@example.com,,T-1,10,\n");
+        when(userRepository.findIdsByEmailIn(any())).thenReturn(List.of(
+                new User(deletedUserId, "gone@example.com"), new User(userId, "a@example.com")));
+        when(attendeeRepository.findIdsByUserIdIn(any())).thenReturn(List.of(
+                new Attendee(UUID.randomUUID(), deletedUserId, IMPORTER, deletedAt),
+                new Attendee(attendeeId, userId, IMPORTER, null)));
+        when(ticketRepository.findOwnersByTicketCodeIn(any()))
+                .thenReturn(List.of(new Ticket(UUID.randomUUID(), "T-1", attendeeId, eventId, deletedAt)));
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        assertThat(batches).containsOnlyKeys("INSERT INTO attendee_import_errors");
+        assertThat(batches.get("INSERT INTO attendee_import_errors")).extracting(row -> row[3]).containsExactly(
+                "Attendee profile of gone@example.com was deleted",
+                "Ticket code T-1 was deleted");
+    }
+
+    @Test
+    void shouldLookUpNormalizedEmails_whenFileUsesMixedCase() throws Exception {
+        // Arrange
+        AttendeeImport attendeeImport = givenImport(null, 0, HEADER + "A@Example.COM,,,,\n");
+        when(userRepository.findIdsByEmailIn(any())).thenReturn(List.of(new User(UUID.randomUUID(), "a@example.com")));
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        verify(userRepository).findIdsByEmailIn(Set.of("a@example.com"));
+        assertThat(batches.get("INSERT INTO attendees")).hasSize(1);
+    }
+
+    @Test
+    void shouldRecordRejectedRows_whenRowsBreakImportRules() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        AttendeeImport attendeeImport = givenImport(eventId, 0, HEADER
+                + "a@example.com,,T-1,10,\n"
+                + "a@example.com,,T-1,10,\n"
+                + "b@example.com,,T-2,ten,\n"
+                + "b@example.com,,T-3,5,lost\n"
+                + "not-an-email,,,,\n"
+                + "ghost@example.com,,,,\n"
+                + "c@example.com,,T-9,5,\n");
+        when(userRepository.findIdsByEmailIn(any())).thenReturn(List.of(
+                new User(UUID.randomUUID(), "a@example.com"), new User(UUID.randomUUID(), "c@example.com")));
+        when(ticketRepository.findOwnersByTicketCodeIn(any())).thenReturn(List.of(
+                new Ticket(UUID.randomUUID(), "T-9", UUID.randomUUID(), eventId, null)));
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        Map<Long, String> errors = new HashMap<>();
+        batches.get("INSERT INTO attendee_import_errors").forEach(row -> errors.put((Long) row[2], (String) row[3]));
+        assertThat(errors).containsOnlyKeys(2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(errors.get(2L)).contains("T-1 appears twice");
+        assertThat(errors.get(3L)).isEqualTo("Price is not a number: ten");
+        assertThat(errors.get(4L)).isEqualTo("Unknown ticket status: lost");
+        assertThat(errors.get(5L)).isEqualTo("Email is not valid");
+        assertThat(errors.get(6L)).isEqualTo("No user with email ghost@example.com");
+        assertThat(errors.get(7L)).contains("T-9 belongs to another attendee or event");
+        assertThat(batches.get("INSERT INTO attendees")).hasSize(1);
+        assertThat(batches.get("INSERT INTO tickets")).extracting(row -> row[1]).containsExactly("T-1");
+        verify(attendeeImportRepository).advanceCheckpoint(eq(attendeeImport.getId()), anyString(), any(), eq(7L), eq(1L), eq(6L));
+    }
+
+    @Test
+    void shouldRejectTicketColumns_whenImportHasNoEvent() throws Exception {
+        // Arrange
+        AttendeeImport attendeeImport = givenImport(null, 0, HEADER + "a@example.com,,T-1,10,\n");
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        assertThat(batches).containsOnlyKeys("INSERT INTO attendee_import_errors");
+        assertThat(batches.get("INSERT INTO attendee_import_errors").getFirst()[3])
+                .isEqualTo("Ticket columns need an import started for an event");
+        verifyNoInteractions(userRepository, syncChangeLog);
+    }
+
+    @Test
+    void shouldSkipCommittedRows_whenImportIsResumed() throws Exception {
+        // Arrange
+        AttendeeImport attendeeImport = givenImport(null, 2, HEADER
+                + "a@example.com,,,,\n"
+                + "b@example.com,,,,\n"
+                + "c@example.com,,,,\n");
+        when(userRepository.findIdsByEmailIn(any())).thenReturn(List.of(new User(UUID.randomUUID(), "c@example.com")));
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        verify(userRepository).findIdsByEmailIn(Set.of("c@example.com"));
+        assertThat(batches.get("INSERT INTO attendees")).hasSize(1);
+        verify(attendeeImportRepository).advanceCheckpoint(eq(attendeeImport.getId()), anyString(), any(), eq(3L), eq(1L), eq(0L));
+    }
+
+    @Test
+    void shouldCommitCheckpointPerChunk_whenFileSpansSeveralChunks() throws Exception {
+        // Arrange
+        importProperties.setBatchSize(2);
+        AttendeeImport attendeeImport = givenImport(null, 0, HEADER
+                + "a@example.com,,,,\n"
+                + "b@example.com,,,,\n"
+                + "c@example.com,,,,\n");
+        when(userRepository.findIdsByEmailIn(any())).thenReturn(List.of());
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        InOrder order = inOrder(attendeeImportRepository);
+        order.verify(attendeeImportRepository).advanceCheckpoint(eq(attendeeImport.getId()), anyString(), any(), eq(2L), eq(0L), eq(2L));
+        order.verify(attendeeImportRepository).advanceCheckpoint(eq(attendeeImport.getId()), anyString(), any(), eq(3L), eq(0L), eq(1L));
+        order.verify(attendeeImportRepository).release(eq(attendeeImport.getId()), anyString(), eq(AttendeeImportStatus.COMPLETED), isNull());
+    }
+
+    @Test
+    void shouldNotRun_whenAnotherNodeHoldsTheLease() throws Exception {
+        // Arrange
+        AttendeeImport attendeeImport = givenImport(null, 0, HEADER + "a@example.com,,,,\n");
+        when(attendeeImportRepository.claim(any(), anyString(), any(), any(), any(), any())).thenReturn(0);
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate, userRepository);
+        verify(attendeeImportRepository, never()).release(any(), anyString(), any(), any());
+        assertThat(Path.of(attendeeImport.getStoredPath())).exists();
+    }
+
+    @Test
+    void shouldRollBackChunk_whenLeaseWasTakenOver() throws Exception {
+        // Arrange
+        AttendeeImport attendeeImport = givenImport(null, 0, HEADER + "a@example.com,,,,\n");
+        when(userRepository.findIdsByEmailIn(any())).thenReturn(List.of(new User(UUID.randomUUID(), "a@example.com")));
+        when(attendeeImportRepository.advanceCheckpoint(any(), anyString(), any(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(0);
+        when(attendeeImportRepository.release(any(), anyString(), any(), any())).thenReturn(0);
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        verify(transactionManager).rollback(any());
+        verify(attendeeImportRepository).release(eq(attendeeImport.getId()), anyString(),
+                eq(AttendeeImportStatus.FAILED), contains("taken over by another node"));
+        assertThat(Path.of(attendeeImport.getStoredPath())).exists();
+    }
+
+    @Test
+    void shouldHoldTenantHeavyPermit_whileImportRuns() throws Exception {
+        // Arrange
+        AttendeeImport attendeeImport = givenImport(null, 0, HEADER + "a@example.com,,,,\n");
+        attendeeImport.setTenant("organizer-1");
+        List<Throwable> duringRun = new ArrayList<>();
+        when(userRepository.findIdsByEmailIn(any())).thenAnswer(invocation -> {
+            try {
+                tenantFairScheduler.acquireHeavy("organizer-1");
+            } catch (BusinessException ex) {
+                duringRun.add(ex);
+            }
+            return List.of();
+        });
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        assertThat(duringRun).hasSize(1);
+        tenantFairScheduler.acquireHeavy("organizer-1");
+    }
+
+    @Test
+    void shouldFailImport_whenTenantIsAtItsHeavyLimit() throws Exception {
+        // Arrange
+        AttendeeImport attendeeImport = givenImport(null, 0, HEADER + "a@example.com,,,,\n");
+        attendeeImport.setTenant("organizer-1");
+        tenantFairScheduler.acquireHeavy("organizer-1");
+
+        // Act
+        processor.submit(attendeeImport.getId());
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate, userRepository);
+        verify(attendeeImportRepository).release(eq(attendeeImport.getId()), anyString(),
+                eq(AttendeeImportStatus.FAILED), eq("Test Message"));
+    }
+
+    @Test
+    void shouldReportActive_whenAnotherNodeHoldsAnUnexpiredLease() {
+        // Arrange
+        AttendeeImport held = AttendeeImport.builder().id(UUID.randomUUID()).status(AttendeeImportStatus.RUNNING)
+                .leaseUntil(Instant.now().plusSeconds(60)).build();
+        AttendeeImport expired = AttendeeImport.builder().id(UUID.randomUUID()).status(AttendeeImportStatus.RUNNING)
+                .leaseUntil(Instant.now().minusSeconds(60)).build();
+
+        // Act & Assert
+        assertThat(processor.isActive(held)).isTrue();
+        assertThat(processor.isActive(expired)).isFalse();
+    }
+
+    private AttendeeImport givenImport(UUID eventId, long checkpointRow, String csv) throws Exception {
+        Path file = tempDir.resolve(UUID.randomUUID() + ".upload");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        AttendeeImport attendeeImport = AttendeeImport.builder()
+                .id(UUID.randomUUID())
+                .eventId(eventId)
+                .storedPath(file.toString())
+                .format(TabularFormat.CSV)
+                .status(AttendeeImportStatus.RUNNING)
+                .checkpointRow(checkpointRow)
+                .createdBy(IMPORTER)
+                .build();
+        lenient().when(attendeeImportRepository.findById(attendeeImport.getId())).thenReturn(Optional.of(attendeeImport));
+        return attendeeImport;
+    }
+
+    private record User(UUID getId, String getEmail) implements UserEmailProjection {
+    }
+
+    private record Attendee(UUID getId, UUID getUserId, String getCreatedBy, LocalDateTime getDeletedAt)
+            implements AttendeeUserProjection {
+    }
+
+    private record Ticket(UUID getId, String getTicketCode, UUID getAttendeeId, UUID getEventId, LocalDateTime getDeletedAt)
+            implements TicketOwnerProjection {
+    }
+}
@@ -0,0 +1,101 @@
+package com.gucardev.eventsphere.domain.attendee.service.usecase;
+
+import com.gucardev.eventsphere.domain.attendee.mapper.AttendeeImportMapper;
+import com.gucardev.eventsphere.domain.attendee.model.parameter.StartAttendeeImportUseCaseParam;
+import com.gucardev.eventsphere.domain.attendee.repository.AttendeeImportRepository;
+import com.gucardev.eventsphere.domain.attendee.service.AttendeeImportProcessor;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.config.properties.ImportProperties;
+import com.gucardev.eventsphere.infrastructure.config.tenant.TenantResolver;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.importing.TabularFileReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StartAttendeeImportUseCaseTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final UUID OWNER_ID = UUID.randomUUID();
+
+    @Mock
+    private AttendeeImportRepository attendeeImportRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private AttendeeImportProcessor attendeeImportProcessor;
+    @Mock
+    private TabularFileReader tabularFileReader;
+    @Mock
+    private ImportProperties importProperties;
+    @Mock
+    private AttendeeImportMapper attendeeImportMapper;
+    @Mock
+    private TenantResolver tenantResolver;
+    @Mock
+    private ResourceOwnershipValidator ownershipValidator;
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private StartAttendeeImportUseCase startAttendeeImportUseCase;
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+    }
+
+    @Test
+    void shouldRejectBeforeStoringUpload_whenCallerDoesNotOwnEvent() {
+        // Arrange
+        when(eventRepository.findOrganizerUserIdById(EVENT_ID)).thenReturn(Optional.of(OWNER_ID));
+        doThrow(ExceptionUtil.of(ExceptionType.FORBIDDEN)).when(ownershipValidator).validateOwnership(OWNER_ID);
+
+        // Act & Assert
+        assertThatThrownBy(() -> startAttendeeImportUseCase.execute(new StartAttendeeImportUseCaseParam(file(), EVENT_ID)))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.FORBIDDEN.getCode()));
+        verifyNoInteractions(importProperties, attendeeImportRepository, attendeeImportProcessor);
+    }
+
+    @Test
+    void shouldRejectImport_whenEventDoesNotExist() {
+        // Arrange
+        when(eventRepository.findOrganizerUserIdById(EVENT_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> startAttendeeImportUseCase.execute(new StartAttendeeImportUseCaseParam(file(), EVENT_ID)))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.NOT_FOUND.getCode()));
+        verifyNoInteractions(ownershipValidator, attendeeImportRepository, attendeeImportProcessor);
+    }
+
+    private static MockMultipartFile file() {
+        return new MockMultipartFile("file", "attendees.csv", "text/csv",
+                "email\na@example.com\n".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -7,6 +7,7 @@ import com.gucardev.eventsphere.domain.auth.user.mapper.UserMapper;
 import com.gucardev.eventsphere.domain.auth.user.model.dto.UserResponseDto;
 import com.gucardev.eventsphere.domain.auth.user.model.request.CreateUserRequest;
 import com.gucardev.eventsphere.domain.auth.user.repository.UserRepository;
+import com.gucardev.eventsphere.infrastructure.config.security.protection.LoginAttemptGuard;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -39,6 +40,9 @@ class CreateUserUseCaseTest {
         @Mock
         private PasswordEncoder passwordEncoder;
 
+        @Mock
+        private LoginAttemptGuard loginAttemptGuard;
+
         @Mock
         private org.springframework.context.MessageSource messageSource;
 
@@ -0,0 +1,126 @@
+package com.gucardev.eventsphere.domain.event.controller;
+
+import com.gucardev.eventsphere.domain.event.model.dto.EventResponseDto;
+import com.gucardev.eventsphere.domain.event.service.usecase.GetEventUseCase;
+import com.gucardev.eventsphere.domain.session.model.dto.SessionResponseDto;
+import com.gucardev.eventsphere.infrastructure.config.web.HttpCachePolicyResolver;
+import com.gucardev.eventsphere.infrastructure.response.ApiResponseWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventControllerTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final UUID SESSION_ID = UUID.randomUUID();
+
+    @Mock
+    private GetEventUseCase getEventUseCase;
+
+    @Mock
+    private HttpCachePolicyResolver httpCachePolicyResolver;
+
+    @InjectMocks
+    private EventController eventController;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(httpCachePolicyResolver.cacheControl(anyString())).thenReturn(CacheControl.noCache());
+    }
+
+    @Test
+    void shouldReturnBodyWithETag_whenNoIfNoneMatch() {
+        // Arrange
+        when(getEventUseCase.execute(EVENT_ID)).thenReturn(event("Launch", 0L, 0L));
+
+        // Act
+        ResponseEntity<ApiResponseWrapper<EventResponseDto>> response = get(null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotBlank();
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getData().getTitle()).isEqualTo("Launch");
+    }
+
+    @Test
+    void shouldReturnNotModified_whenIfNoneMatchEqualsServedBody() {
+        // Arrange
+        when(getEventUseCase.execute(EVENT_ID)).thenReturn(event("Launch", 0L, 0L));
+        String eTag = get(null).getHeaders().getETag();
+
+        // Act
+        ResponseEntity<ApiResponseWrapper<EventResponseDto>> response = get(eTag);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void shouldReturnNewETag_whenEventUpdated() {
+        // Arrange
+        when(getEventUseCase.execute(EVENT_ID)).thenReturn(event("Launch", 0L, 0L), event("Launch (moved)", 1L, 0L));
+        String oldETag = get(null).getHeaders().getETag();
+
+        // Act
+        ResponseEntity<ApiResponseWrapper<EventResponseDto>> response = get(oldETag);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(oldETag);
+        assertThat(response.getBody().getData().getTitle()).isEqualTo("Launch (moved)");
+    }
+
+    @Test
+    void shouldReturnNewETag_whenOnlyASessionUpdated() {
+        // Arrange
+        when(getEventUseCase.execute(EVENT_ID)).thenReturn(event("Launch", 0L, 0L), event("Launch", 0L, 1L));
+        String oldETag = get(null).getHeaders().getETag();
+
+        // Act
+        ResponseEntity<ApiResponseWrapper<EventResponseDto>> response = get(oldETag);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(oldETag);
+    }
+
+    private ResponseEntity<ApiResponseWrapper<EventResponseDto>> get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/events/" + EVENT_ID);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return eventController.getEvent(EVENT_ID, new ServletWebRequest(request, new MockHttpServletResponse()));
+    }
+
+    private static EventResponseDto event(String title, long version, long sessionVersion) {
+        return EventResponseDto.builder()
+                .id(EVENT_ID)
+                .title(title)
+                .isPublished(true)
+                .version(version)
+                .sessions(List.of(SessionResponseDto.builder().id(SESSION_ID).version(sessionVersion).build()))
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.gucardev.eventsphere.domain.event.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleChangeBufferTest {
+
+    private final UUID eventId = UUID.randomUUID();
+    private final UUID otherEventId = UUID.randomUUID();
+
+    @Test
+    void shouldReplayOnlyMatchingChangesAfterLastChange() {
+        // Arrange
+        ScheduleChangeBuffer buffer = new ScheduleChangeBuffer(8);
+        buffer.append(change(1, eventId));
+        buffer.append(change(2, otherEventId));
+        buffer.append(change(3, eventId));
+        buffer.append(change(4, eventId));
+
+        // Act
+        List<ScheduleChange> replay = buffer.resumeAfter(1, 0, change -> change.eventId().equals(eventId));
+
+        // Assert
+        assertThat(replay).extracting(ScheduleChange::sequence).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void shouldReplayLowerSequences_whenTheyArrivedAfterLastChange() {
+        // Arrange
+        ScheduleChangeBuffer buffer = new ScheduleChangeBuffer(8);
+        buffer.append(change(10, eventId));
+        buffer.append(change(12, eventId));
+        buffer.append(change(11, eventId));
+        buffer.append(change(13, eventId));
+
+        // Act
+        List<ScheduleChange> replay = buffer.resumeAfter(12, 0, change -> true);
+
+        // Assert
+        assertThat(replay).extracting(ScheduleChange::sequence).containsExactly(11L, 13L);
+    }
+
+    @Test
+    void shouldReplayMarginBeforeLastChange_whenMarginIsSet() {
+        // Arrange
+        ScheduleChangeBuffer buffer = new ScheduleChangeBuffer(8);
+        for (long sequence = 1; sequence <= 6; sequence++) {
+            buffer.append(change(sequence, eventId));
+        }
+
+        // Act
+        List<ScheduleChange> replay = buffer.resumeAfter(4, 2, change -> true);
+
+        // Assert
+        assertThat(replay).extracting(ScheduleChange::sequence).containsExactly(2L, 3L, 5L, 6L);
+    }
+
+    @Test
+    void shouldRefuseResume_whenLastChangeFellOutOfRing() {
+        // Arrange
+        ScheduleChangeBuffer buffer = new ScheduleChangeBuffer(3);
+        for (long sequence = 1; sequence <= 5; sequence++) {
+            buffer.append(change(sequence, eventId));
+        }
+
+        // Act & Assert
+        assertThat(buffer.resumeAfter(2, 0, change -> true)).isNull();
+        assertThat(buffer.resumeAfter(3, 0, change -> true)).extracting(ScheduleChange::sequence).containsExactly(4L, 5L);
+    }
+
+    private static ScheduleChange change(long sequence, UUID eventId) {
+        return new ScheduleChange(sequence, "EventUpdated", eventId, null, "{}");
+    }
+}
@@ -0,0 +1,236 @@
+package com.gucardev.eventsphere.domain.event.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.config.properties.ChangeFeedProperties;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.messaging.MessageHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleChangeFeedTest {
+
+    private static final Pattern ID = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private OrganizerRepository organizerRepository;
+
+    @Mock
+    private MessageSource messageSource;
+
+    private final UUID eventId = UUID.randomUUID();
+    private final UUID organizerId = UUID.randomUUID();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private ChangeFeedProperties properties;
+    private ScheduleChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+        lenient().when(eventRepository.existsById(eventId)).thenReturn(true);
+        lenient().when(organizerRepository.existsById(organizerId)).thenReturn(true);
+        properties = new ChangeFeedProperties();
+        properties.setBufferCapacity(4);
+        properties.setResumeMargin(0);
+        createFeed();
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    @Test
+    void shouldDeliverLiveChanges_whenChangeMatchesSubscription() {
+        // Arrange
+        feed.subscribeToEvent(eventId, null);
+        RecordingEmitter client = emitters.getFirst();
+
+        // Act
+        feed.publish(change(1, eventId, null));
+        feed.publish(change(2, UUID.randomUUID(), null));
+        feed.publish(change(3, eventId, null));
+
+        // Assert
+        assertThat(client.awaitIds(2)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void shouldDeliverToOrganizerSubscribers_whenChangeBelongsToTheirEvent() {
+        // Arrange
+        feed.subscribeToOrganizer(organizerId, null);
+        RecordingEmitter client = emitters.getFirst();
+
+        // Act
+        feed.publish(change(1, UUID.randomUUID(), organizerId));
+        feed.publish(change(2, eventId, null));
+
+        // Assert
+        assertThat(client.awaitIds(1)).containsExactly(1L);
+    }
+
+    @Test
+    void shouldResumeInArrivalOrder_whenLastEventIdIsInRing() {
+        // Arrange
+        feed.publish(change(5, eventId, null));
+        feed.publish(change(3, eventId, null));
+        feed.publish(change(7, eventId, null));
+
+        // Act
+        feed.subscribeToEvent(eventId, 5L);
+
+        // Assert
+        assertThat(emitters.getFirst().awaitIds(2)).containsExactly(3L, 7L);
+    }
+
+    @Test
+    void shouldSendReset_whenLastEventIdFellOutOfRing() {
+        // Arrange
+        for (long sequence = 1; sequence <= 5; sequence++) {
+            feed.publish(change(sequence, eventId, null));
+        }
+
+        // Act
+        feed.subscribeToEvent(eventId, 1L);
+
+        // Assert
+        assertThat(emitters.getFirst().awaitText("event:reset")).isTrue();
+        assertThat(emitters.getFirst().ids()).isEmpty();
+    }
+
+    @Test
+    void shouldDeliverKafkaRecord_whenHeadersAndPayloadAreComplete() {
+        // Arrange
+        feed.subscribeToOrganizer(organizerId, null);
+        String payload = "{\"id\":\"" + eventId + "\",\"organizer\":{\"id\":\"" + organizerId + "\"}}";
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("eventsphere.event", 0, 0L, eventId.toString(), payload);
+        record.headers().add(MessageHeaders.SEQUENCE, "42".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(MessageHeaders.EVENT_TYPE, "EventUpdated".getBytes(StandardCharsets.UTF_8));
+        ConsumerRecord<String, String> unreadable = new ConsumerRecord<>("eventsphere.event", 0, 1L, eventId.toString(), "{}");
+
+        // Act
+        feed.onChanges(List.of(unreadable, record));
+
+        // Assert
+        assertThat(emitters.getFirst().awaitIds(1)).containsExactly(42L);
+        assertThat(emitters.getFirst().text()).contains("event:EventUpdated");
+    }
+
+    @Test
+    void shouldThrowNotFound_whenEventDoesNotExist() {
+        // Arrange
+        UUID missing = UUID.randomUUID();
+        when(eventRepository.existsById(missing)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> feed.subscribeToEvent(missing, null))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.NOT_FOUND.getCode()));
+        assertThat(emitters).isEmpty();
+    }
+
+    @Test
+    void shouldRejectSubscription_whenNodeIsAtMaxConnections() {
+        // Arrange
+        feed.shutdown();
+        properties.setMaxConnections(1);
+        createFeed();
+        feed.subscribeToEvent(eventId, null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> feed.subscribeToEvent(eventId, null))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.OVERLOADED.getCode()));
+    }
+
+    private void createFeed() {
+        feed = new ScheduleChangeFeed(eventRepository, organizerRepository, new ObjectMapper(), properties,
+                new SimpleMeterRegistry()) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static ScheduleChange change(long sequence, UUID eventId, UUID organizerId) {
+        return new ScheduleChange(sequence, "EventUpdated", eventId, organizerId, "{}");
+    }
+
+    // Keeps the frames written to the client; writes happen on the feed's virtual threads
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            frames.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        String text() {
+            return String.join("", frames);
+        }
+
+        List<Long> ids() {
+            Matcher matcher = ID.matcher(text());
+            List<Long> ids = new ArrayList<>();
+            while (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+            }
+            return ids;
+        }
+
+        List<Long> awaitIds(int expected) {
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (ids().size() < expected && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return ids();
+        }
+
+        boolean awaitText(String fragment) {
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (!text().contains(fragment) && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return text().contains(fragment);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.gucardev.eventsphere.domain.event.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gucardev.eventsphere.domain.event.model.dto.SeatAvailabilityDto;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.event.repository.projection.EventSeatCountProjection;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.infrastructure.config.properties.SeatAvailabilityProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeatAvailabilityBroadcasterTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private SeatAvailabilityBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new SeatAvailabilityBroadcaster(eventRepository, messagingTemplate, new ObjectMapper(),
+                new SeatAvailabilityProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldPushOncePerInterval_whenManyTicketsSell() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        broadcaster.onSubscribe(subscribe("session-1", "sub-1", eventId));
+        broadcaster.onSubscribe(subscribe("session-2", "sub-1", eventId));
+        when(eventRepository.countSeatsByIdIn(anyCollection(), any(TicketStatus.class)))
+                .thenReturn(List.of(counts(eventId, 100, 98)));
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            broadcaster.markChanged(eventId);
+        }
+        broadcaster.pushChanges();
+        broadcaster.pushChanges();
+
+        // Assert
+        ArgumentCaptor<SeatAvailabilityDto> payload = ArgumentCaptor.forClass(SeatAvailabilityDto.class);
+        verify(eventRepository, times(1)).countSeatsByIdIn(anyCollection(), any(TicketStatus.class));
+        verify(messagingTemplate, times(1))
+                .convertAndSend(eq(SeatAvailabilityBroadcaster.destination(eventId)), payload.capture());
+        assertThat(payload.getValue().getRemaining()).isEqualTo(2);
+        assertThat(payload.getValue().isSoldOut()).isFalse();
+    }
+
+    @Test
+    void shouldNotPush_whenCountsUnchanged() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        broadcaster.onSubscribe(subscribe("session-1", "sub-1", eventId));
+        when(eventRepository.countSeatsByIdIn(anyCollection(), any(TicketStatus.class)))
+                .thenReturn(List.of(counts(eventId, 10, 10)));
+        broadcaster.markChanged(eventId);
+        broadcaster.pushChanges();
+
+        // Act
+        broadcaster.markChanged(eventId);
+        broadcaster.pushChanges();
+
+        // Assert
+        verify(eventRepository, times(2)).countSeatsByIdIn(anyCollection(), any(TicketStatus.class));
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+        assertThat(broadcaster.snapshot(eventId).isSoldOut()).isTrue();
+    }
+
+    @Test
+    void shouldIgnoreChange_whenNobodyWatchesOnThisNode() {
+        // Act
+        broadcaster.markChanged(UUID.randomUUID());
+        broadcaster.pushChanges();
+
+        // Assert
+        verifyNoInteractions(eventRepository);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private static SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, UUID eventId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(SeatAvailabilityBroadcaster.destination(eventId));
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionSubscribeEvent(SeatAvailabilityBroadcasterTest.class, message);
+    }
+
+    private static EventSeatCountProjection counts(UUID eventId, Integer capacity, long sold) {
+        return new EventSeatCountProjection() {
+            @Override
+            public UUID getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public Integer getCapacity() {
+                return capacity;
+            }
+
+            @Override
+            public long getSold() {
+                return sold;
+            }
+        };
+    }
+}
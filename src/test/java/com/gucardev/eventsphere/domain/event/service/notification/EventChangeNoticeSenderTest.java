@@ -0,0 +1,198 @@
+package com.gucardev.eventsphere.domain.event.service.notification;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.entity.EventChangeNotice;
+import com.gucardev.eventsphere.domain.event.repository.EventChangeNoticeRepository;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.event.service.reminder.ReminderPartition;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketHolderProjection;
+import com.gucardev.eventsphere.infrastructure.config.email.EmailSenderService;
+import com.gucardev.eventsphere.infrastructure.config.properties.EventNoticeProperties;
+import com.gucardev.eventsphere.infrastructure.mail.EmailRecipient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventChangeNoticeSenderTest {
+
+    private static final long NOTICE_ID = 42L;
+    private static final LocalDateTime START = LocalDateTime.of(2030, 5, 1, 10, 0);
+    private static final ReminderPartition ALL_HOLDERS = ReminderPartition.of(0, 1);
+
+    @Mock
+    private EventChangeNoticeRepository noticeRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private EmailSenderService emailSenderService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final EventNoticeProperties properties = new EventNoticeProperties();
+    private final Event event = Event.builder()
+            .id(UUID.randomUUID())
+            .title("Java Day")
+            .startTime(START.plusHours(2))
+            .location("Hall A")
+            .isPublished(true)
+            .build();
+    private EventChangeNotice notice;
+    private EventChangeNoticeSender sender;
+
+    @BeforeEach
+    void setUp() {
+        properties.setChunkSize(2);
+        notice = EventChangeNotice.builder()
+                .id(NOTICE_ID)
+                .eventId(event.getId())
+                .previousStartTime(START)
+                .startTime(START.plusHours(2))
+                .previousLocation("Hall A")
+                .location("Hall A")
+                .createdAt(Instant.now())
+                .build();
+        lenient().when(noticeRepository.findLockedById(NOTICE_ID)).thenReturn(Optional.of(notice));
+        lenient().when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        sender = new EventChangeNoticeSender(noticeRepository, eventRepository, ticketRepository, emailSenderService,
+                properties, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldEmailEveryChunkAndComplete_whenHoldersSpanSeveralChunks() {
+        // Arrange
+        TicketHolderProjection ada = holder("ada@example.com");
+        TicketHolderProjection alan = holder("alan@example.com");
+        TicketHolderProjection grace = holder("grace@example.com");
+        when(ticketRepository.findHoldersAfter(eq(event.getId()), eq(ALL_HOLDERS.after()), eq(ALL_HOLDERS.last()),
+                eq(TicketStatus.CANCELLED), any()))
+                .thenReturn(List.of(ada, alan));
+        when(ticketRepository.findHoldersAfter(eq(event.getId()), eq(alan.getAttendeeId()), any(), any(), any()))
+                .thenReturn(List.of(grace));
+
+        // Act
+        sender.send(NOTICE_ID);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> model = ArgumentCaptor.forClass(Map.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmailRecipient>> recipients = ArgumentCaptor.forClass(List.class);
+        verify(emailSenderService, times(2)).sendBulkTemplatedHtmlEmail(eq("Schedule change: Java Day"),
+                eq("event-changed"), model.capture(), recipients.capture());
+        assertThat(recipients.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(model.getValue())
+                .containsEntry("startTimeChanged", true)
+                .containsEntry("locationChanged", false)
+                .containsEntry("startTime", "2030-05-01 12:00");
+        assertThat(notice.getLastAttendeeId()).isEqualTo(grace.getAttendeeId());
+        assertThat(notice.getSent()).isEqualTo(3);
+        assertThat(notice.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldResumeAfterLastCommittedAttendee_whenRecoveredJobRunsAgain() {
+        // Arrange
+        UUID lastReached = UUID.randomUUID();
+        notice.setLastAttendeeId(lastReached);
+        notice.setSent(2);
+        when(ticketRepository.findHoldersAfter(eq(event.getId()), eq(lastReached), any(), any(), any()))
+                .thenReturn(List.of(holder("grace@example.com")));
+
+        // Act
+        sender.send(NOTICE_ID);
+
+        // Assert
+        verify(ticketRepository, never()).findHoldersAfter(any(), eq(ALL_HOLDERS.after()), any(), any(), any());
+        assertThat(notice.getSent()).isEqualTo(3);
+        assertThat(notice.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldDropNotice_whenNewerNoticeForEventExists() {
+        // Arrange
+        when(noticeRepository.existsByEventIdAndIdGreaterThan(event.getId(), NOTICE_ID)).thenReturn(true);
+
+        // Act
+        sender.send(NOTICE_ID);
+
+        // Assert
+        assertThat(notice.getCompletedAt()).isNotNull();
+        verify(ticketRepository, never()).findHoldersAfter(any(), any(), any(), any(), any());
+        verify(emailSenderService, never()).sendBulkTemplatedHtmlEmail(anyString(), anyString(), anyMap(), anyList());
+    }
+
+    @Test
+    void shouldDropNotice_whenEventWasDeleted() {
+        // Arrange
+        event.setDeletedAt(LocalDateTime.now());
+
+        // Act
+        sender.send(NOTICE_ID);
+
+        // Assert
+        assertThat(notice.getCompletedAt()).isNotNull();
+        verify(emailSenderService, never()).sendBulkTemplatedHtmlEmail(anyString(), anyString(), anyMap(), anyList());
+    }
+
+    @Test
+    void shouldDropNotice_whenEventWasUnpublished() {
+        // Arrange
+        event.setIsPublished(false);
+
+        // Act
+        sender.send(NOTICE_ID);
+
+        // Assert
+        assertThat(notice.getCompletedAt()).isNotNull();
+        verify(emailSenderService, never()).sendBulkTemplatedHtmlEmail(anyString(), anyString(), anyMap(), anyList());
+    }
+
+    private static TicketHolderProjection holder(String email) {
+        UUID attendeeId = UUID.randomUUID();
+        return new TicketHolderProjection() {
+            @Override
+            public UUID getAttendeeId() {
+                return attendeeId;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getName() {
+                return email.substring(0, email.indexOf('@'));
+            }
+        };
+    }
+}
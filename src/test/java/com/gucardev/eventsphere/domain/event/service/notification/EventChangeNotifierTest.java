@@ -0,0 +1,125 @@
+package com.gucardev.eventsphere.domain.event.service.notification;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.entity.EventChangeNotice;
+import com.gucardev.eventsphere.domain.event.model.dto.EventScheduleChangeDto;
+import com.gucardev.eventsphere.domain.event.repository.EventChangeNoticeRepository;
+import com.gucardev.eventsphere.domain.event.repository.EventReminderRepository;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventChangeNotifierTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 5, 1, 10, 0);
+
+    @Mock
+    private EventChangeNoticeRepository noticeRepository;
+
+    @Mock
+    private EventReminderRepository reminderRepository;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Mock
+    private Scheduler scheduler;
+
+    @InjectMocks
+    private EventChangeNotifier notifier;
+
+    @Test
+    void shouldDoNothing_whenStartTimeAndLocationAreUnchanged() {
+        // Arrange
+        Event event = event(START, "Hall A");
+
+        // Act
+        notifier.notifyIfChanged(event, START, "Hall A");
+
+        // Assert
+        verifyNoInteractions(outboxPublisher, noticeRepository, reminderRepository, scheduler);
+    }
+
+    @Test
+    void shouldRecordNoticeAndScheduleJob_whenStartTimeChanged() throws Exception {
+        // Arrange
+        Event event = event(START.plusHours(2), "Hall A");
+        when(noticeRepository.save(any(EventChangeNotice.class))).thenAnswer(invocation -> {
+            EventChangeNotice notice = invocation.getArgument(0);
+            notice.setId(42L);
+            return notice;
+        });
+
+        // Act
+        notifier.notifyIfChanged(event, START, "Hall A");
+
+        // Assert
+        ArgumentCaptor<EventScheduleChangeDto> change = ArgumentCaptor.forClass(EventScheduleChangeDto.class);
+        verify(outboxPublisher).publish(eq(AggregateType.EVENT), eq(event.getId()), eq(EventChangeNotifier.EVENT_TYPE), change.capture());
+        assertThat(change.getValue().getChangedFields()).containsExactly("startTime");
+        assertThat(change.getValue().getPreviousStartTime()).isEqualTo(START);
+
+        ArgumentCaptor<JobDetail> job = ArgumentCaptor.forClass(JobDetail.class);
+        verify(scheduler).scheduleJob(job.capture(), any(Trigger.class));
+        assertThat(job.getValue().getJobDataMap().getLong(EventChangeNoticeJob.NOTICE_ID)).isEqualTo(42L);
+        assertThat(job.getValue().requestsRecovery()).isTrue();
+        verify(reminderRepository).deleteByEventId(event.getId());
+    }
+
+    @Test
+    void shouldKeepReminders_whenOnlyLocationChanged() {
+        // Arrange
+        Event event = event(START, "Hall B");
+        when(noticeRepository.save(any(EventChangeNotice.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        notifier.notifyIfChanged(event, START, "Hall A");
+
+        // Assert
+        verify(reminderRepository, never()).deleteByEventId(any());
+    }
+
+    @Test
+    void shouldListBothFields_whenStartTimeAndLocationChanged() {
+        // Arrange
+        Event event = event(START.plusDays(1), "Hall B");
+
+        // Act
+        EventScheduleChangeDto change = EventChangeNotifier.diff(event, START, null);
+
+        // Assert
+        assertThat(change).isNotNull();
+        assertThat(change.getChangedFields()).containsExactly("startTime", "location");
+        assertThat(change.getPreviousLocation()).isNull();
+        assertThat(change.getLocation()).isEqualTo("Hall B");
+    }
+
+    private static Event event(LocalDateTime startTime, String location) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .title("Conference")
+                .startTime(startTime)
+                .location(location)
+                .build();
+    }
+}
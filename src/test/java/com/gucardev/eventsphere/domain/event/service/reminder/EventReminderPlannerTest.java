@@ -0,0 +1,146 @@
+package com.gucardev.eventsphere.domain.event.service.reminder;
+
+import com.gucardev.eventsphere.domain.event.entity.EventReminder;
+import com.gucardev.eventsphere.domain.event.entity.ReminderKind;
+import com.gucardev.eventsphere.domain.event.entity.ReminderStatus;
+import com.gucardev.eventsphere.domain.event.repository.EventReminderRepository;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.infrastructure.config.properties.ReminderProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventReminderPlannerTest {
+
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private EventReminderRepository reminderRepository;
+    @Mock
+    private Scheduler scheduler;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Captor
+    private ArgumentCaptor<Iterable<EventReminder>> saved;
+
+    private final ReminderProperties properties = new ReminderProperties();
+    private EventReminderPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        properties.setPartitions(4);
+        AtomicLong ids = new AtomicLong();
+        lenient().when(reminderRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<EventReminder> saved = new ArrayList<>();
+            invocation.<Iterable<EventReminder>>getArgument(0).forEach(reminder -> {
+                reminder.setId(ids.incrementAndGet());
+                saved.add(reminder);
+            });
+            return saved;
+        });
+        planner = new EventReminderPlanner(eventRepository, reminderRepository, scheduler, properties, transactionManager);
+    }
+
+    @Test
+    void shouldPlanOnlyHourReminder_whenEventStartsInsideHourLead() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        when(eventRepository.findUnremindedStartingBetween(any(), any(), eq(ReminderKind.HOUR_BEFORE), any()))
+                .thenReturn(List.of(eventId));
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        planner.planDueReminders();
+
+        // Assert
+        // The day bucket ends where the hour bucket starts, so an event 30 minutes out is not in it
+        ArgumentCaptor<LocalDateTime> dayFrom = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(eventRepository).findUnremindedStartingBetween(dayFrom.capture(), any(), eq(ReminderKind.DAY_BEFORE), any());
+        assertThat(dayFrom.getValue()).isAfterOrEqualTo(before.plus(ReminderKind.HOUR_BEFORE.getLead()));
+
+        verify(reminderRepository, times(2)).saveAll(saved.capture());
+        assertThat(saved.getAllValues().getFirst()).isEmpty();
+        assertThat(saved.getAllValues().getLast())
+                .hasSize(4)
+                .allSatisfy(reminder -> {
+                    assertThat(reminder.getEventId()).isEqualTo(eventId);
+                    assertThat(reminder.getKind()).isEqualTo(ReminderKind.HOUR_BEFORE);
+                    assertThat(reminder.getStatus()).isEqualTo(ReminderStatus.PENDING);
+                    assertThat(reminder.getPartitionCount()).isEqualTo(4);
+                })
+                .extracting(EventReminder::getPartitionNo)
+                .containsExactly(0, 1, 2, 3);
+        verify(scheduler, times(4)).scheduleJob(any(JobDetail.class), any(Trigger.class));
+    }
+
+    @Test
+    void shouldRescheduleOnlyPartitionsWhoseJobIsGone_whenPartitionsStalled() throws Exception {
+        // Arrange
+        EventReminder lost = stalled(1L);
+        EventReminder running = stalled(2L);
+        when(reminderRepository.findStalled(eq(ReminderStatus.PENDING), any(), any())).thenReturn(List.of(lost, running));
+        when(scheduler.checkExists(JobKey.jobKey("reminder-1", EventReminderPlanner.FANOUT_GROUP))).thenReturn(false);
+        when(scheduler.checkExists(JobKey.jobKey("reminder-2", EventReminderPlanner.FANOUT_GROUP))).thenReturn(true);
+        Instant before = Instant.now();
+
+        // Act
+        planner.planDueReminders();
+
+        // Assert
+        ArgumentCaptor<JobDetail> job = ArgumentCaptor.forClass(JobDetail.class);
+        verify(scheduler).scheduleJob(job.capture(), any(Trigger.class));
+        assertThat(job.getValue().getKey().getName()).isEqualTo("reminder-1");
+        assertThat(job.getValue().requestsRecovery()).isTrue();
+        assertThat(lost.getLastProgressAt()).isAfterOrEqualTo(before);
+        assertThat(running.getLastProgressAt()).isBefore(before);
+    }
+
+    @Test
+    void shouldNotReschedule_whenNothingStalled() throws Exception {
+        // Act
+        planner.planDueReminders();
+
+        // Assert
+        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
+    }
+
+    private EventReminder stalled(long id) {
+        return EventReminder.builder()
+                .id(id)
+                .eventId(UUID.randomUUID())
+                .kind(ReminderKind.DAY_BEFORE)
+                .partitionNo(0)
+                .partitionCount(properties.getPartitions())
+                .status(ReminderStatus.PENDING)
+                .lastProgressAt(Instant.now().minus(properties.getStallTimeout()).minus(Duration.ofMinutes(1)))
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.gucardev.eventsphere.domain.event.service.reminder;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.entity.EventReminder;
+import com.gucardev.eventsphere.domain.event.entity.ReminderKind;
+import com.gucardev.eventsphere.domain.event.entity.ReminderStatus;
+import com.gucardev.eventsphere.domain.event.repository.EventReminderRepository;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketHolderProjection;
+import com.gucardev.eventsphere.infrastructure.config.email.EmailSenderService;
+import com.gucardev.eventsphere.infrastructure.config.properties.ReminderProperties;
+import com.gucardev.eventsphere.infrastructure.mail.EmailRecipient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventReminderSenderTest {
+
+    private static final long REMINDER_ID = 7L;
+
+    @Mock
+    private EventReminderRepository reminderRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private EmailSenderService emailSenderService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ReminderProperties properties = new ReminderProperties();
+    private final Event event = Event.builder()
+            .id(UUID.randomUUID())
+            .title("Java Day")
+            .location("Istanbul")
+            .startTime(LocalDateTime.now().plusHours(1))
+            .isPublished(true)
+            .build();
+    private EventReminder reminder;
+    private EventReminderSender sender;
+
+    @BeforeEach
+    void setUp() {
+        properties.setChunkSize(2);
+        reminder = EventReminder.builder()
+                .id(REMINDER_ID)
+                .eventId(event.getId())
+                .kind(ReminderKind.HOUR_BEFORE)
+                .partitionNo(1)
+                .partitionCount(4)
+                .status(ReminderStatus.PENDING)
+                .lastProgressAt(Instant.now())
+                .build();
+        lenient().when(reminderRepository.findLockedById(REMINDER_ID)).thenReturn(Optional.of(reminder));
+        lenient().when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        sender = new EventReminderSender(reminderRepository, eventRepository, ticketRepository, emailSenderService,
+                properties, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldResumeAfterLastCommittedAttendee_whenRecoveredJobRunsAgain() {
+        // Arrange
+        UUID lastReminded = UUID.randomUUID();
+        reminder.setLastAttendeeId(lastReminded);
+        reminder.setSent(2);
+        ReminderPartition partition = ReminderPartition.of(1, 4);
+        when(ticketRepository.findHoldersAfter(eq(event.getId()), eq(lastReminded), eq(partition.last()),
+                eq(TicketStatus.CANCELLED), any()))
+                .thenReturn(List.of(holder("grace@example.com")));
+
+        // Act
+        sender.send(REMINDER_ID);
+
+        // Assert
+        verify(ticketRepository, never()).findHoldersAfter(any(), eq(partition.after()), any(), any(), any());
+        assertThat(reminder.getSent()).isEqualTo(3);
+        assertThat(reminder.getStatus()).isEqualTo(ReminderStatus.DONE);
+    }
+
+    @Test
+    void shouldAdvanceCursorPerChunk_whenPartitionSpansSeveralChunks() {
+        // Arrange
+        ReminderPartition partition = ReminderPartition.of(1, 4);
+        TicketHolderProjection ada = holder("ada@example.com");
+        TicketHolderProjection alan = holder("alan@example.com");
+        TicketHolderProjection grace = holder("grace@example.com");
+        when(ticketRepository.findHoldersAfter(eq(event.getId()), eq(partition.after()), any(), any(), any()))
+                .thenReturn(List.of(ada, alan));
+        when(ticketRepository.findHoldersAfter(eq(event.getId()), eq(alan.getAttendeeId()), any(), any(), any()))
+                .thenReturn(List.of(grace));
+
+        // Act
+        sender.send(REMINDER_ID);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmailRecipient>> recipients = ArgumentCaptor.forClass(List.class);
+        verify(emailSenderService, times(2)).sendBulkTemplatedHtmlEmail(eq("Reminder: Java Day"), eq("event-reminder"),
+                anyMap(), recipients.capture());
+        assertThat(recipients.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(reminder.getLastAttendeeId()).isEqualTo(grace.getAttendeeId());
+        assertThat(reminder.getSent()).isEqualTo(3);
+        assertThat(reminder.getStatus()).isEqualTo(ReminderStatus.DONE);
+    }
+
+    @Test
+    void shouldDropReminder_whenEventHasStarted() {
+        // Arrange
+        event.setStartTime(LocalDateTime.now().minusMinutes(1));
+
+        // Act
+        sender.send(REMINDER_ID);
+
+        // Assert
+        assertThat(reminder.getStatus()).isEqualTo(ReminderStatus.DONE);
+        verify(ticketRepository, never()).findHoldersAfter(any(), any(), any(), any(), any());
+        verify(emailSenderService, never()).sendBulkTemplatedHtmlEmail(anyString(), anyString(), anyMap(), anyList());
+    }
+
+    @Test
+    void shouldDropReminder_whenEventWasUnpublished() {
+        // Arrange
+        event.setIsPublished(false);
+
+        // Act
+        sender.send(REMINDER_ID);
+
+        // Assert
+        assertThat(reminder.getStatus()).isEqualTo(ReminderStatus.DONE);
+        verify(emailSenderService, never()).sendBulkTemplatedHtmlEmail(anyString(), anyString(), anyMap(), anyList());
+    }
+
+    @Test
+    void shouldDoNothing_whenPartitionAlreadyDone() {
+        // Arrange
+        reminder.setStatus(ReminderStatus.DONE);
+
+        // Act
+        sender.send(REMINDER_ID);
+
+        // Assert
+        verify(eventRepository, never()).findById(any());
+        verify(emailSenderService, never()).sendBulkTemplatedHtmlEmail(anyString(), anyString(), anyMap(), anyList());
+    }
+
+    private static TicketHolderProjection holder(String email) {
+        UUID attendeeId = UUID.randomUUID();
+        return new TicketHolderProjection() {
+            @Override
+            public UUID getAttendeeId() {
+                return attendeeId;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getName() {
+                return email.substring(0, email.indexOf('@'));
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.gucardev.eventsphere.domain.event.service.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReminderPartitionTest {
+
+    @Test
+    void shouldCoverEveryId_whenPartitionsAreJoined() {
+        // Arrange
+        int partitionCount = 7;
+        List<ReminderPartition> partitions = new ArrayList<>();
+
+        // Act
+        for (int partition = 0; partition < partitionCount; partition++) {
+            partitions.add(ReminderPartition.of(partition, partitionCount));
+        }
+
+        // Assert
+        assertThat(partitions.getFirst().after()).hasToString("00000000-0000-0000-0000-000000000000");
+        assertThat(partitions.getLast().last()).hasToString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+        for (int i = 1; i < partitionCount; i++) {
+            String previousLast = partitions.get(i - 1).last().toString();
+            String after = partitions.get(i).after().toString();
+            assertThat(previousLast.substring(9)).isEqualTo("ffff-ffff-ffff-ffffffffffff");
+            assertThat(after.substring(9)).isEqualTo("0000-0000-0000-000000000000");
+            assertThat(Long.parseLong(after.substring(0, 8), 16))
+                    .isEqualTo(Long.parseLong(previousLast.substring(0, 8), 16) + 1);
+        }
+    }
+
+    @Test
+    void shouldPlaceIdInExactlyOnePartition_whenComparedAsText() {
+        // Arrange
+        int partitionCount = 16;
+
+        for (int sample = 0; sample < 1000; sample++) {
+            String id = UUID.randomUUID().toString();
+
+            // Act
+            long matches = 0;
+            for (int partition = 0; partition < partitionCount; partition++) {
+                ReminderPartition range = ReminderPartition.of(partition, partitionCount);
+                if (id.compareTo(range.after().toString()) > 0 && id.compareTo(range.last().toString()) <= 0) {
+                    matches++;
+                }
+            }
+
+            // Assert
+            assertThat(matches).as(id).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldReject_whenPartitionIsOutOfRange() {
+        assertThatThrownBy(() -> ReminderPartition.of(4, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
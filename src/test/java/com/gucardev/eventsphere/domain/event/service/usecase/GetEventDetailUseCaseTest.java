@@ -0,0 +1,214 @@
+package com.gucardev.eventsphere.domain.event.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.mapper.EventMapper;
+import com.gucardev.eventsphere.domain.event.model.dto.EventDetailResponseDto;
+import com.gucardev.eventsphere.domain.event.model.dto.EventResponseDto;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.organizer.entity.Organizer;
+import com.gucardev.eventsphere.domain.organizer.mapper.OrganizerMapper;
+import com.gucardev.eventsphere.domain.organizer.model.dto.OrganizerResponseDto;
+import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
+import com.gucardev.eventsphere.domain.session.mapper.SessionMapper;
+import com.gucardev.eventsphere.domain.session.repository.SessionRepository;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.ticket.mapper.TicketMapper;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.config.properties.EventDetailProperties;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.MessageSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetEventDetailUseCaseTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private OrganizerRepository organizerRepository;
+    @Mock
+    private SessionRepository sessionRepository;
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private EventMapper eventMapper;
+    @Mock
+    private OrganizerMapper organizerMapper;
+    @Mock
+    private SessionMapper sessionMapper;
+    @Mock
+    private TicketMapper ticketMapper;
+    @Mock
+    private ResourceOwnershipValidator resourceOwnershipValidator;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private MessageSource messageSource;
+    @Spy
+    private EventDetailProperties properties = new EventDetailProperties();
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private GetEventDetailUseCase getEventDetailUseCase;
+
+    private final EventResponseDto eventDto = EventResponseDto.builder().id(EVENT_ID).build();
+    private final OrganizerResponseDto organizerDto = new OrganizerResponseDto();
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+        lenient().when(resourceOwnershipValidator.getCurrentUserId()).thenReturn(USER_ID);
+
+        Event event = new Event();
+        Organizer organizer = new Organizer();
+        lenient().when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event));
+        lenient().when(eventMapper.toSummaryDto(event)).thenReturn(eventDto);
+        lenient().when(organizerRepository.findByEventId(EVENT_ID)).thenReturn(Optional.of(organizer));
+        lenient().when(organizerMapper.toDto(organizer)).thenReturn(organizerDto);
+        lenient().when(sessionRepository.findAllByEventId(EVENT_ID)).thenReturn(List.of());
+        lenient().when(ticketRepository.countByStatusForEvent(EVENT_ID)).thenReturn(List.of());
+        lenient().when(ticketRepository.findAllForEventAndUser(EVENT_ID, USER_ID)).thenReturn(List.of());
+    }
+
+    @Test
+    void shouldReturnEveryPart_whenAllPartsSucceed() {
+        // Arrange
+        getEventDetailUseCase.init();
+
+        // Act
+        EventDetailResponseDto detail = getEventDetailUseCase.execute(EVENT_ID);
+
+        // Assert
+        assertThat(detail.getEvent()).isSameAs(eventDto);
+        assertThat(detail.getOrganizer()).isSameAs(organizerDto);
+        assertThat(detail.getSessions()).isEmpty();
+        assertThat(detail.getTicketAvailability()).isNotNull();
+        assertThat(detail.getMyTickets()).isEmpty();
+        assertThat(detail.getUnavailableParts()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnPartialResult_whenOptionalPartFails() {
+        // Arrange
+        getEventDetailUseCase.init();
+        when(sessionRepository.findAllByEventId(EVENT_ID)).thenThrow(new IllegalStateException("sessions down"));
+
+        // Act
+        EventDetailResponseDto detail = getEventDetailUseCase.execute(EVENT_ID);
+
+        // Assert
+        assertThat(detail.getSessions()).isNull();
+        assertThat(detail.getUnavailableParts()).containsExactly("sessions");
+        assertThat(detail.getEvent()).isSameAs(eventDto);
+        assertThat(detail.getOrganizer()).isSameAs(organizerDto);
+    }
+
+    @Test
+    void shouldReturnPartialResult_whenOptionalPartExceedsItsTimeout() {
+        // Arrange
+        properties.getPartTimeouts().put("organizer", Duration.ofMillis(50));
+        getEventDetailUseCase.init();
+        when(organizerRepository.findByEventId(EVENT_ID)).thenAnswer(sleeping(Duration.ofSeconds(5)));
+        long start = System.nanoTime();
+
+        // Act
+        EventDetailResponseDto detail = getEventDetailUseCase.execute(EVENT_ID);
+
+        // Assert
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(detail.getOrganizer()).isNull();
+        assertThat(detail.getUnavailableParts()).containsExactly("organizer");
+        assertThat(meterRegistry.get("event.detail.part").tags("part", "organizer", "outcome", "timeout").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldThrowNotFound_whenEventDoesNotExist() {
+        // Arrange
+        getEventDetailUseCase.init();
+        when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> getEventDetailUseCase.execute(EVENT_ID))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.NOT_FOUND.getCode()));
+    }
+
+    @Test
+    void shouldThrowRequestTimeout_whenEventPartExceedsItsTimeout() {
+        // Arrange
+        properties.getPartTimeouts().put("event", Duration.ofMillis(50));
+        getEventDetailUseCase.init();
+        when(eventRepository.findById(EVENT_ID)).thenAnswer(sleeping(Duration.ofSeconds(5)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> getEventDetailUseCase.execute(EVENT_ID))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.REQUEST_TIMEOUT.getCode()));
+    }
+
+    @Test
+    void shouldHoldAtMostMaxConcurrentReads_whenPartsRunTogether() {
+        // Arrange
+        properties.setMaxConcurrentReads(2);
+        getEventDetailUseCase.init();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Answer<List<?>> tracked = invocation -> {
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+                return List.of();
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+        when(sessionRepository.findAllByEventId(EVENT_ID)).thenAnswer(tracked);
+        when(ticketRepository.countByStatusForEvent(EVENT_ID)).thenAnswer(tracked);
+        when(ticketRepository.findAllForEventAndUser(EVENT_ID, USER_ID)).thenAnswer(tracked);
+
+        // Act
+        EventDetailResponseDto detail = getEventDetailUseCase.execute(EVENT_ID);
+
+        // Assert
+        assertThat(detail.getUnavailableParts()).isEmpty();
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    private static <T> Answer<T> sleeping(Duration duration) {
+        return invocation -> {
+            Thread.sleep(duration.toMillis());
+            return null;
+        };
+    }
+}
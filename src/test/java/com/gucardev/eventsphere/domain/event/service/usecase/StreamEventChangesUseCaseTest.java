@@ -0,0 +1,105 @@
+package com.gucardev.eventsphere.domain.event.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.model.parameter.StreamEventChangesUseCaseParam;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.event.service.ScheduleChangeFeed;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamEventChangesUseCaseTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final UUID OWNER_ID = UUID.randomUUID();
+
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private ScheduleChangeFeed scheduleChangeFeed;
+    @Mock
+    private ResourceOwnershipValidator ownershipValidator;
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private StreamEventChangesUseCase streamEventChangesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+        lenient().when(eventRepository.findOrganizerUserIdById(EVENT_ID)).thenReturn(Optional.of(OWNER_ID));
+    }
+
+    @Test
+    void shouldSubscribeWithoutOwnershipCheck_whenEventIsPublished() {
+        // Arrange
+        givenEvent(true);
+        SseEmitter emitter = new SseEmitter();
+        when(scheduleChangeFeed.subscribeToEvent(EVENT_ID, 42L)).thenReturn(emitter);
+
+        // Act
+        SseEmitter result = streamEventChangesUseCase.execute(new StreamEventChangesUseCaseParam(EVENT_ID, 42L));
+
+        // Assert
+        assertThat(result).isSameAs(emitter);
+        verifyNoInteractions(ownershipValidator);
+    }
+
+    @Test
+    void shouldRejectSubscription_whenEventIsUnpublishedAndCallerIsNotItsOrganizer() {
+        // Arrange
+        givenEvent(false);
+        doThrow(ExceptionUtil.of(ExceptionType.FORBIDDEN)).when(ownershipValidator).validateOwnership(OWNER_ID);
+
+        // Act & Assert
+        assertThatThrownBy(() -> streamEventChangesUseCase.execute(new StreamEventChangesUseCaseParam(EVENT_ID, null)))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.FORBIDDEN.getCode()));
+        verify(scheduleChangeFeed, never()).subscribeToEvent(any(), any());
+    }
+
+    @Test
+    void shouldSubscribeOrganizer_whenEventIsUnpublished() {
+        // Arrange
+        givenEvent(false);
+
+        // Act
+        streamEventChangesUseCase.execute(new StreamEventChangesUseCaseParam(EVENT_ID, null));
+
+        // Assert
+        verify(ownershipValidator).validateOwnership(OWNER_ID);
+        verify(scheduleChangeFeed).subscribeToEvent(EVENT_ID, null);
+    }
+
+    private void givenEvent(boolean published) {
+        when(eventRepository.findById(EVENT_ID))
+                .thenReturn(Optional.of(Event.builder().id(EVENT_ID).isPublished(published).build()));
+    }
+}
@@ -0,0 +1,118 @@
+package com.gucardev.eventsphere.domain.session.controller;
+
+import com.gucardev.eventsphere.domain.session.model.dto.SessionResponseDto;
+import com.gucardev.eventsphere.domain.session.model.request.SessionFilterRequest;
+import com.gucardev.eventsphere.domain.session.service.usecase.GetSessionListETagUseCase;
+import com.gucardev.eventsphere.domain.session.service.usecase.GetSessionListUseCase;
+import com.gucardev.eventsphere.infrastructure.config.web.HttpCachePolicyResolver;
+import com.gucardev.eventsphere.infrastructure.response.ApiResponseWrapper;
+import com.gucardev.eventsphere.infrastructure.response.PageableResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionControllerTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    @Mock
+    private GetSessionListUseCase getSessionListUseCase;
+
+    @Mock
+    private GetSessionListETagUseCase getSessionListETagUseCase;
+
+    @Mock
+    private HttpCachePolicyResolver httpCachePolicyResolver;
+
+    @InjectMocks
+    private SessionController sessionController;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(httpCachePolicyResolver.cacheControl(anyString())).thenReturn(CacheControl.noCache());
+    }
+
+    @Test
+    void shouldReturnNotModifiedWithoutSearching_whenIfNoneMatchEqualsCurrentVersion() {
+        // Arrange
+        when(getSessionListETagUseCase.execute(any())).thenReturn("\"v1\"");
+
+        // Act
+        ResponseEntity<ApiResponseWrapper<PageableResponse<SessionResponseDto>>> response = search("\"v1\"");
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verify(getSessionListUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldReturnPageWithNewETag_whenSessionUpdated() {
+        // Arrange
+        when(getSessionListETagUseCase.execute(any())).thenReturn("\"v2\"");
+        when(getSessionListUseCase.execute(any())).thenReturn(page("Keynote (room 2)"));
+
+        // Act
+        ResponseEntity<ApiResponseWrapper<PageableResponse<SessionResponseDto>>> response = search("\"v1\"");
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"v2\"");
+        assertThat(response.getBody()).isNotNull();
+    }
+
+    @Test
+    void shouldNotSendETag_whenNotFilteredByEvent() {
+        // Arrange
+        when(getSessionListUseCase.execute(any())).thenReturn(page("Keynote"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/sessions");
+
+        // Act
+        ResponseEntity<ApiResponseWrapper<PageableResponse<SessionResponseDto>>> response = sessionController.searchSessions(
+                new SessionFilterRequest(), new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNull();
+        verify(getSessionListETagUseCase, never()).execute(any());
+    }
+
+    private ResponseEntity<ApiResponseWrapper<PageableResponse<SessionResponseDto>>> search(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/sessions");
+        request.setQueryString("eventId=" + EVENT_ID);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        SessionFilterRequest filter = new SessionFilterRequest();
+        filter.setEventId(EVENT_ID);
+        return sessionController.searchSessions(filter, new ServletWebRequest(request, new MockHttpServletResponse()));
+    }
+
+    private static Page<SessionResponseDto> page(String title) {
+        return new PageImpl<>(List.of(SessionResponseDto.builder().title(title).build()));
+    }
+}
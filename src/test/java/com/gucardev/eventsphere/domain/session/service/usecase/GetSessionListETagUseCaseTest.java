@@ -0,0 +1,82 @@
+package com.gucardev.eventsphere.domain.session.service.usecase;
+
+import com.gucardev.eventsphere.domain.session.model.parameter.GetSessionListETagUseCaseParam;
+import com.gucardev.eventsphere.domain.session.repository.SessionRepository;
+import com.gucardev.eventsphere.domain.session.repository.projection.SessionSetVersionProjection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetSessionListETagUseCaseTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @InjectMocks
+    private GetSessionListETagUseCase getSessionListETagUseCase;
+
+    @Test
+    void shouldChangeETag_whenASessionVersionChanges() {
+        // Arrange
+        when(sessionRepository.findSessionSetVersion(EVENT_ID)).thenReturn(version(2, 3L), version(2, 4L));
+        GetSessionListETagUseCaseParam param = new GetSessionListETagUseCaseParam(EVENT_ID, "eventId=" + EVENT_ID);
+
+        // Act
+        String before = getSessionListETagUseCase.execute(param);
+        String after = getSessionListETagUseCase.execute(param);
+
+        // Assert
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    void shouldTagEachQueryStringSeparately_whenVersionsAreTheSame() {
+        // Arrange
+        when(sessionRepository.findSessionSetVersion(EVENT_ID)).thenReturn(version(2, 3L));
+
+        // Act
+        String firstPage = getSessionListETagUseCase.execute(new GetSessionListETagUseCaseParam(EVENT_ID, "page=0"));
+        String secondPage = getSessionListETagUseCase.execute(new GetSessionListETagUseCaseParam(EVENT_ID, "page=1"));
+
+        // Assert
+        assertThat(secondPage).isNotEqualTo(firstPage);
+    }
+
+    @Test
+    void shouldReturnStableETag_whenEventHasNoSessions() {
+        // Arrange
+        when(sessionRepository.findSessionSetVersion(EVENT_ID)).thenReturn(version(0, null));
+        GetSessionListETagUseCaseParam param = new GetSessionListETagUseCaseParam(EVENT_ID, null);
+
+        // Act
+        String first = getSessionListETagUseCase.execute(param);
+        String second = getSessionListETagUseCase.execute(param);
+
+        // Assert
+        assertThat(first).isNotBlank().isEqualTo(second);
+    }
+
+    private static SessionSetVersionProjection version(long count, Long sum) {
+        return new SessionSetVersionProjection() {
+            @Override
+            public long getSessionCount() {
+                return count;
+            }
+
+            @Override
+            public Long getVersionSum() {
+                return sum;
+            }
+        };
+    }
+}
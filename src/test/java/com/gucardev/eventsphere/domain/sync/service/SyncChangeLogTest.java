@@ -0,0 +1,120 @@
+package com.gucardev.eventsphere.domain.sync.service;
+
+import com.gucardev.eventsphere.domain.attendee.entity.Attendee;
+import com.gucardev.eventsphere.domain.session.entity.Session;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.repository.SyncChangeRepository;
+import com.gucardev.eventsphere.infrastructure.config.properties.SyncProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncChangeLogTest {
+
+    @Mock
+    private SyncChangeRepository syncChangeRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private SyncProperties properties = new SyncProperties();
+
+    @InjectMocks
+    private SyncChangeLog syncChangeLog;
+
+    @Test
+    void shouldStampChangeWithDatabaseClock_whenRecorded() {
+        // Arrange
+        UUID ticketId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        syncChangeLog.record(SyncEntityType.TICKET, ticketId, eventId);
+
+        // Assert
+        verify(jdbcTemplate).update(sql.capture(), eq(eventId.toString()), eq("TICKET"), eq(ticketId.toString()));
+        assertThat(sql.getValue()).contains("LOCALTIMESTAMP");
+    }
+
+    @Test
+    void shouldRecordTombstoneFromDeletedRow_whenSyncedEntityIsSoftDeleted() {
+        // Arrange
+        UUID sessionId = UUID.randomUUID();
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        syncChangeLog.recordDeletion(Session.class, sessionId);
+
+        // Assert
+        verify(jdbcTemplate).update(sql.capture(), eq(sessionId.toString()));
+        assertThat(sql.getValue())
+                .contains("SELECT event_id, 'SESSION', id")
+                .contains("FROM sessions WHERE id = ?");
+    }
+
+    @Test
+    void shouldIgnoreDeletion_whenEntityIsNotSynced() {
+        // Act
+        syncChangeLog.recordDeletion(Attendee.class, UUID.randomUUID());
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldSubtractSettleDelayFromDatabaseTime_whenSettledBeforeIsAsked() {
+        // Arrange
+        LocalDateTime databaseNow = LocalDateTime.of(2026, 3, 1, 12, 0, 0);
+        when(jdbcTemplate.queryForObject(anyString(), eq(LocalDateTime.class))).thenReturn(databaseNow);
+
+        // Act
+        LocalDateTime settledBefore = syncChangeLog.settledBefore();
+
+        // Assert
+        assertThat(settledBefore).isEqualTo(databaseNow.minus(properties.getSettleDelay()));
+    }
+
+    @Test
+    void shouldKeepLatestEntry_whenPurging() {
+        // Arrange
+        LocalDateTime databaseNow = LocalDateTime.of(2026, 3, 1, 12, 0, 0);
+        when(syncChangeRepository.findLatestSequence()).thenReturn(900L);
+        when(jdbcTemplate.queryForObject(anyString(), eq(LocalDateTime.class))).thenReturn(databaseNow);
+
+        // Act
+        syncChangeLog.purgeExpired();
+
+        // Assert
+        verify(syncChangeRepository).deleteChangedBefore(databaseNow.minus(properties.getRetention()), 900L);
+    }
+
+    @Test
+    void shouldSkipPurge_whenLogIsEmpty() {
+        // Act
+        syncChangeLog.purgeExpired();
+
+        // Assert
+        verify(syncChangeRepository, never()).deleteChangedBefore(any(), anyLong());
+    }
+}
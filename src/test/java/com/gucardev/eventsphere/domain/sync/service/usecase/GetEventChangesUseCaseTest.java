@@ -0,0 +1,186 @@
+package com.gucardev.eventsphere.domain.sync.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.mapper.EventMapper;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.session.entity.Session;
+import com.gucardev.eventsphere.domain.session.mapper.SessionMapper;
+import com.gucardev.eventsphere.domain.session.model.dto.SessionResponseDto;
+import com.gucardev.eventsphere.domain.session.repository.SessionRepository;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.sync.entity.SyncChange;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.model.dto.EventChangesResponseDto;
+import com.gucardev.eventsphere.domain.sync.model.dto.SyncTombstoneDto;
+import com.gucardev.eventsphere.domain.sync.model.parameter.GetEventChangesUseCaseParam;
+import com.gucardev.eventsphere.domain.sync.repository.SyncChangeRepository;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
+import com.gucardev.eventsphere.domain.ticket.mapper.TicketMapper;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketResponseDto;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.config.properties.SyncProperties;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetEventChangesUseCaseTest {
+
+    @Mock
+    private SyncChangeRepository syncChangeRepository;
+    @Mock
+    private SyncChangeLog syncChangeLog;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private SessionRepository sessionRepository;
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private EventMapper eventMapper;
+    @Mock
+    private SessionMapper sessionMapper;
+    @Mock
+    private TicketMapper ticketMapper;
+    @Mock
+    private ResourceOwnershipValidator ownershipValidator;
+    @Mock
+    private MessageSource messageSource;
+    @Spy
+    private SyncProperties properties = new SyncProperties();
+
+    @InjectMocks
+    private GetEventChangesUseCase getEventChangesUseCase;
+
+    private final UUID eventId = UUID.randomUUID();
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID callerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+        lenient().when(eventRepository.findOrganizerUserIdById(eventId)).thenReturn(Optional.of(ownerId));
+        lenient().when(ownershipValidator.isOwnerOrAdmin(ownerId)).thenReturn(true);
+        lenient().when(ownershipValidator.getCurrentUserId()).thenReturn(callerId);
+    }
+
+    @Test
+    void shouldReturnLiveEntitiesAndTombstones_whenSessionsChanged() {
+        // Arrange
+        Session live = Session.builder().id(UUID.randomUUID()).build();
+        Session deleted = Session.builder().id(UUID.randomUUID()).build();
+        deleted.setDeletedAt(LocalDateTime.now());
+        UUID purged = UUID.randomUUID();
+        SessionResponseDto liveDto = SessionResponseDto.builder().id(live.getId()).build();
+
+        when(syncChangeRepository.findOldestSequence()).thenReturn(1L);
+        when(syncChangeLog.settledBefore()).thenReturn(LocalDateTime.now().minusSeconds(5));
+        when(syncChangeRepository.findSettledAfter(eq(eventId), eq(10L), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(
+                        change(11, live.getId()),
+                        change(12, deleted.getId()),
+                        change(13, live.getId()),
+                        change(14, purged)));
+        when(sessionRepository.findAllById(anyIterable())).thenReturn(List.of(live, deleted));
+        when(sessionMapper.toDto(live)).thenReturn(liveDto);
+
+        // Act
+        EventChangesResponseDto result = getEventChangesUseCase.execute(new GetEventChangesUseCaseParam(eventId, 10, null));
+
+        // Assert
+        assertThat(result.getSessions()).containsExactly(liveDto);
+        assertThat(result.getDeleted()).extracting(SyncTombstoneDto::getId).containsExactly(deleted.getId(), purged);
+        assertThat(result.getNextSince()).isEqualTo(14L);
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.isResyncRequired()).isFalse();
+    }
+
+    @Test
+    void shouldRequireResync_whenWatermarkOlderThanRetainedLog() {
+        // Arrange
+        when(syncChangeRepository.findOldestSequence()).thenReturn(500L);
+
+        // Act
+        EventChangesResponseDto result = getEventChangesUseCase.execute(new GetEventChangesUseCaseParam(eventId, 10, null));
+
+        // Assert
+        assertThat(result.isResyncRequired()).isTrue();
+        verify(syncChangeRepository, never()).findSettledAfter(any(), eq(10L), any(), any());
+    }
+
+    @Test
+    void shouldRejectSync_whenEventIsUnpublishedAndCallerIsNotItsOrganizer() {
+        // Arrange
+        when(ownershipValidator.isOwnerOrAdmin(ownerId)).thenReturn(false);
+        when(eventRepository.existsByIdAndIsPublishedTrue(eventId)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> getEventChangesUseCase.execute(new GetEventChangesUseCaseParam(eventId, 0, null)))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.FORBIDDEN.getCode()));
+        verify(syncChangeRepository, never()).findSettledAfter(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    void shouldReturnOnlyCallersTickets_whenCallerIsNotTheOrganizer() {
+        // Arrange
+        Ticket own = Ticket.builder().id(UUID.randomUUID()).ticketCode("OWN-1").build();
+        UUID othersTicketId = UUID.randomUUID();
+        TicketResponseDto ownDto = TicketResponseDto.builder().id(own.getId()).ticketCode("OWN-1").build();
+        when(ownershipValidator.isOwnerOrAdmin(ownerId)).thenReturn(false);
+        when(eventRepository.existsByIdAndIsPublishedTrue(eventId)).thenReturn(true);
+        when(syncChangeRepository.findOldestSequence()).thenReturn(1L);
+        when(syncChangeLog.settledBefore()).thenReturn(LocalDateTime.now().minusSeconds(5));
+        when(syncChangeRepository.findSettledAfter(eq(eventId), eq(0L), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(
+                        change(1, SyncEntityType.TICKET, own.getId()),
+                        change(2, SyncEntityType.TICKET, othersTicketId)));
+        when(ticketRepository.findIdsHeldByUser(any(), eq(callerId))).thenReturn(List.of(own.getId()));
+        when(ticketRepository.findAllById(anyIterable())).thenReturn(List.of(own));
+        when(ticketMapper.toDto(own)).thenReturn(ownDto);
+
+        // Act
+        EventChangesResponseDto result = getEventChangesUseCase.execute(new GetEventChangesUseCaseParam(eventId, 0, null));
+
+        // Assert
+        assertThat(result.getTickets()).containsExactly(ownDto);
+        assertThat(result.getDeleted()).isEmpty();
+        assertThat(result.getNextSince()).isEqualTo(2L);
+        verify(ticketRepository).findAllById(Set.of(own.getId()));
+    }
+
+    private SyncChange change(long sequence, UUID sessionId) {
+        return change(sequence, SyncEntityType.SESSION, sessionId);
+    }
+
+    private SyncChange change(long sequence, SyncEntityType type, UUID entityId) {
+        return new SyncChange(sequence, eventId, type, entityId, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,108 @@
+package com.gucardev.eventsphere.domain.ticket.service;
+
+import com.gucardev.eventsphere.domain.sync.repository.SyncChangeRepository;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.GateTicketProjection;
+import com.gucardev.eventsphere.domain.ticket.repository.projection.TicketSetVersionProjection;
+import com.gucardev.eventsphere.infrastructure.config.properties.GateManifestProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GateManifestBuilderTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private SyncChangeRepository syncChangeRepository;
+
+    private GateManifestBuilder gateManifestBuilder;
+
+    @BeforeEach
+    void setUp() {
+        GateManifestProperties properties = new GateManifestProperties();
+        properties.setAllowEphemeralKey(true);
+        GateManifestEncoder encoder = new GateManifestEncoder(properties, new GateManifestSigner(properties));
+        gateManifestBuilder = new GateManifestBuilder(ticketRepository, syncChangeRepository, encoder, properties);
+    }
+
+    @Test
+    void shouldServeCachedManifest_whenTicketSetUnchanged() {
+        // Arrange
+        when(ticketRepository.findTicketSetVersion(EVENT_ID)).thenReturn(version(2, 10));
+        when(ticketRepository.findGateTicketsByEventId(EVENT_ID)).thenReturn(List.of(gateTicket("T-1", TicketStatus.SOLD)));
+
+        // Act
+        byte[] first = gateManifestBuilder.full(EVENT_ID, 7);
+        byte[] second = gateManifestBuilder.full(EVENT_ID, 7);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        verify(ticketRepository, times(1)).findGateTicketsByEventId(EVENT_ID);
+    }
+
+    @Test
+    void shouldRebuildManifest_whenTicketWrittenAtSameSequence() {
+        // Arrange
+        when(ticketRepository.findTicketSetVersion(EVENT_ID)).thenReturn(version(2, 10), version(2, 11));
+        when(ticketRepository.findGateTicketsByEventId(EVENT_ID)).thenReturn(
+                List.of(gateTicket("T-1", TicketStatus.SOLD)),
+                List.of(gateTicket("T-1", TicketStatus.CANCELLED)));
+
+        // Act
+        byte[] first = gateManifestBuilder.full(EVENT_ID, 7);
+        byte[] second = gateManifestBuilder.full(EVENT_ID, 7);
+
+        // Assert
+        assertThat(second).isNotSameAs(first);
+        verify(ticketRepository, times(2)).findGateTicketsByEventId(EVENT_ID);
+    }
+
+    private static TicketSetVersionProjection version(long count, long versionSum) {
+        return new TicketSetVersionProjection() {
+            @Override
+            public long getTicketCount() {
+                return count;
+            }
+
+            @Override
+            public Long getVersionSum() {
+                return versionSum;
+            }
+        };
+    }
+
+    private static GateTicketProjection gateTicket(String code, TicketStatus status) {
+        return new GateTicketProjection() {
+            @Override
+            public String getTicketCode() {
+                return code;
+            }
+
+            @Override
+            public TicketStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getDeletedAt() {
+                return null;
+            }
+        };
+    }
+}
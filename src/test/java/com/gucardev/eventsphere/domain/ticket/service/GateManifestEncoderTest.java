@@ -0,0 +1,98 @@
+package com.gucardev.eventsphere.domain.ticket.service;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.GateManifestProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GateManifestEncoderTest {
+
+    private final GateManifestProperties properties = new GateManifestProperties();
+    private final UUID eventId = UUID.randomUUID();
+    private GateManifestSigner signer;
+    private GateManifestEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        properties.setAllowEphemeralKey(true);
+        signer = new GateManifestSigner(properties);
+        encoder = new GateManifestEncoder(properties, signer);
+    }
+
+    @Test
+    void shouldFitHundredThousandTicketsUnderOneMegabyte_whenEncodingFullManifest() throws Exception {
+        // Arrange
+        List<GateManifestEncoder.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            entries.add(new GateManifestEncoder.Entry(encoder.hash(eventId, "T-" + i), GateManifestEncoder.State.VALID));
+        }
+
+        // Act
+        byte[] manifest = encoder.encode(GateManifestEncoder.Kind.FULL, eventId, 0, 42, Instant.now(), entries);
+
+        // Assert
+        assertThat(manifest.length).isLessThan(600_000);
+        ByteBuffer header = ByteBuffer.wrap(manifest);
+        assertThat(Arrays.copyOf(manifest, 4)).isEqualTo(GateManifestEncoder.MAGIC);
+        assertThat(header.get(6)).isEqualTo((byte) 5);
+        assertThat(header.getLong(32)).isEqualTo(42L);
+        assertThat(header.getInt(48)).isEqualTo(100_000);
+        assertThat(verify(manifest)).isTrue();
+    }
+
+    @Test
+    void shouldSortHashesAndPackStates_whenEncoding() {
+        // Arrange
+        long used = encoder.hash(eventId, "USED-1");
+        long valid = encoder.hash(eventId, "VALID-1");
+        List<GateManifestEncoder.Entry> entries = List.of(
+                new GateManifestEncoder.Entry(used, GateManifestEncoder.State.USED),
+                new GateManifestEncoder.Entry(valid, GateManifestEncoder.State.VALID));
+
+        // Act
+        byte[] manifest = encoder.encode(GateManifestEncoder.Kind.DIFF, eventId, 7, 9, Instant.now(), entries);
+
+        // Assert
+        long first = readHash(manifest, 52);
+        long second = readHash(manifest, 57);
+        assertThat(Long.compareUnsigned(first, second)).isNegative();
+        int states = manifest[62] & 0xFF;
+        int usedIndex = first == used ? 0 : 1;
+        assertThat((states >> (usedIndex * 2)) & 0b11).isEqualTo(GateManifestEncoder.State.USED.ordinal());
+        assertThat((states >> ((1 - usedIndex) * 2)) & 0b11).isEqualTo(GateManifestEncoder.State.VALID.ordinal());
+    }
+
+    private static long readHash(byte[] manifest, int offset) {
+        long value = 0;
+        for (int i = 0; i < 5; i++) {
+            value = (value << 8) | (manifest[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private boolean verify(byte[] manifest) throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap(manifest);
+        int count = buffer.getInt(48);
+        int signedLength = 52 + count * 5 + (count + 3) / 4;
+        int signatureLength = buffer.getShort(signedLength);
+        PublicKey publicKey = KeyFactory.getInstance(GateManifestSigner.ALGORITHM)
+                .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(signer.publicKey())));
+        Signature signature = Signature.getInstance(GateManifestSigner.ALGORITHM);
+        signature.initVerify(publicKey);
+        signature.update(manifest, 0, signedLength);
+        return signature.verify(Arrays.copyOfRange(manifest, signedLength + 2, signedLength + 2 + signatureLength));
+    }
+}
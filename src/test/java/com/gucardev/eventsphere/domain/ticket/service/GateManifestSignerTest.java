@@ -0,0 +1,51 @@
+package com.gucardev.eventsphere.domain.ticket.service;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.GateManifestProperties;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GateManifestSignerTest {
+
+    private final GateManifestProperties properties = new GateManifestProperties();
+
+    @Test
+    void shouldFailStartup_whenNoKeyPairIsConfigured() {
+        // Act & Assert
+        assertThatThrownBy(() -> new GateManifestSigner(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("signing-key");
+    }
+
+    @Test
+    void shouldServeConfiguredPublicKey_whenKeyPairIsConfigured() throws Exception {
+        // Arrange
+        KeyPair keyPair = KeyPairGenerator.getInstance(GateManifestSigner.ALGORITHM).generateKeyPair();
+        properties.setSigningKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        properties.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+
+        // Act
+        GateManifestSigner signer = new GateManifestSigner(properties);
+
+        // Assert
+        assertThat(signer.publicKey())
+                .isEqualTo(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+    }
+
+    @Test
+    void shouldGenerateKeyPair_whenEphemeralKeyIsAllowed() {
+        // Arrange
+        properties.setAllowEphemeralKey(true);
+
+        // Act
+        GateManifestSigner signer = new GateManifestSigner(properties);
+
+        // Assert
+        assertThat(signer.sign(new byte[]{1, 2, 3})).isNotEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package com.gucardev.eventsphere.domain.ticket.service.usecase;
+
+import com.gucardev.eventsphere.domain.attendee.entity.Attendee;
+import com.gucardev.eventsphere.domain.attendee.repository.AttendeeRepository;
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.domain.ticket.mapper.TicketMapper;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketResponseDto;
+import com.gucardev.eventsphere.domain.ticket.model.request.CreateTicketRequest;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CreateTicketUseCaseTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final UUID ATTENDEE_ID = UUID.randomUUID();
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private AttendeeRepository attendeeRepository;
+
+    @Mock
+    private TicketMapper ticketMapper;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Mock
+    private SyncChangeLog syncChangeLog;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private CreateTicketUseCase createTicketUseCase;
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+        lenient().when(attendeeRepository.findById(ATTENDEE_ID))
+                .thenReturn(Optional.of(Attendee.builder().id(ATTENDEE_ID).build()));
+        lenient().when(ticketMapper.toEntity(any())).thenAnswer(invocation -> new Ticket());
+        lenient().when(ticketMapper.toDto(any())).thenReturn(TicketResponseDto.builder().build());
+        lenient().when(ticketRepository.save(any())).thenAnswer(invocation -> {
+            Ticket ticket = invocation.getArgument(0);
+            ticket.setId(UUID.randomUUID());
+            return ticket;
+        });
+    }
+
+    @Test
+    void shouldRejectTicket_whenEventIsSoldOut() {
+        // Arrange
+        givenEvent(2);
+        when(ticketRepository.countSeatsTaken(EVENT_ID, TicketStatus.CANCELLED)).thenReturn(2L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> createTicketUseCase.execute(request(TicketStatus.SOLD)))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.EVENT_SOLD_OUT.getCode()));
+        verify(ticketRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldCreateTicket_whenSeatsRemain() {
+        // Arrange
+        givenEvent(2);
+        when(ticketRepository.countSeatsTaken(EVENT_ID, TicketStatus.CANCELLED)).thenReturn(1L);
+
+        // Act
+        createTicketUseCase.execute(request(TicketStatus.SOLD));
+
+        // Assert
+        verify(ticketRepository).save(any());
+    }
+
+    @Test
+    void shouldNotCountSeats_whenTicketIsCancelledOrEventIsUnlimited() {
+        // Arrange
+        givenEvent(null);
+
+        // Act
+        createTicketUseCase.execute(request(TicketStatus.SOLD));
+        givenEvent(1);
+        createTicketUseCase.execute(request(TicketStatus.CANCELLED));
+
+        // Assert
+        verify(ticketRepository, never()).countSeatsTaken(any(), any());
+    }
+
+    private void givenEvent(Integer capacity) {
+        when(eventRepository.findLockedById(EVENT_ID))
+                .thenReturn(Optional.of(Event.builder().id(EVENT_ID).capacity(capacity).build()));
+    }
+
+    private static CreateTicketRequest request(TicketStatus status) {
+        return new CreateTicketRequest("T-" + UUID.randomUUID(), BigDecimal.TEN, status, ATTENDEE_ID, EVENT_ID);
+    }
+}
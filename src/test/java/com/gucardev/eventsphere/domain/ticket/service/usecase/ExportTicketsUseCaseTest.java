@@ -0,0 +1,100 @@
+package com.gucardev.eventsphere.domain.ticket.service.usecase;
+
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.ticket.model.parameter.ExportTicketsUseCaseParam;
+import com.gucardev.eventsphere.domain.ticket.model.request.TicketFilterRequest;
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionUtil;
+import com.gucardev.eventsphere.infrastructure.export.ExportFormat;
+import com.gucardev.eventsphere.infrastructure.export.StreamingExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportTicketsUseCaseTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final UUID OWNER_ID = UUID.randomUUID();
+
+    @Mock
+    private StreamingExporter streamingExporter;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private ResourceOwnershipValidator ownershipValidator;
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private ExportTicketsUseCase exportTicketsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+        lenient().when(eventRepository.findOrganizerUserIdById(EVENT_ID)).thenReturn(Optional.of(OWNER_ID));
+    }
+
+    @Test
+    void shouldStreamTickets_whenCallerOwnsEvent() {
+        // Arrange
+        when(streamingExporter.export(any(), any(), any())).thenReturn(3L);
+
+        // Act
+        Long rows = exportTicketsUseCase.execute(param(EVENT_ID));
+
+        // Assert
+        assertThat(rows).isEqualTo(3L);
+        verify(ownershipValidator).validateOwnership(OWNER_ID);
+    }
+
+    @Test
+    void shouldRejectBeforeOpeningCursor_whenCallerDoesNotOwnEvent() {
+        // Arrange
+        doThrow(ExceptionUtil.of(ExceptionType.FORBIDDEN)).when(ownershipValidator).validateOwnership(OWNER_ID);
+
+        // Act & Assert
+        assertThatThrownBy(() -> exportTicketsUseCase.execute(param(EVENT_ID)))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.FORBIDDEN.getCode()));
+        verify(streamingExporter, never()).export(any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectExport_whenEventIdMissing() {
+        // Act & Assert
+        assertThatThrownBy(() -> exportTicketsUseCase.execute(param(null)))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.VALIDATION_FAILED.getCode()));
+        verifyNoInteractions(streamingExporter, ownershipValidator);
+    }
+
+    private static ExportTicketsUseCaseParam param(UUID eventId) {
+        TicketFilterRequest filter = new TicketFilterRequest();
+        filter.setEventId(eventId);
+        return new ExportTicketsUseCaseParam(filter, ExportFormat.CSV, new ByteArrayOutputStream());
+    }
+}
@@ -0,0 +1,103 @@
+package com.gucardev.eventsphere.domain.ticket.service.usecase;
+
+import com.gucardev.eventsphere.domain.auth.user.entity.User;
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.organizer.entity.Organizer;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.sync.repository.SyncChangeRepository;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.domain.ticket.model.parameter.GetGateManifestUseCaseParam;
+import com.gucardev.eventsphere.domain.ticket.service.GateManifestBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetGateManifestUseCaseTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private SyncChangeRepository syncChangeRepository;
+    @Mock
+    private GateManifestBuilder gateManifestBuilder;
+    @Mock
+    private ResourceOwnershipValidator ownershipValidator;
+    @Mock
+    private SyncChangeLog syncChangeLog;
+
+    @InjectMocks
+    private GetGateManifestUseCase getGateManifestUseCase;
+
+    private final LocalDateTime settledBefore = LocalDateTime.of(2026, 6, 1, 18, 0);
+    private final byte[] full = {1};
+    private final byte[] diff = {2};
+
+    @BeforeEach
+    void setUp() {
+        Organizer organizer = Organizer.builder().user(User.builder().id(UUID.randomUUID()).build()).build();
+        lenient().when(eventRepository.findById(EVENT_ID))
+                .thenReturn(Optional.of(Event.builder().id(EVENT_ID).organizer(organizer).build()));
+        lenient().when(syncChangeLog.settledBefore()).thenReturn(settledBefore);
+        lenient().when(syncChangeRepository.findLatestSettledSequence(eq(EVENT_ID), eq(settledBefore), any()))
+                .thenReturn(List.of(120L));
+        lenient().when(gateManifestBuilder.full(EVENT_ID, 120L)).thenReturn(full);
+        lenient().when(gateManifestBuilder.diff(EVENT_ID, 100L, 120L, settledBefore)).thenReturn(diff);
+    }
+
+    @Test
+    void shouldReturnDiff_whenSyncLogStillReachesSince() {
+        // Arrange
+        when(syncChangeRepository.findOldestSequence()).thenReturn(50L);
+
+        // Act
+        byte[] manifest = getGateManifestUseCase.execute(new GetGateManifestUseCaseParam(EVENT_ID, 100L));
+
+        // Assert
+        assertThat(manifest).isEqualTo(diff);
+        verify(gateManifestBuilder, never()).full(any(), anyLong());
+    }
+
+    @Test
+    void shouldFallBackToFullManifest_whenSyncLogWasPurgedPastSince() {
+        // Arrange
+        when(syncChangeRepository.findOldestSequence()).thenReturn(110L);
+
+        // Act
+        byte[] manifest = getGateManifestUseCase.execute(new GetGateManifestUseCaseParam(EVENT_ID, 100L));
+
+        // Assert
+        assertThat(manifest).isEqualTo(full);
+        verify(gateManifestBuilder, never()).diff(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void shouldReturnFullManifest_whenGateHasNoManifestYet() {
+        // Act
+        byte[] manifest = getGateManifestUseCase.execute(new GetGateManifestUseCaseParam(EVENT_ID, null));
+
+        // Assert
+        assertThat(manifest).isEqualTo(full);
+        verify(syncChangeRepository, never()).findOldestSequence();
+    }
+}
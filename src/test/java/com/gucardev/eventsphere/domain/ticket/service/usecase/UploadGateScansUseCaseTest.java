@@ -0,0 +1,206 @@
+package com.gucardev.eventsphere.domain.ticket.service.usecase;
+
+import com.gucardev.eventsphere.domain.auth.user.entity.User;
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.organizer.entity.Organizer;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.sync.entity.SyncEntityType;
+import com.gucardev.eventsphere.domain.sync.service.SyncChangeLog;
+import com.gucardev.eventsphere.domain.ticket.entity.Ticket;
+import com.gucardev.eventsphere.domain.ticket.entity.TicketStatus;
+import com.gucardev.eventsphere.domain.ticket.mapper.TicketMapper;
+import com.gucardev.eventsphere.domain.ticket.model.dto.GateScanOutcome;
+import com.gucardev.eventsphere.domain.ticket.model.dto.GateScanResultDto;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketResponseDto;
+import com.gucardev.eventsphere.domain.ticket.model.parameter.UploadGateScansUseCaseParam;
+import com.gucardev.eventsphere.domain.ticket.model.request.GateScanRequest;
+import com.gucardev.eventsphere.domain.ticket.model.request.UploadGateScansRequest;
+import com.gucardev.eventsphere.domain.ticket.repository.TicketRepository;
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.config.properties.GateManifestProperties;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.outbox.AggregateType;
+import com.gucardev.eventsphere.infrastructure.outbox.OutboxPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UploadGateScansUseCaseTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final Instant OPENING = Instant.parse("2026-06-01T18:00:00Z");
+
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private TicketMapper ticketMapper;
+    @Mock
+    private ResourceOwnershipValidator ownershipValidator;
+    @Mock
+    private OutboxPublisher outboxPublisher;
+    @Mock
+    private SyncChangeLog syncChangeLog;
+    @Mock
+    private MessageSource messageSource;
+    @Spy
+    private GateManifestProperties properties = new GateManifestProperties();
+
+    @InjectMocks
+    private UploadGateScansUseCase uploadGateScansUseCase;
+
+    private final List<Ticket> tickets = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+
+        Organizer organizer = Organizer.builder().user(User.builder().id(UUID.randomUUID()).build()).build();
+        lenient().when(eventRepository.findById(EVENT_ID))
+                .thenReturn(Optional.of(Event.builder().id(EVENT_ID).organizer(organizer).build()));
+        lenient().when(ticketRepository.findAllByEventIdAndTicketCodeIn(eq(EVENT_ID), any())).thenReturn(tickets);
+        lenient().when(ticketMapper.toDto(any(Ticket.class))).thenAnswer(invocation -> {
+            Ticket ticket = invocation.getArgument(0);
+            return TicketResponseDto.builder().id(ticket.getId()).status(ticket.getStatus()).build();
+        });
+    }
+
+    @Test
+    void shouldAcceptEarlierScanAndReportLaterAsAlreadyUsed_whenTwoGatesScannedSameTicket() {
+        // Arrange
+        Ticket ticket = ticket("T-1", TicketStatus.SOLD);
+        when(ticketRepository.markUsed(ticket.getId(), TicketStatus.SOLD, TicketStatus.USED)).thenReturn(1);
+
+        // Act
+        List<GateScanResultDto> results = upload(
+                scan("T-1", OPENING.plusSeconds(30)),
+                scan("T-1", OPENING));
+
+        // Assert
+        assertThat(results).extracting(GateScanResultDto::getOutcome)
+                .containsExactly(GateScanOutcome.ACCEPTED, GateScanOutcome.ALREADY_USED);
+        verify(ticketRepository, times(1)).markUsed(ticket.getId(), TicketStatus.SOLD, TicketStatus.USED);
+        ArgumentCaptor<TicketResponseDto> published = ArgumentCaptor.forClass(TicketResponseDto.class);
+        verify(outboxPublisher).publish(eq(AggregateType.TICKET), eq(ticket.getId()), eq("TicketUsed"), published.capture());
+        assertThat(published.getValue().getStatus()).isEqualTo(TicketStatus.USED);
+        verify(syncChangeLog).record(SyncEntityType.TICKET, ticket.getId(), EVENT_ID);
+    }
+
+    @Test
+    void shouldReturnResultsInScanTimeOrder_whenScansUploadedOutOfOrder() {
+        // Arrange
+        ticket("T-1", TicketStatus.SOLD);
+        ticket("T-2", TicketStatus.SOLD);
+        when(ticketRepository.markUsed(any(), eq(TicketStatus.SOLD), eq(TicketStatus.USED))).thenReturn(1);
+
+        // Act
+        List<GateScanResultDto> results = upload(
+                scan("T-2", OPENING.plusSeconds(10)),
+                scan("T-1", OPENING));
+
+        // Assert
+        assertThat(results).extracting(GateScanResultDto::getTicketCode).containsExactly("T-1", "T-2");
+    }
+
+    @Test
+    void shouldReportRevokedUsedAndUnknownTickets_whenTicketsCannotBeUsed() {
+        // Arrange
+        ticket("T-CANCELLED", TicketStatus.CANCELLED);
+        ticket("T-DELETED", TicketStatus.SOLD).setDeletedAt(LocalDateTime.now());
+        ticket("T-USED", TicketStatus.USED);
+
+        // Act
+        List<GateScanResultDto> results = upload(
+                scan("T-CANCELLED", OPENING),
+                scan("T-DELETED", OPENING.plusSeconds(1)),
+                scan("T-USED", OPENING.plusSeconds(2)),
+                scan("T-FORGED", OPENING.plusSeconds(3)));
+
+        // Assert
+        assertThat(results).extracting(GateScanResultDto::getOutcome).containsExactly(
+                GateScanOutcome.REVOKED, GateScanOutcome.REVOKED, GateScanOutcome.ALREADY_USED, GateScanOutcome.UNKNOWN);
+        verify(ticketRepository, never()).markUsed(any(), any(), any());
+        verify(outboxPublisher, never()).publish(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldReportCurrentStateAndKeepOtherScans_whenTicketChangedConcurrently() {
+        // Arrange
+        Ticket cancelled = ticket("T-1", TicketStatus.SOLD);
+        Ticket valid = ticket("T-2", TicketStatus.SOLD);
+        when(ticketRepository.markUsed(cancelled.getId(), TicketStatus.SOLD, TicketStatus.USED)).thenReturn(0);
+        when(ticketRepository.markUsed(valid.getId(), TicketStatus.SOLD, TicketStatus.USED)).thenReturn(1);
+        doAnswer(invocation -> {
+            cancelled.setStatus(TicketStatus.CANCELLED);
+            return null;
+        }).when(ticketRepository).refreshLocked(cancelled);
+
+        // Act
+        List<GateScanResultDto> results = upload(
+                scan("T-1", OPENING),
+                scan("T-2", OPENING.plusSeconds(1)));
+
+        // Assert
+        assertThat(results).extracting(GateScanResultDto::getOutcome)
+                .containsExactly(GateScanOutcome.REVOKED, GateScanOutcome.ACCEPTED);
+        verify(outboxPublisher, never()).publish(any(), eq(cancelled.getId()), any(), any());
+        verify(outboxPublisher).publish(eq(AggregateType.TICKET), eq(valid.getId()), eq("TicketUsed"), any());
+    }
+
+    @Test
+    void shouldThrowValidationFailed_whenUploadExceedsMaxScans() {
+        // Arrange
+        properties.setMaxScansPerUpload(1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> upload(scan("T-1", OPENING), scan("T-2", OPENING)))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.VALIDATION_FAILED.getCode()));
+        verify(ticketRepository, never()).findAllByEventIdAndTicketCodeIn(any(), any());
+    }
+
+    private List<GateScanResultDto> upload(GateScanRequest... scans) {
+        return uploadGateScansUseCase.execute(new UploadGateScansUseCaseParam(EVENT_ID,
+                new UploadGateScansRequest("gate-1", List.of(scans))));
+    }
+
+    private Ticket ticket(String code, TicketStatus status) {
+        Ticket ticket = Ticket.builder().id(UUID.randomUUID()).ticketCode(code).status(status).build();
+        tickets.add(ticket);
+        return ticket;
+    }
+
+    private static GateScanRequest scan(String code, Instant scannedAt) {
+        return new GateScanRequest(code, scannedAt);
+    }
+}
@@ -0,0 +1,173 @@
+package com.gucardev.eventsphere.infrastructure.config.cache;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.CacheProperties;
+import com.gucardev.eventsphere.infrastructure.context.RequestContext;
+import com.gucardev.eventsphere.infrastructure.usecase.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class TwoTierCacheManagerTest {
+
+    private InMemoryRemoteCacheStore remoteCacheStore;
+    private TwoTierCacheManager nodeA;
+    private TwoTierCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        // Two managers sharing one store behave like two nodes sharing one Redis
+        remoteCacheStore = new InMemoryRemoteCacheStore();
+        nodeA = newNode();
+        nodeB = newNode();
+    }
+
+    @Test
+    void shouldServeFromL2_whenOtherNodeCachedValue() {
+        // Arrange
+        nodeA.getCache(CacheNames.CACHE_EVENT).put("event-1", "title");
+
+        // Act
+        Cache.ValueWrapper result = nodeB.getCache(CacheNames.CACHE_EVENT).get("event-1");
+
+        // Assert
+        assertThat(result).isNotNull();
+        assertThat(result.get()).isEqualTo("title");
+    }
+
+    @Test
+    void shouldInvalidateOtherNodesL1_whenEntryEvicted() {
+        // Arrange
+        Cache cacheA = nodeA.getCache(CacheNames.CACHE_EVENT);
+        Cache cacheB = nodeB.getCache(CacheNames.CACHE_EVENT);
+        cacheA.put("event-1", "old title");
+        cacheB.get("event-1"); // warms node B's L1
+
+        // Act
+        cacheA.evict("event-1");
+
+        // Assert
+        assertThat(cacheB.get("event-1")).isNull();
+        assertThat(remoteCacheStore.get(CacheNames.CACHE_EVENT, "event-1")).isNull();
+    }
+
+    @Test
+    void shouldInvalidateOtherNodesL1_whenCacheCleared() {
+        // Arrange
+        Cache cacheA = nodeA.getCache(CacheNames.CACHE_EVENT);
+        Cache cacheB = nodeB.getCache(CacheNames.CACHE_EVENT);
+        cacheA.put("event-1", "title");
+        cacheB.get("event-1");
+
+        // Act
+        cacheA.clear();
+
+        // Assert
+        assertThat(cacheB.get("event-1")).isNull();
+    }
+
+    @Test
+    void shouldLoadOnce_whenValueMissingEverywhere() {
+        // Arrange
+        Cache cache = nodeA.getCache(CacheNames.CACHE_ORGANIZER);
+        int[] loads = {0};
+
+        // Act
+        cache.get("organizer-1", () -> ++loads[0]);
+        Integer second = cache.get("organizer-1", () -> ++loads[0]);
+
+        // Assert
+        assertThat(second).isEqualTo(1);
+        assertThat(loads[0]).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeStaleAndRefresh_whenEntryOlderThanRefreshAfter() {
+        // Arrange
+        Cache cache = newNode(Duration.ZERO).getCache(CacheNames.CACHE_EVENT);
+        int[] loads = {0};
+        cache.get("event-1", () -> ++loads[0]);
+
+        // Act
+        Integer stale = cache.get("event-1", () -> ++loads[0]);
+        Integer refreshed = cache.get("event-1", () -> ++loads[0]);
+
+        // Assert
+        assertThat(stale).isEqualTo(1);
+        assertThat(refreshed).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDropRefresh_whenEntryEvictedWhileReloading() {
+        // Arrange
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        Cache cache = newNode(Duration.ZERO, pendingRefreshes::add).getCache(CacheNames.CACHE_EVENT);
+        cache.get("event-1", () -> "old title");
+        cache.get("event-1", () -> "reloaded before update"); // stale hit, refresh queued
+
+        // Act
+        cache.evict("event-1");
+        pendingRefreshes.forEach(Runnable::run);
+
+        // Assert
+        assertThat(cache.get("event-1")).isNull();
+        assertThat(remoteCacheStore.get(CacheNames.CACHE_EVENT, "event-1")).isNull();
+    }
+
+    @Test
+    void shouldRunRefreshWithCallerContext_whenDecorated() throws Exception {
+        // Arrange
+        Authentication caller = new TestingAuthenticationToken("organizer", null);
+        Authentication[] seen = new Authentication[2];
+        Runnable refresh = () -> {
+            seen[0] = RequestContext.currentAuthentication();
+            seen[1] = SecurityContextHolder.getContext().getAuthentication();
+        };
+        Runnable decorated;
+        SecurityContextHolder.getContext().setAuthentication(caller);
+        try {
+            decorated = TwoTierCacheConfig.refreshTaskDecorator().decorate(refresh);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        // Act
+        Thread worker = Thread.ofPlatform().start(decorated);
+        worker.join();
+
+        // Assert
+        assertThat(seen[0]).isSameAs(caller);
+        assertThat(seen[1]).isSameAs(caller);
+    }
+
+    private TwoTierCacheManager newNode() {
+        return newNode(null);
+    }
+
+    private TwoTierCacheManager newNode(Duration refreshAfter) {
+        // Refreshes run inline so the test stays deterministic
+        return newNode(refreshAfter, Runnable::run);
+    }
+
+    private TwoTierCacheManager newNode(Duration refreshAfter, Executor refreshExecutor) {
+        CacheProperties properties = new CacheProperties();
+        properties.setL1Ttl(Duration.ofMinutes(1));
+        properties.setL2Ttl(Duration.ofMinutes(1));
+        properties.setRefreshAfter(refreshAfter);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TwoTierCacheManager manager = new TwoTierCacheManager(
+                properties, remoteCacheStore, new SingleFlight(meterRegistry), refreshExecutor, meterRegistry);
+        manager.afterPropertiesSet();
+        return manager;
+    }
+}
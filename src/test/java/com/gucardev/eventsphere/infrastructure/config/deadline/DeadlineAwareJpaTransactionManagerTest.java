@@ -0,0 +1,79 @@
+package com.gucardev.eventsphere.infrastructure.config.deadline;
+
+import com.gucardev.eventsphere.infrastructure.context.Deadline;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeadlineAwareJpaTransactionManagerTest {
+
+    private final DeadlineAwareJpaTransactionManager transactionManager =
+            new DeadlineAwareJpaTransactionManager(mock(EntityManagerFactory.class));
+
+    @Test
+    void shouldKeepConfiguredTimeout_whenNoDeadlineBound() {
+        // Act
+        int timeout = transactionManager.determineTimeout(new DefaultTransactionDefinition());
+
+        // Assert
+        assertThat(timeout).isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+    }
+
+    @Test
+    void shouldUseRemainingBudget_whenDeadlineBound() {
+        // Arrange
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout(30);
+
+        // Act
+        int timeout = Deadline.after(Duration.ofMillis(2500))
+                .call(() -> transactionManager.determineTimeout(definition));
+
+        // Assert
+        assertThat(timeout).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRefuseTransaction_whenDeadlinePassed() {
+        // Arrange
+        Deadline expired = new Deadline(System.nanoTime() - 1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> expired.call(() -> transactionManager.determineTimeout(new DefaultTransactionDefinition())))
+                .isInstanceOf(TransactionTimedOutException.class);
+    }
+
+    @Test
+    void shouldSetHibernateTransactionTimeout_whenTransactionHasTimeout() throws Exception {
+        // Arrange
+        transactionManager.afterPropertiesSet();
+        EntityManager entityManager = mock(EntityManager.class);
+        Session session = mock(Session.class);
+        Transaction hibernateTransaction = mock(Transaction.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getTransaction()).thenReturn(hibernateTransaction);
+        when(entityManager.getTransaction()).thenReturn(mock(EntityTransaction.class));
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout(3);
+
+        // Act
+        transactionManager.getJpaDialect().beginTransaction(entityManager, definition);
+
+        // Assert
+        verify(hibernateTransaction).setTimeout(3);
+    }
+}
@@ -0,0 +1,37 @@
+package com.gucardev.eventsphere.infrastructure.config.deadline;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.DeadlineProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineFilterTest {
+
+    private final DeadlineProperties properties = new DeadlineProperties();
+    private final DeadlineFilter filter = new DeadlineFilter(properties);
+
+    @Test
+    void shouldSkipDeadline_whenRouteIsExcluded() {
+        // Arrange
+        properties.setExcludedRoutes(List.of("POST /api/v1/attendee-imports"));
+
+        // Act & Assert
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("POST", "/api/v1/attendee-imports"))).isTrue();
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("POST", "/api/v1/attendee-imports/1/resume"))).isFalse();
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/api/v1/attendee-imports"))).isFalse();
+    }
+
+    @Test
+    void shouldUseRouteBudget_whenClientSendsNoHeader() {
+        // Arrange
+        properties.getRoutes().put("GET /api/v1/tickets/**", Duration.ofSeconds(5));
+
+        // Act & Assert
+        assertThat(filter.budget(new MockHttpServletRequest("GET", "/api/v1/tickets/42"))).isEqualTo(Duration.ofSeconds(5));
+        assertThat(filter.budget(new MockHttpServletRequest("POST", "/api/v1/tickets"))).isEqualTo(properties.getDefaultTimeout());
+    }
+}
@@ -0,0 +1,85 @@
+package com.gucardev.eventsphere.infrastructure.config.deadline;
+
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.context.Deadline;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeadlineInterceptorTest {
+
+    @Mock
+    private MethodInvocation invocation;
+
+    @Mock
+    private MessageSource messageSource;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DeadlineInterceptor interceptor = new DeadlineInterceptor(meterRegistry);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+        lenient().when(invocation.getThis()).thenReturn(this);
+    }
+
+    @Test
+    void shouldRethrowQueryTimeout_whenDeadlineHasTimeLeft() throws Throwable {
+        // Arrange
+        QueryTimeoutException timeout = new QueryTimeoutException("statement timeout");
+        when(invocation.proceed()).thenThrow(timeout);
+
+        // Act & Assert
+        assertThatThrownBy(() -> Deadline.after(Duration.ofMinutes(1)).call(() -> interceptor.invoke(invocation)))
+                .isSameAs(timeout);
+        assertThat(meterRegistry.find("usecase.deadline.exceeded").counter()).isNull();
+    }
+
+    @Test
+    void shouldReportDeadlineExceeded_whenQueryTimedOutAfterDeadline() throws Throwable {
+        // Arrange
+        Deadline deadline = Deadline.after(Duration.ofMillis(20));
+        when(invocation.proceed()).thenAnswer(call -> {
+            Thread.sleep(50);
+            throw new QueryTimeoutException("statement cancelled");
+        });
+
+        // Act & Assert
+        assertThatThrownBy(() -> deadline.call(() -> interceptor.invoke(invocation)))
+                .isInstanceOfSatisfying(BusinessException.class, ex ->
+                        assertThat(ex.getBusinessErrorCode()).isEqualTo(ExceptionType.DEADLINE_EXCEEDED.getCode()));
+        assertThat(meterRegistry.get("usecase.deadline.exceeded").tag("stage", "cancelled").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldProceed_whenNoDeadlineBound() throws Throwable {
+        // Arrange
+        when(invocation.proceed()).thenReturn("result");
+
+        // Act
+        Object result = interceptor.invoke(invocation);
+
+        // Assert
+        assertThat(result).isEqualTo("result");
+    }
+}
@@ -0,0 +1,59 @@
+package com.gucardev.eventsphere.infrastructure.config.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.PrintWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CapturingResponseWrapperTest {
+
+    @Test
+    void shouldKeepOnlyLimit_whenBodyIsLarger() {
+        // Arrange
+        BoundedCapture capture = new BoundedCapture(4);
+
+        // Act
+        capture.write("hello world".getBytes(), 0, 11);
+        capture.write('!');
+
+        // Assert
+        assertThat(capture.bytes()).hasSize(4);
+        assertThat(capture.total()).isEqualTo(12);
+        assertThat(BoundedCapture.decode(capture.bytes(), capture.total(), "UTF-8"))
+                .isEqualTo("hell... [TRUNCATED, 12 bytes]");
+    }
+
+    @Test
+    void shouldPassBodyThroughAndCapture_whenWriterIsFlushed() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        CapturingResponseWrapper wrapper = new CapturingResponseWrapper(response, 64);
+        PrintWriter writer = wrapper.getWriter();
+        writer.print("{\"ok\":true}");
+
+        // Act
+        wrapper.flushWriter();
+
+        // Assert
+        assertThat(response.getContentAsString()).isEqualTo("{\"ok\":true}");
+        assertThat(BoundedCapture.decode(wrapper.capture().bytes(), wrapper.capture().total(), "UTF-8"))
+                .isEqualTo("{\"ok\":true}");
+    }
+
+    @Test
+    void shouldDoNothing_whenWriterWasNeverOpened() {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CapturingResponseWrapper wrapper = new CapturingResponseWrapper(response, 64);
+
+        // Act
+        wrapper.flushWriter();
+
+        // Assert
+        assertThat(wrapper.capture().total()).isZero();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.gucardev.eventsphere.infrastructure.config.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MpscRingBufferTest {
+
+    @Test
+    void shouldRejectOffer_whenFull() {
+        // Arrange
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // Act
+        boolean accepted = buffer.offer(4);
+
+        // Assert
+        assertThat(accepted).isFalse();
+        assertThat(buffer.poll()).isZero();
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldDeliverEveryAcceptedItemOnce_whenProducersRace() throws Exception {
+        // Arrange
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers);
+        Set<Integer> received = new HashSet<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        if (buffer.offer(base + i)) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+            while (done.getCount() > 0 || buffer.size() > 0) {
+                Integer item = buffer.poll();
+                if (item != null) {
+                    assertThat(received.add(item)).isTrue();
+                }
+            }
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // Assert
+        assertThat(received).hasSize(accepted.get());
+    }
+}
@@ -0,0 +1,192 @@
+package com.gucardev.eventsphere.infrastructure.config.hibernate;
+
+import com.gucardev.eventsphere.domain.auth.role.entity.Role;
+import com.gucardev.eventsphere.infrastructure.config.cache.CacheInvalidationMessage;
+import com.gucardev.eventsphere.infrastructure.config.cache.RemoteCacheStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheInvalidatorTest {
+
+    private static final UUID ROLE_ID = UUID.randomUUID();
+    private static final UUID PERMISSION_ID = UUID.randomUUID();
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private RemoteCacheStore remoteCacheStore;
+
+    @Mock
+    private SessionFactoryImplementor sessionFactory;
+
+    @Mock
+    private MappingMetamodelImplementor metamodel;
+
+    @Mock
+    private CacheImplementor cache;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private EntityPersister rolePersister;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private EntityPersister permissionPersister;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private CollectionPersister rolePermissions;
+
+    private SecondLevelCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        lenient().when(sessionFactory.getMappingMetamodel()).thenReturn(metamodel);
+        lenient().when(sessionFactory.getCache()).thenReturn(cache);
+
+        mockPersister(rolePersister, "Role", ROLE_ID);
+        mockPersister(permissionPersister, "Permission", PERMISSION_ID);
+        lenient().when(metamodel.findEntityDescriptor(Role.class)).thenReturn(rolePersister);
+
+        // Role.permissions: owned by Role, holds Permission
+        EntityType elementType = mock(EntityType.class);
+        lenient().when(elementType.getAssociatedEntityName()).thenReturn("Permission");
+        lenient().when(rolePermissions.hasCache()).thenReturn(true);
+        lenient().when(rolePermissions.getRole()).thenReturn("Role.permissions");
+        lenient().when(rolePermissions.getOwnerEntityPersister()).thenReturn(rolePersister);
+        lenient().when(rolePermissions.getElementType()).thenReturn(elementType);
+        lenient().doAnswer(invocation -> {
+            Consumer<CollectionPersister> action = invocation.getArgument(0);
+            action.accept(rolePermissions);
+            return null;
+        }).when(metamodel).forEachCollectionDescriptor(any());
+
+        invalidator = new SecondLevelCacheInvalidator(entityManagerFactory, remoteCacheStore);
+    }
+
+    @Test
+    void shouldPublishEntityNameAndId_whenCachedEntityCommitted() {
+        // Arrange
+        PostUpdateEvent event = mock(PostUpdateEvent.class);
+        when(event.getPersister()).thenReturn(rolePersister);
+        when(event.getId()).thenReturn(ROLE_ID);
+
+        // Act
+        invalidator.onPostUpdate(event);
+
+        // Assert
+        assertThat(published().key()).isEqualTo("Role#" + ROLE_ID);
+    }
+
+    @Test
+    void shouldEvictEntryAndOwnedCollection_whenOtherNodeChangedRole() {
+        // Act
+        invalidator.onInvalidation(remote("Role#" + ROLE_ID));
+
+        // Assert
+        verify(cache).evictEntityData("Role", ROLE_ID);
+        verify(cache).evictCollectionData("Role.permissions", ROLE_ID);
+        verify(cache).evictQueryRegions();
+        verify(cache, never()).evictAllRegions();
+        verify(cache, never()).evictEntityData("Role");
+    }
+
+    @Test
+    void shouldEvictCollectionsHoldingEntity_whenOtherNodeChangedPermission() {
+        // Act
+        invalidator.onInvalidation(remote("Permission#" + PERMISSION_ID));
+
+        // Assert
+        verify(cache).evictEntityData("Permission", PERMISSION_ID);
+        verify(cache).evictCollectionData("Role.permissions");
+        verify(cache, never()).evictAllRegions();
+    }
+
+    @Test
+    void shouldIgnoreMessage_whenPublishedByThisNode() {
+        // Arrange
+        PostUpdateEvent event = mock(PostUpdateEvent.class);
+        when(event.getPersister()).thenReturn(rolePersister);
+        when(event.getId()).thenReturn(ROLE_ID);
+        invalidator.onPostUpdate(event);
+
+        // Act
+        invalidator.onInvalidation(published());
+
+        // Assert
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    void shouldPublishRegionAfterCommit_whenBulkUpdateRan() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            invalidator.onBulkChange(Role.class);
+
+            // Assert
+            verify(remoteCacheStore, never()).publish(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(published().key()).isEqualTo("Role");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldEvictWholeEntityRegion_whenOtherNodeRanBulkUpdate() {
+        // Act
+        invalidator.onInvalidation(remote("Role"));
+
+        // Assert
+        verify(cache).evictEntityData("Role");
+        verify(cache).evictCollectionData("Role.permissions");
+        verify(cache, never()).evictAllRegions();
+    }
+
+    private void mockPersister(EntityPersister persister, String entityName, UUID id) {
+        lenient().when(persister.canWriteToCache()).thenReturn(true);
+        lenient().when(persister.getEntityName()).thenReturn(entityName);
+        lenient().doReturn(id).when(persister.getIdentifierMapping().getJavaType()).fromString(id.toString());
+        lenient().when(metamodel.findEntityDescriptor(entityName)).thenReturn(persister);
+    }
+
+    private CacheInvalidationMessage published() {
+        ArgumentCaptor<CacheInvalidationMessage> captor = ArgumentCaptor.forClass(CacheInvalidationMessage.class);
+        verify(remoteCacheStore).publish(captor.capture());
+        return captor.getValue();
+    }
+
+    private static CacheInvalidationMessage remote(String key) {
+        return new CacheInvalidationMessage("other-node", SecondLevelCacheInvalidator.CHANNEL_CACHE_NAME, key);
+    }
+}
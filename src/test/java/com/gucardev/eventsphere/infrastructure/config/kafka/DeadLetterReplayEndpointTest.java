@@ -0,0 +1,156 @@
+package com.gucardev.eventsphere.infrastructure.config.kafka;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.KafkaConsumerProperties;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayEndpointTest {
+
+    private static final String TOPIC = "eventsphere.ticket";
+    private static final String DEAD_LETTER_TOPIC = "eventsphere.ticket.DLT";
+    private static final TopicPartition PARTITION = new TopicPartition(DEAD_LETTER_TOPIC, 0);
+
+    @Mock
+    private ConsumerFactory<Object, Object> kafkaConsumerFactory;
+
+    @Mock
+    private ProducerFactory<Object, Object> kafkaProducerFactory;
+
+    @Mock
+    private ProducerFactory<Object, Object> replayProducerFactory;
+
+    @Mock
+    private Consumer<Object, Object> consumer;
+
+    @Mock
+    private Producer<Object, Object> producer;
+
+    private DeadLetterReplayEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new DeadLetterReplayEndpoint(kafkaConsumerFactory, kafkaProducerFactory, new KafkaConsumerProperties());
+        lenient().when(kafkaProducerFactory.copyWithConfigurationOverride(anyMap())).thenReturn(replayProducerFactory);
+        lenient().when(replayProducerFactory.createProducer()).thenReturn(producer);
+        lenient().when(kafkaConsumerFactory.createConsumer(anyString(), isNull(), anyString(), any(Properties.class)))
+                .thenReturn(consumer);
+        lenient().when(producer.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReplayToSourceTopicWithoutDeadLetterHeaders_whenRecordsAreParked() throws Exception {
+        // Arrange
+        ConsumerRecord<Object, Object> parked = record(7L);
+        parked.headers().add("eventId", "e-7".getBytes(StandardCharsets.UTF_8));
+        parked.headers().add("kafka_dlt-exception-message", "boom".getBytes(StandardCharsets.UTF_8));
+        when(consumer.partitionsFor(DEAD_LETTER_TOPIC)).thenReturn(List.of(partitionInfo()));
+        when(consumer.poll(any(Duration.class))).thenReturn(records(parked), ConsumerRecords.empty());
+        ArgumentCaptor<ProducerRecord<Object, Object>> replayed = ArgumentCaptor.forClass(ProducerRecord.class);
+
+        // Act
+        Map<String, Object> result = endpoint.replay(TOPIC, null);
+
+        // Assert
+        assertThat(result).containsEntry("topic", DEAD_LETTER_TOPIC).containsEntry("replayed", 1);
+        verify(producer).send(replayed.capture());
+        assertThat(replayed.getValue().topic()).isEqualTo(TOPIC);
+        assertThat(replayed.getValue().key()).isEqualTo(parked.key());
+        assertThat(replayed.getValue().value()).isEqualTo(parked.value());
+        assertThat(replayed.getValue().headers()).extracting(Header::key).containsExactly("eventId");
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(8L)));
+    }
+
+    @Test
+    void shouldStopAtLimit_whenMoreRecordsAreParked() throws Exception {
+        // Arrange
+        when(consumer.partitionsFor(DEAD_LETTER_TOPIC)).thenReturn(List.of(partitionInfo()));
+        when(consumer.poll(any(Duration.class))).thenReturn(records(record(0L), record(1L), record(2L)));
+
+        // Act
+        Map<String, Object> result = endpoint.replay(TOPIC, 2);
+
+        // Assert
+        assertThat(result).containsEntry("replayed", 2);
+        verify(producer, times(2)).send(any());
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(2L)));
+    }
+
+    @Test
+    void shouldReplayNothing_whenDeadLetterTopicDoesNotExist() throws Exception {
+        // Arrange
+        when(consumer.partitionsFor(DEAD_LETTER_TOPIC)).thenReturn(List.of());
+
+        // Act
+        Map<String, Object> result = endpoint.replay(TOPIC, null);
+
+        // Assert
+        assertThat(result).containsEntry("replayed", 0);
+        verify(consumer, never()).poll(any(Duration.class));
+        verify(producer, never()).send(any());
+    }
+
+    @Test
+    void shouldCloseConsumerAndProducer_whenReplayFinishes() throws Exception {
+        // Arrange
+        when(consumer.partitionsFor(eq(DEAD_LETTER_TOPIC))).thenReturn(List.of(partitionInfo()));
+        when(consumer.poll(any(Duration.class))).thenReturn(ConsumerRecords.empty());
+
+        // Act
+        endpoint.replay(TOPIC, null);
+
+        // Assert
+        verify(consumer).close();
+        verify(producer).close();
+    }
+
+    private static ConsumerRecord<Object, Object> record(long offset) {
+        return new ConsumerRecord<>(DEAD_LETTER_TOPIC, 0, offset,
+                ("ticket-" + offset).getBytes(StandardCharsets.UTF_8),
+                ("{\"offset\":" + offset + "}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SafeVarargs
+    private static ConsumerRecords<Object, Object> records(ConsumerRecord<Object, Object>... records) {
+        return new ConsumerRecords<>(Map.of(PARTITION, List.of(records)), Map.of());
+    }
+
+    private static PartitionInfo partitionInfo() {
+        return new PartitionInfo(DEAD_LETTER_TOPIC, 0, null, null, null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.gucardev.eventsphere.infrastructure.config.kafka;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.KafkaConsumerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaErrorConfigurationTest {
+
+    @Mock
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    @Mock
+    private ProducerFactory<Object, Object> kafkaProducerFactory;
+
+    @Mock
+    private Consumer<Object, Object> consumer;
+
+    @Mock
+    private MessageListenerContainer container;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommonErrorHandler errorHandler;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(kafkaProducerFactory.copyWithConfigurationOverride(anyMap())).thenReturn(mock(ProducerFactory.class));
+        errorHandler = new KafkaErrorConfiguration(new KafkaConsumerProperties(), meterRegistry)
+                .kafkaErrorHandler(kafkaTemplate, kafkaProducerFactory);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPublishToDeadLetterTopic_whenRecordFailsWithNonRetryableException() {
+        // Arrange
+        ConsumerRecord<Object, Object> record = new ConsumerRecord<>("eventsphere.ticket", 2, 41L, "ticket-1", "{\"revision\":1}");
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        ArgumentCaptor<ProducerRecord<Object, Object>> published = ArgumentCaptor.forClass(ProducerRecord.class);
+
+        // Act
+        boolean recovered = errorHandler.handleOne(new IllegalArgumentException("bad payload"), record, consumer, container);
+
+        // Assert
+        assertThat(recovered).isTrue();
+        verify(kafkaTemplate).send(published.capture());
+        assertThat(published.getValue().topic()).isEqualTo("eventsphere.ticket.DLT");
+        assertThat(published.getValue().partition()).isNull();
+        assertThat(published.getValue().key()).isEqualTo("ticket-1");
+        assertThat(published.getValue().value()).isEqualTo("{\"revision\":1}");
+        assertThat(meterRegistry.counter("kafka.consumer.dead.lettered", "topic", "eventsphere.ticket").count())
+                .isEqualTo(1.0);
+    }
+}
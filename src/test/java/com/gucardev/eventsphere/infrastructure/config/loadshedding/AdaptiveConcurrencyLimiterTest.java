@@ -0,0 +1,77 @@
+package com.gucardev.eventsphere.infrastructure.config.loadshedding;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.LoadSheddingProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final LoadSheddingProperties properties = new LoadSheddingProperties();
+
+    @Test
+    void shouldGrowLimit_whenLatencyStaysFlatUnderLoad() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        int initial = limiter.getLimit();
+
+        // Act
+        feed(limiter, FAST, initial, 50);
+
+        // Assert
+        assertThat(limiter.getLimit()).isGreaterThan(initial);
+    }
+
+    @Test
+    void shouldShrinkLimit_whenLatencyClimbs() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        feed(limiter, FAST, limiter.getLimit(), 20);
+        int beforeQueueing = limiter.getLimit();
+
+        // Act
+        feed(limiter, SLOW, beforeQueueing, 20);
+
+        // Assert
+        assertThat(limiter.getLimit()).isLessThan(beforeQueueing);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(properties.getMinLimit());
+    }
+
+    @Test
+    void shouldNotGrow_whenMostOfLimitIsUnused() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        int initial = limiter.getLimit();
+
+        // Act
+        feed(limiter, FAST, 1, 50);
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(initial);
+    }
+
+    @Test
+    void shouldShedLowerPriorityFirst_whenSharesDiffer() {
+        // Arrange
+        properties.setInitialLimit(10);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(1.0);
+        }
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire(0.5)).isFalse();
+        assertThat(limiter.tryAcquire(1.0)).isTrue();
+    }
+
+    private void feed(AdaptiveConcurrencyLimiter limiter, long rttNanos, int inflight, int windows) {
+        for (int i = 0; i < windows * properties.getWindowSize(); i++) {
+            limiter.onSample(rttNanos, inflight);
+        }
+    }
+}
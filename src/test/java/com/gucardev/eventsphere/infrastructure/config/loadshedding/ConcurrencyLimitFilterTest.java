@@ -0,0 +1,153 @@
+package com.gucardev.eventsphere.infrastructure.config.loadshedding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.config.properties.LoadSheddingProperties;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitFilterTest {
+
+    @Mock
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Mock
+    private FilterChain chain;
+
+    @Mock
+    private MessageSource messageSource;
+
+    private final LoadSheddingProperties properties = new LoadSheddingProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+        lenient().when(limiter.tryAcquire(anyDouble())).thenReturn(true);
+        properties.getRoutes().put(RequestPriority.CRITICAL, List.of("POST /api/v1/tickets/**"));
+        properties.getRoutes().put(RequestPriority.BACKGROUND, List.of("/api/v1/**/export"));
+    }
+
+    @Test
+    void shouldMatchRoutesByMethodAndPattern_whenResolvingPriority() {
+        // Arrange
+        ConcurrencyLimitFilter filter = filter();
+
+        // Act & Assert
+        assertThat(filter.priorityOf(new MockHttpServletRequest("POST", "/api/v1/tickets"))).isEqualTo(RequestPriority.CRITICAL);
+        assertThat(filter.priorityOf(new MockHttpServletRequest("GET", "/api/v1/tickets/export"))).isEqualTo(RequestPriority.BACKGROUND);
+        // First match wins from CRITICAL down
+        assertThat(filter.priorityOf(new MockHttpServletRequest("POST", "/api/v1/tickets/export"))).isEqualTo(RequestPriority.CRITICAL);
+        assertThat(filter.priorityOf(new MockHttpServletRequest("GET", "/api/v1/tickets"))).isEqualTo(properties.getDefaultPriority());
+    }
+
+    @Test
+    void shouldAdmitWithTheRouteLimitShare_whenRequestArrives() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = filter();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/events/export"), new MockHttpServletResponse(), chain);
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/tickets"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        verify(limiter).tryAcquire(properties.getLimitShare().get(RequestPriority.BACKGROUND));
+        verify(limiter).tryAcquire(properties.getLimitShare().get(RequestPriority.CRITICAL));
+    }
+
+    @Test
+    void shouldRejectWith503AndRetryAfter_whenLimiterIsFull() throws Exception {
+        // Arrange
+        properties.setRetryAfter(Duration.ofSeconds(3));
+        when(limiter.tryAcquire(anyDouble())).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter().doFilter(new MockHttpServletRequest("GET", "/api/v1/events/export"), response, chain);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getContentAsString()).contains(String.valueOf(ExceptionType.OVERLOADED.getCode()));
+        assertThat(meterRegistry.counter("http.server.concurrency.rejected", "priority", "BACKGROUND").count()).isEqualTo(1);
+        verifyNoInteractions(chain);
+        verify(limiter, never()).release(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void shouldSampleLatency_whenRequestCompletesSynchronouslyWithoutClientError() throws Exception {
+        // Act
+        filter().doFilter(new MockHttpServletRequest("GET", "/api/v1/events"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        verify(limiter).release(anyLong(), eq(true));
+    }
+
+    @Test
+    void shouldReleaseWithoutSample_whenResponseIsClientError() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            invocation.<MockHttpServletResponse>getArgument(1).setStatus(404);
+            return null;
+        }).when(chain).doFilter(any(), any());
+
+        // Act
+        filter().doFilter(new MockHttpServletRequest("GET", "/api/v1/events/missing"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        verify(limiter).release(anyLong(), eq(false));
+    }
+
+    @Test
+    void shouldReleaseWithoutSample_whenRequestWentAsync() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/events/1/changes");
+        request.setAsyncSupported(true);
+        doAnswer(invocation -> {
+            request.startAsync();
+            return null;
+        }).when(chain).doFilter(any(), any());
+
+        // Act
+        filter().doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        verify(limiter).release(anyLong(), eq(false));
+    }
+
+    // Routes are parsed in the constructor, so each test builds the filter after setting them
+    private ConcurrencyLimitFilter filter() {
+        return new ConcurrencyLimitFilter(properties, limiter, new ObjectMapper(), meterRegistry);
+    }
+}
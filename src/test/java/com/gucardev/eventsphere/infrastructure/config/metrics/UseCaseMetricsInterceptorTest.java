@@ -0,0 +1,95 @@
+package com.gucardev.eventsphere.infrastructure.config.metrics;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.UseCaseMetricsProperties;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCase;
+import com.gucardev.eventsphere.infrastructure.usecase.UseCasePointcut;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UseCaseMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UseCaseMetricsProperties properties = new UseCaseMetricsProperties();
+
+    @Test
+    void shouldRecordSuccessTimer_whenUseCaseReturns() {
+        // Arrange
+        UseCase<String, Integer> useCase = instrument(new LengthUseCase());
+
+        // Act
+        useCase.execute("abc");
+        useCase.execute("abcd");
+
+        // Assert
+        assertThat(meterRegistry.get("usecase.execution")
+                .tags("usecase", "LengthUseCase", "outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("usecase.in_flight").tag("usecase", "LengthUseCase").gauge().value()).isZero();
+        assertThat(meterRegistry.find("usecase.errors").counter()).isNull();
+    }
+
+    @Test
+    void shouldCountErrorsByExceptionType_whenUseCaseThrows() {
+        // Arrange
+        UseCase<String, Integer> useCase = instrument(new FailingUseCase());
+
+        // Act
+        assertThatThrownBy(() -> useCase.execute("missing")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> useCase.execute(null)).isInstanceOf(IllegalArgumentException.class);
+
+        // Assert
+        assertThat(meterRegistry.get("usecase.errors")
+                .tags("usecase", "FailingUseCase", "type", ExceptionType.NOT_FOUND.name()).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("usecase.errors")
+                .tags("usecase", "FailingUseCase", "type", "IllegalArgumentException").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("usecase.execution")
+                .tags("usecase", "FailingUseCase", "outcome", "error").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("usecase.in_flight").tag("usecase", "FailingUseCase").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldPassThrough_whenDisabled() {
+        // Arrange
+        properties.setEnabled(false);
+        UseCase<String, Integer> useCase = instrument(new LengthUseCase());
+
+        // Act
+        Integer length = useCase.execute("abc");
+
+        // Assert
+        assertThat(length).isEqualTo(3);
+        assertThat(meterRegistry.find("usecase.execution").timer()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private UseCase<String, Integer> instrument(UseCase<String, Integer> target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(new UseCasePointcut(),
+                new UseCaseMetricsInterceptor(meterRegistry, () -> Tracer.NOOP, properties)));
+        return (UseCase<String, Integer>) proxyFactory.getProxy();
+    }
+
+    static class LengthUseCase implements UseCase<String, Integer> {
+        @Override
+        public Integer execute(String input) {
+            return input.length();
+        }
+    }
+
+    static class FailingUseCase implements UseCase<String, Integer> {
+        @Override
+        public Integer execute(String input) {
+            if (input == null) {
+                throw new IllegalArgumentException("input");
+            }
+            throw new BusinessException("not found", ExceptionType.NOT_FOUND.getStatus(), ExceptionType.NOT_FOUND.getCode());
+        }
+    }
+}
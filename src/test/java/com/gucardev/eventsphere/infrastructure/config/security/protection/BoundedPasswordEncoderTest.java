@@ -0,0 +1,130 @@
+package com.gucardev.eventsphere.infrastructure.config.security.protection;
+
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private MessageSource messageSource;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BlockingEncoder delegate = new BlockingEncoder(release);
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+    }
+
+    @Test
+    void shouldRunOnCallerThread_whenPermitAvailable() {
+        // Arrange
+        release.countDown();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, Duration.ZERO, meterRegistry);
+
+        // Act
+        String encoded = encoder.encode("secret");
+
+        // Assert
+        assertThat(encoded).isEqualTo("hash:secret");
+        assertThat(delegate.lastThread).isSameAs(Thread.currentThread());
+        assertThat(encoder.matches("secret", "hash:secret")).isTrue();
+        assertThat(encoder.getActive()).isZero();
+    }
+
+    @Test
+    void shouldFailFast_whenSaturated() throws Exception {
+        // Arrange
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, Duration.ofMillis(20), meterRegistry);
+        Thread busy = Thread.ofPlatform().start(() -> encoder.encode("slow"));
+        while (encoder.getActive() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> encoder.encode("secret"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("businessErrorCode").isEqualTo(ExceptionType.PASSWORD_HASHING_BUSY.getCode());
+        assertThatThrownBy(() -> encoder.matches("secret", "hash:secret"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("businessErrorCode").isEqualTo(ExceptionType.LOGIN_CAPACITY_EXCEEDED.getCode());
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(2);
+
+        release.countDown();
+        busy.join(5000);
+        assertThat(encoder.getActive()).isZero();
+        assertThat(encoder.encode("secret")).isEqualTo("hash:secret");
+    }
+
+    @Test
+    void shouldExportQueueDepth_whenCallersWaitForPermit() throws Exception {
+        // Arrange
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, Duration.ofSeconds(5), meterRegistry);
+        Thread busy = Thread.ofPlatform().start(() -> encoder.encode("slow"));
+        while (encoder.getActive() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        Thread waiting = Thread.ofPlatform().start(() -> encoder.encode("queued"));
+        while (encoder.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Assert
+        assertThat(meterRegistry.get("auth.password.hashing.waiting").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hashing.active").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        busy.join(5000);
+        waiting.join(5000);
+        assertThat(encoder.getWaiting()).isZero();
+    }
+
+    private static final class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch release;
+        private volatile Thread lastThread;
+
+        private BlockingEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            lastThread = Thread.currentThread();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.gucardev.eventsphere.infrastructure.config.security.protection;
+
+import com.gucardev.eventsphere.infrastructure.config.message.MessageUtil;
+import com.gucardev.eventsphere.infrastructure.config.properties.LoginProtectionProperties;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import com.gucardev.eventsphere.infrastructure.exception.ExceptionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAttemptGuardTest {
+
+    @Mock
+    private MessageSource messageSource;
+
+    private LoginAttemptGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        new MessageUtil(messageSource);
+        lenient().when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Test Message");
+
+        LoginProtectionProperties properties = new LoginProtectionProperties();
+        properties.setMaxAttemptsPerIp(5);
+        properties.setMaxFailuresPerEmail(2);
+        guard = new LoginAttemptGuard(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldLockOutEmail_whenFailuresReachLimit() {
+        // Arrange
+        guard.recordFailure("John@Example.com");
+        guard.recordFailure("john@example.com ");
+
+        // Act & Assert
+        assertThatThrownBy(() -> guard.checkAllowed("john@example.com"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("businessErrorCode").isEqualTo(ExceptionType.TOO_MANY_LOGIN_ATTEMPTS.getCode());
+    }
+
+    @Test
+    void shouldClearLockout_whenLoginSucceeds() {
+        // Arrange
+        guard.recordFailure("john@example.com");
+        guard.recordFailure("john@example.com");
+
+        // Act
+        guard.recordSuccess("john@example.com");
+
+        // Assert
+        assertThatCode(() -> guard.checkAllowed("john@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldThrottleIp_whenAttemptsExceedLimit() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            guard.checkAllowed("user" + i + "@example.com");
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> guard.checkAllowed("another@example.com"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("businessErrorCode").isEqualTo(ExceptionType.TOO_MANY_LOGIN_ATTEMPTS.getCode());
+    }
+
+    @Test
+    void shouldForgetUnknownEmailOnlyAfterCommit_whenTransactionActive() {
+        // Arrange
+        guard.rememberUnknownEmail("new@example.com");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            guard.forgetUnknownEmail("new@example.com");
+
+            // Assert
+            assertThatThrownBy(() -> guard.checkAllowed("new@example.com")).isInstanceOf(BadCredentialsException.class);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThatCode(() -> guard.checkAllowed("new@example.com")).doesNotThrowAnyException();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.gucardev.eventsphere.infrastructure.config.security.protection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final AtomicLong now = new AtomicLong();
+    private final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW, 1000, now::get);
+
+    @Test
+    void shouldReject_whenLimitReachedWithinWindow() {
+        // Act & Assert
+        assertThat(limiter.tryAcquire("ip")).isTrue();
+        assertThat(limiter.tryAcquire("ip")).isTrue();
+        assertThat(limiter.tryAcquire("ip")).isTrue();
+        assertThat(limiter.tryAcquire("ip")).isFalse();
+        assertThat(limiter.tryAcquire("other-ip")).isTrue();
+    }
+
+    @Test
+    void shouldWeighPreviousWindow_whenWindowSlides() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("ip");
+        }
+
+        // Act & Assert
+        // Start of the next window: the previous one still overlaps entirely
+        now.set(WINDOW.toMillis());
+        assertThat(limiter.tryAcquire("ip")).isFalse();
+
+        // Half way: the previous window counts for 1.5
+        now.set(WINDOW.toMillis() * 3 / 2);
+        assertThat(limiter.tryAcquire("ip")).isTrue();
+        assertThat(limiter.tryAcquire("ip")).isTrue();
+        assertThat(limiter.tryAcquire("ip")).isFalse();
+    }
+
+    @Test
+    void shouldForgetHits_whenTwoWindowsPassed() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("ip");
+        }
+
+        // Act
+        now.set(WINDOW.toMillis() * 2);
+
+        // Assert
+        assertThat(limiter.isExceeded("ip")).isFalse();
+        assertThat(limiter.tryAcquire("ip")).isTrue();
+    }
+
+    @Test
+    void shouldCountWithoutLimiting_whenRecordingAndReset() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            limiter.record("email");
+        }
+
+        // Act & Assert
+        assertThat(limiter.isExceeded("email")).isTrue();
+        limiter.reset("email");
+        assertThat(limiter.isExceeded("email")).isFalse();
+    }
+}
@@ -5,6 +5,7 @@ import com.gucardev.eventsphere.infrastructure.config.security.dto.JwtAuthDetail
 import com.gucardev.eventsphere.infrastructure.config.security.dto.PasswordAuthDetails;
 import com.gucardev.eventsphere.infrastructure.config.security.dto.request.LoginRequest;
 import com.gucardev.eventsphere.infrastructure.config.security.dto.response.TokenDto;
+import com.gucardev.eventsphere.infrastructure.config.security.protection.LoginAttemptGuard;
 import com.gucardev.eventsphere.infrastructure.util.EncryptionService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +40,9 @@ class AuthServiceTest {
     @Mock
     private EncryptionService encryptionService;
 
+    @Mock
+    private LoginAttemptGuard loginAttemptGuard;
+
     @InjectMocks
     private AuthService authService;
 
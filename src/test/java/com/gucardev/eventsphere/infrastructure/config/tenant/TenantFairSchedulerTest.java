@@ -0,0 +1,106 @@
+package com.gucardev.eventsphere.infrastructure.config.tenant;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.TenantSchedulingProperties;
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TenantFairSchedulerTest {
+
+    private final TenantSchedulingProperties properties = new TenantSchedulingProperties();
+
+    @Test
+    void shouldServeQuietTenant_beforeNoisyTenantsBacklog() throws Exception {
+        // Arrange
+        properties.setCapacity(1);
+        properties.setQueueTimeout(Duration.ofSeconds(10));
+        TenantFairScheduler scheduler = new TenantFairScheduler(properties);
+        List<String> granted = new CopyOnWriteArrayList<>();
+        scheduler.acquire("noisy");
+        queue(scheduler, "noisy", "noisy-1", granted);
+        queue(scheduler, "noisy", "noisy-2", granted);
+        queue(scheduler, "noisy", "noisy-3", granted);
+        queue(scheduler, "quiet", "quiet-1", granted);
+
+        // Act
+        for (int served = 1; served <= 4; served++) {
+            scheduler.release(granted.isEmpty() ? "noisy" : tenantOf(granted.getLast()));
+            awaitSize(granted, served);
+        }
+
+        // Assert
+        assertThat(granted).containsExactly("noisy-1", "quiet-1", "noisy-2", "noisy-3");
+    }
+
+    @Test
+    void shouldKeepAdmittingAttendeeCheckouts_whenNoisyOrganizerFillsItsQueue() throws Exception {
+        // Arrange
+        properties.setCapacity(1);
+        properties.setMaxQueuedPerTenant(2);
+        properties.setQueueTimeout(Duration.ofSeconds(10));
+        TenantFairScheduler scheduler = new TenantFairScheduler(properties);
+        List<String> granted = new CopyOnWriteArrayList<>();
+        String buyerA = TenantResolver.ATTENDEE_PREFIX + "a";
+        String buyerB = TenantResolver.ATTENDEE_PREFIX + "b";
+        scheduler.acquire("organizer");
+        queue(scheduler, "organizer", "organizer-1", granted);
+        queue(scheduler, "organizer", "organizer-2", granted);
+
+        // Act: each buyer is its own tenant, the organizer's full queue is not theirs
+        assertThatThrownBy(() -> scheduler.acquire("organizer")).isInstanceOf(BusinessException.class);
+        queue(scheduler, buyerA, buyerA + "-1", granted);
+        queue(scheduler, buyerB, buyerB + "-1", granted);
+        for (int served = 1; served <= 4; served++) {
+            scheduler.release(granted.isEmpty() ? "organizer" : tenantOf(granted.getLast()));
+            awaitSize(granted, served);
+        }
+
+        // Assert
+        assertThat(granted).containsExactly("organizer-1", buyerA + "-1", buyerB + "-1", "organizer-2");
+    }
+
+    @Test
+    void shouldRejectHeavyOperation_whenTenantCapReached() {
+        // Arrange
+        properties.setHeavyPerTenant(1);
+        TenantFairScheduler scheduler = new TenantFairScheduler(properties);
+        scheduler.acquireHeavy("organizer");
+
+        // Act & Assert
+        assertThatThrownBy(() -> scheduler.acquireHeavy("organizer")).isInstanceOf(BusinessException.class);
+        scheduler.acquireHeavy("other-organizer");
+    }
+
+    private static void queue(TenantFairScheduler scheduler, String tenant, String name, List<String> granted)
+            throws InterruptedException {
+        int queuedBefore = scheduler.getQueued();
+        Thread.ofVirtual().start(() -> {
+            try {
+                scheduler.acquire(tenant);
+                granted.add(name);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        while (scheduler.getQueued() == queuedBefore) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static String tenantOf(String name) {
+        return name.substring(0, name.indexOf('-'));
+    }
+
+    private static void awaitSize(List<String> granted, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (granted.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.gucardev.eventsphere.infrastructure.config.tenant;
+
+import com.gucardev.eventsphere.domain.auth.user.model.dto.UserResponseDto;
+import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
+import com.gucardev.eventsphere.infrastructure.config.properties.TenantSchedulingProperties;
+import com.gucardev.eventsphere.infrastructure.config.security.dto.PasswordAuthDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TenantResolverTest {
+
+    @Mock
+    private OrganizerRepository organizerRepository;
+
+    private TenantResolver tenantResolver;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(organizerRepository.findIdByUserId(any())).thenReturn(Optional.empty());
+        tenantResolver = new TenantResolver(organizerRepository, new TenantSchedulingProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldGiveEachAttendeeItsOwnTenant_whenCallersAreNotOrganizers() {
+        // Arrange
+        UUID firstBuyer = UUID.randomUUID();
+        UUID secondBuyer = UUID.randomUUID();
+
+        // Act
+        String first = tenantOf(firstBuyer);
+        String second = tenantOf(secondBuyer);
+
+        // Assert
+        assertThat(first).isEqualTo(TenantResolver.ATTENDEE_PREFIX + firstBuyer).isNotEqualTo(second);
+        assertThat(TenantResolver.group(first)).isEqualTo(TenantResolver.ATTENDEES);
+        assertThat(TenantResolver.group(second)).isEqualTo(TenantResolver.ATTENDEES);
+    }
+
+    @Test
+    void shouldUseOrganizerId_whenCallerIsOrganizer() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID organizerId = UUID.randomUUID();
+        when(organizerRepository.findIdByUserId(userId)).thenReturn(Optional.of(organizerId));
+
+        // Act
+        String tenant = tenantOf(userId);
+
+        // Assert
+        assertThat(tenant).isEqualTo(organizerId.toString());
+        assertThat(TenantResolver.group(tenant)).isEqualTo(tenant);
+    }
+
+    @Test
+    void shouldUseSystemTenant_whenUnauthenticated() {
+        // Act & Assert
+        assertThat(tenantResolver.currentTenant()).isEqualTo(TenantResolver.SYSTEM);
+    }
+
+    private String tenantOf(UUID userId) {
+        UserResponseDto user = new UserResponseDto();
+        user.setId(userId);
+        user.setEmail(userId + "@example.com");
+        user.setPassword("hash");
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(new PasswordAuthDetails(user), null, List.of()));
+        return tenantResolver.currentTenant();
+    }
+}
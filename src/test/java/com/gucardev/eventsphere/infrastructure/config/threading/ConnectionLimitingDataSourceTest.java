@@ -0,0 +1,107 @@
+package com.gucardev.eventsphere.infrastructure.config.threading;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldTimeOut_whenAllPermitsAreHeld() throws Exception {
+        // Arrange
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(50), meterRegistry);
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("No database connection permit within 50ms");
+        assertThat(meterRegistry.get("db.connection.permit.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldBlockUntilConnectionIsClosed_whenAtCapacity() throws Exception {
+        // Arrange
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, Duration.ofSeconds(10), meterRegistry);
+        Connection held = dataSource.getConnection();
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return dataSource.getConnection();
+                } catch (SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }, executor);
+            while (meterRegistry.get("db.connection.permit.waiting").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+            assertThat(waiting).isNotDone();
+
+            // Act
+            held.close();
+
+            // Assert
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isNotNull();
+        }
+    }
+
+    @Test
+    void shouldReleasePermitOnce_whenConnectionIsClosedTwice() throws Exception {
+        // Arrange
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(50), meterRegistry);
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act
+        first.close();
+        first.close();
+
+        // Assert
+        assertThat(meterRegistry.get("db.connection.permit.available").gauge().value()).isEqualTo(1.0);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void shouldReleasePermit_whenTargetFailsToConnect() throws Exception {
+        // Arrange
+        when(target.getConnection()).thenThrow(new SQLException("connection refused"));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(50), meterRegistry);
+
+        // Act
+        assertThatThrownBy(dataSource::getConnection).hasMessage("connection refused");
+
+        // Assert
+        assertThat(meterRegistry.get("db.connection.permit.available").gauge().value()).isEqualTo(1.0);
+    }
+}
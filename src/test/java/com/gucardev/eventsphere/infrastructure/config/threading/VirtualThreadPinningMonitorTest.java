@@ -0,0 +1,89 @@
+package com.gucardev.eventsphere.infrastructure.config.threading;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    void shouldAttributeToDriver_whenDriverFrameIsAboveApplicationCode() {
+        // Arrange
+        RecordedStackTrace stackTrace = stackTrace(
+                javaFrame("java.net.SocketInputStream"),
+                javaFrame("org.h2.engine.SessionRemote"),
+                javaFrame("com.gucardev.eventsphere.domain.event.service.usecase.GetEventUseCase"));
+
+        // Act
+        String source = VirtualThreadPinningMonitor.source(stackTrace);
+
+        // Assert
+        assertThat(source).isEqualTo("jdbc-driver");
+    }
+
+    @Test
+    void shouldAttributeToFirstKnownComponent_whenWalkingFromTheTop() {
+        // Act & Assert
+        assertThat(VirtualThreadPinningMonitor.source(stackTrace(
+                javaFrame("com.zaxxer.hikari.pool.HikariPool"), javaFrame("org.hibernate.Session"))))
+                .isEqualTo("connection-pool");
+        assertThat(VirtualThreadPinningMonitor.source(stackTrace(
+                javaFrame("org.hibernate.engine.jdbc.internal.JdbcCoordinatorImpl"),
+                javaFrame("com.gucardev.eventsphere.domain.ticket.repository.TicketRepository"))))
+                .isEqualTo("hibernate");
+        assertThat(VirtualThreadPinningMonitor.source(stackTrace(
+                javaFrame("java.lang.Object"),
+                javaFrame("com.gucardev.eventsphere.infrastructure.mail.EmailBatchSender"))))
+                .isEqualTo("application");
+    }
+
+    @Test
+    void shouldSkipNativeFramesAndFramesWithoutMethod_whenAttributing() {
+        // Arrange
+        RecordedFrame nativeFrame = javaFrame("org.h2.util.Utils");
+        when(nativeFrame.isJavaFrame()).thenReturn(false);
+        RecordedFrame withoutMethod = mock(RecordedFrame.class);
+        when(withoutMethod.isJavaFrame()).thenReturn(true);
+        RecordedStackTrace stackTrace = stackTrace(nativeFrame, withoutMethod, javaFrame("org.hibernate.Session"));
+
+        // Act
+        String source = VirtualThreadPinningMonitor.source(stackTrace);
+
+        // Assert
+        assertThat(source).isEqualTo("hibernate");
+    }
+
+    @Test
+    void shouldFallBack_whenNoFrameCanBeAttributed() {
+        // Act & Assert
+        assertThat(VirtualThreadPinningMonitor.source(null)).isEqualTo("unknown");
+        assertThat(VirtualThreadPinningMonitor.source(stackTrace(
+                javaFrame("java.util.concurrent.locks.LockSupport"), javaFrame("io.netty.channel.Channel"))))
+                .isEqualTo("library");
+    }
+
+    private static RecordedStackTrace stackTrace(RecordedFrame... frames) {
+        RecordedStackTrace stackTrace = mock(RecordedStackTrace.class);
+        when(stackTrace.getFrames()).thenReturn(Arrays.asList(frames));
+        return stackTrace;
+    }
+
+    private static RecordedFrame javaFrame(String typeName) {
+        RecordedClass type = mock(RecordedClass.class);
+        when(type.getName()).thenReturn(typeName);
+        RecordedMethod method = mock(RecordedMethod.class);
+        when(method.getType()).thenReturn(type);
+        RecordedFrame frame = mock(RecordedFrame.class);
+        when(frame.isJavaFrame()).thenReturn(true);
+        when(frame.getMethod()).thenReturn(method);
+        return frame;
+    }
+}
@@ -0,0 +1,123 @@
+package com.gucardev.eventsphere.infrastructure.config.web;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SseConnectionTest {
+
+    @Mock
+    private SseEmitter emitter;
+
+    // Drain tasks are held until the test runs them, like a client that has not read yet
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Test
+    void shouldSendEventsInOfferOrder_whenDrained() throws Exception {
+        // Arrange
+        SseConnection connection = new SseConnection(emitter, 10, tasks::add);
+        SseEmitter.SseEventBuilder first = SseEmitter.event().id("1");
+        SseEmitter.SseEventBuilder second = SseEmitter.event().id("2");
+        SseEmitter.SseEventBuilder third = SseEmitter.event().id("3");
+        connection.offer(first);
+        connection.offer(second);
+        connection.offer(third);
+
+        // Act
+        runTasks();
+
+        // Assert
+        InOrder order = inOrder(emitter);
+        order.verify(emitter).send(first);
+        order.verify(emitter).send(second);
+        order.verify(emitter).send(third);
+        assertThat(connection.isIdle()).isTrue();
+    }
+
+    @Test
+    void shouldScheduleOneDrain_whenEventsQueueUp() {
+        // Arrange
+        SseConnection connection = new SseConnection(emitter, 10, tasks::add);
+
+        // Act
+        connection.offer(SseEmitter.event().id("1"));
+        connection.offer(SseEmitter.event().id("2"));
+        connection.offer(SseEmitter.event().id("3"));
+
+        // Assert
+        assertThat(tasks).hasSize(1);
+        assertThat(connection.isIdle()).isFalse();
+    }
+
+    @Test
+    void shouldDisconnect_whenClientFallsBehindMaxPending() {
+        // Arrange
+        SseConnection connection = new SseConnection(emitter, 2, tasks::add);
+        connection.offer(SseEmitter.event().id("1"));
+        connection.offer(SseEmitter.event().id("2"));
+
+        // Act
+        boolean accepted = connection.offer(SseEmitter.event().id("3"));
+
+        // Assert
+        assertThat(accepted).isFalse();
+        assertThat(connection.isClosed()).isTrue();
+        verify(emitter).complete();
+        assertThat(connection.offer(SseEmitter.event().id("4"))).isFalse();
+    }
+
+    @Test
+    void shouldStopSending_whenClientWentAway() throws Exception {
+        // Arrange
+        SseConnection connection = new SseConnection(emitter, 10, tasks::add);
+        SseEmitter.SseEventBuilder first = SseEmitter.event().id("1");
+        SseEmitter.SseEventBuilder second = SseEmitter.event().id("2");
+        doThrow(new IOException("Broken pipe")).when(emitter).send(first);
+        connection.offer(first);
+        connection.offer(second);
+
+        // Act
+        runTasks();
+
+        // Assert
+        assertThat(connection.isClosed()).isTrue();
+        verify(emitter, never()).send(second);
+        assertThat(connection.offer(SseEmitter.event().id("3"))).isFalse();
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void shouldCompleteEmitterOnce_whenClosedTwice() {
+        // Arrange
+        SseConnection connection = new SseConnection(emitter, 10, tasks::add);
+
+        // Act
+        connection.close();
+        connection.close();
+
+        // Assert
+        verify(emitter).complete();
+        verify(emitter, never()).completeWithError(any());
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.removeFirst().run();
+        }
+    }
+}
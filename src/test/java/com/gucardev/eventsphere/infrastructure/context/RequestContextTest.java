@@ -0,0 +1,70 @@
+package com.gucardev.eventsphere.infrastructure.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Joiner;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestContextTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void shouldCarryContext_whenTaskRunsOnAnotherThread() throws Exception {
+        // Arrange
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated("user@example.com", null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        MDC.put(RequestContext.TRACE_ID, "trace-1");
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("tr"));
+        Runnable decorated = new ContextPropagatingTaskDecorator().decorate(() -> {
+            assertThat(RequestContext.currentAuthentication()).isSameAs(authentication);
+            assertThat(RequestContext.currentTraceId()).isEqualTo("trace-1");
+            assertThat(RequestContext.currentLocale()).isEqualTo(Locale.forLanguageTag("tr"));
+            assertThat(MDC.get(RequestContext.TRACE_ID)).isEqualTo("trace-1");
+        });
+
+        // Act & Assert
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.runAsync(decorated, executor).get();
+        }
+    }
+
+    @Test
+    void shouldInheritContext_whenScopeOpenedInsideBinding() throws Exception {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("organizer@example.com", null, List.of()));
+        Callable<String> task = () -> RequestContext.currentAuthentication().getName();
+
+        // Act: the way GetEventDetailUseCase fans out, forks are fresh virtual threads with no ThreadLocals
+        List<String> results = RequestContext.capture().call(() -> {
+            try (var scope = StructuredTaskScope.open(Joiner.<String>allSuccessfulOrThrow())) {
+                scope.fork(task);
+                scope.fork(task);
+                return scope.join().map(Subtask::get).toList();
+            }
+        });
+
+        // Assert
+        assertThat(results).containsExactly("organizer@example.com", "organizer@example.com");
+    }
+}
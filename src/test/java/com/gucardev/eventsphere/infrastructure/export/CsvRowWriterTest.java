@@ -0,0 +1,83 @@
+package com.gucardev.eventsphere.infrastructure.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRowWriterTest {
+
+    private record Row(String name, Integer count, BigDecimal amount) {
+    }
+
+    @Test
+    void shouldWriteHeaderFromRecordComponents_whenCreated() throws IOException {
+        // Act
+        String csv = write();
+
+        // Assert
+        assertThat(csv).isEqualTo("name,count,amount\r\n");
+    }
+
+    @Test
+    void shouldQuoteAndDoubleQuotes_whenCellContainsSeparatorsOrQuotes() throws IOException {
+        // Act
+        String csv = write(
+                new Row("Istanbul, Turkey", 1, null),
+                new Row("The \"Main\" Hall", 2, null),
+                new Row("line one\nline two", 3, null),
+                new Row("carriage\rreturn", 4, null));
+
+        // Assert
+        assertThat(csv.split("\r\n", -1)).containsExactly(
+                "name,count,amount",
+                "\"Istanbul, Turkey\",1,",
+                "\"The \"\"Main\"\" Hall\",2,",
+                "\"line one\nline two\",3,",
+                "\"carriage\rreturn\",4,",
+                "");
+    }
+
+    @Test
+    void shouldPrefixApostrophe_whenTextStartsLikeFormula() throws IOException {
+        // Act
+        String csv = write(
+                new Row("=HYPERLINK(\"http://evil\")", 1, null),
+                new Row("+1+1", 2, null),
+                new Row("-2+3", 3, null),
+                new Row("@SUM(A1)", 4, null),
+                new Row("\t=1+1", 5, null));
+
+        // Assert
+        assertThat(csv.split("\r\n")).containsExactly(
+                "name,count,amount",
+                "\"'=HYPERLINK(\"\"http://evil\"\")\",1,",
+                "'+1+1,2,",
+                "'-2+3,3,",
+                "'@SUM(A1),4,",
+                "'\t=1+1,5,");
+    }
+
+    @Test
+    void shouldKeepNegativeNumbersAndWriteNullsEmpty_whenCellNumeric() throws IOException {
+        // Act
+        String csv = write(new Row(null, -5, new BigDecimal("-12.50")));
+
+        // Assert
+        assertThat(csv.split("\r\n")).containsExactly("name,count,amount", ",-5,-12.50");
+    }
+
+    private static String write(Row... rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvRowWriter writer = new CsvRowWriter(Row.class, out);
+        for (Row row : rows) {
+            writer.write(row);
+        }
+        writer.flush();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,197 @@
+package com.gucardev.eventsphere.infrastructure.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gucardev.eventsphere.domain.attendee.model.dto.AttendeeExportRow;
+import com.gucardev.eventsphere.domain.attendee.model.parameter.ExportAttendeesUseCaseParam;
+import com.gucardev.eventsphere.domain.attendee.model.request.AttendeeFilterRequest;
+import com.gucardev.eventsphere.domain.attendee.service.usecase.ExportAttendeesUseCase;
+import com.gucardev.eventsphere.domain.auth.permission.entity.Permission;
+import com.gucardev.eventsphere.domain.auth.permission.repository.PermissionRepository;
+import com.gucardev.eventsphere.domain.auth.user.entity.User;
+import com.gucardev.eventsphere.domain.auth.user.repository.UserRepository;
+import com.gucardev.eventsphere.domain.event.entity.Event;
+import com.gucardev.eventsphere.domain.event.model.dto.EventExportRow;
+import com.gucardev.eventsphere.domain.event.model.parameter.ExportEventsUseCaseParam;
+import com.gucardev.eventsphere.domain.event.model.request.EventFilterRequest;
+import com.gucardev.eventsphere.domain.event.repository.EventRepository;
+import com.gucardev.eventsphere.domain.event.service.usecase.ExportEventsUseCase;
+import com.gucardev.eventsphere.domain.organizer.entity.Organizer;
+import com.gucardev.eventsphere.domain.organizer.repository.OrganizerRepository;
+import com.gucardev.eventsphere.domain.shared.util.ResourceOwnershipValidator;
+import com.gucardev.eventsphere.domain.ticket.model.dto.TicketExportRow;
+import com.gucardev.eventsphere.domain.ticket.model.parameter.ExportTicketsUseCaseParam;
+import com.gucardev.eventsphere.domain.ticket.model.request.TicketFilterRequest;
+import com.gucardev.eventsphere.domain.ticket.service.usecase.ExportTicketsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the exporter against the database: cursor, record projection and both writers.
+ */
+@SpringBootTest
+class StreamingExporterTest {
+
+    public record PermissionRow(UUID id, String action, String displayName) {
+    }
+
+    @Autowired
+    private StreamingExporter streamingExporter;
+
+    @Autowired
+    private PermissionRepository permissionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizerRepository organizerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    // Ownership itself is covered by the use case tests, here the caller always passes
+    @MockitoBean
+    private ResourceOwnershipValidator ownershipValidator;
+
+    @Autowired
+    private ExportEventsUseCase exportEventsUseCase;
+
+    @Autowired
+    private ExportAttendeesUseCase exportAttendeesUseCase;
+
+    @Autowired
+    private ExportTicketsUseCase exportTicketsUseCase;
+
+    private String resource;
+    private Organizer organizer;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        // Unique per test, other tests share the database
+        resource = "EXPORT_" + UUID.randomUUID().toString().substring(0, 8);
+        permissionRepository.saveAll(List.of(
+                permission("READ", "Read, list"),
+                permission("WRITE", "=cmd|' /C calc'!A0")));
+        User user = userRepository.save(User.builder().email(resource.toLowerCase() + "@example.com").build());
+        organizer = organizerRepository.save(Organizer.builder().organizationName(resource).user(user).build());
+        event = eventRepository.save(Event.builder().title(resource).isPublished(false).organizer(organizer).build());
+    }
+
+    @Test
+    void shouldStreamEveryMatchingRow_whenExportingCsv() {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = streamingExporter.export(query(), ExportFormat.CSV, out);
+
+        // Assert
+        List<String> lines = Arrays.asList(out.toString(StandardCharsets.UTF_8).split("\r\n"));
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.getFirst()).isEqualTo("id,action,displayName");
+        assertThat(lines).anyMatch(line -> line.endsWith(",READ,\"Read, list\""));
+        assertThat(lines).anyMatch(line -> line.endsWith(",WRITE,'=cmd|' /C calc'!A0"));
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine_whenExportingNdjson() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = streamingExporter.export(query(), ExportFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            assertThat(node.get("action").asText()).isIn("READ", "WRITE");
+        }
+    }
+
+    @Test
+    void shouldSelectEventRows_whenExportingEvents() {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportEventsUseCase.execute(new ExportEventsUseCaseParam(organizer.getId(), new EventFilterRequest(), ExportFormat.CSV, out));
+
+        // Assert
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith(header(EventExportRow.class));
+        assertThat(csv.split("\r\n")).hasSize(2).anyMatch(line -> line.contains(resource));
+    }
+
+    @Test
+    void shouldSelectAttendeeRows_whenExportingAttendees() {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        AttendeeFilterRequest filter = new AttendeeFilterRequest();
+        filter.setEventId(event.getId());
+
+        // Act
+        exportAttendeesUseCase.execute(new ExportAttendeesUseCaseParam(filter, ExportFormat.CSV, out));
+
+        // Assert
+        assertThat(out.toString(StandardCharsets.UTF_8)).startsWith(header(AttendeeExportRow.class));
+    }
+
+    @Test
+    void shouldSelectTicketRows_whenExportingTickets() {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        TicketFilterRequest filter = new TicketFilterRequest();
+        filter.setEventId(event.getId());
+
+        // Act
+        exportTicketsUseCase.execute(new ExportTicketsUseCaseParam(filter, ExportFormat.CSV, out));
+
+        // Assert
+        assertThat(out.toString(StandardCharsets.UTF_8)).startsWith(header(TicketExportRow.class));
+    }
+
+    private ExportQuery<Permission, PermissionRow> query() {
+        Specification<Permission> byResource = (root, criteria, cb) -> cb.equal(root.get("resource"), resource);
+        return new ExportQuery<>(Permission.class, PermissionRow.class, byResource,
+                (root, cb) -> List.of(root.get("id"), root.get("action"), root.get("displayName")));
+    }
+
+    private Permission permission(String action, String displayName) {
+        Permission permission = new Permission();
+        permission.setAction(action);
+        permission.setResource(resource);
+        permission.setDisplayName(displayName);
+        return permission;
+    }
+
+    private static String header(Class<? extends Record> rowType) {
+        return Arrays.stream(rowType.getRecordComponents())
+                .map(RecordComponent::getName)
+                .collect(Collectors.joining(",")) + "\r\n";
+    }
+}
@@ -0,0 +1,114 @@
+package com.gucardev.eventsphere.infrastructure.importing;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TabularFileReaderTest {
+
+    private final TabularFileReader reader = new TabularFileReader();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldStreamCsvRows_whenFieldsAreQuoted() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("attendees.csv");
+        Files.writeString(file, "\uFEFFEmail,Preferences,ticket_code\r\n"
+                + "a@example.com,\"Vegetarian, no nuts\",T-1\r\n"
+                + "\r\n"
+                + "b@example.com,\"Says \"\"hi\"\"\nover two lines\",\r\n", StandardCharsets.UTF_8);
+        List<TabularRow> rows = new ArrayList<>();
+
+        // Act
+        reader.read(file, TabularFormat.CSV, rows::add);
+
+        // Assert
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).rowNumber()).isEqualTo(1L);
+        assertThat(rows.get(0).get("email")).isEqualTo("a@example.com");
+        assertThat(rows.get(0).get("preferences")).isEqualTo("Vegetarian, no nuts");
+        assertThat(rows.get(0).get("ticket_code")).isEqualTo("T-1");
+        assertThat(rows.get(1).rowNumber()).isEqualTo(2L);
+        assertThat(rows.get(1).get("preferences")).isEqualTo("Says \"hi\"\nover two lines");
+        assertThat(rows.get(1).get("ticket_code")).isNull();
+    }
+
+    @Test
+    void shouldDetectCsv_whenFileIsPlainText() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("upload.tmp");
+        Files.writeString(file, "email,preferences\na@example.com,none\n", StandardCharsets.UTF_8);
+
+        // Act
+        TabularFormat format = reader.detect(file, "attendees.csv");
+
+        // Assert
+        assertThat(format).isEqualTo(TabularFormat.CSV);
+    }
+
+    @Test
+    void shouldStreamXlsxRows_whenSheetHasGapsAndNumbers() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("attendees.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Attendees");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Email");
+            header.createCell(1).setCellValue("Ticket_Code");
+            header.createCell(2).setCellValue("Price");
+            Row first = sheet.createRow(1);
+            first.createCell(0).setCellValue("a@example.com");
+            first.createCell(1).setCellValue("T-1");
+            first.createCell(2).setCellValue(12.5);
+            // Row 3 is left empty, row 4 has no ticket code
+            Row second = sheet.createRow(3);
+            second.createCell(0).setCellValue("b@example.com");
+            second.createCell(2).setCellValue(7);
+            workbook.write(out);
+        }
+        List<TabularRow> rows = new ArrayList<>();
+
+        // Act
+        reader.read(file, TabularFormat.XLSX, rows::add);
+
+        // Assert
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).rowNumber()).isEqualTo(1L);
+        assertThat(rows.get(0).get("email")).isEqualTo("a@example.com");
+        assertThat(rows.get(0).get("ticket_code")).isEqualTo("T-1");
+        assertThat(rows.get(0).get("price")).isEqualTo("12.5");
+        assertThat(rows.get(1).rowNumber()).isEqualTo(2L);
+        assertThat(rows.get(1).get("email")).isEqualTo("b@example.com");
+        assertThat(rows.get(1).get("ticket_code")).isNull();
+        assertThat(rows.get(1).get("price")).isEqualTo("7");
+    }
+
+    @Test
+    void shouldDetectXlsx_whenFileIsAWorkbook() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("upload.tmp");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            workbook.createSheet().createRow(0).createCell(0).setCellValue("email");
+            workbook.write(out);
+        }
+
+        // Act
+        TabularFormat format = reader.detect(file, "attendees.xlsx");
+
+        // Assert
+        assertThat(format).isEqualTo(TabularFormat.XLSX);
+    }
+}
@@ -0,0 +1,100 @@
+package com.gucardev.eventsphere.infrastructure.mail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gucardev.eventsphere.infrastructure.config.properties.MailDispatchProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailBatchSenderTest {
+
+    private static final String TEMPLATE = "<p>Hello <span th:text=\"${name}\">x</span></p>";
+
+    private InMemorySmtpServer smtpServer;
+    private EmailBatchSender batchSender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtpServer = new InMemorySmtpServer(Set.of("bounce@example.com"));
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpServer.port());
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.put("mail.smtp.auth", "false");
+        javaMailProperties.put("mail.smtp.timeout", "5000");
+        mailSender.setJavaMailProperties(javaMailProperties);
+
+        StringTemplateResolver resolver = new StringTemplateResolver();
+        resolver.setTemplateMode(TemplateMode.HTML);
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        MailDispatchProperties properties = new MailDispatchProperties();
+        properties.setFrom("noreply@eventsphere.test");
+
+        batchSender = new EmailBatchSender(mailSender, new EmailRenderer(templateEngine, mailSender, new ObjectMapper(), properties));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtpServer.close();
+    }
+
+    @Test
+    void shouldSendWholeChunkOverOneConnection_whenChunkMixesTemplatedAndPlainEmails() {
+        // Arrange
+        List<EmailMessage> chunk = List.of(
+                templated(1L, "ada@example.com", "{\"name\":\"Ada\"}"),
+                templated(2L, "alan@example.com", "{\"name\":\"Alan\"}"),
+                EmailMessage.builder().id(3L).recipient("grace@example.com").subject("Plain").body("Doors open at 7").build());
+
+        // Act
+        Map<Long, EmailBatchSender.Failure> failures = batchSender.send(chunk);
+
+        // Assert
+        assertThat(failures).isEmpty();
+        assertThat(smtpServer.connections()).isEqualTo(1);
+        assertThat(smtpServer.messages()).hasSize(3);
+        assertThat(smtpServer.messages().get(0)).contains("Hello <span>Ada</span>");
+    }
+
+    @Test
+    void shouldReportFailuresAsPermanentAndSendTheRest_whenRecipientRejectedOrModelBroken() {
+        // Arrange
+        List<EmailMessage> chunk = List.of(
+                templated(1L, "bounce@example.com", "{\"name\":\"Nobody\"}"),
+                templated(2L, "ada@example.com", "{\"name\":\"Ada\"}"),
+                templated(3L, "broken@example.com", "{not json"));
+
+        // Act
+        Map<Long, EmailBatchSender.Failure> failures = batchSender.send(chunk);
+
+        // Assert
+        assertThat(failures).containsOnlyKeys(1L, 3L);
+        assertThat(failures.get(1L).permanent()).isTrue();
+        assertThat(failures.get(3L).permanent()).isTrue();
+        assertThat(smtpServer.messages()).hasSize(1);
+    }
+
+    private static EmailMessage templated(long id, String recipient, String model) {
+        return EmailMessage.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject("Venue change")
+                .templateName(TEMPLATE)
+                .model(model)
+                .build();
+    }
+}
@@ -0,0 +1,212 @@
+package com.gucardev.eventsphere.infrastructure.mail;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.MailDispatchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.SendFailedException;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+
+    @Mock
+    private EmailMessageRepository emailMessageRepository;
+    @Mock
+    private EmailBatchSender batchSender;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ThreadPoolTaskExecutor mailExecutor;
+
+    private final MailDispatchProperties properties = new MailDispatchProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setWorkers(1);
+        properties.setChunkSize(10);
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(mailExecutor).execute(any(Runnable.class));
+        lenient().when(batchSender.send(anyList())).thenReturn(Map.of());
+    }
+
+    @Test
+    void shouldLockDueMessagesWithSkipLocked_whenClaiming() throws Exception {
+        // Arrange
+        Method lockDue = EmailMessageRepository.class.getMethod("lockDue", Collection.class, Instant.class, Pageable.class);
+
+        // Act
+        QueryHint[] hints = lockDue.getAnnotation(QueryHints.class).value();
+
+        // Assert
+        assertThat(lockDue.getAnnotation(Lock.class).value()).isEqualTo(LockModeType.PESSIMISTIC_WRITE);
+        // -2 is Hibernate's SKIP LOCKED timeout
+        assertThat(hints).anySatisfy(hint -> {
+            assertThat(hint.name()).isEqualTo("jakarta.persistence.lock.timeout");
+            assertThat(hint.value()).isEqualTo("-2");
+        });
+    }
+
+    @Test
+    void shouldLeaseAndCountAttempt_whenClaimingDueMessages() {
+        // Arrange
+        EmailMessage email = email(1L, "ada@example.com", EmailStatus.PENDING, 0);
+        when(emailMessageRepository.lockDue(eq(List.of(EmailStatus.PENDING, EmailStatus.SENDING)), any(), any()))
+                .thenReturn(List.of(email));
+        Instant before = Instant.now();
+
+        // Act
+        dispatcher().dispatch();
+
+        // Assert
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(emailMessageRepository).lockDue(any(), any(), page.capture());
+        // Two chunks per worker: one running, one queued
+        assertThat(page.getValue().getPageSize()).isEqualTo(20);
+        assertThat(email.getStatus()).isEqualTo(EmailStatus.SENDING);
+        assertThat(email.getAttempts()).isEqualTo(1);
+        assertThat(email.getNextAttemptAt()).isAfterOrEqualTo(before.plus(properties.getLease()));
+        verify(batchSender).send(List.of(email));
+        verify(emailMessageRepository).markSent(eq(List.of(1L)), eq(EmailStatus.SENT), any(Instant.class));
+    }
+
+    @Test
+    void shouldClaimAgain_whenLeaseExpiredWithAttemptsLeft() {
+        // Arrange
+        EmailMessage email = email(1L, "ada@example.com", EmailStatus.SENDING, 2);
+        when(emailMessageRepository.lockDue(any(), any(), any())).thenReturn(List.of(email));
+
+        // Act
+        dispatcher().dispatch();
+
+        // Assert
+        assertThat(email.getAttempts()).isEqualTo(3);
+        verify(batchSender).send(List.of(email));
+    }
+
+    @Test
+    void shouldFailMessage_whenLeaseExpiredOnLastAttempt() {
+        // Arrange
+        EmailMessage email = email(1L, "ada@example.com", EmailStatus.SENDING, properties.getMaxAttempts());
+        when(emailMessageRepository.lockDue(any(), any(), any())).thenReturn(List.of(email));
+
+        // Act
+        dispatcher().dispatch();
+
+        // Assert
+        assertThat(email.getStatus()).isEqualTo(EmailStatus.FAILED);
+        assertThat(email.getLastError()).isEqualTo("Lease expired on the last attempt");
+        verify(batchSender, never()).send(anyList());
+    }
+
+    @Test
+    void shouldRescheduleWithJitteredExponentialBackoff_whenSendFailsTransiently() {
+        // Arrange
+        EmailMessage email = email(1L, "ada@example.com", EmailStatus.PENDING, 1);
+        when(emailMessageRepository.lockDue(any(), any(), any())).thenReturn(List.of(email));
+        when(batchSender.send(anyList())).thenReturn(Map.of(1L,
+                new EmailBatchSender.Failure(new MailSendException("421 try again later"), false)));
+        when(emailMessageRepository.findAllById(any())).thenReturn(List.of(email));
+        Instant before = Instant.now();
+
+        // Act
+        dispatcher().dispatch();
+
+        // Assert
+        // Second attempt: initial backoff doubled, +-20%
+        Duration base = properties.getInitialBackoff().multipliedBy(2);
+        assertThat(email.getStatus()).isEqualTo(EmailStatus.PENDING);
+        assertThat(email.getLastError()).isEqualTo("421 try again later");
+        assertThat(email.getNextAttemptAt())
+                .isAfterOrEqualTo(before.plus(base.multipliedBy(8).dividedBy(10)))
+                .isBefore(Instant.now().plus(base.multipliedBy(12).dividedBy(10)));
+        verify(emailMessageRepository, never()).markSent(anyList(), any(), any());
+    }
+
+    @Test
+    void shouldFailMessage_whenRecipientRejectedOrAttemptsExhausted() {
+        // Arrange
+        EmailMessage rejected = email(1L, "nobody@example.com", EmailStatus.PENDING, 0);
+        EmailMessage exhausted = email(2L, "ada@example.com", EmailStatus.PENDING, properties.getMaxAttempts() - 1);
+        when(emailMessageRepository.lockDue(any(), any(), any())).thenReturn(List.of(rejected, exhausted));
+        when(batchSender.send(anyList())).thenReturn(Map.of(
+                1L, new EmailBatchSender.Failure(new SendFailedException("550 no such user"), true),
+                2L, new EmailBatchSender.Failure(new MailSendException("421 try again later"), false)));
+        when(emailMessageRepository.findAllById(any())).thenReturn(List.of(rejected, exhausted));
+
+        // Act
+        dispatcher().dispatch();
+
+        // Assert
+        assertThat(rejected.getStatus()).isEqualTo(EmailStatus.FAILED);
+        assertThat(exhausted.getStatus()).isEqualTo(EmailStatus.FAILED);
+        assertThat(exhausted.getAttempts()).isEqualTo(properties.getMaxAttempts());
+    }
+
+    @Test
+    void shouldPutBackWithoutCountingAttempt_whenDomainRateExceeded() {
+        // Arrange
+        properties.getDomainRates().put("Example.com", 1);
+        EmailMessage first = email(1L, "ada@example.com", EmailStatus.PENDING, 0);
+        EmailMessage second = email(2L, "alan@example.com", EmailStatus.PENDING, 0);
+        EmailMessage otherDomain = email(3L, "grace@example.org", EmailStatus.PENDING, 0);
+        when(emailMessageRepository.lockDue(any(), any(), any())).thenReturn(List.of(first, second, otherDomain));
+        Instant before = Instant.now();
+
+        // Act
+        dispatcher().dispatch();
+
+        // Assert
+        verify(batchSender).send(List.of(first, otherDomain));
+        assertThat(second.getStatus()).isEqualTo(EmailStatus.PENDING);
+        assertThat(second.getAttempts()).isZero();
+        assertThat(second.getNextAttemptAt()).isAfterOrEqualTo(before.plus(properties.getRateLimitDelay()));
+    }
+
+    private EmailDispatcher dispatcher() {
+        return new EmailDispatcher(emailMessageRepository, batchSender, properties, transactionManager,
+                mailExecutor, new SimpleMeterRegistry());
+    }
+
+    private static EmailMessage email(long id, String recipient, EmailStatus status, int attempts) {
+        return EmailMessage.builder()
+                .id(id)
+                .recipient(recipient)
+                .recipientDomain(recipient.substring(recipient.indexOf('@') + 1))
+                .subject("Venue change")
+                .body("Doors open at 7")
+                .status(status)
+                .attempts(attempts)
+                .nextAttemptAt(Instant.now())
+                .build();
+    }
+}
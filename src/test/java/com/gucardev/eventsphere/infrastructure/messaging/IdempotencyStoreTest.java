@@ -0,0 +1,148 @@
+package com.gucardev.eventsphere.infrastructure.messaging;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.KafkaConsumerProperties;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    @Mock
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private KafkaConsumerProperties properties;
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KafkaConsumerProperties();
+        idempotencyStore = new IdempotencyStore(processedMessageRepository, entityManager, properties);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void shouldQueryDatabase_whenIdsAreNotInMemory() {
+        // Arrange
+        UUID processed = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        when(processedMessageRepository.findProcessedIds("projection", List.of(processed, fresh)))
+                .thenReturn(Set.of(processed));
+
+        // Act
+        Set<UUID> result = idempotencyStore.findProcessed("projection", List.of(processed, fresh));
+
+        // Assert
+        assertThat(result).containsExactly(processed);
+    }
+
+    @Test
+    void shouldAnswerFromMemory_whenMarkerWasCommitted() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        idempotencyStore.markProcessed("projection", eventId);
+        commit();
+
+        // Act
+        Set<UUID> result = idempotencyStore.findProcessed("projection", List.of(eventId));
+
+        // Assert
+        assertThat(result).containsExactly(eventId);
+        verify(processedMessageRepository, never()).findProcessedIds(any(), anyCollection());
+    }
+
+    @Test
+    void shouldNotRememberMarker_whenTransactionRollsBack() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        idempotencyStore.markProcessed("projection", eventId);
+        when(processedMessageRepository.findProcessedIds(eq("projection"), anyCollection())).thenReturn(Set.of());
+
+        // Act
+        Set<UUID> result = idempotencyStore.findProcessed("projection", List.of(eventId));
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(processedMessageRepository).findProcessedIds("projection", List.of(eventId));
+    }
+
+    @Test
+    void shouldScopeMarkersByConsumer_whenAnotherConsumerAsks() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        idempotencyStore.markProcessed("projection", eventId);
+        commit();
+        when(processedMessageRepository.findProcessedIds(eq("notifier"), anyCollection())).thenReturn(Set.of());
+
+        // Act
+        Set<UUID> result = idempotencyStore.findProcessed("notifier", List.of(eventId));
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldPersistMarker_whenMarkedProcessed() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        ArgumentCaptor<ProcessedMessage> marker = ArgumentCaptor.forClass(ProcessedMessage.class);
+
+        // Act
+        idempotencyStore.markProcessed("projection", eventId);
+
+        // Assert
+        verify(entityManager).persist(marker.capture());
+        assertThat(marker.getValue().getId()).isEqualTo(new ProcessedMessageId("projection", eventId));
+        assertThat(marker.getValue().getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldPurgeMarkersOlderThanRetention_whenPurgeRuns() {
+        // Arrange
+        properties.setIdempotencyRetention(Duration.ofDays(2));
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        when(processedMessageRepository.deleteProcessedBefore(cutoff.capture())).thenReturn(3);
+        Instant before = Instant.now().minus(Duration.ofDays(2));
+
+        // Act
+        idempotencyStore.purgeExpired();
+
+        // Assert
+        assertThat(cutoff.getValue()).isBetween(before, Instant.now().minus(Duration.ofDays(2)));
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
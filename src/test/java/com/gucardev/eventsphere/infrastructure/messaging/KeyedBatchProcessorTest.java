@@ -0,0 +1,100 @@
+package com.gucardev.eventsphere.infrastructure.messaging;
+
+import com.gucardev.eventsphere.infrastructure.config.properties.KafkaConsumerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KeyedBatchProcessorTest {
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private KeyedBatchProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new KeyedBatchProcessor(idempotencyStore, transactionManager,
+                new KafkaConsumerProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldReportLowestFailedIndex_andKeepLaterRecordsOfThatKey() {
+        // Arrange
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, "a", "a-1"),
+                record(1, "b", "b-1"),
+                record(2, "a", "a-2"),
+                record(3, "b", "b-2"),
+                record(4, "a", "a-3"));
+        Queue<String> handled = new ConcurrentLinkedQueue<>();
+
+        // Act
+        BatchListenerFailedException failure = catchThrowableOfType(BatchListenerFailedException.class,
+                () -> processor.process("test", records, record -> {
+                    if (record.value().equals("a-2")) {
+                        throw new IllegalStateException("boom");
+                    }
+                    handled.add(record.value());
+                }));
+
+        // Assert
+        assertThat(failure).isNotNull();
+        assertThat(failure.getIndex()).isEqualTo(2);
+        assertThat(handled).containsExactlyInAnyOrder("a-1", "b-1", "b-2");
+    }
+
+    @Test
+    void shouldSkipRecord_whenEventAlreadyProcessed() {
+        // Arrange
+        UUID seen = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        List<ConsumerRecord<String, String>> records = List.of(
+                withEventId(record(0, "a", "first"), seen),
+                withEventId(record(1, "a", "second"), fresh));
+        when(idempotencyStore.findProcessed(eq("test"), anyCollection())).thenReturn(Set.of(seen));
+        Queue<String> handled = new ConcurrentLinkedQueue<>();
+
+        // Act
+        processor.process("test", records, record -> handled.add(record.value()));
+
+        // Assert
+        assertThat(handled).containsExactly("second");
+        verify(idempotencyStore).markProcessed("test", fresh);
+        verify(idempotencyStore, never()).markProcessed("test", seen);
+    }
+
+    private static ConsumerRecord<String, String> record(long offset, String key, String value) {
+        return new ConsumerRecord<>("eventsphere.ticket", 0, offset, key, value);
+    }
+
+    private static ConsumerRecord<String, String> withEventId(ConsumerRecord<String, String> record, UUID eventId) {
+        record.headers().add(MessageHeaders.EVENT_ID, eventId.toString().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
@@ -0,0 +1,120 @@
+package com.gucardev.eventsphere.infrastructure.outbox;
+
+import com.gucardev.eventsphere.infrastructure.messaging.MessageHeaders;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "app-specific-configs.outbox.relay-enabled=true",
+        "app-specific-configs.outbox.poll-interval=50ms"
+})
+@EmbeddedKafka(partitions = 3, topics = {"eventsphere.ticket", "eventsphere.event"})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Test
+    void shouldRelayEventsInOrderPerAggregate_whenTransactionCommits() throws Exception {
+        // Arrange
+        UUID ticketId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < 5; i++) {
+                outboxPublisher.publish(AggregateType.TICKET, ticketId, "TicketUpdated", Map.of("revision", i));
+            }
+            outboxPublisher.publish(AggregateType.EVENT, eventId, "EventCreated", Map.of("revision", 0));
+        });
+
+        // Act
+        List<ConsumerRecord<String, String>> records = consume(6, "eventsphere.ticket", "eventsphere.event");
+
+        // Assert
+        assertThat(records).hasSize(6);
+        assertThat(records).filteredOn(record -> record.key().equals(ticketId.toString()))
+                .extracting(ConsumerRecord::value)
+                .containsExactly("{\"revision\":0}", "{\"revision\":1}", "{\"revision\":2}", "{\"revision\":3}", "{\"revision\":4}");
+        assertThat(records).allSatisfy(record ->
+                assertThat(record.headers().lastHeader(MessageHeaders.EVENT_ID)).isNotNull());
+        assertThat(new String(records.stream()
+                .filter(record -> record.topic().equals("eventsphere.event"))
+                .findFirst().orElseThrow()
+                .headers().lastHeader(MessageHeaders.EVENT_TYPE).value(), StandardCharsets.UTF_8))
+                .isEqualTo("EventCreated");
+        assertThat(awaitDrained()).isTrue();
+    }
+
+    @Test
+    void shouldNotRecordEvent_whenTransactionRollsBack() {
+        // Arrange
+        UUID ticketId = UUID.randomUUID();
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxPublisher.publish(AggregateType.TICKET, ticketId, "TicketCreated", Map.of());
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertThat(outboxEventRepository.findAll())
+                .noneMatch(event -> event.getAggregateId().equals(ticketId.toString()));
+    }
+
+    // The relay deletes a batch after the broker acks it, slightly after consumers can see it
+    private boolean awaitDrained() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (outboxEventRepository.count() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    private List<ConsumerRecord<String, String>> consume(int expected, String... topics) {
+        Map<String, Object> props = Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString(),
+                ConsumerConfig.GROUP_ID_CONFIG, "outbox-relay-test",
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props)) {
+            consumer.subscribe(List.of(topics));
+            long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+            while (records.size() < expected && System.nanoTime() < deadline) {
+                consumer.poll(Duration.ofMillis(200)).forEach(records::add);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,83 @@
+package com.gucardev.eventsphere.infrastructure.usecase;
+
+import com.gucardev.eventsphere.domain.shared.model.request.BaseFilterRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Runs every paged list use case against the database with Hibernate's
+ * fail_on_pagination_over_collection_fetch enabled. A use case that fetch-joins a collection
+ * while paging (HHH90003004, whole table paged in memory) throws instead of passing.
+ */
+@SpringBootTest
+class PagedListUseCaseTest {
+
+    private static final String FAIL_ON_IN_MEMORY_PAGINATION = "hibernate.query.fail_on_pagination_over_collection_fetch";
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void shouldFailOnInMemoryPagination() {
+        assertThat(entityManagerFactory.getProperties())
+                .containsEntry(FAIL_ON_IN_MEMORY_PAGINATION, "true");
+    }
+
+    @TestFactory
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Stream<DynamicTest> shouldPageInSql_whenListUseCaseExecuted() {
+        List<Map.Entry<String, UseCase>> pagedUseCases = applicationContext.getBeansOfType(UseCase.class)
+                .entrySet().stream()
+                .filter(entry -> isPagedListUseCase(entry.getValue()))
+                .map(entry -> Map.entry(ClassUtils.getUserClass(entry.getValue()).getSimpleName(), entry.getValue()))
+                .toList();
+
+        assertThat(pagedUseCases).extracting(Map.Entry::getKey)
+                .contains("GetAllUsersUseCase", "GetEventListUseCase", "GetTicketListUseCase");
+
+        return pagedUseCases.stream().map(entry -> DynamicTest.dynamicTest(entry.getKey(), () -> {
+            // Arrange
+            BaseFilterRequest filter = BeanUtils.instantiateClass(inputType(entry.getValue()));
+            filter.setSize(5);
+
+            // Act & Assert
+            assertThatCode(() -> entry.getValue().execute(filter)).doesNotThrowAnyException();
+        }));
+    }
+
+    private static boolean isPagedListUseCase(UseCase<?, ?> useCase) {
+        ResolvableType type = useCaseType(useCase);
+        Class<?> input = type.getGeneric(0).resolve();
+        Class<?> output = type.getGeneric(1).resolve();
+        return input != null && BaseFilterRequest.class.isAssignableFrom(input)
+                && output != null && Page.class.isAssignableFrom(output);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends BaseFilterRequest> inputType(UseCase<?, ?> useCase) {
+        return (Class<? extends BaseFilterRequest>) useCaseType(useCase).getGeneric(0).resolve();
+    }
+
+    private static ResolvableType useCaseType(UseCase<?, ?> useCase) {
+        return ResolvableType.forClass(ClassUtils.getUserClass(useCase)).as(UseCase.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.gucardev.eventsphere.infrastructure.usecase;
+
+import com.gucardev.eventsphere.infrastructure.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+    }
+
+    @Test
+    void shouldRunSupplierOnce_whenCalledConcurrentlyWithSameKey() throws Exception {
+        // Arrange
+        int callers = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // Act
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("event", "event-1", () -> {
+                executions.incrementAndGet();
+                awaitQuietly(release);
+                return "loaded";
+            })));
+        }
+        // Let every caller join the flight before the leader finishes
+        while (coalescedCount() < callers - 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenWaitTimesOut() throws Exception {
+        // Arrange
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> singleFlight.execute("event", "event-1", () -> {
+            leaderStarted.countDown();
+            awaitQuietly(release);
+            return "loaded";
+        }));
+        leaderStarted.await(5, TimeUnit.SECONDS);
+
+        // Act & Assert
+        assertThatThrownBy(() -> singleFlight.execute("event", "event-1", Duration.ofMillis(50), () -> "own"))
+                .isInstanceOf(BusinessException.class);
+        assertThat(meterRegistry.counter("usecase.singleflight.timeouts", "scope", "event").count()).isEqualTo(1.0);
+
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRunAgain_whenPreviousFlightCompleted() {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("event", "event-1", executions::incrementAndGet);
+        singleFlight.execute("event", "event-1", executions::incrementAndGet);
+
+        // Assert
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.counter("usecase.singleflight.calls", "scope", "event", "role", "coalesced").count();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}